@@ -2,13 +2,18 @@ package com.dowadream.errand_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 심부름 서비스 애플리케이션의 메인 클래스
+ * R2DBC 연결은 목록 조회용 읽기 경로({@code reactive-read.url})에서 직접 만들어 사용합니다.
+ * 자동 설정이 R2DBC 연결 팩토리를 빈으로 등록하면 JDBC DataSource 자동 설정이 물러나므로 제외합니다.
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 @EnableDiscoveryClient
+@EnableScheduling
 public class ErrandServiceApplication {
 
 	/**
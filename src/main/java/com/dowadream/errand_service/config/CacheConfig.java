@@ -0,0 +1,101 @@
+package com.dowadream.errand_service.config;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import com.dowadream.errand_service.readmodel.DetailCache;
+import com.dowadream.errand_service.readmodel.FilterResultCache;
+import com.dowadream.errand_service.readmodel.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 상세 조회 캐시, 필터 조회 캐시와 목록 조회 합치기를 설정하는 클래스
+ * 변경은 커밋 후 이벤트로 무효화되며, 다른 인스턴스에서 변경된 항목은 보관 시간이 지나면 다시 조회됩니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * 심부름 상세 조회 캐시
+     * @param maximumSize 최대 항목 수
+     * @param ttlSeconds 항목 보관 시간 (초)
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 심부름 DTO 캐시
+     */
+    @Bean
+    public DetailCache<ErrandDTO> errandDetailCache(
+            @Value("${detail-cache.errand.maximum-size:10000}") long maximumSize,
+            @Value("${detail-cache.errand.ttl-seconds:60}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        return new DetailCache<>("errand.detail", maximumSize, Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    /**
+     * 서비스 제공 상세 조회 캐시
+     * @param maximumSize 최대 항목 수
+     * @param ttlSeconds 항목 보관 시간 (초)
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 서비스 제공 DTO 캐시
+     */
+    @Bean
+    public DetailCache<ServiceOfferingDTO> serviceOfferingDetailCache(
+            @Value("${detail-cache.service-offering.maximum-size:10000}") long maximumSize,
+            @Value("${detail-cache.service-offering.ttl-seconds:60}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        return new DetailCache<>("service-offering.detail", maximumSize, Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    /**
+     * 심부름 필터 조회 캐시
+     * @param maximumSize 최대 항목 수
+     * @param ttlSeconds 항목 보관 시간 (초)
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 심부름 필터 조회 결과 캐시
+     */
+    @Bean
+    public FilterResultCache<ErrandDTO> errandFilterCache(
+            @Value("${filter-cache.errand.maximum-size:2000}") long maximumSize,
+            @Value("${filter-cache.errand.ttl-seconds:10}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        return new FilterResultCache<>("errand.filter", maximumSize, Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    /**
+     * 서비스 제공 필터 조회 캐시
+     * @param maximumSize 최대 항목 수
+     * @param ttlSeconds 항목 보관 시간 (초)
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 서비스 제공 필터 조회 결과 캐시
+     */
+    @Bean
+    public FilterResultCache<ServiceOfferingDTO> serviceOfferingFilterCache(
+            @Value("${filter-cache.service-offering.maximum-size:2000}") long maximumSize,
+            @Value("${filter-cache.service-offering.ttl-seconds:10}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        return new FilterResultCache<>("service-offering.filter", maximumSize, Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    /**
+     * 동시에 들어온 같은 심부름 목록 조회를 하나로 합치는 객체
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 심부름 목록 조회용 SingleFlight
+     */
+    @Bean
+    public SingleFlight errandListingFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight("errand.listing", meterRegistry);
+    }
+
+    /**
+     * 동시에 들어온 같은 서비스 제공 목록 조회를 하나로 합치는 객체
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 서비스 제공 목록 조회용 SingleFlight
+     */
+    @Bean
+    public SingleFlight serviceOfferingListingFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight("service-offering.listing", meterRegistry);
+    }
+}
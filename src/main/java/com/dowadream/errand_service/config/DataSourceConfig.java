@@ -0,0 +1,90 @@
+package com.dowadream.errand_service.config;
+
+import com.dowadream.errand_service.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 데이터 소스를 설정하는 클래스
+ * {@code spring.datasource.replica.jdbc-url}이 설정된 경우에만 적용되며, 없으면 스프링 부트 기본 데이터 소스를 사용합니다.
+ * 트랜잭션이 실제로 쿼리를 실행할 때 연결을 가져오므로, 그 시점에 연결이 읽기 전용이면 복제본을, 아니면 기본 데이터베이스를 사용합니다.
+ * 요청 하나가 연결 하나를 계속 사용하지 않도록 {@code spring.jpa.open-in-view=false}와 함께 사용해야 하며,
+ * 이 값이 true(스프링 부트 기본값)이면 애플리케이션 시작에 실패합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.jdbc-url")
+public class DataSourceConfig {
+
+    /**
+     * 기본 데이터베이스 연결 풀 ({@code spring.datasource.*}, {@code spring.datasource.hikari.*})
+     * @param properties 데이터 소스 설정
+     * @return 기본 데이터베이스 연결 풀
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 복제본 연결 풀 ({@code spring.datasource.replica.*})
+     * @return 복제본 연결 풀
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaPoolDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * 복제 지연이나 장애 시 기본 데이터베이스로 대신 연결하는 복제본 데이터 소스
+     * @param replica 복제본 연결 풀
+     * @param primary 기본 데이터베이스 연결 풀
+     * @param lagQuery 복제 지연 시간(초)을 반환하는 쿼리 (비어 있으면 지연을 확인하지 않음)
+     * @param maxLagSeconds 복제본을 사용할 수 있는 최대 지연 시간 (초)
+     * @param retryMillis 복제본 연결에 실패한 뒤 다시 시도하기까지의 시간 (밀리초)
+     * @return 복제본 데이터 소스
+     */
+    @Bean
+    public ReplicaDataSource replicaDataSource(@Qualifier("replicaPoolDataSource") DataSource replica,
+                                               @Qualifier("primaryDataSource") DataSource primary,
+                                               @Value("${spring.datasource.replica.lag-query:}") String lagQuery,
+                                               @Value("${spring.datasource.replica.max-lag-seconds:5}") double maxLagSeconds,
+                                               @Value("${spring.datasource.replica.retry-millis:30000}") long retryMillis) {
+        return new ReplicaDataSource(replica, primary, lagQuery, maxLagSeconds, retryMillis);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 데이터 소스
+     * 읽기 전용으로 표시된 연결은 복제본에서, 나머지는 기본 데이터베이스에서 가져옵니다.
+     * Open-In-View가 켜져 있으면 요청의 첫 트랜잭션이 가져온 연결을 요청이 끝날 때까지 계속 사용하므로,
+     * 읽기 전용 조회가 기본 데이터베이스에서 실행되거나 쓰기가 복제본 연결에서 실행될 수 있어 시작을 중단합니다.
+     * @param primary 기본 데이터베이스 연결 풀
+     * @param replica 복제본 데이터 소스
+     * @param openInView {@code spring.jpa.open-in-view} 설정 값
+     * @return 연결 지연 프록시
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("spring.datasource.replica.jdbc-url requires spring.jpa.open-in-view=false; " +
+                    "with Open-In-View a request keeps its first connection, so reads and writes would not be routed");
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replica);
+        return dataSource;
+    }
+}
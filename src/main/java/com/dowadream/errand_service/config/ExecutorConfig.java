@@ -0,0 +1,140 @@
+package com.dowadream.errand_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업용 스레드 풀을 설정하는 클래스
+ * {@code spring.threads.virtual.enabled}가 true이면 입출력 위주의 스레드 풀은 가상 스레드로 작업을 실행합니다.
+ * 스레드 수와 대기열 크기 제한은 그대로 유지되므로 디스크 동시 사용량과 거부 정책은 달라지지 않습니다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 이미지 변형 생성 작업용 스레드 풀
+     * 스레드 수와 대기열 크기를 제한하여 업로드가 몰려도 CPU와 메모리 사용량이 일정 수준을 넘지 않도록 합니다.
+     * 대기열이 가득 차면 작업을 거부하며, 호출하는 쪽에서 요청 스레드를 막지 않고 처리합니다.
+     * CPU 위주의 작업이므로 가상 스레드 모드에서도 플랫폼 스레드를 사용합니다.
+     * @param poolSize 스레드 수
+     * @param queueCapacity 대기열 크기
+     * @return 스레드 풀
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor(
+            @Value("${image.processing.pool-size:2}") int poolSize,
+            @Value("${image.processing.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 업로드 파일을 디스크에 저장하는 작업용 스레드 풀
+     * 한 요청의 여러 파일을 동시에 저장하기 위해 사용합니다.
+     * 대기열이 가득 찼거나 종료 중이면 작업을 거부하며, 호출하는 쪽에서 요청 스레드가 직접 저장하므로 자연스럽게 속도가 조절됩니다.
+     * 요청 스레드가 저장 결과를 기다리므로, 종료할 때 대기열에 남은 작업을 버리지 않고 모두 실행합니다.
+     * @param poolSize 스레드 수
+     * @param queueCapacity 대기열 크기
+     * @param virtualThreads 가상 스레드 사용 여부
+     * @return 스레드 풀
+     */
+    @Bean(name = "imageUploadExecutor")
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${image.upload.pool-size:8}") int poolSize,
+            @Value("${image.upload.queue-capacity:100}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        configureThreads(executor, "image-upload-", virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 저장소 정리 작업용 스레드
+     * 정리 작업이 오래 걸려도 다른 예약 작업(마감 기한 만료 등)의 스케줄러 스레드를 점유하지 않도록 분리합니다.
+     * 대기열이 없으므로 이전 작업이 진행 중이면 새 작업은 거부됩니다.
+     * @param virtualThreads 가상 스레드 사용 여부
+     * @return 스레드 풀
+     */
+    @Bean(name = "storageMaintenanceExecutor")
+    public ThreadPoolTaskExecutor storageMaintenanceExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        configureThreads(executor, "storage-maintenance-", virtualThreads);
+        return executor;
+    }
+
+    /**
+     * 심부름 내보내기 응답을 기록하는 작업용 스레드 풀
+     * 내보내기는 한 요청이 DB 커넥션과 스레드를 오래 점유하므로, 다른 비동기 응답과 같은 스레드 풀을 쓰지 않도록 분리하고 동시 실행 수를 제한합니다.
+     * 대기열이 가득 차면 작업을 거부하며, 요청은 503 응답으로 끝납니다.
+     * @param poolSize 동시에 실행할 내보내기 수
+     * @param queueCapacity 대기열 크기
+     * @param virtualThreads 가상 스레드 사용 여부
+     * @return 스레드 풀
+     */
+    @Bean(name = "errandExportExecutor")
+    public ThreadPoolTaskExecutor errandExportExecutor(
+            @Value("${errand.export.pool-size:4}") int poolSize,
+            @Value("${errand.export.queue-capacity:8}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        configureThreads(executor, "errand-export-", virtualThreads);
+        return executor;
+    }
+
+    /**
+     * 웹 비동기 응답(Flux 등 반응형 반환값)을 기록하는 작업용 스레드 풀
+     * 스프링 부트의 기본 작업 스레드 풀은 다른 비동기 작업과 공유되므로, 응답 기록용 스레드 수와 대기열 크기를 따로 제한합니다.
+     * 대기열이 가득 차면 작업을 거부하며, 요청은 503 응답으로 끝납니다.
+     * @param poolSize 스레드 수
+     * @param queueCapacity 대기열 크기
+     * @param virtualThreads 가상 스레드 사용 여부
+     * @return 스레드 풀
+     */
+    @Bean(name = "webAsyncExecutor")
+    public ThreadPoolTaskExecutor webAsyncExecutor(
+            @Value("${web.async.pool-size:16}") int poolSize,
+            @Value("${web.async.queue-capacity:200}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        configureThreads(executor, "web-async-", virtualThreads);
+        return executor;
+    }
+
+    /**
+     * 스레드 이름 접두사를 지정하고, 가상 스레드 모드이면 가상 스레드를 만드는 스레드 팩토리를 사용하도록 설정합니다.
+     * @param executor 스레드 풀
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @param virtualThreads 가상 스레드 사용 여부
+     */
+    private static void configureThreads(ThreadPoolTaskExecutor executor, String threadNamePrefix, boolean virtualThreads) {
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory());
+        } else {
+            executor.setThreadNamePrefix(threadNamePrefix);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.dowadream.errand_service.config;
+
+import com.dowadream.errand_service.entity.Category;
+import com.dowadream.errand_service.entity.Image;
+import com.dowadream.errand_service.entity.ServiceOffering;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 하이버네이트 2차 캐시를 설정하는 클래스
+ * 인스턴스마다 로컬 JCache(Caffeine) 영역을 사용하므로, 다른 인스턴스에서 변경된 항목은 영역별 보관 시간이 지나면 다시 조회됩니다.
+ * 설정하지 않은 영역이 있으면 애플리케이션 시작에 실패하도록 하여, 엔티티에 지정한 영역 이름과 이 설정이 항상 일치하도록 합니다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * 2차 캐시 영역을 보관하는 JCache 캐시 매니저
+     * 공급자의 기본 캐시 매니저는 JVM 전체에서 공유되므로, 한 JVM에 애플리케이션 컨텍스트가 여러 개 있어도(테스트 등)
+     * 서로의 영역을 교체하거나 닫지 않도록 컨텍스트마다 별도의 캐시 매니저를 만들고 컨텍스트가 닫힐 때 함께 닫습니다.
+     * @param categoryMaximumSize 카테고리 영역의 최대 항목 수
+     * @param categoryTtlSeconds 카테고리 영역의 항목 보관 시간 (초)
+     * @param imageMaximumSize 이미지 영역의 최대 항목 수
+     * @param imageTtlSeconds 이미지 영역의 항목 보관 시간 (초)
+     * @param serviceOfferingImagesMaximumSize 서비스 제공 이미지 목록 영역의 최대 항목 수
+     * @param serviceOfferingImagesTtlSeconds 서비스 제공 이미지 목록 영역의 항목 보관 시간 (초)
+     * @return 캐시 매니저
+     */
+    @Bean
+    public CacheManager hibernateCacheManager(
+            @Value("${second-level-cache.category.maximum-size:1000}") long categoryMaximumSize,
+            @Value("${second-level-cache.category.ttl-seconds:300}") long categoryTtlSeconds,
+            @Value("${second-level-cache.image.maximum-size:50000}") long imageMaximumSize,
+            @Value("${second-level-cache.image.ttl-seconds:600}") long imageTtlSeconds,
+            @Value("${second-level-cache.service-offering-images.maximum-size:10000}") long serviceOfferingImagesMaximumSize,
+            @Value("${second-level-cache.service-offering-images.ttl-seconds:60}") long serviceOfferingImagesTtlSeconds) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(
+                URI.create("hibernate-second-level-cache-" + UUID.randomUUID()), cachingProvider.getDefaultClassLoader());
+        createRegion(cacheManager, Category.CACHE_REGION, categoryMaximumSize, Duration.ofSeconds(categoryTtlSeconds));
+        createRegion(cacheManager, Image.CACHE_REGION, imageMaximumSize, Duration.ofSeconds(imageTtlSeconds));
+        createRegion(cacheManager, ServiceOffering.IMAGES_CACHE_REGION,
+                serviceOfferingImagesMaximumSize, Duration.ofSeconds(serviceOfferingImagesTtlSeconds));
+        return cacheManager;
+    }
+
+    /**
+     * 하이버네이트에 2차 캐시 설정을 추가하는 객체
+     * 역방향 컬렉션(mappedBy) 캐시는 소유 측 엔티티가 변경될 때 함께 제거되도록 합니다.
+     * 통계를 수집하면 하이버네이트가 세션마다 "Session Metrics"를 INFO로 기록하므로, 세션 단위 기록은 끕니다.
+     * @param hibernateCacheManager 2차 캐시 영역을 보관하는 캐시 매니저
+     * @param statisticsEnabled 적중/실패 통계 수집 여부
+     * @return 하이버네이트 설정 변경 객체
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${second-level-cache.statistics-enabled:true}") boolean statisticsEnabled) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    /**
+     * 크기와 보관 시간이 제한된 캐시 영역을 생성합니다.
+     * 하이버네이트가 캐시 항목을 변경하지 않으므로 값을 복사하지 않고 참조로 보관합니다.
+     * @param cacheManager 캐시 매니저
+     * @param name 영역 이름
+     * @param maximumSize 최대 항목 수
+     * @param expireAfterWrite 항목을 저장한 뒤 보관할 시간
+     */
+    private static void createRegion(CacheManager cacheManager, String name, long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(name, configuration);
+    }
+}
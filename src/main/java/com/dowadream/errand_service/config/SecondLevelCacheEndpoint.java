@@ -0,0 +1,86 @@
+package com.dowadream.errand_service.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 하이버네이트 2차 캐시 영역별 적중/실패 통계를 제공하는 액추에이터 엔드포인트 ({@code /actuator/secondlevelcache})
+ * 통계는 애플리케이션 시작 이후 이 인스턴스에서 누적된 값이며, {@code second-level-cache.statistics-enabled}가 false이면 모두 0입니다.
+ */
+@Component
+@Endpoint(id = "secondlevelcache")
+public class SecondLevelCacheEndpoint {
+
+    private final Statistics statistics;
+
+    /**
+     * SecondLevelCacheEndpoint 생성자
+     * @param entityManagerFactory 엔티티 매니저 팩토리
+     */
+    @Autowired
+    public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 모든 2차 캐시 영역의 통계를 조회합니다.
+     * @return 통계 수집 여부와 영역별 통계
+     */
+    @ReadOperation
+    public CacheStatistics regions() {
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(name, RegionStatistics.of(statistics.getDomainDataRegionStatistics(name)));
+        }
+        return new CacheStatistics(statistics.isStatisticsEnabled(), regions);
+    }
+
+    /**
+     * 지정한 2차 캐시 영역의 통계를 조회합니다.
+     * @param region 영역 이름
+     * @return 영역 통계 (없는 영역이면 null로 404 응답)
+     */
+    @ReadOperation
+    public RegionStatistics region(@Selector String region) {
+        if (!Arrays.asList(statistics.getSecondLevelCacheRegionNames()).contains(region)) {
+            return null;
+        }
+        return RegionStatistics.of(statistics.getDomainDataRegionStatistics(region));
+    }
+
+    /**
+     * 2차 캐시 전체 통계
+     * @param statisticsEnabled 통계 수집 여부
+     * @param regions 영역별 통계
+     */
+    public record CacheStatistics(boolean statisticsEnabled, Map<String, RegionStatistics> regions) {
+    }
+
+    /**
+     * 2차 캐시 영역 통계
+     * @param hits 적중 횟수
+     * @param misses 실패 횟수
+     * @param puts 저장 횟수
+     * @param hitRatio 적중률 (조회가 없으면 0)
+     */
+    public record RegionStatistics(long hits, long misses, long puts, double hitRatio) {
+
+        private static RegionStatistics of(CacheRegionStatistics region) {
+            long hits = region.getHitCount();
+            long misses = region.getMissCount();
+            long requests = hits + misses;
+            return new RegionStatistics(hits, misses, region.getPutCount(), requests > 0 ? (double) hits / requests : 0.0);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.dowadream.errand_service.config;
+
+import com.dowadream.errand_service.storage.BlobStore;
+import com.dowadream.errand_service.storage.LocalDirectoryBlobStore;
+import com.dowadream.errand_service.storage.PackFileBlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * 업로드 파일 저장소를 설정하는 클래스
+ * {@code file.storage.backend}가 local(기본값)이면 파일 하나에 내용 하나를, pack이면 세그먼트 파일에 여러 내용을 저장합니다.
+ */
+@Configuration
+public class StorageConfig {
+
+    /**
+     * 내용 하나를 파일 하나로 저장하는 저장소
+     * @param uploadDir 파일 업로드 디렉토리 경로
+     * @return 디렉토리 저장소
+     */
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.backend", havingValue = "local", matchIfMissing = true)
+    public BlobStore localDirectoryBlobStore(@Value("${file.upload-dir}") String uploadDir) {
+        return new LocalDirectoryBlobStore(Paths.get(uploadDir).toAbsolutePath().normalize());
+    }
+
+    /**
+     * 여러 내용을 세그먼트 파일에 이어 붙여 저장하는 저장소
+     * @param uploadDir 파일 업로드 디렉토리 경로
+     * @param segmentSizeMegabytes 세그먼트 파일의 최대 크기 (MB)
+     * @param compactionThreshold 살아 있는 내용의 비율이 이 값보다 낮으면 세그먼트를 정리
+     * @return 팩 파일 저장소
+     * @throws IOException 색인이나 세그먼트를 열지 못한 경우
+     */
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.backend", havingValue = "pack")
+    public BlobStore packFileBlobStore(@Value("${file.upload-dir}") String uploadDir,
+                                      @Value("${file.storage.pack.segment-size-mb:256}") long segmentSizeMegabytes,
+                                      @Value("${file.storage.pack.compaction-threshold:0.5}") double compactionThreshold)
+            throws IOException {
+        return new PackFileBlobStore(Paths.get(uploadDir).toAbsolutePath().normalize().resolve("packs"),
+                segmentSizeMegabytes * 1024 * 1024, compactionThreshold);
+    }
+}
@@ -0,0 +1,40 @@
+package com.dowadream.errand_service.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 웹 비동기 응답의 스레드 풀과 제한 시간을 설정하는 클래스
+ * 스프링 부트의 기본 설정보다 나중에 적용되므로, 반응형 반환값은 제한된 전용 스레드 풀에서 기록되고 제한 시간이 지나면 끝납니다.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final AsyncTaskExecutor webAsyncExecutor;
+    private final Duration requestTimeout;
+
+    /**
+     * WebAsyncConfig 생성자
+     * @param webAsyncExecutor 웹 비동기 응답을 기록하는 스레드 풀
+     * @param requestTimeout 비동기 요청 제한 시간
+     */
+    @Autowired
+    public WebAsyncConfig(@Qualifier("webAsyncExecutor") AsyncTaskExecutor webAsyncExecutor,
+                          @Value("${spring.mvc.async.request-timeout:30s}") Duration requestTimeout) {
+        this.webAsyncExecutor = webAsyncExecutor;
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(webAsyncExecutor);
+        configurer.setDefaultTimeout(requestTimeout.toMillis());
+    }
+}
@@ -1,8 +1,10 @@
 package com.dowadream.errand_service.controller;
 
 import com.dowadream.errand_service.dto.CategoryDTO;
+import com.dowadream.errand_service.readmodel.CategoryRegistry;
 import com.dowadream.errand_service.service.CategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,11 +31,16 @@ public class CategoryController {
 
     /**
      * 모든 카테고리 목록을 조회합니다.
-     * @return 카테고리 DTO 목록
+     * 스냅샷 내용의 ETag를 함께 보내므로 목록이 바뀌지 않았으면 If-None-Match 요청에 304로 응답합니다.
+     * @return 카테고리 DTO 목록과 HTTP 상태
      */
     @GetMapping
-    public List<CategoryDTO> getAllCategories() {
-        return categoryService.getAllCategories();
+    public ResponseEntity<List<CategoryDTO>> getAllCategories() {
+        CategoryRegistry.Snapshot snapshot = categoryService.getCategorySnapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getCategories());
     }
 
     /**
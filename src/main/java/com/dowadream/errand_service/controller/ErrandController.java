@@ -1,13 +1,30 @@
 package com.dowadream.errand_service.controller;
 
+import com.dowadream.errand_service.dto.CursorPageDTO;
 import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ErrandImportResultDTO;
 import com.dowadream.errand_service.entity.Errand;
+import com.dowadream.errand_service.service.ErrandExportService;
+import com.dowadream.errand_service.service.ErrandFileFormat;
+import com.dowadream.errand_service.service.ErrandImportService;
 import com.dowadream.errand_service.service.ErrandService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 심부름 관련 HTTP 요청을 처리하는 컨트롤러 클래스
@@ -17,18 +34,33 @@ import org.springframework.web.bind.annotation.*;
 public class ErrandController {
 
     private final ErrandService errandService;
+    private final ErrandExportService errandExportService;
+    private final ErrandImportService errandImportService;
+    private final AsyncTaskExecutor errandExportExecutor;
+    private final long exportTimeoutMillis;
 
     /**
      * ErrandController 생성자
      * @param errandService 심부름 서비스 인스턴스
+     * @param errandExportService 심부름 내보내기 서비스 인스턴스
+     * @param errandImportService 심부름 가져오기 서비스 인스턴스
+     * @param errandExportExecutor 내보내기 응답을 기록하는 스레드 풀
+     * @param exportTimeoutMinutes 내보내기 한 건의 최대 실행 시간 (분)
      */
     @Autowired
-    public ErrandController(ErrandService errandService) {
+    public ErrandController(ErrandService errandService, ErrandExportService errandExportService,
+                            ErrandImportService errandImportService,
+                            @Qualifier("errandExportExecutor") AsyncTaskExecutor errandExportExecutor,
+                            @Value("${errand.export.timeout-minutes:60}") long exportTimeoutMinutes) {
         this.errandService = errandService;
+        this.errandExportService = errandExportService;
+        this.errandImportService = errandImportService;
+        this.errandExportExecutor = errandExportExecutor;
+        this.exportTimeoutMillis = TimeUnit.MINUTES.toMillis(exportTimeoutMinutes);
     }
 
     /**
-     * 모든 심부름을 페이징하여 조회합니다.
+     * 취소되지 않은 모든 심부름을 페이징하여 조회합니다.
      * @param pageable 페이징 정보
      * @return 페이징된 심부름 DTO 목록
      */
@@ -84,7 +116,7 @@ public class ErrandController {
     }
 
     /**
-     * 카테고리별로 심부름을 조회합니다.
+     * 카테고리별로 취소되지 않은 심부름을 조회합니다.
      * @param categoryId 카테고리 ID
      * @param pageable 페이징 정보
      * @return 페이징된 심부름 DTO 목록
@@ -95,7 +127,7 @@ public class ErrandController {
     }
 
     /**
-     * 필터를 적용하여 심부름을 조회합니다.
+     * 필터를 적용하여 요청 상태인 심부름을 조회합니다.
      * @param location 위치
      * @param categoryId 카테고리 ID
      * @param sortBy 정렬 기준
@@ -111,6 +143,91 @@ public class ErrandController {
         return errandService.getFilteredErrands(location, categoryId, sortBy, pageable);
     }
 
+    /**
+     * 요청 상태인 모든 심부름을 전체 개수 계산 없이 조회합니다. (무한 스크롤용)
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 심부름 DTO 슬라이스
+     */
+    @GetMapping("/slice")
+    public Slice<ErrandDTO> getAllErrandsSlice(Pageable pageable) {
+        return errandService.getAllErrandsSlice(pageable);
+    }
+
+    /**
+     * 카테고리별로 요청 상태인 심부름을 전체 개수 계산 없이 조회합니다. (무한 스크롤용)
+     * @param categoryId 카테고리 ID
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 심부름 DTO 슬라이스
+     */
+    @GetMapping("/category/{categoryId}/slice")
+    public Slice<ErrandDTO> getErrandsByCategorySlice(@PathVariable Long categoryId, Pageable pageable) {
+        return errandService.getErrandsByCategorySlice(categoryId, pageable);
+    }
+
+    /**
+     * 필터를 적용하여 요청 상태인 심부름을 전체 개수 계산 없이 조회합니다. (무한 스크롤용)
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 심부름 DTO 슬라이스
+     */
+    @GetMapping("/filter/slice")
+    public Slice<ErrandDTO> getFilteredErrandsSlice(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String sortBy,
+            Pageable pageable) {
+        return errandService.getFilteredErrandsSlice(location, categoryId, sortBy, pageable);
+    }
+
+    /**
+     * 요청 상태인 모든 심부름을 커서 기반으로 조회합니다.
+     * @param after 이전 페이지에서 받은 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 커서 기반 심부름 DTO 목록
+     */
+    @GetMapping("/scroll")
+    public CursorPageDTO<ErrandDTO> scrollErrands(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return errandService.getErrandsAfter(null, null, null, after, size);
+    }
+
+    /**
+     * 카테고리별로 요청 상태인 심부름을 커서 기반으로 조회합니다.
+     * @param categoryId 카테고리 ID
+     * @param after 이전 페이지에서 받은 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 커서 기반 심부름 DTO 목록
+     */
+    @GetMapping("/category/{categoryId}/scroll")
+    public CursorPageDTO<ErrandDTO> scrollErrandsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return errandService.getErrandsAfter(null, categoryId, null, after, size);
+    }
+
+    /**
+     * 필터를 적용하여 요청 상태인 심부름을 커서 기반으로 조회합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param after 이전 페이지에서 받은 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 커서 기반 심부름 DTO 목록
+     */
+    @GetMapping("/filter/scroll")
+    public CursorPageDTO<ErrandDTO> scrollFilteredErrands(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return errandService.getErrandsAfter(location, categoryId, sortBy, after, size);
+    }
+
     /**
      * 심부름을 수락합니다.
      * @param id 심부름 ID
@@ -122,4 +239,50 @@ public class ErrandController {
         ErrandDTO updatedErrand = errandService.acceptErrand(id, errandDTO);
         return ResponseEntity.ok(updatedErrand);
     }
-}
\ No newline at end of file
+
+    /**
+     * 필터에 맞는 심부름 전체를 NDJSON 또는 CSV 형식으로 내보냅니다.
+     * 조회한 행을 곧바로 응답에 기록하므로 페이지 단위로 반복 조회할 필요가 없습니다.
+     * 내보내기 전용 스레드 풀에서 실행하고 컨테이너 기본값(30초) 대신 {@code errand.export.timeout-minutes}를 제한 시간으로 사용하므로,
+     * 행이 많은 내보내기도 중간에 끊기지 않으며 다른 비동기 응답의 스레드를 점유하지 않습니다.
+     * @param format 내보내기 형식 (ndjson 또는 csv)
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param status 심부름 상태
+     * @param response HTTP 응답
+     * @return 내보내기 비동기 작업
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportErrands(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String status,
+            HttpServletResponse response) {
+        ErrandFileFormat exportFormat = ErrandFileFormat.from(format);
+        Errand.ErrandStatus errandStatus = ErrandExportService.parseStatus(status);
+        return new WebAsyncTask<>(exportTimeoutMillis, errandExportExecutor, () -> {
+            response.setContentType(exportFormat.getContentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=errands." + exportFormat.getExtension());
+            errandExportService.export(exportFormat, location, categoryId, errandStatus, response.getOutputStream());
+            return null;
+        });
+    }
+
+    /**
+     * CSV 또는 NDJSON 파일의 심부름을 대량으로 저장합니다.
+     * @param file 업로드된 파일
+     * @param format 파일 형식 (ndjson 또는 csv)
+     * @return 가져오기 결과와 HTTP 상태
+     * @throws IOException 파일을 읽지 못한 경우
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ErrandImportResultDTO> importErrands(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "ndjson") String format) throws IOException {
+        ErrandFileFormat importFormat = ErrandFileFormat.from(format);
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity.ok(errandImportService.importErrands(importFormat, inputStream));
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.dowadream.errand_service.controller;
+
+import com.dowadream.errand_service.exception.ResourceNotFoundException;
+import com.dowadream.errand_service.service.FileStorageService;
+import com.dowadream.errand_service.service.ImageContentType;
+import com.dowadream.errand_service.storage.BlobRegion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 저장된 이미지 파일을 제공하는 컨트롤러 클래스
+ * 파일 이름이 내용의 해시이므로 같은 주소의 내용은 바뀌지 않습니다. 따라서 해시를 강한 ETag로 사용하고
+ * 오래 캐시하도록 응답합니다.
+ * 서블릿 컨테이너가 sendfile을 지원하면 파일 영역의 전송을 컨테이너에 맡기고, 그렇지 않으면
+ * {@link FileChannel#transferTo}로 힙 버퍼를 거치지 않고 기록합니다.
+ */
+@RestController
+@RequestMapping("/ErrandService/images")
+public class ImageController {
+
+    /**
+     * 내용이 바뀌지 않는 파일의 캐시 정책 (1년)
+     */
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    /**
+     * Tomcat의 sendfile 요청 속성 이름
+     */
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final FileStorageService fileStorageService;
+
+    /**
+     * ImageController 생성자
+     * @param fileStorageService 파일 저장 서비스 인스턴스
+     */
+    @Autowired
+    public ImageController(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    /**
+     * 저장된 이미지 파일을 제공합니다.
+     * 저장 디렉토리와 같은 형태의 주소(ab/cd/해시)도 받으므로 기존 정적 서버 주소를 그대로 사용할 수 있습니다.
+     * @param name 저장된 파일 이름 (해시 또는 해시_접미사)
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @throws IOException 파일 전송 중 오류 발생 시
+     */
+    @GetMapping({"/{name}", "/{shard1}/{shard2}/{name}"})
+    public void getImage(@PathVariable String name, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        BlobRegion blob = fileStorageService.findStoredFile(name)
+                .orElseThrow(() -> new ResourceNotFoundException("Image not found: " + name));
+        String eTag = "\"" + name + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(blob.getFile(), StandardOpenOption.READ)) {
+            long length = blob.getLength();
+            long start = 0;
+            long end = length - 1;
+
+            HttpRange range = requestedRange(request, eTag);
+            if (range != null) {
+                if (length == 0 || !isSatisfiable(range, length)) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            long count = end - start + 1;
+
+            Optional<MediaType> contentType = contentType(name, channel, blob);
+            response.setContentType(contentType.orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+            if (contentType.isEmpty()) {
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().build().toString());
+            }
+            response.setHeader("X-Content-Type-Options", "nosniff");
+            response.setContentLengthLong(count);
+            if ("HEAD".equals(request.getMethod()) || count == 0) {
+                return;
+            }
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+                request.setAttribute(SENDFILE_FILENAME_ATTR, blob.getFile().toString());
+                request.setAttribute(SENDFILE_START_ATTR, blob.getOffset() + start);
+                request.setAttribute(SENDFILE_END_ATTR, blob.getOffset() + end + 1);
+                return;
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            while (count > 0) {
+                long transferred = channel.transferTo(blob.getOffset() + start, count, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                start += transferred;
+                count -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 요청의 Range 헤더에서 단일 바이트 범위를 읽습니다.
+     * If-Range가 현재 ETag와 다르거나, 형식이 잘못되었거나, 여러 범위를 요청하면 전체 파일을 보냅니다.
+     * @param request HTTP 요청
+     * @param eTag 현재 ETag
+     * @return 요청된 범위 (없으면 null)
+     */
+    private static HttpRange requestedRange(HttpServletRequest request, String eTag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(eTag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 범위의 시작 위치가 내용 안에 있는지 확인합니다.
+     * {@link HttpRange#getRangeStart}는 바이트 범위의 시작 위치가 내용 길이 이상이어도 예외 없이 그대로 반환하므로 직접 비교합니다.
+     * @param range 요청된 범위
+     * @param length 내용 길이
+     * @return 응답할 수 있으면 true
+     */
+    private static boolean isSatisfiable(HttpRange range, long length) {
+        try {
+            return range.getRangeStart(length) < length;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * If-None-Match 헤더의 태그 중 하나가 현재 ETag와 같은지 확인합니다. (약한 비교)
+     * @param ifNoneMatch If-None-Match 헤더 값
+     * @param eTag 현재 ETag
+     * @return 일치하면 true
+     */
+    private static boolean matchesAny(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 파일의 미디어 타입을 결정합니다.
+     * 파생 파일은 확장자로, 확장자가 없는 원본 파일은 파일 앞부분의 시그니처로 판단하며,
+     * 허용된 이미지 형식(PNG, JPEG, GIF, WebP)이 아니면 브라우저가 문서로 열지 않도록 빈 값을 반환합니다.
+     * @param name 저장된 파일 이름
+     * @param channel 파일 채널
+     * @param blob 내용의 위치
+     * @return 미디어 타입 (허용된 이미지 형식이 아니면 빈 값)
+     * @throws IOException 파일 읽기 중 오류 발생 시
+     */
+    private static Optional<MediaType> contentType(String name, FileChannel channel, BlobRegion blob) throws IOException {
+        if (name.indexOf('.') > 0) {
+            return ImageContentType.fromFileName(name);
+        }
+        ByteBuffer header = ByteBuffer.allocate((int) Math.min(ImageContentType.HEADER_LENGTH, blob.getLength()));
+        channel.read(header, blob.getOffset());
+        byte[] bytes = new byte[header.flip().remaining()];
+        header.get(bytes);
+        return ImageContentType.detect(bytes);
+    }
+}
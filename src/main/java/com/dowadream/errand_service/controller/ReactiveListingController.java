@@ -0,0 +1,88 @@
+package com.dowadream.errand_service.controller;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ReviewDTO;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import com.dowadream.errand_service.service.ReactiveListingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * R2DBC 경로의 목록 조회 요청을 처리하는 컨트롤러 클래스
+ * 응답은 한 줄에 DTO 하나씩 담은 NDJSON이며, 요소는 웹 비동기 스레드 풀에서 기록됩니다.
+ * reactive-read.url 속성이 있을 때만 등록됩니다.
+ */
+@RestController
+@ConditionalOnProperty(name = "reactive-read.url")
+@RequestMapping("/ErrandService")
+public class ReactiveListingController {
+
+    private final ReactiveListingService reactiveListingService;
+
+    /**
+     * ReactiveListingController 생성자
+     * @param reactiveListingService R2DBC 목록 서비스
+     */
+    @Autowired
+    public ReactiveListingController(ReactiveListingService reactiveListingService) {
+        this.reactiveListingService = reactiveListingService;
+    }
+
+    /**
+     * 필터를 적용하여 요청 상태인 심부름을 조회합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 심부름 DTO 스트림
+     */
+    @GetMapping(value = "/errands/filter/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ErrandDTO> streamFilteredErrands(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String sortBy,
+            Pageable pageable) {
+        return reactiveListingService.getFilteredErrands(location, categoryId, sortBy, pageable);
+    }
+
+    /**
+     * 필터를 적용하여 서비스 제공을 조회합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 서비스 제공 DTO 스트림
+     */
+    @GetMapping(value = "/service-offerings/filter/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ServiceOfferingDTO> streamFilteredServiceOfferings(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String sortBy,
+            Pageable pageable) {
+        return reactiveListingService.getFilteredServiceOfferings(location, categoryId, sortBy, pageable);
+    }
+
+    /**
+     * 심부름의 리뷰를 조회합니다.
+     * @param errandId 심부름 ID
+     * @return 리뷰 DTO 스트림
+     */
+    @GetMapping(value = "/reviews/errand/{errandId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ReviewDTO> streamReviewsByErrandId(@PathVariable Long errandId) {
+        return reactiveListingService.getReviewsByErrandId(errandId);
+    }
+
+    /**
+     * 서비스 제공의 리뷰를 조회합니다.
+     * @param serviceOfferingId 서비스 제공 ID
+     * @return 리뷰 DTO 스트림
+     */
+    @GetMapping(value = "/reviews/service-offering/{serviceOfferingId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ReviewDTO> streamReviewsByServiceOfferingId(@PathVariable Long serviceOfferingId) {
+        return reactiveListingService.getReviewsByServiceOfferingId(serviceOfferingId);
+    }
+}
@@ -5,6 +5,7 @@ import com.dowadream.errand_service.service.ServiceOfferingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -112,4 +113,45 @@ public class ServiceOfferingController {
         Page<ServiceOfferingDTO> serviceOfferings = serviceOfferingService.getFilteredServiceOfferings(location, categoryId, sortBy, pageable);
         return ResponseEntity.ok(serviceOfferings);
     }
+
+    /**
+     * 모든 서비스 제공을 전체 개수 계산 없이 조회합니다. (무한 스크롤용)
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 서비스 제공 DTO 슬라이스
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<ServiceOfferingDTO>> getAllServiceOfferingsSlice(Pageable pageable) {
+        Slice<ServiceOfferingDTO> serviceOfferings = serviceOfferingService.getAllServiceOfferingsSlice(pageable);
+        return ResponseEntity.ok(serviceOfferings);
+    }
+
+    /**
+     * 카테고리별 서비스 제공을 전체 개수 계산 없이 조회합니다. (무한 스크롤용)
+     * @param categoryId 카테고리 ID
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 서비스 제공 DTO 슬라이스
+     */
+    @GetMapping("/category/{categoryId}/slice")
+    public ResponseEntity<Slice<ServiceOfferingDTO>> getServiceOfferingsByCategorySlice(@PathVariable Long categoryId, Pageable pageable) {
+        Slice<ServiceOfferingDTO> serviceOfferings = serviceOfferingService.getServiceOfferingsByCategorySlice(categoryId, pageable);
+        return ResponseEntity.ok(serviceOfferings);
+    }
+
+    /**
+     * 필터를 적용한 서비스 제공을 전체 개수 계산 없이 조회합니다. (무한 스크롤용)
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 서비스 제공 DTO 슬라이스
+     */
+    @GetMapping("/filter/slice")
+    public ResponseEntity<Slice<ServiceOfferingDTO>> getFilteredServiceOfferingsSlice(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String sortBy,
+            Pageable pageable) {
+        Slice<ServiceOfferingDTO> serviceOfferings = serviceOfferingService.getFilteredServiceOfferingsSlice(location, categoryId, sortBy, pageable);
+        return ResponseEntity.ok(serviceOfferings);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.dowadream.errand_service.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 기본 데이터베이스에서 읽어야 하는 작업을 지정하는 클래스
+ * 커밋 직후의 상태가 필요한 조회(캐시 적재, 읽기 모델 재구성, 파일 삭제 전 참조 확인 등)에 사용합니다.
+ * 복제본이 설정되지 않았으면 아무 영향이 없습니다.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRouting() {
+    }
+
+    /**
+     * 작업이 새로 여는 연결을 모두 기본 데이터베이스로 보냅니다.
+     * @param work 실행할 작업
+     * @param <T> 결과 타입
+     * @return 작업 결과
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (PRIMARY_REQUIRED.get()) {
+            return work.get();
+        }
+        PRIMARY_REQUIRED.set(true);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+
+    /**
+     * 작업이 새로 여는 연결을 모두 기본 데이터베이스로 보냅니다.
+     * @param work 실행할 작업
+     */
+    public static void onPrimary(Runnable work) {
+        onPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 스레드가 기본 데이터베이스를 사용해야 하는지 반환합니다.
+     * @return 기본 데이터베이스를 사용해야 하면 true
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+}
@@ -0,0 +1,112 @@
+package com.dowadream.errand_service.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 읽기 전용 연결을 복제본에서 가져오고, 복제본을 사용할 수 없으면 기본 데이터베이스로 대신 연결하는 클래스
+ * 다음 경우에는 기본 데이터베이스의 연결을 반환합니다.
+ * <ul>
+ *     <li>{@link DataSourceRouting#onPrimary}로 기본 데이터베이스가 지정된 경우</li>
+ *     <li>지연 확인 쿼리가 설정되어 있고, 마지막으로 확인한 복제 지연이 허용 값을 넘은 경우</li>
+ *     <li>복제본 연결에 실패한 뒤 다시 확인하기 전까지</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final long retryMillis;
+
+    private volatile boolean lagging;
+    private volatile long unavailableUntil;
+
+    /**
+     * ReplicaDataSource 생성자
+     * @param replica 복제본 연결 풀
+     * @param primary 기본 데이터베이스 연결 풀
+     * @param lagQuery 복제 지연 시간(초)을 숫자 하나로 반환하는 쿼리 (비어 있으면 지연을 확인하지 않음)
+     * @param maxLagSeconds 복제본을 사용할 수 있는 최대 지연 시간 (초)
+     * @param retryMillis 복제본 연결에 실패한 뒤 다시 시도하기까지의 시간 (밀리초)
+     */
+    public ReplicaDataSource(DataSource replica, DataSource primary, String lagQuery, double maxLagSeconds,
+                             long retryMillis) {
+        super(replica);
+        this.primary = primary;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.retryMillis = retryMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!isReplicaUsable()) {
+            return primary.getConnection();
+        }
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            markUnavailable(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!isReplicaUsable()) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return super.getConnection(username, password);
+        } catch (SQLException e) {
+            markUnavailable(e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * 복제 지연 시간을 확인하여 복제본 사용 여부를 갱신합니다. 지연 확인 쿼리가 없으면 아무것도 하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-millis:5000}")
+    public void checkLag() {
+        if (!StringUtils.hasText(lagQuery)) {
+            return;
+        }
+        boolean wasLagging = lagging;
+        try (Connection connection = obtainTargetDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+            lagging = lagSeconds > maxLagSeconds;
+            unavailableUntil = 0;
+            if (lagging != wasLagging) {
+                log.warn("Replica lag is {} seconds, {} read-only connections", lagSeconds,
+                        lagging ? "routing to the primary for" : "using the replica again for");
+            }
+        } catch (SQLException | RuntimeException e) {
+            lagging = true;
+            if (!wasLagging) {
+                log.warn("Could not check replica lag, routing read-only connections to the primary", e);
+            }
+        }
+    }
+
+    private boolean isReplicaUsable() {
+        return !DataSourceRouting.isPrimaryRequired() && !lagging && System.currentTimeMillis() >= unavailableUntil;
+    }
+
+    private void markUnavailable(SQLException e) {
+        unavailableUntil = System.currentTimeMillis() + retryMillis;
+        log.warn("Could not connect to the replica, routing read-only connections to the primary for {} ms", retryMillis, e);
+    }
+}
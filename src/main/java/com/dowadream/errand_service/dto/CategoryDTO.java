@@ -32,4 +32,9 @@ public class CategoryDTO {
      * 카테고리 이미지 경로 (이미지 조회 시 사용)
      */
     private String imagePath;
+
+    /**
+     * 목록 표시용 축소 이미지 경로 (축소 이미지가 없으면 원본 경로)
+     */
+    private String thumbnailPath;
 }
\ No newline at end of file
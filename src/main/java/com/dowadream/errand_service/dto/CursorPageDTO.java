@@ -0,0 +1,32 @@
+package com.dowadream.errand_service.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이징 결과를 전송하기 위한 데이터 전송 객체(DTO)
+ * @param <T> 목록 항목 타입
+ */
+@Data
+public class CursorPageDTO<T> {
+    /**
+     * 현재 페이지의 항목 목록
+     */
+    private List<T> content;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 조회에 사용할 커서 (다음 페이지가 없으면 null)
+     */
+    private String nextCursor;
+}
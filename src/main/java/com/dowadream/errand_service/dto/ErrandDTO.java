@@ -93,4 +93,9 @@ public class ErrandDTO {
      * 이미지 경로 목록
      */
     private List<String> imagePaths;
+
+    /**
+     * 목록 표시용 축소 이미지 경로 목록 (축소 이미지가 없으면 원본 경로)
+     */
+    private List<String> thumbnailPaths;
 }
\ No newline at end of file
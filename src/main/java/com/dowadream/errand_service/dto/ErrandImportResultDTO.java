@@ -0,0 +1,58 @@
+package com.dowadream.errand_service.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 심부름 대량 가져오기 결과를 전송하기 위한 데이터 전송 객체(DTO)
+ */
+@Data
+public class ErrandImportResultDTO {
+    /**
+     * 읽은 전체 행 수
+     */
+    private long totalRows;
+
+    /**
+     * 저장된 행 수
+     */
+    private long importedRows;
+
+    /**
+     * 저장하지 못한 행 수
+     */
+    private long failedRows;
+
+    /**
+     * 행별 오류 목록 (최대 개수를 넘는 오류는 failedRows에만 집계됩니다)
+     */
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * 행별 오류 정보
+     */
+    @Data
+    public static class RowError {
+        /**
+         * 행 번호 (1부터 시작, CSV 헤더 제외)
+         */
+        private long row;
+
+        /**
+         * 오류 메시지
+         */
+        private String message;
+
+        /**
+         * RowError 생성자
+         * @param row 행 번호
+         * @param message 오류 메시지
+         */
+        public RowError(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+    }
+}
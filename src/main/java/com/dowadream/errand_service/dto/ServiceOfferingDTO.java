@@ -72,6 +72,11 @@ public class ServiceOfferingDTO {
      */
     private List<String> imagePaths;
 
+    /**
+     * 목록 표시용 축소 이미지 경로 목록 (축소 이미지가 없으면 원본 경로)
+     */
+    private List<String> thumbnailPaths;
+
     /**
      * 이미지 파일 목록 설정
      * @param images 이미지 파일 목록
@@ -4,19 +4,29 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 카테고리 엔티티 클래스
+ * 변경이 드물고 조회가 잦으므로 2차 캐시에 보관합니다.
  */
 @Entity
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Category.CACHE_REGION)
 @Getter
 @Setter
 @ToString(exclude = {"serviceOfferings", "errands", "image"})
 public class Category {
+    /**
+     * 카테고리 엔티티의 2차 캐시 영역 이름
+     */
+    public static final String CACHE_REGION = "category";
+
     /**
      * 카테고리 ID
      */
@@ -12,11 +12,39 @@ import java.util.List;
 
 /**
  * 심부름 엔티티 클래스
+ * 인덱스는 (필터 컬럼, 상태, 정렬 컬럼, 심부름 고유 번호) 조합으로 구성되어, 요청 상태만 조회하는 필터/정렬별 목록 조회가
+ * 인덱스 범위 검색으로 처리되고 ORDER BY의 보조 정렬 키까지 인덱스 순서로 읽히므로 별도의 정렬 단계가 없습니다.
+ * 취소된 심부름만 제외하는 카테고리별 전체 목록은 (카테고리, 심부름 고유 번호) 인덱스를 순서대로 읽습니다.
  */
 @Entity
-@Table(name = "errands")
+@Table(name = "errands", indexes = {
+        @Index(name = "idx_errands_cat_seq", columnList = "category_id, errand_seq"),
+        @Index(name = "idx_errands_cat_st_seq", columnList = "category_id, status, errand_seq"),
+        @Index(name = "idx_errands_cat_st_created", columnList = "category_id, status, created_date, errand_seq"),
+        @Index(name = "idx_errands_cat_st_price", columnList = "category_id, status, price, errand_seq"),
+        @Index(name = "idx_errands_cat_st_rate", columnList = "category_id, status, hourly_rate, errand_seq"),
+        @Index(name = "idx_errands_cat_st_deadline", columnList = "category_id, status, deadline, errand_seq"),
+        @Index(name = "idx_errands_loc_st_seq", columnList = "location, status, errand_seq"),
+        @Index(name = "idx_errands_loc_st_created", columnList = "location, status, created_date, errand_seq"),
+        @Index(name = "idx_errands_loc_st_price", columnList = "location, status, price, errand_seq"),
+        @Index(name = "idx_errands_loc_st_rate", columnList = "location, status, hourly_rate, errand_seq"),
+        @Index(name = "idx_errands_loc_st_deadline", columnList = "location, status, deadline, errand_seq"),
+        @Index(name = "idx_errands_st_seq", columnList = "status, errand_seq"),
+        @Index(name = "idx_errands_st_created", columnList = "status, created_date, errand_seq"),
+        @Index(name = "idx_errands_st_price", columnList = "status, price, errand_seq"),
+        @Index(name = "idx_errands_st_rate", columnList = "status, hourly_rate, errand_seq"),
+        @Index(name = "idx_errands_st_deadline", columnList = "status, deadline, errand_seq")
+})
+@SqlResultSetMapping(name = Errand.WITH_TOTAL_COUNT,
+        entities = @EntityResult(entityClass = Errand.class),
+        columns = @ColumnResult(name = "total_count", type = Long.class))
 @Data
 public class Errand {
+    /**
+     * 심부름 엔티티와 COUNT(*) OVER () 결과를 함께 매핑하는 결과 매핑 이름
+     */
+    public static final String WITH_TOTAL_COUNT = "Errand.withTotalCount";
+
     /**
      * 심부름 고유 번호
      */
@@ -120,6 +148,16 @@ public class Errand {
     @Column(nullable = false)
     private Integer estimatedTime;
 
+    /**
+     * 단위 시간당 가격 (가격 / 예상 소요 시간, 예상 소요 시간이 0이면 -1)
+     * 데이터베이스의 가상 컬럼으로 계산되며 정렬과 커서 페이징의 키로 사용됩니다.
+     * 가격과 예상 소요 시간은 음수가 아니므로 시급이 없는 심부름은 내림차순에서 가장 뒤에 오며,
+     * NULL이 없으므로 내림차순 정렬도 오름차순 인덱스를 역방향으로 읽어 처리됩니다.
+     */
+    @Column(name = "hourly_rate", insertable = false, updatable = false,
+            columnDefinition = "NUMBER GENERATED ALWAYS AS (NVL(price / NULLIF(estimated_time, 0), -1)) VIRTUAL")
+    private BigDecimal hourlyRate;
+
     /**
      * 마감 기한
      */
@@ -2,16 +2,33 @@ package com.dowadream.errand_service.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 이미지 엔티티 클래스
+ * 같은 내용의 파일은 한 번만 저장되므로 여러 이미지 행이 같은 파일(contentHash)을 참조할 수 있습니다.
+ * 서비스 제공 이미지 목록을 2차 캐시에서 읽을 때 각 이미지를 다시 조회하지 않도록 이미지도 2차 캐시에 보관합니다.
  */
 @Entity
-@Table(name = "images")
+@Table(name = "images", indexes = {
+        @Index(name = "idx_images_content_hash", columnList = "content_hash")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Image.CACHE_REGION)
 @Data
 public class Image {
+    /**
+     * 이미지 엔티티의 2차 캐시 영역 이름
+     */
+    public static final String CACHE_REGION = "image";
+
     /**
      * 이미지 ID
      */
@@ -32,6 +49,12 @@ public class Image {
     @Column(nullable = false)
     private String filePath;
 
+    /**
+     * 파일 내용의 SHA-256 해시 (16진수)
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     /**
      * 파일 타입
      */
@@ -69,6 +92,14 @@ public class Image {
     @JoinColumn(name = "service_offering_id")
     private ServiceOffering serviceOffering;
 
+    /**
+     * 축소된 이미지 변형 목록
+     */
+    @OneToMany(mappedBy = "image", cascade = CascadeType.ALL, orphanRemoval = true)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<ImageVariant> variants = new ArrayList<>();
+
     /**
      * 이미지 타입 열거형
      */
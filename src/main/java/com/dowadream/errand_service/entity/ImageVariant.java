@@ -0,0 +1,59 @@
+package com.dowadream.errand_service.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 원본 이미지를 축소하여 생성한 이미지 변형 엔티티 클래스
+ */
+@Entity
+@Table(name = "image_variants", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_image_variants_image_width", columnNames = {"image_id", "width"})
+})
+@Getter
+@Setter
+public class ImageVariant {
+    /**
+     * 이미지 변형 ID
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_variant_seq")
+    @SequenceGenerator(name = "image_variant_seq", sequenceName = "image_variant_seq", allocationSize = 1)
+    private Long id;
+
+    /**
+     * 원본 이미지
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "image_id", nullable = false)
+    private Image image;
+
+    /**
+     * 너비 (픽셀)
+     */
+    @Column(nullable = false)
+    private Integer width;
+
+    /**
+     * 높이 (픽셀)
+     */
+    @Column(nullable = false)
+    private Integer height;
+
+    /**
+     * 파일 경로
+     */
+    @Column(nullable = false)
+    private String filePath;
+
+    /**
+     * 파일 타입
+     */
+    private String fileType;
+
+    /**
+     * 파일 크기
+     */
+    private Long fileSize;
+}
@@ -3,6 +3,9 @@ package com.dowadream.errand_service.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
@@ -14,10 +17,25 @@ import java.util.List;
  * 서비스 제공 엔티티 클래스
  */
 @Entity
-@Table(name = "service_offerings")
+@Table(name = "service_offerings", indexes = {
+        @Index(name = "idx_so_average_rating", columnList = "average_rating")
+})
+@SqlResultSetMapping(name = ServiceOffering.WITH_TOTAL_COUNT,
+        entities = @EntityResult(entityClass = ServiceOffering.class),
+        columns = @ColumnResult(name = "total_count", type = Long.class))
 @Getter
 @Setter
 public class ServiceOffering {
+    /**
+     * 서비스 제공 엔티티와 COUNT(*) OVER () 결과를 함께 매핑하는 결과 매핑 이름
+     */
+    public static final String WITH_TOTAL_COUNT = "ServiceOffering.withTotalCount";
+
+    /**
+     * 서비스 제공 이미지 목록의 2차 캐시 영역 이름
+     */
+    public static final String IMAGES_CACHE_REGION = "service-offering.images";
+
     /**
      * 서비스 제공 ID
      */
@@ -67,6 +85,7 @@ public class ServiceOffering {
      * 서비스 제공 이미지 목록
      */
     @OneToMany(mappedBy = "serviceOffering", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ServiceOffering.IMAGES_CACHE_REGION)
     private List<Image> images = new ArrayList<>();
 
     /**
@@ -88,6 +107,29 @@ public class ServiceOffering {
     @Column(nullable = false)
     private Integer completedTasks = 0;
 
+    /**
+     * 리뷰 평점 합계
+     * 리뷰가 생성/수정/삭제될 때 데이터베이스에서 원자적으로 갱신되므로 엔티티 저장 시에는 변경되지 않습니다.
+     */
+    @ColumnDefault("0")
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private Long ratingSum = 0L;
+
+    /**
+     * 리뷰 수
+     */
+    @ColumnDefault("0")
+    @Column(name = "rating_count", nullable = false, updatable = false)
+    private Integer ratingCount = 0;
+
+    /**
+     * 평균 평점 (리뷰가 없으면 0)
+     * 평점순 정렬에 인덱스를 사용하기 위해 평점 합계, 리뷰 수와 함께 저장됩니다.
+     */
+    @ColumnDefault("0")
+    @Column(name = "average_rating", nullable = false, updatable = false)
+    private Double averageRating = 0.0;
+
     /**
      * 이미지 추가
      * @param image 추가할 이미지
@@ -0,0 +1,27 @@
+package com.dowadream.errand_service.event;
+
+/**
+ * 카테고리가 생성, 수정, 삭제되었거나 카테고리 이미지의 축소 이미지가 생성되었을 때,
+ * 또는 스냅샷에 없는 카테고리가 데이터베이스에서 발견되었을 때 발행되는 이벤트 클래스
+ * 트랜잭션 커밋 이후에 카테고리 스냅샷을 다시 만드는 데 사용됩니다.
+ */
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+
+    /**
+     * CategoryChangedEvent 생성자
+     * @param categoryId 변경된 카테고리 ID (알 수 없으면 null)
+     */
+    public CategoryChangedEvent(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    /**
+     * 변경된 카테고리 ID를 반환합니다.
+     * @return 카테고리 ID (알 수 없으면 null)
+     */
+    public Long getCategoryId() {
+        return categoryId;
+    }
+}
@@ -0,0 +1,68 @@
+package com.dowadream.errand_service.event;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+
+/**
+ * 심부름이 생성, 수정, 수락, 삭제, 만료되었을 때 발행되는 이벤트 클래스
+ * 트랜잭션 커밋 이후에 읽기 모델 등 파생 데이터를 갱신하는 데 사용됩니다.
+ */
+public class ErrandChangedEvent {
+
+    /**
+     * 변경 유형 열거형
+     */
+    public enum Type {
+        CREATED, UPDATED, ACCEPTED, DELETED, EXPIRED
+    }
+
+    private final Type type;
+    private final Long errandSeq;
+    private final ErrandDTO errand;
+    private final Long previousCategoryId;
+
+    /**
+     * ErrandChangedEvent 생성자
+     * @param type 변경 유형
+     * @param errandSeq 심부름 고유 번호
+     * @param errand 변경 후 심부름 DTO (삭제 또는 만료된 경우 null)
+     * @param previousCategoryId 변경 전 카테고리 ID (새로 생성되었거나 카테고리가 없으면 null)
+     */
+    public ErrandChangedEvent(Type type, Long errandSeq, ErrandDTO errand, Long previousCategoryId) {
+        this.type = type;
+        this.errandSeq = errandSeq;
+        this.errand = errand;
+        this.previousCategoryId = previousCategoryId;
+    }
+
+    /**
+     * 변경 유형을 반환합니다.
+     * @return 변경 유형
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 심부름 고유 번호를 반환합니다.
+     * @return 심부름 고유 번호
+     */
+    public Long getErrandSeq() {
+        return errandSeq;
+    }
+
+    /**
+     * 변경 후 심부름 DTO를 반환합니다.
+     * @return 심부름 DTO (삭제 또는 만료된 경우 null)
+     */
+    public ErrandDTO getErrand() {
+        return errand;
+    }
+
+    /**
+     * 변경 전 카테고리 ID를 반환합니다.
+     * @return 카테고리 ID (새로 생성되었거나 카테고리가 없으면 null)
+     */
+    public Long getPreviousCategoryId() {
+        return previousCategoryId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.dowadream.errand_service.event;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대량 가져오기로 심부름 묶음이 생성되었을 때 발행되는 이벤트 클래스
+ * 행마다 {@link ErrandChangedEvent}를 발행하는 대신 묶음마다 한 번 발행하여,
+ * 트랜잭션 커밋 이후 캐시 무효화와 읽기 모델, 만료 일정 갱신을 묶음 단위로 처리하는 데 사용됩니다.
+ */
+public class ErrandsImportedEvent {
+
+    private final List<ErrandDTO> errands;
+    private final Set<Long> categoryIds;
+
+    /**
+     * ErrandsImportedEvent 생성자
+     * @param errands 생성된 심부름 DTO 목록 (고유 번호가 할당된 상태)
+     */
+    public ErrandsImportedEvent(List<ErrandDTO> errands) {
+        this.errands = Collections.unmodifiableList(errands);
+        Set<Long> ids = new HashSet<>();
+        for (ErrandDTO errand : errands) {
+            if (errand.getCategoryId() != null) {
+                ids.add(errand.getCategoryId());
+            }
+        }
+        this.categoryIds = Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * 생성된 심부름 목록을 반환합니다.
+     * @return 심부름 DTO 목록
+     */
+    public List<ErrandDTO> getErrands() {
+        return errands;
+    }
+
+    /**
+     * 생성된 심부름의 중복 없는 카테고리 ID 목록을 반환합니다.
+     * @return 카테고리 ID 목록
+     */
+    public Set<Long> getCategoryIds() {
+        return categoryIds;
+    }
+}
@@ -0,0 +1,28 @@
+package com.dowadream.errand_service.event;
+
+import com.dowadream.errand_service.entity.Image;
+
+/**
+ * 이미지가 업로드되어 저장되었을 때 발행되는 이벤트 클래스
+ * 트랜잭션 커밋 이후에 축소 이미지 변형을 생성하는 데 사용됩니다.
+ */
+public class ImageUploadedEvent {
+
+    private final Image image;
+
+    /**
+     * ImageUploadedEvent 생성자
+     * @param image 저장된 이미지 엔티티 (ID는 커밋 시점까지 할당됩니다)
+     */
+    public ImageUploadedEvent(Image image) {
+        this.image = image;
+    }
+
+    /**
+     * 저장된 이미지 엔티티를 반환합니다.
+     * @return 이미지 엔티티
+     */
+    public Image getImage() {
+        return image;
+    }
+}
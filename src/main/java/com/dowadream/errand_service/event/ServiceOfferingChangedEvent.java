@@ -0,0 +1,49 @@
+package com.dowadream.errand_service.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 서비스 제공이 생성, 수정, 삭제되었거나 리뷰 평점 집계, 이미지 축소 이미지가 바뀌었을 때 발행되는 이벤트 클래스
+ * 트랜잭션 커밋 이후에 상세 조회 캐시와 필터 조회 캐시를 무효화하는 데 사용됩니다.
+ */
+public class ServiceOfferingChangedEvent {
+
+    private final Long serviceOfferingId;
+    private final Set<Long> categoryIds;
+
+    /**
+     * ServiceOfferingChangedEvent 생성자
+     * @param serviceOfferingId 변경된 서비스 제공 ID (여러 건이 한꺼번에 바뀌었으면 null)
+     * @param categoryIds 변경 전후의 카테고리 ID 목록 (알 수 없으면 null)
+     */
+    public ServiceOfferingChangedEvent(Long serviceOfferingId, Collection<Long> categoryIds) {
+        this.serviceOfferingId = serviceOfferingId;
+        if (categoryIds == null) {
+            this.categoryIds = null;
+        } else {
+            Set<Long> ids = new HashSet<>(categoryIds);
+            ids.removeIf(Objects::isNull);
+            this.categoryIds = Collections.unmodifiableSet(ids);
+        }
+    }
+
+    /**
+     * 변경된 서비스 제공 ID를 반환합니다.
+     * @return 서비스 제공 ID (여러 건이 한꺼번에 바뀌었으면 null)
+     */
+    public Long getServiceOfferingId() {
+        return serviceOfferingId;
+    }
+
+    /**
+     * 변경 전후의 카테고리 ID 목록을 반환합니다.
+     * @return 카테고리 ID 목록 (알 수 없으면 null)
+     */
+    public Set<Long> getCategoryIds() {
+        return categoryIds;
+    }
+}
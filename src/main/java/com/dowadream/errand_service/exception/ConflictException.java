@@ -0,0 +1,30 @@
+package com.dowadream.errand_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 요청이 리소스의 현재 상태와 충돌할 때 발생하는 예외 클래스
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 메시지와 함께 ConflictException을 생성합니다.
+     * @param message 예외 메시지
+     */
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    /**
+     * 메시지와 원인 예외와 함께 ConflictException을 생성합니다.
+     * @param message 예외 메시지
+     * @param cause 원인 예외
+     */
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
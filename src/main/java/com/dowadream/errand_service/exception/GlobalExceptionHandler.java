@@ -1,5 +1,7 @@
 package com.dowadream.errand_service.exception;
 
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -33,6 +35,39 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * ConflictException 처리
+     * @param ex 발생한 ConflictException
+     * @return 에러 응답 엔티티
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(ConflictException ex) {
+        ErrorResponse error = new ErrorResponse("CONFLICT", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * DataIntegrityViolationException 처리 (다른 요청이나 인스턴스에서 삭제된 카테고리를 참조하는 경우 등)
+     * @param ex 발생한 DataIntegrityViolationException
+     * @return 에러 응답 엔티티
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        ErrorResponse error = new ErrorResponse("CONFLICT", "The request conflicts with the current state of the data");
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * TaskRejectedException 처리 (작업용 스레드 풀과 대기열이 가득 찬 경우)
+     * @param ex 발생한 TaskRejectedException
+     * @return 에러 응답 엔티티
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException ex) {
+        ErrorResponse error = new ErrorResponse("SERVICE_UNAVAILABLE", "Too many concurrent requests, try again later");
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * 기타 예외 처리
      * @param ex 발생한 Exception
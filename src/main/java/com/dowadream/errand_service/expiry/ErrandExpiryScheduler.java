@@ -0,0 +1,217 @@
+package com.dowadream.errand_service.expiry;
+
+import com.dowadream.errand_service.datasource.DataSourceRouting;
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.entity.Errand;
+import com.dowadream.errand_service.event.ErrandChangedEvent;
+import com.dowadream.errand_service.event.ErrandsImportedEvent;
+import com.dowadream.errand_service.repository.ErrandRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 마감 기한이 지난 요청 상태의 심부름을 취소 상태로 변경하는 스케줄러 클래스
+ * 열린 심부름의 마감 기한을 {@link TimingWheel}에 보관하고, 주기적으로 시간을 진행시켜 만료된 심부름을
+ * 일정 크기의 묶음 단위 UPDATE 문으로 처리합니다.
+ * 마감 기한은 시작 시 데이터베이스에서 불러오고 이후에는 {@link ErrandChangedEvent}와 {@link ErrandsImportedEvent}로 갱신합니다.
+ */
+@Slf4j
+@Component
+public class ErrandExpiryScheduler {
+
+    private final ErrandRepository errandRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long tickMillis;
+    private final int batchSize;
+
+    private final TimingWheel<Long> wheel;
+    private final Map<Long, Long> deadlines = new HashMap<>();
+
+    private final Counter expiredCounter;
+    private final Timer lagTimer;
+
+    /**
+     * ErrandExpiryScheduler 생성자
+     * @param errandRepository 심부름 리포지토리
+     * @param transactionTemplate 트랜잭션 템플릿
+     * @param eventPublisher 이벤트 발행기
+     * @param meterRegistry 메트릭 레지스트리
+     * @param tickMillis 타이밍 휠 한 칸의 시간 (밀리초)
+     * @param batchSize 한 UPDATE 문에서 처리할 최대 심부름 수
+     */
+    @Autowired
+    public ErrandExpiryScheduler(ErrandRepository errandRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${errand.expiry.tick-millis:1000}") long tickMillis,
+                                 @Value("${errand.expiry.batch-size:500}") int batchSize) {
+        this.errandRepository = errandRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.tickMillis = tickMillis;
+        this.batchSize = batchSize;
+        this.wheel = new TimingWheel<>(tickMillis, System.currentTimeMillis());
+
+        Gauge.builder("errand.expiry.backlog", this, ErrandExpiryScheduler::backlog)
+                .description("Open errands waiting for their deadline")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("errand.expiry.expired")
+                .description("Errands cancelled because their deadline passed")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("errand.expiry.lag")
+                .description("Delay between an errand's deadline and its cancellation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 상태인 모든 심부름의 마감 기한을 불러옵니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<ErrandRepository.ErrandDeadline> openErrands = DataSourceRouting.onPrimary(
+                () -> errandRepository.findDeadlinesByStatus(Errand.ErrandStatus.REQUESTED));
+        synchronized (this) {
+            for (ErrandRepository.ErrandDeadline errand : openErrands) {
+                schedule(errand.getErrandSeq(), errand.getDeadline());
+            }
+        }
+        log.info("Scheduled deadline expiry for {} open errands", openErrands.size());
+    }
+
+    /**
+     * 커밋된 심부름 변경에 맞춰 만료 예정 시각을 갱신합니다.
+     * 요청 상태가 아니게 된 심부름은 만료 대상에서 제외합니다.
+     * @param event 심부름 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onErrandChanged(ErrandChangedEvent event) {
+        ErrandDTO errand = event.getErrand();
+        if (errand != null && Errand.ErrandStatus.REQUESTED.name().equals(errand.getStatus()) && errand.getDeadline() != null) {
+            schedule(event.getErrandSeq(), errand.getDeadline());
+        } else {
+            deadlines.remove(event.getErrandSeq());
+        }
+    }
+
+    /**
+     * 가져온 심부름 묶음 중 요청 상태이고 마감 기한이 있는 심부름의 만료 예정 시각을 한 번에 등록합니다.
+     * @param event 심부름 가져오기 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onErrandsImported(ErrandsImportedEvent event) {
+        for (ErrandDTO errand : event.getErrands()) {
+            if (Errand.ErrandStatus.REQUESTED.name().equals(errand.getStatus()) && errand.getDeadline() != null) {
+                schedule(errand.getErrandSeq(), errand.getDeadline());
+            }
+        }
+    }
+
+    /**
+     * 타이밍 휠을 현재 시각까지 진행시키고 만료된 심부름을 취소 상태로 변경합니다.
+     */
+    @Scheduled(fixedDelayString = "${errand.expiry.tick-millis:1000}")
+    public void tick() {
+        List<TimingWheel.Timeout<Long>> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(System.currentTimeMillis(), timeout -> {
+                // 마감 기한이 바뀌었거나 더 이상 열린 상태가 아니면 해당 항목은 취소된 것으로 봅니다.
+                if (deadlines.remove(timeout.getItem(), timeout.getDeadlineMillis())) {
+                    due.add(timeout);
+                }
+            });
+        }
+
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<TimingWheel.Timeout<Long>> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                expire(batch);
+            } catch (RuntimeException e) {
+                log.warn("Failed to expire {} errands, retrying on the next tick", batch.size(), e);
+                retry(batch);
+            }
+        }
+    }
+
+    /**
+     * 만료된 심부름 묶음을 단일 UPDATE 문으로 취소 상태로 변경하고 변경 이벤트를 발행합니다.
+     * 만료 대상 행을 먼저 잠그고 조회한 뒤 그 행만 변경하므로, 이벤트는 실제로 취소된 심부름에 대해서만 빠짐없이 발행됩니다.
+     * 필터 조회 캐시가 해당 카테고리만 무효화할 수 있도록 만료된 심부름의 카테고리를 함께 조회합니다.
+     * @param batch 만료된 항목 목록
+     */
+    private void expire(List<TimingWheel.Timeout<Long>> batch) {
+        List<Long> ids = new ArrayList<>(batch.size());
+        batch.forEach(timeout -> ids.add(timeout.getItem()));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ErrandRepository.ErrandCategory> expired = transactionTemplate.execute(status -> {
+            List<ErrandRepository.ErrandCategory> errands = errandRepository.lockExpirable(ids, now);
+            if (errands.isEmpty()) {
+                return errands;
+            }
+            List<Long> expiredIds = new ArrayList<>(errands.size());
+            errands.forEach(errand -> expiredIds.add(errand.getErrandSeq()));
+            errandRepository.expireRequested(expiredIds, now);
+            errands.forEach(errand -> eventPublisher.publishEvent(new ErrandChangedEvent(ErrandChangedEvent.Type.EXPIRED,
+                    errand.getErrandSeq(), null, errand.getCategoryId())));
+            return errands;
+        });
+
+        long nowMillis = System.currentTimeMillis();
+        for (TimingWheel.Timeout<Long> timeout : batch) {
+            lagTimer.record(Duration.ofMillis(Math.max(0, nowMillis - timeout.getDeadlineMillis())));
+        }
+        expiredCounter.increment(expired.size());
+    }
+
+    /**
+     * 처리에 실패한 항목을 다음 칸에 다시 등록합니다.
+     * 그사이 다른 마감 기한이 등록된 심부름은 새 기한을 유지합니다.
+     * @param batch 처리에 실패한 항목 목록
+     */
+    private synchronized void retry(List<TimingWheel.Timeout<Long>> batch) {
+        long retryAt = System.currentTimeMillis() + tickMillis;
+        for (TimingWheel.Timeout<Long> timeout : batch) {
+            if (deadlines.putIfAbsent(timeout.getItem(), retryAt) == null) {
+                wheel.add(timeout.getItem(), retryAt);
+            }
+        }
+    }
+
+    /**
+     * 심부름의 만료 예정 시각을 등록합니다. 기존 등록은 휠에 남지만 만료 시점에 무시됩니다.
+     * @param errandSeq 심부름 고유 번호
+     * @param deadline 마감 기한
+     */
+    private void schedule(Long errandSeq, LocalDateTime deadline) {
+        long deadlineMillis = deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        deadlines.put(errandSeq, deadlineMillis);
+        wheel.add(errandSeq, deadlineMillis);
+    }
+
+    private synchronized int backlog() {
+        return deadlines.size();
+    }
+}
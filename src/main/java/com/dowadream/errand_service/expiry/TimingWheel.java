@@ -0,0 +1,159 @@
+package com.dowadream.errand_service.expiry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각이 있는 항목을 보관하는 계층형 타이밍 휠 클래스
+ * 각 단계는 64개의 버킷으로 구성되며, 상위 단계의 버킷은 하위 단계 64바퀴에 해당하는 시간을 담습니다.
+ * 삽입은 버킷 계산 한 번으로 끝나고, 시간이 흐르면 상위 단계의 버킷을 하위 단계로 내려보내며 만료된 항목을 꺼냅니다.
+ * 가장 상위 단계보다 먼 항목은 별도 목록에 보관했다가 최상위 단계가 한 바퀴 돌 때 다시 배치합니다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ * @param <T> 항목 타입
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final List<List<Timeout<T>>> buckets = new ArrayList<>();
+    private List<Timeout<T>> overflow = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * TimingWheel 생성자
+     * @param tickMillis 한 칸이 나타내는 시간 (밀리초)
+     * @param startMillis 시작 시각 (epoch 밀리초)
+     */
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * 항목을 추가합니다. 이미 지난 시각의 항목은 다음 칸에서 만료됩니다.
+     * @param item 항목
+     * @param deadlineMillis 만료 시각 (epoch 밀리초)
+     */
+    public void add(T item, long deadlineMillis) {
+        place(new Timeout<>(item, deadlineMillis, Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1)));
+        size++;
+    }
+
+    /**
+     * 지정한 시각까지 시간을 진행하고 만료된 항목을 전달합니다.
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @param expired 만료된 항목을 받을 함수
+     */
+    public void advance(long nowMillis, Consumer<Timeout<T>> expired) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            List<Timeout<T>> bucket = bucket(0, (int) (currentTick & SLOT_MASK));
+            if (!bucket.isEmpty()) {
+                List<Timeout<T>> due = new ArrayList<>(bucket);
+                bucket.clear();
+                size -= due.size();
+                due.forEach(expired);
+            }
+        }
+    }
+
+    /**
+     * 휠에 남아 있는 항목 수를 반환합니다. 호출하는 쪽에서 취소한 항목도 포함됩니다.
+     * @return 항목 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 하위 단계가 한 바퀴 돌았을 때 상위 단계의 현재 버킷을 다시 배치합니다.
+     */
+    private void cascade() {
+        for (int level = 1; level <= LEVELS; level++) {
+            long lowerBits = currentTick & ((1L << (SLOT_BITS * level)) - 1);
+            if (lowerBits != 0) {
+                return;
+            }
+            List<Timeout<T>> entries;
+            if (level == LEVELS) {
+                entries = overflow;
+                overflow = new ArrayList<>();
+            } else {
+                List<Timeout<T>> bucket = bucket(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+                entries = new ArrayList<>(bucket);
+                bucket.clear();
+            }
+            entries.forEach(this::place);
+        }
+    }
+
+    /**
+     * 만료 칸까지의 거리에 맞는 단계와 버킷에 항목을 배치합니다.
+     * @param timeout 항목
+     */
+    private void place(Timeout<T> timeout) {
+        long tick = Math.max(timeout.tick, currentTick);
+        long delta = tick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (SLOT_BITS * (level + 1)))) {
+                bucket(level, (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)).add(timeout);
+                return;
+            }
+        }
+        overflow.add(timeout);
+    }
+
+    private List<Timeout<T>> bucket(int level, int slot) {
+        return buckets.get(level * SLOTS + slot);
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    /**
+     * 휠에 등록된 항목과 만료 시각
+     * @param <T> 항목 타입
+     */
+    public static final class Timeout<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private final long tick;
+
+        private Timeout(T item, long deadlineMillis, long tick) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+            this.tick = tick;
+        }
+
+        /**
+         * 항목을 반환합니다.
+         * @return 항목
+         */
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * 만료 시각을 반환합니다.
+         * @return 만료 시각 (epoch 밀리초)
+         */
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.dto.CategoryDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 전체 카테고리 목록을 메모리에 보관하는 컴포넌트
+ * 카테고리는 거의 바뀌지 않으므로 변경될 때마다 새 스냅샷을 만들어 한 번에 교체하고,
+ * 조회와 쓰기 경로의 존재 확인은 데이터베이스 대신 현재 스냅샷으로 처리합니다.
+ * 스냅샷의 DTO는 여러 요청이 공유하므로 수정하지 않아야 합니다.
+ */
+@Component
+public class CategoryRegistry {
+
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * CategoryRegistry 생성자
+     * @param objectMapper JSON 매퍼 (ETag 계산용)
+     */
+    @Autowired
+    public CategoryRegistry(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다.
+     * @return 스냅샷 (아직 불러오지 않았으면 null)
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * 카테고리 목록으로 새 스냅샷을 만들어 교체합니다.
+     * @param categories 전체 카테고리 DTO 목록
+     * @return 새 스냅샷
+     */
+    public Snapshot replace(List<CategoryDTO> categories) {
+        Snapshot next = new Snapshot(categories, eTagOf(categories));
+        snapshot.set(next);
+        return next;
+    }
+
+    /**
+     * 아직 스냅샷이 없을 때만 카테고리 목록으로 스냅샷을 만듭니다.
+     * 그사이 다른 스레드가 더 최신 스냅샷을 만들었으면 그 스냅샷을 유지합니다.
+     * @param categories 전체 카테고리 DTO 목록
+     * @return 현재 스냅샷
+     */
+    public Snapshot initialize(List<CategoryDTO> categories) {
+        snapshot.compareAndSet(null, new Snapshot(categories, eTagOf(categories)));
+        return snapshot.get();
+    }
+
+    /**
+     * 목록의 JSON 표현으로 ETag를 계산합니다. 내용이 같으면 인스턴스가 달라도 같은 값이 나옵니다.
+     * @param categories 카테고리 DTO 목록
+     * @return 따옴표로 감싼 ETag
+     */
+    private String eTagOf(List<CategoryDTO> categories) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(categories));
+            StringBuilder eTag = new StringBuilder("\"");
+            for (int i = 0; i < 16; i++) {
+                eTag.append(String.format("%02x", digest[i]));
+            }
+            return eTag.append('"').toString();
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not compute category ETag", e);
+        }
+    }
+
+    /**
+     * 변경되지 않는 카테고리 목록 스냅샷
+     */
+    public static final class Snapshot {
+        private final List<CategoryDTO> categories;
+        private final Map<Long, CategoryDTO> categoriesById;
+        private final String eTag;
+
+        private Snapshot(List<CategoryDTO> categories, String eTag) {
+            Map<Long, CategoryDTO> byId = new LinkedHashMap<>();
+            categories.forEach(category -> byId.put(category.getCategoryId(), category));
+            this.categories = List.copyOf(categories);
+            this.categoriesById = Collections.unmodifiableMap(byId);
+            this.eTag = eTag;
+        }
+
+        /**
+         * 전체 카테고리 목록을 반환합니다.
+         * @return 카테고리 DTO 목록 (수정 불가)
+         */
+        public List<CategoryDTO> getCategories() {
+            return categories;
+        }
+
+        /**
+         * ID로 카테고리를 찾습니다.
+         * @param categoryId 카테고리 ID
+         * @return 카테고리 DTO (없으면 null)
+         */
+        public CategoryDTO get(Long categoryId) {
+            return categoriesById.get(categoryId);
+        }
+
+        /**
+         * 카테고리가 존재하는지 확인합니다.
+         * @param categoryId 카테고리 ID
+         * @return 존재하면 true
+         */
+        public boolean contains(Long categoryId) {
+            return categoriesById.containsKey(categoryId);
+        }
+
+        /**
+         * 스냅샷 내용의 ETag를 반환합니다.
+         * @return 따옴표로 감싼 ETag
+         */
+        public String getETag() {
+            return eTag;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.datasource.DataSourceRouting;
+import com.dowadream.errand_service.event.CategoryChangedEvent;
+import com.dowadream.errand_service.service.CategoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 스냅샷을 데이터베이스에서 다시 만드는 컴포넌트
+ * 시작 시, 카테고리 변경이 커밋된 뒤, 그리고 다른 인스턴스의 변경을 반영하기 위해 주기적으로 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class CategoryRegistryLoader {
+
+    private final CategoryRegistry categoryRegistry;
+    private final CategoryService categoryService;
+    private final Lock reloadLock = new ReentrantLock();
+
+    /**
+     * CategoryRegistryLoader 생성자
+     * @param categoryRegistry 카테고리 레지스트리
+     * @param categoryService 카테고리 서비스
+     */
+    @Autowired
+    public CategoryRegistryLoader(CategoryRegistry categoryRegistry, CategoryService categoryService) {
+        this.categoryRegistry = categoryRegistry;
+        this.categoryService = categoryService;
+    }
+
+    /**
+     * 애플리케이션 시작이 끝나면 스냅샷을 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 커밋된 카테고리 변경을 반영합니다.
+     * @param event 카테고리 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 카테고리를 반영하기 위해 주기적으로 스냅샷을 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${category.registry.refresh-millis:300000}",
+            initialDelayString = "${category.registry.refresh-millis:300000}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * 데이터베이스에서 전체 카테고리를 읽어 스냅샷을 교체합니다.
+     * 읽기와 교체를 한 번에 하나씩만 수행하므로 오래된 목록이 최신 스냅샷을 덮어쓰지 않습니다.
+     * 변경 직후의 목록이 필요하므로 복제본이 아닌 기본 데이터베이스에서 읽습니다.
+     * 데이터베이스 조회 중에 잠금을 유지하므로, 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 Lock을 사용합니다.
+     * 실패하면 기존 스냅샷을 유지합니다.
+     */
+    private void reload() {
+        reloadLock.lock();
+        try {
+            categoryRegistry.replace(DataSourceRouting.onPrimary(categoryService::loadCategories));
+        } catch (RuntimeException e) {
+            log.warn("Could not reload the category snapshot, keeping the previous one", e);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * ID로 조회한 상세 DTO를 보관하는 크기 제한 캐시 클래스
+ * 크기를 넘으면 W-TinyLFU 방식으로 자주 조회되는 항목을 남기고, 저장 후 일정 시간이 지나면 항목을 버립니다.
+ * 적중률과 제거 횟수는 {@code cache.*} 메트릭으로 노출됩니다.
+ * @param <V> DTO 타입
+ */
+public class DetailCache<V> {
+
+    private final Cache<Long, V> cache;
+
+    /**
+     * DetailCache 생성자
+     * @param name 메트릭에 사용할 캐시 이름
+     * @param maximumSize 최대 항목 수
+     * @param expireAfterWrite 항목을 저장한 뒤 보관할 시간
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public DetailCache(String name, long maximumSize, Duration expireAfterWrite, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    /**
+     * 캐시된 DTO를 반환하고, 없으면 조회 함수로 읽어 저장합니다.
+     * 조회는 같은 키의 무효화와 원자적으로 수행되므로, 커밋 전 값을 읽던 조회가 커밋 후 무효화보다 늦게 저장되는 일이 없습니다.
+     * 조회 함수가 null을 반환하거나 예외를 던지면 저장하지 않습니다.
+     * @param id 엔티티 ID
+     * @param loader 캐시에 없을 때 DTO를 읽는 함수
+     * @return DTO (없으면 null)
+     */
+    public V get(Long id, Function<Long, V> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * 항목을 제거합니다.
+     * @param id 엔티티 ID
+     */
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,64 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import com.dowadream.errand_service.event.ErrandChangedEvent;
+import com.dowadream.errand_service.event.ErrandsImportedEvent;
+import com.dowadream.errand_service.event.ServiceOfferingChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 변경에 맞춰 상세 조회 캐시의 항목을 제거하는 컴포넌트
+ */
+@Component
+public class DetailCacheInvalidator {
+
+    private final DetailCache<ErrandDTO> errandDetailCache;
+    private final DetailCache<ServiceOfferingDTO> serviceOfferingDetailCache;
+
+    /**
+     * DetailCacheInvalidator 생성자
+     * @param errandDetailCache 심부름 상세 조회 캐시
+     * @param serviceOfferingDetailCache 서비스 제공 상세 조회 캐시
+     */
+    @Autowired
+    public DetailCacheInvalidator(DetailCache<ErrandDTO> errandDetailCache,
+                                  DetailCache<ServiceOfferingDTO> serviceOfferingDetailCache) {
+        this.errandDetailCache = errandDetailCache;
+        this.serviceOfferingDetailCache = serviceOfferingDetailCache;
+    }
+
+    /**
+     * 생성, 수정, 수락, 삭제, 만료된 심부름을 캐시에서 제거합니다.
+     * @param event 심부름 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onErrandChanged(ErrandChangedEvent event) {
+        errandDetailCache.invalidate(event.getErrandSeq());
+    }
+
+    /**
+     * 가져온 심부름 묶음을 캐시에서 제거합니다.
+     * @param event 심부름 가져오기 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onErrandsImported(ErrandsImportedEvent event) {
+        event.getErrands().forEach(errand -> errandDetailCache.invalidate(errand.getErrandSeq()));
+    }
+
+    /**
+     * 변경된 서비스 제공을 캐시에서 제거합니다. ID가 없으면 전체를 제거합니다.
+     * @param event 서비스 제공 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onServiceOfferingChanged(ServiceOfferingChangedEvent event) {
+        if (event.getServiceOfferingId() == null) {
+            serviceOfferingDetailCache.invalidateAll();
+        } else {
+            serviceOfferingDetailCache.invalidate(event.getServiceOfferingId());
+        }
+    }
+}
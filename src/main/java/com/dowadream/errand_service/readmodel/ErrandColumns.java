@@ -0,0 +1,388 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.repository.ErrandSort;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 열린 심부름을 컬럼 단위의 기본형 배열로 저장하는 저장소 클래스
+ * 각 행은 슬롯 번호로 식별되며, 정렬 기준마다 슬롯 번호를 정렬 순서대로 담은 순열 배열을 유지합니다.
+ * 동기화는 호출하는 {@link ErrandReadModel}이 담당합니다.
+ */
+final class ErrandColumns {
+
+    private static final ErrandSort[] SORTS = ErrandSort.values();
+    private static final int NO_CATEGORY = -1;
+    private static final int NO_LOCATION = -1;
+
+    /**
+     * 행당 컬럼 배열이 차지하는 바이트 수
+     * (고유 번호, 카테고리, 위치 코드, 생성 일시, 마감 기한, 가격, 시급, DTO 참조, 정렬 순열)
+     */
+    private static final int BYTES_PER_SLOT = Long.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES
+            + Long.BYTES + Double.BYTES + Integer.BYTES + Integer.BYTES * SORTS.length;
+
+    private long[] errandSeqs;
+    private int[] categoryIds;
+    private int[] locationCodes;
+    private long[] createdAt;
+    private long[] deadlines;
+    private long[] prices;
+    private double[] hourlyRates;
+    private ErrandDTO[] rows;
+    private final int[][] orders = new int[SORTS.length][];
+
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int highWater;
+    private int size;
+    private long payloadBytes;
+
+    private final SlotIndex slotIndex;
+    private final Map<String, Integer> locationDictionary = new HashMap<>();
+
+    /**
+     * ErrandColumns 생성자
+     * @param capacity 초기 행 용량
+     */
+    ErrandColumns(int capacity) {
+        errandSeqs = new long[capacity];
+        categoryIds = new int[capacity];
+        locationCodes = new int[capacity];
+        createdAt = new long[capacity];
+        deadlines = new long[capacity];
+        prices = new long[capacity];
+        hourlyRates = new double[capacity];
+        rows = new ErrandDTO[capacity];
+        for (int i = 0; i < SORTS.length; i++) {
+            orders[i] = new int[capacity];
+        }
+        slotIndex = new SlotIndex(capacity);
+    }
+
+    /**
+     * 저장된 행 수를 반환합니다.
+     * @return 행 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 정렬 순열을 갱신하지 않고 행을 추가합니다.
+     * 전체 재구성과 {@link #upsertAll(List)}에서만 사용하며, 모든 행을 추가한 뒤 순열을 정렬해야 합니다.
+     * @param dto 심부름 DTO
+     */
+    void append(ErrandDTO dto) {
+        int slot = allocate();
+        write(slot, dto);
+        for (int[] order : orders) {
+            order[size] = slot;
+        }
+        size++;
+    }
+
+    /**
+     * 모든 정렬 기준의 순열을 처음부터 정렬합니다.
+     */
+    void sortAll() {
+        for (ErrandSort sort : SORTS) {
+            int[] sorted = IntStream.of(Arrays.copyOf(orders[sort.ordinal()], size))
+                    .boxed()
+                    .sorted((a, b) -> compare(sort, a, b))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            System.arraycopy(sorted, 0, orders[sort.ordinal()], 0, size);
+        }
+    }
+
+    /**
+     * 행을 추가하거나 교체합니다.
+     * 각 정렬 순열에는 이진 탐색으로 찾은 위치에 삽입하므로 전체를 다시 정렬하지 않습니다.
+     * @param dto 심부름 DTO
+     */
+    void upsert(ErrandDTO dto) {
+        remove(dto.getErrandSeq());
+        int slot = allocate();
+        write(slot, dto);
+        for (ErrandSort sort : SORTS) {
+            int[] order = orders[sort.ordinal()];
+            int position = search(sort, order, slot);
+            System.arraycopy(order, position, order, position + 1, size - position);
+            order[position] = slot;
+        }
+        size++;
+    }
+
+    /**
+     * 여러 행을 한 번에 추가하거나 교체합니다.
+     * 새 행을 순열 끝에 추가해 그 부분만 정렬한 뒤 기존 순열과 뒤에서부터 병합하므로,
+     * 행마다 {@link #upsert(ErrandDTO)}로 삽입 위치 뒤를 옮기는 것과 달리 정렬 기준마다 기존 행을 한 번만 옮깁니다.
+     * @param dtos 고유 번호가 서로 다른 심부름 DTO 목록
+     */
+    void upsertAll(List<ErrandDTO> dtos) {
+        for (ErrandDTO dto : dtos) {
+            remove(dto.getErrandSeq());
+        }
+        int existing = size;
+        for (ErrandDTO dto : dtos) {
+            append(dto);
+        }
+        for (ErrandSort sort : SORTS) {
+            int[] order = orders[sort.ordinal()];
+            int[] added = IntStream.of(Arrays.copyOfRange(order, existing, size))
+                    .boxed()
+                    .sorted((a, b) -> compare(sort, a, b))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            int from = existing - 1;
+            int next = added.length - 1;
+            for (int to = size - 1; next >= 0; to--) {
+                order[to] = from >= 0 && compare(sort, order[from], added[next]) > 0 ? order[from--] : added[next--];
+            }
+        }
+    }
+
+    /**
+     * 행을 삭제합니다.
+     * @param errandSeq 심부름 고유 번호
+     */
+    void remove(long errandSeq) {
+        int slot = slotIndex.get(errandSeq);
+        if (slot < 0) {
+            return;
+        }
+        for (ErrandSort sort : SORTS) {
+            int[] order = orders[sort.ordinal()];
+            int position = search(sort, order, slot);
+            System.arraycopy(order, position + 1, order, position, size - position - 1);
+        }
+        size--;
+        slotIndex.remove(errandSeq);
+        payloadBytes -= estimatePayloadBytes(rows[slot]);
+        rows[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * 필터와 정렬 기준에 맞는 행을 정렬 순서대로 조회합니다.
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param sort 정렬 기준
+     * @param offset 건너뛸 행 수
+     * @param limit 반환할 최대 행 수
+     * @param content 조회된 행을 담을 목록
+     * @return 필터에 맞는 전체 행 수
+     */
+    long query(String location, Long categoryId, ErrandSort sort, long offset, int limit, List<ErrandDTO> content) {
+        int wantedLocation = NO_LOCATION;
+        if (location != null) {
+            Integer code = locationDictionary.get(location);
+            if (code == null) {
+                return 0;
+            }
+            wantedLocation = code;
+        }
+        int wantedCategory = NO_CATEGORY;
+        if (categoryId != null) {
+            if (categoryId < 0 || categoryId > Integer.MAX_VALUE) {
+                return 0;
+            }
+            wantedCategory = categoryId.intValue();
+        }
+
+        int[] order = orders[sort.ordinal()];
+        long matched = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = order[i];
+            if (wantedLocation != NO_LOCATION && locationCodes[slot] != wantedLocation) {
+                continue;
+            }
+            if (wantedCategory != NO_CATEGORY && categoryIds[slot] != wantedCategory) {
+                continue;
+            }
+            if (matched >= offset && content.size() < limit) {
+                content.add(rows[slot]);
+            }
+            matched++;
+        }
+        return matched;
+    }
+
+    /**
+     * 저장소가 사용하는 메모리의 추정치를 반환합니다.
+     * 컬럼 배열과 인덱스는 정확한 크기이며, DTO 객체는 문자열 길이를 기준으로 한 추정치입니다.
+     * @return 바이트 수
+     */
+    long estimatedBytes() {
+        return (long) rows.length * BYTES_PER_SLOT
+                + (long) freeSlots.length * Integer.BYTES
+                + slotIndex.estimatedBytes()
+                + payloadBytes;
+    }
+
+    /**
+     * 사용할 슬롯을 할당합니다. 빈 슬롯이 있으면 재사용하고, 없으면 용량을 늘립니다.
+     * @return 슬롯 번호
+     */
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == rows.length) {
+            grow(Math.max(16, rows.length * 2));
+        }
+        return highWater++;
+    }
+
+    /**
+     * 슬롯에 DTO의 컬럼 값을 기록합니다.
+     * @param slot 슬롯 번호
+     * @param dto 심부름 DTO
+     */
+    private void write(int slot, ErrandDTO dto) {
+        errandSeqs[slot] = dto.getErrandSeq();
+        categoryIds[slot] = dto.getCategoryId() != null ? dto.getCategoryId().intValue() : NO_CATEGORY;
+        locationCodes[slot] = dto.getLocation() != null
+                ? locationDictionary.computeIfAbsent(dto.getLocation(), key -> locationDictionary.size())
+                : NO_LOCATION;
+        createdAt[slot] = toEpochMicros(dto.getCreatedDate());
+        deadlines[slot] = toEpochMicros(dto.getDeadline());
+        prices[slot] = toMinorUnits(dto.getPrice());
+        hourlyRates[slot] = hourlyRate(dto.getPrice(), dto.getEstimatedTime());
+        rows[slot] = dto;
+        slotIndex.put(dto.getErrandSeq(), slot);
+        payloadBytes += estimatePayloadBytes(dto);
+    }
+
+    /**
+     * 정렬 순열에서 슬롯이 위치해야 할 자리를 이진 탐색으로 찾습니다.
+     * 심부름 고유 번호가 보조 정렬 키이므로 두 슬롯의 비교 결과가 0이 되는 경우는 같은 행뿐입니다.
+     * @param sort 정렬 기준
+     * @param order 정렬 순열
+     * @param slot 슬롯 번호
+     * @return 순열 내 위치
+     */
+    private int search(ErrandSort sort, int[] order, int slot) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(sort, order[mid], slot) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 정렬 기준에 따라 두 슬롯을 비교합니다.
+     * 데이터베이스 조회의 {@link ErrandSort#orderBy()}와 같은 순서를 만듭니다.
+     * @param sort 정렬 기준
+     * @param a 슬롯 번호
+     * @param b 슬롯 번호
+     * @return 비교 결과
+     */
+    private int compare(ErrandSort sort, int a, int b) {
+        int result;
+        switch (sort) {
+            case LATEST:
+                result = Long.compare(createdAt[b], createdAt[a]);
+                break;
+            case HIGHEST_PRICE:
+                result = Long.compare(prices[b], prices[a]);
+                break;
+            case HIGHEST_HOURLY_RATE:
+                result = Double.compare(hourlyRates[b], hourlyRates[a]);
+                break;
+            case CLOSEST_DEADLINE:
+                result = Long.compare(deadlines[a], deadlines[b]);
+                break;
+            default:
+                result = 0;
+                break;
+        }
+        if (result != 0) {
+            return result;
+        }
+        return sort.isAscending()
+                ? Long.compare(errandSeqs[a], errandSeqs[b])
+                : Long.compare(errandSeqs[b], errandSeqs[a]);
+    }
+
+    /**
+     * 모든 컬럼 배열의 용량을 늘립니다.
+     * @param capacity 새 용량
+     */
+    private void grow(int capacity) {
+        errandSeqs = Arrays.copyOf(errandSeqs, capacity);
+        categoryIds = Arrays.copyOf(categoryIds, capacity);
+        locationCodes = Arrays.copyOf(locationCodes, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        hourlyRates = Arrays.copyOf(hourlyRates, capacity);
+        rows = Arrays.copyOf(rows, capacity);
+        for (int i = 0; i < orders.length; i++) {
+            orders[i] = Arrays.copyOf(orders[i], capacity);
+        }
+    }
+
+    /**
+     * 일시를 마이크로초 단위의 값으로 변환합니다.
+     * 데이터베이스의 TIMESTAMP(6)과 같은 정밀도를 사용하므로, 같은 밀리초에 생성된 심부름도 데이터베이스 조회와 같은 순서로 정렬됩니다.
+     */
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime != null
+                ? dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000
+                : Long.MIN_VALUE;
+    }
+
+    private static long toMinorUnits(BigDecimal price) {
+        return price != null ? price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue() : Long.MIN_VALUE;
+    }
+
+    /**
+     * 시급을 계산합니다.
+     * 예상 소요 시간이 없으면 데이터베이스의 가상 컬럼과 같이 -1을 사용하여 내림차순에서 가장 뒤에 오도록 합니다.
+     */
+    private static double hourlyRate(BigDecimal price, Integer estimatedTime) {
+        if (price == null || estimatedTime == null || estimatedTime == 0) {
+            return -1;
+        }
+        return price.doubleValue() / estimatedTime;
+    }
+
+    /**
+     * DTO 객체 하나가 차지하는 힙 크기를 대략적으로 추정합니다.
+     */
+    private static long estimatePayloadBytes(ErrandDTO dto) {
+        long bytes = 256;
+        bytes += stringBytes(dto.getTitle()) + stringBytes(dto.getDescription()) + stringBytes(dto.getLocation())
+                + stringBytes(dto.getRequesterNickname()) + stringBytes(dto.getRunnerNickname());
+        if (dto.getImagePaths() != null) {
+            for (String path : dto.getImagePaths()) {
+                bytes += 16 + stringBytes(path);
+            }
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String value) {
+        return value != null ? 40 + value.length() * 2L : 0;
+    }
+}
@@ -0,0 +1,238 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.entity.Errand;
+import com.dowadream.errand_service.event.ErrandChangedEvent;
+import com.dowadream.errand_service.event.ErrandsImportedEvent;
+import com.dowadream.errand_service.repository.ErrandSort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 요청 상태(REQUESTED)인 심부름을 메모리에 보관하여 필터 조회를 데이터베이스 없이 처리하는 읽기 모델 클래스
+ * 시작 시 전체를 재구성하고, 이후에는 커밋된 {@link ErrandChangedEvent}와 {@link ErrandsImportedEvent}로 증분 갱신합니다.
+ * 다른 인스턴스의 변경은 {@link ErrandReadModelLoader}의 주기적 재구성으로 반영됩니다.
+ * errand.read-model.enabled 속성이 true일 때만 동작하며, 재구성이 끝나기 전에는 조회를 처리하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ErrandReadModel {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ErrandChangedEvent> pendingEvents = new ArrayList<>();
+
+    private ErrandColumns columns = new ErrandColumns(INITIAL_CAPACITY);
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * ErrandReadModel 생성자
+     * @param enabled 읽기 모델 사용 여부
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    @Autowired
+    public ErrandReadModel(@Value("${errand.read-model.enabled:false}") boolean enabled, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        Gauge.builder("errand.read-model.size", this, ErrandReadModel::size)
+                .description("Number of open errands held in the read model")
+                .register(meterRegistry);
+        Gauge.builder("errand.read-model.memory", this, ErrandReadModel::estimatedBytes)
+                .description("Estimated heap used by the read model")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("errand.read-model.memory.per-million", this, ErrandReadModel::estimatedBytesPerMillion)
+                .description("Estimated heap the read model needs per million errands")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 읽기 모델 사용이 설정되어 있는지 확인합니다.
+     * @return 사용 설정 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 읽기 모델이 조회를 처리할 수 있는 상태인지 확인합니다.
+     * @return 사용 설정되어 있고 재구성이 끝났으면 true
+     */
+    public boolean isServing() {
+        return enabled && ready;
+    }
+
+    /**
+     * 필터와 정렬 기준에 맞는 심부름 페이지를 조회합니다.
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param sort 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 페이징된 심부름 DTO 목록
+     */
+    public Page<ErrandDTO> findPage(String location, Long categoryId, ErrandSort sort, Pageable pageable) {
+        List<ErrandDTO> content = new ArrayList<>(pageable.getPageSize());
+        long total;
+        lock.readLock().lock();
+        try {
+            total = columns.query(location, categoryId, sort, pageable.getOffset(), pageable.getPageSize(), content);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 읽기 모델 전체를 다시 구성합니다.
+     * 새 저장소를 잠금 없이 만든 뒤 교체하며, 구성하는 동안 도착한 변경 이벤트는 교체 후 순서대로 다시 적용합니다.
+     * @param loader 요청 상태인 심부름 DTO 목록을 조회하는 함수
+     */
+    public void rebuild(Supplier<List<ErrandDTO>> loader) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (pendingEvents) {
+            rebuilding = true;
+        }
+        try {
+            List<ErrandDTO> openErrands = loader.get();
+            ErrandColumns rebuilt = new ErrandColumns(Math.max(INITIAL_CAPACITY, openErrands.size()));
+            for (ErrandDTO errand : openErrands) {
+                rebuilt.append(errand);
+            }
+            rebuilt.sortAll();
+
+            lock.writeLock().lock();
+            try {
+                columns = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            synchronized (pendingEvents) {
+                pendingEvents.forEach(this::apply);
+                pendingEvents.clear();
+                rebuilding = false;
+            }
+        }
+        ready = true;
+        log.info("Errand read model rebuilt with {} open errands ({} bytes)", size(), estimatedBytes());
+    }
+
+    /**
+     * 커밋된 심부름 변경을 읽기 모델에 반영합니다.
+     * @param event 심부름 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onErrandChanged(ErrandChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (pendingEvents) {
+            if (rebuilding) {
+                pendingEvents.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+
+    /**
+     * 가져온 심부름 묶음 중 요청 상태인 심부름을 한 번의 쓰기 잠금으로 읽기 모델에 추가합니다.
+     * 재구성 중이면 행별 생성 이벤트로 바꾸어 재구성 후에 다시 적용합니다.
+     * @param event 심부름 가져오기 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onErrandsImported(ErrandsImportedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<ErrandDTO> requested = new ArrayList<>(event.getErrands().size());
+        for (ErrandDTO errand : event.getErrands()) {
+            if (Errand.ErrandStatus.REQUESTED.name().equals(errand.getStatus())) {
+                requested.add(errand);
+            }
+        }
+        if (requested.isEmpty()) {
+            return;
+        }
+        synchronized (pendingEvents) {
+            if (rebuilding) {
+                requested.forEach(errand -> pendingEvents.add(
+                        new ErrandChangedEvent(ErrandChangedEvent.Type.CREATED, errand.getErrandSeq(), errand, null)));
+                return;
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            columns.upsertAll(requested);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 이벤트를 저장소에 적용합니다.
+     * 요청 상태가 아닌 심부름은 목록 조회 대상이 아니므로 제거합니다.
+     * @param event 심부름 변경 이벤트
+     */
+    private void apply(ErrandChangedEvent event) {
+        ErrandDTO errand = event.getErrand();
+        lock.writeLock().lock();
+        try {
+            if (errand != null && Errand.ErrandStatus.REQUESTED.name().equals(errand.getStatus())) {
+                columns.upsert(errand);
+            } else {
+                columns.remove(event.getErrandSeq());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return columns.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return columns.estimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double estimatedBytesPerMillion() {
+        lock.readLock().lock();
+        try {
+            int size = columns.size();
+            return size == 0 ? 0 : columns.estimatedBytes() * 1_000_000.0 / size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
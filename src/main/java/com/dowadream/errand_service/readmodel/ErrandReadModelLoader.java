@@ -0,0 +1,77 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.datasource.DataSourceRouting;
+import com.dowadream.errand_service.service.ErrandService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 심부름 읽기 모델을 데이터베이스에서 전체 재구성하는 컴포넌트
+ * 애플리케이션 시작이 끝나면 재구성하고, 재구성이 끝나기 전까지 목록 조회는 데이터베이스에서 처리됩니다.
+ * 심부름 변경 이벤트는 변경을 커밋한 인스턴스에만 전달되므로, 여러 인스턴스로 실행될 때 다른 인스턴스의 변경을 반영하기 위해
+ * errand.read-model.refresh-millis(기본 60초) 주기로 다시 재구성합니다.
+ * 따라서 다른 인스턴스에서 커밋된 변경은 최대 이 주기와 재구성에 걸리는 시간을 더한 만큼 늦게 목록에 나타납니다.
+ */
+@Slf4j
+@Component
+public class ErrandReadModelLoader {
+
+    private final ErrandReadModel errandReadModel;
+    private final ErrandService errandService;
+    private final Lock rebuildLock = new ReentrantLock();
+
+    /**
+     * ErrandReadModelLoader 생성자
+     * @param errandReadModel 심부름 읽기 모델
+     * @param errandService 심부름 서비스
+     */
+    @Autowired
+    public ErrandReadModelLoader(ErrandReadModel errandReadModel, ErrandService errandService) {
+        this.errandReadModel = errandReadModel;
+        this.errandService = errandService;
+    }
+
+    /**
+     * 애플리케이션 시작이 끝나면 읽기 모델을 재구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 심부름을 반영하기 위해 주기적으로 읽기 모델을 재구성합니다.
+     */
+    @Scheduled(fixedDelayString = "${errand.read-model.refresh-millis:60000}",
+            initialDelayString = "${errand.read-model.refresh-millis:60000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 요청 상태인 모든 심부름으로 읽기 모델을 재구성합니다.
+     * 재구성은 한 번에 하나씩만 수행하고, 변경 직후의 목록이 필요하므로 복제본이 아닌 기본 데이터베이스에서 읽습니다.
+     * 데이터베이스 조회 중에 잠금을 유지하므로, 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 Lock을 사용합니다.
+     * 실패하면 기존 읽기 모델을 유지하고 다음 주기에 다시 시도합니다.
+     */
+    private void rebuild() {
+        if (!errandReadModel.isEnabled()) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            errandReadModel.rebuild(() -> DataSourceRouting.onPrimary(errandService::getOpenErrands));
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the errand read model, keeping the previous one", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
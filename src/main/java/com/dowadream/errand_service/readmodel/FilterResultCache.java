@@ -0,0 +1,130 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.repository.PagedResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 필터 조회 결과 페이지를 보관하는 크기 제한 캐시 클래스
+ * (위치, 카테고리, 정렬 기준, 페이지 번호, 페이지 크기)를 키로 사용하며, 정렬 기준은 열거형 이름으로 정규화합니다.
+ * 카테고리 X가 변경되면 카테고리 X의 항목과 카테고리 조건이 없는 항목만 제거합니다.
+ * 적중률과 제거 횟수는 {@code cache.*} 메트릭으로 노출됩니다.
+ * @param <T> DTO 타입
+ */
+public class FilterResultCache<T> {
+
+    private final Cache<Key, PagedResult<T>> cache;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Long> categoryGenerations = new ConcurrentHashMap<>();
+    private volatile long clearedGeneration;
+
+    /**
+     * FilterResultCache 생성자
+     * @param name 메트릭에 사용할 캐시 이름
+     * @param maximumSize 최대 항목 수
+     * @param expireAfterWrite 항목을 저장한 뒤 보관할 시간 (허용하는 최대 지연 시간)
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public FilterResultCache(String name, long maximumSize, Duration expireAfterWrite, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    /**
+     * 캐시된 페이지를 반환하고, 없으면 조회 함수로 읽어 저장합니다.
+     * 조회하는 동안 이 항목에 해당하는 무효화가 일어났으면 변경 전 결과일 수 있으므로 반환만 하고 저장하지 않습니다.
+     * 다른 카테고리의 무효화는 이 항목의 저장을 막지 않습니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @param pageable 페이징 정보
+     * @param loader 캐시에 없을 때 페이지를 읽는 함수
+     * @return 페이지
+     */
+    public Page<T> get(String location, Long categoryId, Enum<?> sort, Pageable pageable, Supplier<Page<T>> loader) {
+        Key key = new Key(location, categoryId, sort.name(), pageable.getPageNumber(), pageable.getPageSize());
+        PagedResult<T> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return new PageImpl<>(cached.getContent(), pageable, cached.getTotal());
+        }
+
+        long started = generation.get();
+        Page<T> page = loader.get();
+        lock.readLock().lock();
+        try {
+            if (!invalidatedSince(key, started)) {
+                cache.put(key, new PagedResult<>(page.getContent(), page.getTotalElements()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return page;
+    }
+
+    /**
+     * 조회를 시작한 뒤 항목에 해당하는 무효화가 있었는지 확인합니다.
+     * 카테고리 조건이 없는 항목은 모든 무효화에 해당합니다.
+     * @param key 항목 키
+     * @param started 조회를 시작할 때의 세대
+     * @return 무효화가 있었으면 true
+     */
+    private boolean invalidatedSince(Key key, long started) {
+        if (key.categoryId() == null) {
+            return generation.get() != started;
+        }
+        return clearedGeneration > started || categoryGenerations.getOrDefault(key.categoryId(), 0L) > started;
+    }
+
+    /**
+     * 지정한 카테고리의 항목과 카테고리 조건이 없는 항목을 제거합니다.
+     * @param categoryIds 변경된 카테고리 ID 목록
+     */
+    public void invalidate(Collection<Long> categoryIds) {
+        lock.writeLock().lock();
+        try {
+            long invalidated = generation.incrementAndGet();
+            categoryIds.forEach(categoryId -> categoryGenerations.put(categoryId, invalidated));
+            cache.asMap().keySet().removeIf(key -> key.categoryId() == null || categoryIds.contains(key.categoryId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    public void invalidateAll() {
+        lock.writeLock().lock();
+        try {
+            clearedGeneration = generation.incrementAndGet();
+            cache.invalidateAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 정규화된 필터 조건
+     */
+    private record Key(String location, Long categoryId, String sort, int page, int size) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import com.dowadream.errand_service.event.ErrandChangedEvent;
+import com.dowadream.errand_service.event.ErrandsImportedEvent;
+import com.dowadream.errand_service.event.ServiceOfferingChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 커밋된 변경에 맞춰 필터 조회 캐시에서 변경 전후 카테고리의 항목을 제거하는 컴포넌트
+ */
+@Component
+public class FilterResultCacheInvalidator {
+
+    private final FilterResultCache<ErrandDTO> errandFilterCache;
+    private final FilterResultCache<ServiceOfferingDTO> serviceOfferingFilterCache;
+
+    /**
+     * FilterResultCacheInvalidator 생성자
+     * @param errandFilterCache 심부름 필터 조회 캐시
+     * @param serviceOfferingFilterCache 서비스 제공 필터 조회 캐시
+     */
+    @Autowired
+    public FilterResultCacheInvalidator(FilterResultCache<ErrandDTO> errandFilterCache,
+                                        FilterResultCache<ServiceOfferingDTO> serviceOfferingFilterCache) {
+        this.errandFilterCache = errandFilterCache;
+        this.serviceOfferingFilterCache = serviceOfferingFilterCache;
+    }
+
+    /**
+     * 변경된 심부름의 변경 전후 카테고리에 해당하는 항목을 제거합니다.
+     * @param event 심부름 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onErrandChanged(ErrandChangedEvent event) {
+        Set<Long> categoryIds = new HashSet<>();
+        if (event.getPreviousCategoryId() != null) {
+            categoryIds.add(event.getPreviousCategoryId());
+        }
+        if (event.getErrand() != null && event.getErrand().getCategoryId() != null) {
+            categoryIds.add(event.getErrand().getCategoryId());
+        }
+        errandFilterCache.invalidate(categoryIds);
+    }
+
+    /**
+     * 가져온 심부름 묶음의 카테고리에 해당하는 항목을 한 번에 제거합니다.
+     * @param event 심부름 가져오기 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onErrandsImported(ErrandsImportedEvent event) {
+        errandFilterCache.invalidate(event.getCategoryIds());
+    }
+
+    /**
+     * 변경된 서비스 제공의 변경 전후 카테고리에 해당하는 항목을 제거합니다. 카테고리를 알 수 없으면 전체를 제거합니다.
+     * @param event 서비스 제공 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onServiceOfferingChanged(ServiceOfferingChangedEvent event) {
+        if (event.getCategoryIds() == null) {
+            serviceOfferingFilterCache.invalidateAll();
+        } else {
+            serviceOfferingFilterCache.invalidate(event.getCategoryIds());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.dowadream.errand_service.readmodel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나의 실행으로 합치는 클래스
+ * 먼저 들어온 호출이 조회를 실행하고, 실행 중에 들어온 같은 키의 호출은 그 결과(또는 예외)를 함께 받습니다.
+ * 실행이 끝나면 키를 제거하므로 결과를 보관하지 않으며, 이후 호출은 새로 조회합니다.
+ * 실행 횟수와 합쳐진 호출 수는 {@code singleflight.calls} 메트릭의 result 태그로 구분됩니다.
+ */
+public class SingleFlight {
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter shared;
+
+    /**
+     * SingleFlight 생성자
+     * @param name 메트릭에 사용할 이름
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("singleflight.calls")
+                .description("Calls that ran the query themselves")
+                .tag("name", name)
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.shared = Counter.builder("singleflight.calls")
+                .description("Calls that received the result of a query already in flight")
+                .tag("name", name)
+                .tag("result", "shared")
+                .register(meterRegistry);
+        Gauge.builder("singleflight.in-flight", inFlight, Map::size)
+                .description("Queries currently in flight")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 조회가 실행 중이면 그 결과를 기다려 반환하고, 아니면 직접 실행합니다.
+     * 한 키에는 항상 같은 타입의 결과를 돌려주는 조회 함수를 사용해야 합니다.
+     * @param key 조회 조건 (equals와 hashCode로 비교)
+     * @param query 조회 함수
+     * @param <V> 결과 타입
+     * @return 조회 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(Object key, Supplier<V> query) {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            shared.increment();
+            return (V) await(running);
+        }
+
+        executed.increment();
+        try {
+            V result = query.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.dowadream.errand_service.readmodel;
+
+/**
+ * 심부름 고유 번호(long)를 컬럼 배열의 슬롯 번호(int)로 매핑하는 개방 주소법 해시 테이블
+ * 박싱된 키와 엔트리 객체를 만들지 않으므로 행당 메모리 사용량이 고정됩니다.
+ * 심부름 고유 번호는 시퀀스로 1부터 발급되므로 0을 빈 칸 표시로 사용합니다.
+ */
+final class SlotIndex {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * SlotIndex 생성자
+     * @param expectedSize 예상 항목 수
+     */
+    SlotIndex(int expectedSize) {
+        allocate(tableSizeFor(Math.max(expectedSize, 16) * 2));
+    }
+
+    /**
+     * 키에 해당하는 슬롯 번호를 조회합니다.
+     * @param key 심부름 고유 번호
+     * @return 슬롯 번호 (없으면 -1)
+     */
+    int get(long key) {
+        int index = indexOf(key);
+        return index < 0 ? -1 : values[index];
+    }
+
+    /**
+     * 키와 슬롯 번호를 저장합니다.
+     * @param key 심부름 고유 번호
+     * @param value 슬롯 번호
+     */
+    void put(long key, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    /**
+     * 키를 삭제합니다.
+     * 삭제된 칸 뒤의 항목을 앞으로 당겨 탐색 경로를 유지합니다. (backward shift deletion)
+     * @param key 심부름 고유 번호
+     */
+    void remove(long key) {
+        int gap = indexOf(key);
+        if (gap < 0) {
+            return;
+        }
+        int index = (gap + 1) & mask;
+        while (keys[index] != EMPTY) {
+            int home = hash(keys[index]) & mask;
+            boolean movable = index > gap ? (home <= gap || home > index) : (home <= gap && home > index);
+            if (movable) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        size--;
+    }
+
+    /**
+     * 테이블이 사용하는 배열의 메모리 크기를 반환합니다.
+     * @return 바이트 수
+     */
+    long estimatedBytes() {
+        return (long) keys.length * Long.BYTES + (long) values.length * Integer.BYTES;
+    }
+
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int size) {
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+}
@@ -2,6 +2,7 @@ package com.dowadream.errand_service.repository;
 
 import com.dowadream.errand_service.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +13,11 @@ import java.util.List;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     // JpaRepository에서 제공하는 기본 CRUD 메서드들을 상속받아 사용
+
+    /**
+     * 모든 카테고리 ID를 조회합니다.
+     * @return 카테고리 ID 목록
+     */
+    @Query("SELECT c.categoryId FROM Category c")
+    List<Long> findAllIds();
 }
\ No newline at end of file
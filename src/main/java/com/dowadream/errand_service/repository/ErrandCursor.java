@@ -0,0 +1,85 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.entity.Errand;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징에서 마지막으로 조회한 심부름의 위치를 나타내는 클래스
+ * 클라이언트에는 정렬 기준, 정렬 키, 심부름 고유 번호를 인코딩한 불투명 토큰으로 전달됩니다.
+ */
+public final class ErrandCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final ErrandSort sort;
+    private final Object key;
+    private final Long errandSeq;
+
+    private ErrandCursor(ErrandSort sort, Object key, Long errandSeq) {
+        this.sort = sort;
+        this.key = key;
+        this.errandSeq = errandSeq;
+    }
+
+    /**
+     * 주어진 심부름 다음부터 조회하는 커서를 생성합니다.
+     * @param sort 정렬 기준
+     * @param errand 마지막으로 조회한 심부름
+     * @return 커서
+     */
+    public static ErrandCursor after(ErrandSort sort, Errand errand) {
+        return new ErrandCursor(sort, sort.keyOf(errand), errand.getErrandSeq());
+    }
+
+    /**
+     * 토큰을 커서로 변환합니다.
+     * @param token 커서 토큰
+     * @return 커서
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않을 경우
+     */
+    public static ErrandCursor decode(String token) {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = decoded.split("\\" + SEPARATOR, 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        ErrandSort sort = ErrandSort.valueOf(parts[0]);
+        Object key = sort.hasKey() ? sort.parseKey(parts[1]) : null;
+        return new ErrandCursor(sort, key, Long.valueOf(parts[2]));
+    }
+
+    /**
+     * 커서를 토큰으로 변환합니다.
+     * @return 커서 토큰
+     */
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + sort.formatKey(key) + SEPARATOR + errandSeq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 기준을 반환합니다.
+     * @return 정렬 기준
+     */
+    public ErrandSort getSort() {
+        return sort;
+    }
+
+    /**
+     * 마지막 심부름의 정렬 키를 반환합니다.
+     * @return 정렬 키
+     */
+    public Object getKey() {
+        return key;
+    }
+
+    /**
+     * 마지막 심부름의 고유 번호를 반환합니다.
+     * @return 심부름 고유 번호
+     */
+    public Long getErrandSeq() {
+        return errandSeq;
+    }
+}
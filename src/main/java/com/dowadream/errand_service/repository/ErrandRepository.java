@@ -1,101 +1,116 @@
 package com.dowadream.errand_service.repository;
 
 import com.dowadream.errand_service.entity.Errand;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * 심부름 엔티티에 대한 데이터 액세스를 처리하는 리포지토리 인터페이스
+ * 목록 조회는 필터와 정렬 조합에 따라 SQL을 구성하는 {@link ErrandRepositoryCustom}에서 처리합니다.
  */
 @Repository
-public interface ErrandRepository extends JpaRepository<Errand, Long> {
+public interface ErrandRepository extends JpaRepository<Errand, Long>, ErrandRepositoryCustom {
 
     /**
-     * 페이징 처리된 모든 심부름을 조회합니다.
-     * @param startRow 시작 행
-     * @param endRow 끝 행
-     * @return 페이징된 심부름 목록
+     * 심부름 고유 번호와 마감 기한 프로젝션
      */
-    @Query(value = "SELECT * FROM " +
-            "(SELECT a.*, ROWNUM rnum FROM " +
-            "(SELECT e.* FROM errands e ORDER BY e.errand_seq) a " +
-            "WHERE ROWNUM <= :endRow) " +
-            "WHERE rnum > :startRow",
-            nativeQuery = true)
-    List<Errand> findAllWithPagination(@Param("startRow") int startRow, @Param("endRow") int endRow);
+    interface ErrandDeadline {
+        /**
+         * 심부름 고유 번호
+         * @return 심부름 고유 번호
+         */
+        Long getErrandSeq();
+
+        /**
+         * 마감 기한
+         * @return 마감 기한
+         */
+        LocalDateTime getDeadline();
+    }
+
+    /**
+     * 심부름 고유 번호와 카테고리 ID만 조회하기 위한 프로젝션
+     */
+    interface ErrandCategory {
+        /**
+         * 심부름 고유 번호
+         * @return 심부름 고유 번호
+         */
+        Long getErrandSeq();
+
+        /**
+         * 카테고리 ID
+         * @return 카테고리 ID (없으면 null)
+         */
+        Long getCategoryId();
+    }
 
     /**
-     * 전체 심부름 수를 조회합니다.
-     * @return 전체 심부름 수
+     * 상태별로 심부름을 조회합니다.
+     * @param status 심부름 상태
+     * @return 심부름 목록
      */
-    @Query(value = "SELECT COUNT(*) FROM errands", nativeQuery = true)
-    long countErrands();
+    List<Errand> findByStatus(Errand.ErrandStatus status);
 
     /**
-     * 카테고리별로 페이징 처리된 심부름을 조회합니다.
-     * @param categoryId 카테고리 ID
-     * @param startRow 시작 행
-     * @param endRow 끝 행
-     * @return 카테고리별 페이징된 심부름 목록
+     * 요청 상태인 심부름을 수행자에게 배정합니다.
+     * 상태 확인과 변경을 단일 조건부 UPDATE 문으로 처리하므로 동시에 수락을 요청해도 한 명만 배정됩니다.
+     * @param id 심부름 ID
+     * @param runnerSeq 수행자 고유 번호
+     * @param runnerNickname 수행자 닉네임
+     * @param updatedDate 수정 일시
+     * @return 변경된 행 수 (이미 수락되었거나 존재하지 않으면 0)
      */
-    @Query(value = "SELECT * FROM " +
-            "(SELECT a.*, ROWNUM rnum FROM " +
-            "(SELECT e.* FROM errands e WHERE e.category_id = :categoryId ORDER BY e.errand_seq) a " +
-            "WHERE ROWNUM <= :endRow) " +
-            "WHERE rnum > :startRow",
-            nativeQuery = true)
-    List<Errand> findByCategoryWithPagination(@Param("categoryId") Long categoryId, @Param("startRow") int startRow, @Param("endRow") int endRow);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Errand e SET " +
+            "e.status = com.dowadream.errand_service.entity.Errand.ErrandStatus.IN_PROGRESS, " +
+            "e.runnerSeq = :runnerSeq, e.runnerNickname = :runnerNickname, e.updatedDate = :updatedDate " +
+            "WHERE e.errandSeq = :id AND e.status = com.dowadream.errand_service.entity.Errand.ErrandStatus.REQUESTED")
+    int acceptIfRequested(@Param("id") Long id, @Param("runnerSeq") Long runnerSeq,
+                          @Param("runnerNickname") String runnerNickname, @Param("updatedDate") LocalDateTime updatedDate);
 
     /**
-     * 카테고리별 전체 심부름 수를 조회합니다.
-     * @param categoryId 카테고리 ID
-     * @return 카테고리별 전체 심부름 수
+     * 상태별로 심부름의 마감 기한을 조회합니다.
+     * @param status 심부름 상태
+     * @return 심부름 고유 번호와 마감 기한 목록
      */
-    @Query(value = "SELECT COUNT(*) FROM errands WHERE category_id = :categoryId", nativeQuery = true)
-    long countErrandsByCategory(@Param("categoryId") Long categoryId);
+    @Query("SELECT e.errandSeq AS errandSeq, e.deadline AS deadline FROM Errand e WHERE e.status = :status")
+    List<ErrandDeadline> findDeadlinesByStatus(@Param("status") Errand.ErrandStatus status);
 
     /**
-     * 필터를 적용하여 심부름을 조회합니다.
-     * @param location 위치
-     * @param categoryId 카테고리 ID
-     * @param sortBy 정렬 기준
-     * @param startRow 시작 행
-     * @param endRow 끝 행
-     * @return 필터링된 심부름 목록
+     * 주어진 심부름 중 마감 기한이 지난 요청 상태의 심부름을 잠그고 고유 번호와 카테고리 ID를 조회합니다.
+     * 잠근 행은 트랜잭션이 끝날 때까지 수락이나 수정으로 바뀌지 않으므로, 이어서 {@link #expireRequested}로 변경하면
+     * 조회한 심부름이 정확히 만료 처리된 심부름이 됩니다.
+     * @param ids 심부름 ID 목록
+     * @param now 현재 시각
+     * @return 만료 대상 심부름의 고유 번호와 카테고리 ID 목록
      */
-    @Query(value = "SELECT * FROM " +
-            "(SELECT a.*, ROWNUM rnum FROM " +
-            "(SELECT e.* FROM errands e " +
-            "WHERE (:location IS NULL OR e.location = :location) " +
-            "AND (:categoryId IS NULL OR e.category_id = :categoryId) " +
-            "ORDER BY " +
-            "CASE WHEN :sortBy = 'latest' THEN e.created_date END DESC, " +
-            "CASE WHEN :sortBy = 'highestPrice' THEN e.price END DESC, " +
-            "CASE WHEN :sortBy = 'highestHourlyRate' THEN e.price / e.estimated_time END DESC, " +
-            "CASE WHEN :sortBy = 'closestDeadline' THEN e.deadline END ASC) a " +
-            "WHERE ROWNUM <= :endRow) " +
-            "WHERE rnum > :startRow",
-            nativeQuery = true)
-    List<Errand> findErrandsByFilters(@Param("location") String location,
-                                      @Param("categoryId") Long categoryId,
-                                      @Param("sortBy") String sortBy,
-                                      @Param("startRow") int startRow,
-                                      @Param("endRow") int endRow);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e.errandSeq AS errandSeq, e.category.categoryId AS categoryId FROM Errand e " +
+            "WHERE e.errandSeq IN :ids AND e.deadline <= :now " +
+            "AND e.status = com.dowadream.errand_service.entity.Errand.ErrandStatus.REQUESTED")
+    List<ErrandCategory> lockExpirable(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 
     /**
-     * 필터를 적용한 전체 심부름 수를 조회합니다.
-     * @param location 위치
-     * @param categoryId 카테고리 ID
-     * @return 필터링된 전체 심부름 수
+     * 마감 기한이 지난 요청 상태의 심부름을 한 번에 취소 상태로 변경합니다.
+     * 마감 기한과 상태를 다시 확인하므로 그사이 수락되거나 마감 기한이 연장된 심부름은 변경되지 않습니다.
+     * @param ids 심부름 ID 목록
+     * @param now 현재 시각
+     * @return 변경된 행 수
      */
-    @Query(value = "SELECT COUNT(*) FROM errands e " +
-            "WHERE (:location IS NULL OR e.location = :location) " +
-            "AND (:categoryId IS NULL OR e.category_id = :categoryId)",
-            nativeQuery = true)
-    long countErrandsByFilters(@Param("location") String location, @Param("categoryId") Long categoryId);
-}
\ No newline at end of file
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Errand e SET " +
+            "e.status = com.dowadream.errand_service.entity.Errand.ErrandStatus.CANCELLED, e.updatedDate = :now " +
+            "WHERE e.errandSeq IN :ids AND e.deadline <= :now " +
+            "AND e.status = com.dowadream.errand_service.entity.Errand.ErrandStatus.REQUESTED")
+    int expireRequested(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
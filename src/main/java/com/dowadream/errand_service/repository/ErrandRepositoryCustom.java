@@ -0,0 +1,75 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.entity.Errand;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 동적으로 SQL을 구성해야 하는 심부름 조회 기능을 정의하는 인터페이스
+ * 필터 목록 조회(오프셋, 슬라이스, 커서)는 수락 가능한 요청 상태(REQUESTED)의 심부름만 반환하고,
+ * 전체 목록 조회는 취소되지 않은 모든 심부름을 반환합니다.
+ */
+public interface ErrandRepositoryCustom {
+
+    /**
+     * 필터를 적용하여 심부름을 조회합니다.
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param sort 정렬 기준
+     * @param startRow 시작 행
+     * @param endRow 끝 행
+     * @return 필터링된 심부름 목록
+     */
+    List<Errand> findErrandsByFilters(String location, Long categoryId, ErrandSort sort, int startRow, int endRow);
+
+    /**
+     * 필터를 적용하여 심부름 페이지와 전체 심부름 수를 한 번의 쿼리로 조회합니다.
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param sort 정렬 기준
+     * @param startRow 시작 행
+     * @param endRow 끝 행
+     * @return 심부름 목록과 전체 심부름 수
+     */
+    PagedResult<Errand> findErrandPageByFilters(String location, Long categoryId, ErrandSort sort, int startRow, int endRow);
+
+    /**
+     * 필터를 적용한 전체 심부름 수를 조회합니다.
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @return 필터링된 전체 심부름 수
+     */
+    long countErrandsByFilters(String location, Long categoryId);
+
+    /**
+     * 취소되지 않은 심부름 페이지와 전체 심부름 수를 고유 번호 순서로 한 번의 쿼리로 조회합니다.
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param startRow 시작 행
+     * @param endRow 끝 행
+     * @return 심부름 목록과 전체 심부름 수
+     */
+    PagedResult<Errand> findUncancelledErrandPage(Long categoryId, int startRow, int endRow);
+
+    /**
+     * 커서 이후의 심부름을 조회합니다. (키셋 페이징)
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param sort 정렬 기준
+     * @param after 이전 페이지의 마지막 위치 (null이면 첫 페이지)
+     * @param limit 조회할 최대 행 수
+     * @return 심부름 목록
+     */
+    List<Errand> findErrandsAfter(String location, Long categoryId, ErrandSort sort, ErrandCursor after, int limit);
+
+    /**
+     * 필터에 맞는 심부름을 전방향 커서로 한 행씩 조회합니다.
+     * 반환된 스트림은 트랜잭션 안에서 소비한 뒤 닫아야 합니다.
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param status 심부름 상태 (null이면 전체)
+     * @param fetchSize 한 번의 데이터베이스 왕복으로 가져올 행 수
+     * @return 심부름 스트림
+     */
+    Stream<Errand> streamErrandsByFilters(String location, Long categoryId, Errand.ErrandStatus status, int fetchSize);
+}
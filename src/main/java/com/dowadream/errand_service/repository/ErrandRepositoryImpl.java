@@ -0,0 +1,202 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.entity.Errand;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@link ErrandRepositoryCustom}의 구현 클래스
+ * 필터 조합(위치 유무, 카테고리 유무)과 정렬 기준마다 별도의 SQL 문을 생성합니다.
+ * 값이 없는 필터는 조건에서 제외하고 정렬은 단순 ORDER BY로 표현하므로
+ * 옵티마이저가 각 조합에 맞는 복합 인덱스를 사용할 수 있습니다.
+ * 생성되는 SQL 문의 종류는 유한하므로 데이터베이스의 실행 계획 캐시도 그대로 재사용됩니다.
+ * 필터, 슬라이스, 커서 목록 조회는 요청 상태인 심부름만 대상으로 하므로, 수락되었거나 마감 기한이 지나 취소된 심부름은 나타나지 않습니다.
+ * 전체 목록과 카테고리별 목록은 진행 중이거나 완료된 심부름도 보여 주고 취소된 심부름만 제외합니다.
+ */
+public class ErrandRepositoryImpl implements ErrandRepositoryCustom {
+
+    /**
+     * 목록 조회 대상인 요청 상태 조건 (읽기 모델이 보관하는 심부름과 같은 조건)
+     */
+    private static final String OPEN = "e.status = 'REQUESTED'";
+
+    /**
+     * 전체 목록과 카테고리별 목록에 나타나는 취소되지 않은 상태 조건
+     */
+    private static final String NOT_CANCELLED = "e.status <> 'CANCELLED'";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 필터를 적용하여 심부름을 조회합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Errand> findErrandsByFilters(String location, Long categoryId, ErrandSort sort, int startRow, int endRow) {
+        Query query = entityManager.createNativeQuery(pageSql("e.*", location, categoryId, sort), Errand.class);
+        ListingFilters.bind(query, location, categoryId);
+        query.setParameter("startRow", startRow);
+        query.setParameter("endRow", endRow);
+        return query.getResultList();
+    }
+
+    /**
+     * 필터를 적용하여 심부름 페이지와 전체 심부름 수를 조회합니다.
+     * 전체 행 수는 COUNT(*) OVER ()로 같은 SQL 문에서 계산하므로 데이터베이스 왕복이 한 번으로 줄어듭니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public PagedResult<Errand> findErrandPageByFilters(String location, Long categoryId, ErrandSort sort, int startRow, int endRow) {
+        Query query = entityManager.createNativeQuery(
+                pageSql("e.*, COUNT(*) OVER () total_count", location, categoryId, sort), Errand.WITH_TOTAL_COUNT);
+        ListingFilters.bind(query, location, categoryId);
+        query.setParameter("startRow", startRow);
+        query.setParameter("endRow", endRow);
+        return ListingFilters.toPagedResult(query.getResultList(), startRow,
+                () -> countErrandsByFilters(location, categoryId));
+    }
+
+    /**
+     * 필터를 적용한 전체 심부름 수를 조회합니다.
+     */
+    @Override
+    public long countErrandsByFilters(String location, Long categoryId) {
+        String sql = "SELECT COUNT(*) FROM errands e" + ListingFilters.where("e", location, categoryId, OPEN);
+
+        Query query = entityManager.createNativeQuery(sql);
+        ListingFilters.bind(query, location, categoryId);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    /**
+     * 취소되지 않은 심부름 페이지와 전체 심부름 수를 고유 번호 순서로 조회합니다.
+     * 상태 조건이 등호가 아니므로, 카테고리를 지정하면 (카테고리, 고유 번호) 인덱스를, 지정하지 않으면 기본 키를 순서대로 읽으며 상태를 거릅니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public PagedResult<Errand> findUncancelledErrandPage(Long categoryId, int startRow, int endRow) {
+        Query query = entityManager.createNativeQuery(
+                uncancelledPageSql("e.*, COUNT(*) OVER () total_count", categoryId), Errand.WITH_TOTAL_COUNT);
+        ListingFilters.bind(query, null, categoryId);
+        query.setParameter("startRow", startRow);
+        query.setParameter("endRow", endRow);
+        return ListingFilters.toPagedResult(query.getResultList(), startRow, () -> {
+            Query count = entityManager.createNativeQuery(
+                    "SELECT COUNT(*) FROM errands e" + ListingFilters.where("e", null, categoryId, NOT_CANCELLED));
+            ListingFilters.bind(count, null, categoryId);
+            return ((Number) count.getSingleResult()).longValue();
+        });
+    }
+
+    /**
+     * 커서 이후의 심부름을 조회합니다.
+     * 마지막 정렬 키와 심부름 고유 번호를 기준으로 한 seek 조건을 사용하므로
+     * 앞 페이지의 행을 읽고 버리는 비용 없이 어느 페이지든 첫 페이지와 같은 비용으로 조회됩니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Errand> findErrandsAfter(String location, Long categoryId, ErrandSort sort, ErrandCursor after, int limit) {
+        Query query = entityManager.createNativeQuery(afterSql(location, categoryId, sort, after), Errand.class);
+        ListingFilters.bind(query, location, categoryId);
+        if (after != null) {
+            if (sort.hasKey()) {
+                query.setParameter("afterKey", after.getKey());
+            }
+            query.setParameter("afterSeq", after.getErrandSeq());
+        }
+        query.setParameter("limit", limit);
+        return query.getResultList();
+    }
+
+    /**
+     * 필터에 맞는 심부름을 전방향 커서로 한 행씩 조회합니다.
+     * 결과 전체를 메모리에 올리지 않도록 JDBC fetch size만큼씩 읽고, 읽은 엔티티는 곧바로 영속성 컨텍스트에서 분리합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<Errand> streamErrandsByFilters(String location, Long categoryId, Errand.ErrandStatus status, int fetchSize) {
+        String sql = "SELECT e.* FROM errands e" +
+                ListingFilters.where("e", location, categoryId, status != null ? "e.status = :status" : null) +
+                " ORDER BY e.errand_seq";
+
+        Query query = entityManager.createNativeQuery(sql, Errand.class);
+        ListingFilters.bind(query, location, categoryId);
+        if (status != null) {
+            query.setParameter("status", status.name());
+        }
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return ((Stream<Errand>) query.getResultStream()).map(errand -> {
+            entityManager.detach(errand);
+            return errand;
+        });
+    }
+
+    /**
+     * ROWNUM 기반 오프셋 페이징 SQL을 생성합니다.
+     * @param selectList 가장 안쪽 SELECT 절의 컬럼 목록
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @return 페이징 SQL
+     */
+    static String pageSql(String selectList, String location, Long categoryId, ErrandSort sort) {
+        return pageSql(selectList, location, categoryId, sort, OPEN);
+    }
+
+    /**
+     * 취소되지 않은 심부름을 고유 번호 순서로 조회하는 ROWNUM 기반 오프셋 페이징 SQL을 생성합니다.
+     * @param selectList 가장 안쪽 SELECT 절의 컬럼 목록
+     * @param categoryId 카테고리 ID
+     * @return 페이징 SQL
+     */
+    static String uncancelledPageSql(String selectList, Long categoryId) {
+        return pageSql(selectList, null, categoryId, ErrandSort.DEFAULT, NOT_CANCELLED);
+    }
+
+    private static String pageSql(String selectList, String location, Long categoryId, ErrandSort sort, String status) {
+        return "SELECT * FROM " +
+                "(SELECT a.*, ROWNUM rnum FROM " +
+                "(SELECT " + selectList + " FROM errands e" + ListingFilters.where("e", location, categoryId, status) +
+                " ORDER BY " + sort.orderBy() + ") a " +
+                "WHERE ROWNUM <= :endRow) " +
+                "WHERE rnum > :startRow";
+    }
+
+    /**
+     * 커서 이후의 행을 조회하는 seek 페이징 SQL을 생성합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @param after 커서 (첫 페이지이면 null)
+     * @return seek 페이징 SQL
+     */
+    static String afterSql(String location, Long categoryId, ErrandSort sort, ErrandCursor after) {
+        return "SELECT * FROM (SELECT e.* FROM errands e" +
+                ListingFilters.where("e", location, categoryId, after != null ? OPEN + " AND " + seekCondition(sort, after) : OPEN) +
+                " ORDER BY " + sort.orderBy() + ") WHERE ROWNUM <= :limit";
+    }
+
+    /**
+     * 커서 위치 이후의 행만 선택하는 seek 조건을 생성합니다.
+     * 인덱스 범위 검색이 가능하도록 정렬 키에 대한 단순 범위 조건을 함께 추가합니다.
+     * @param sort 정렬 기준
+     * @param after 커서
+     * @return seek 조건
+     */
+    private static String seekCondition(ErrandSort sort, ErrandCursor after) {
+        String next = sort.isAscending() ? ">" : "<";
+        if (!sort.hasKey()) {
+            return "e.errand_seq " + next + " :afterSeq";
+        }
+        String column = sort.getColumn();
+        return column + " " + next + "= :afterKey AND (" + column + " " + next + " :afterKey OR ("
+                + column + " = :afterKey AND e.errand_seq " + next + " :afterSeq))";
+    }
+}
@@ -0,0 +1,163 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.entity.Errand;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 심부름 목록 조회 시 사용되는 정렬 기준 열거형
+ */
+public enum ErrandSort {
+    /**
+     * 기본 정렬 (심부름 고유 번호 오름차순)
+     */
+    DEFAULT(null, "e.errand_seq", true),
+
+    /**
+     * 최신순
+     */
+    LATEST("latest", "e.created_date", false),
+
+    /**
+     * 가격 높은순
+     */
+    HIGHEST_PRICE("highestPrice", "e.price", false),
+
+    /**
+     * 시급 높은순 (예상 소요 시간이 0이어서 시급이 없는 심부름은 시급이 -1로 계산되어 마지막)
+     */
+    HIGHEST_HOURLY_RATE("highestHourlyRate", "e.hourly_rate", false),
+
+    /**
+     * 마감 임박순
+     */
+    CLOSEST_DEADLINE("closestDeadline", "e.deadline", true);
+
+    private final String sortBy;
+    private final String column;
+    private final boolean ascending;
+
+    ErrandSort(String sortBy, String column, boolean ascending) {
+        this.sortBy = sortBy;
+        this.column = column;
+        this.ascending = ascending;
+    }
+
+    /**
+     * 요청 파라미터의 정렬 기준 문자열을 열거형으로 변환합니다.
+     * @param sortBy 정렬 기준 문자열
+     * @return 정렬 기준 (일치하는 값이 없으면 DEFAULT)
+     */
+    public static ErrandSort from(String sortBy) {
+        if (sortBy != null) {
+            for (ErrandSort sort : values()) {
+                if (sortBy.equals(sort.sortBy)) {
+                    return sort;
+                }
+            }
+        }
+        return DEFAULT;
+    }
+
+    /**
+     * 정렬 기준 문자열을 반환합니다.
+     * @return 정렬 기준 문자열
+     */
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    /**
+     * 정렬 대상 컬럼을 반환합니다.
+     * @return 정렬 대상 컬럼
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * 오름차순 정렬 여부를 반환합니다.
+     * @return 오름차순이면 true
+     */
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * ORDER BY 절을 반환합니다.
+     * 정렬 키가 같은 행의 순서를 고정하기 위해 심부름 고유 번호를 보조 정렬 키로 사용합니다.
+     * 두 키의 방향이 같으므로 (정렬 컬럼, 심부름 고유 번호)로 끝나는 인덱스를 정방향 또는 역방향으로 읽어 정렬 없이 처리됩니다.
+     * 정렬 키는 모두 NULL이 아니므로 NULLS FIRST/LAST 지정이 필요 없습니다. (Oracle은 NULLS LAST 내림차순을 인덱스로 처리할 수 없습니다.)
+     * @return ORDER BY 절
+     */
+    public String orderBy() {
+        String direction = ascending ? "ASC" : "DESC";
+        if (!hasKey()) {
+            return column + " " + direction;
+        }
+        return column + " " + direction + ", e.errand_seq " + direction;
+    }
+
+    /**
+     * 심부름 고유 번호 외에 별도의 정렬 키가 있는지 확인합니다.
+     * @return 별도의 정렬 키가 있으면 true
+     */
+    public boolean hasKey() {
+        return this != DEFAULT;
+    }
+
+    /**
+     * 심부름 엔티티에서 정렬 키 값을 추출합니다.
+     * @param errand 심부름 엔티티
+     * @return 정렬 키 값 (DEFAULT는 null)
+     */
+    public Object keyOf(Errand errand) {
+        switch (this) {
+            case LATEST:
+                return errand.getCreatedDate();
+            case HIGHEST_PRICE:
+                return errand.getPrice();
+            case HIGHEST_HOURLY_RATE:
+                return errand.getHourlyRate();
+            case CLOSEST_DEADLINE:
+                return errand.getDeadline();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 문자열로 직렬화된 정렬 키를 원래 타입으로 변환합니다.
+     * @param key 직렬화된 정렬 키
+     * @return 정렬 키 값
+     * @throws IllegalArgumentException 정렬 키가 비어 있는 경우
+     */
+    public Object parseKey(String key) {
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("Missing sort key for " + name());
+        }
+        switch (this) {
+            case LATEST:
+            case CLOSEST_DEADLINE:
+                return LocalDateTime.parse(key);
+            case HIGHEST_PRICE:
+            case HIGHEST_HOURLY_RATE:
+                return new BigDecimal(key);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 정렬 키를 문자열로 직렬화합니다.
+     * @param key 정렬 키 값 (NULL은 빈 문자열로 직렬화)
+     * @return 직렬화된 정렬 키
+     */
+    public String formatKey(Object key) {
+        if (key instanceof BigDecimal) {
+            return ((BigDecimal) key).toPlainString();
+        }
+        return key == null ? "" : key.toString();
+    }
+}
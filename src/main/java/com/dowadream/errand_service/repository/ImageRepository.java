@@ -2,12 +2,140 @@ package com.dowadream.errand_service.repository;
 
 import com.dowadream.errand_service.entity.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 이미지 엔티티에 대한 데이터 액세스를 처리하는 리포지토리 인터페이스
  */
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
-    // JpaRepository에서 제공하는 기본 CRUD 메서드들을 상속받아 사용
-}
\ No newline at end of file
+
+    /**
+     * 소유 엔티티 ID와 이미지 경로 프로젝션
+     */
+    interface OwnerImagePath {
+        /**
+         * 이미지를 소유한 엔티티의 ID
+         * @return 소유 엔티티 ID
+         */
+        Long getOwnerId();
+
+        /**
+         * 이미지 파일 경로
+         * @return 파일 경로
+         */
+        String getFilePath();
+
+        /**
+         * 목록용 변형 파일 경로
+         * @return 변형 파일 경로 (변형이 아직 없으면 null)
+         */
+        String getThumbnailPath();
+
+        /**
+         * 목록용 변형 경로를 반환하고, 변형이 없으면 원본 경로를 반환합니다.
+         * @return 목록에 표시할 이미지 경로
+         */
+        default String getThumbnailOrOriginalPath() {
+            return getThumbnailPath() != null ? getThumbnailPath() : getFilePath();
+        }
+    }
+
+    /**
+     * 해시에 해당하는 파일을 참조하는 이미지가 있는지 확인합니다.
+     * @param contentHash 파일 내용의 해시
+     * @return 참조하는 이미지가 있으면 true
+     */
+    boolean existsByContentHash(String contentHash);
+
+    /**
+     * 주어진 해시 다음부터 이미지가 참조하는 파일 해시를 정렬된 순서로 조회합니다.
+     * @param after 이전 페이지의 마지막 해시 (첫 페이지는 모든 해시보다 작은 값)
+     * @param limit 조회할 최대 해시 수
+     * @return 정렬된 해시 목록
+     */
+    @Query(value = "SELECT content_hash FROM (" +
+            "SELECT DISTINCT content_hash FROM images WHERE content_hash > :after ORDER BY content_hash" +
+            ") WHERE ROWNUM <= :limit", nativeQuery = true)
+    List<String> findContentHashesAfter(@Param("after") String after, @Param("limit") int limit);
+
+    /**
+     * 주어진 해시 중 이미지가 참조하는 해시를 조회합니다.
+     * @param contentHashes 파일 해시 목록
+     * @return 참조되는 해시 목록
+     */
+    @Query("SELECT DISTINCT i.contentHash FROM Image i WHERE i.contentHash IN :contentHashes")
+    List<String> findReferencedContentHashes(@Param("contentHashes") Collection<String> contentHashes);
+
+    /**
+     * 여러 심부름의 이미지 경로와 목록용 변형 경로를 한 번에 조회합니다.
+     * @param errandSeqs 심부름 고유 번호 목록
+     * @param thumbnailWidth 목록용 변형의 너비
+     * @return 심부름 고유 번호와 이미지 경로 목록
+     */
+    @Query("SELECT i.errand.errandSeq AS ownerId, i.filePath AS filePath, v.filePath AS thumbnailPath FROM Image i " +
+            "LEFT JOIN i.variants v ON v.width = :thumbnailWidth " +
+            "WHERE i.errand.errandSeq IN :errandSeqs ORDER BY i.imageId")
+    List<OwnerImagePath> findPathsByErrandSeqs(@Param("errandSeqs") Collection<Long> errandSeqs,
+                                               @Param("thumbnailWidth") int thumbnailWidth);
+
+    /**
+     * 여러 서비스 제공의 이미지 경로와 목록용 변형 경로를 한 번에 조회합니다.
+     * @param serviceOfferingIds 서비스 제공 ID 목록
+     * @param thumbnailWidth 목록용 변형의 너비
+     * @return 서비스 제공 ID와 이미지 경로 목록
+     */
+    @Query("SELECT i.serviceOffering.id AS ownerId, i.filePath AS filePath, v.filePath AS thumbnailPath FROM Image i " +
+            "LEFT JOIN i.variants v ON v.width = :thumbnailWidth " +
+            "WHERE i.serviceOffering.id IN :serviceOfferingIds ORDER BY i.imageId")
+    List<OwnerImagePath> findPathsByServiceOfferingIds(@Param("serviceOfferingIds") Collection<Long> serviceOfferingIds,
+                                                       @Param("thumbnailWidth") int thumbnailWidth);
+
+    /**
+     * 여러 심부름의 이미지 경로를 단일 쿼리로 조회하여 심부름별로 묶습니다.
+     * @param errandSeqs 심부름 고유 번호 목록
+     * @param thumbnailWidth 목록용 변형의 너비
+     * @return 심부름 고유 번호별 이미지 경로 목록
+     */
+    default Map<Long, List<OwnerImagePath>> findImagePathsByErrand(Collection<Long> errandSeqs, int thumbnailWidth) {
+        if (errandSeqs.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return groupByOwner(findPathsByErrandSeqs(errandSeqs, thumbnailWidth));
+    }
+
+    /**
+     * 여러 서비스 제공의 이미지 경로를 단일 쿼리로 조회하여 서비스 제공별로 묶습니다.
+     * @param serviceOfferingIds 서비스 제공 ID 목록
+     * @param thumbnailWidth 목록용 변형의 너비
+     * @return 서비스 제공 ID별 이미지 경로 목록
+     */
+    default Map<Long, List<OwnerImagePath>> findImagePathsByServiceOffering(Collection<Long> serviceOfferingIds, int thumbnailWidth) {
+        if (serviceOfferingIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return groupByOwner(findPathsByServiceOfferingIds(serviceOfferingIds, thumbnailWidth));
+    }
+
+    /**
+     * 조회 결과를 소유 엔티티 ID별로 묶습니다.
+     * @param paths 소유 엔티티 ID와 이미지 경로 목록
+     * @return 소유 엔티티 ID별 이미지 경로 목록
+     */
+    private static Map<Long, List<OwnerImagePath>> groupByOwner(List<OwnerImagePath> paths) {
+        Map<Long, List<OwnerImagePath>> grouped = new HashMap<>();
+        for (OwnerImagePath path : paths) {
+            grouped.computeIfAbsent(path.getOwnerId(), id -> new ArrayList<>()).add(path);
+        }
+        return grouped;
+    }
+}
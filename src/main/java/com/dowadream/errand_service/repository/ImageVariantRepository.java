@@ -0,0 +1,24 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.entity.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 이미지 변형 엔티티에 대한 데이터 액세스를 처리하는 리포지토리 인터페이스
+ */
+@Repository
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Long> {
+
+    /**
+     * 이미지에 이미 생성된 변형의 너비 목록을 조회합니다.
+     * @param imageId 이미지 ID
+     * @return 너비 목록
+     */
+    @Query("SELECT v.width FROM ImageVariant v WHERE v.image.imageId = :imageId")
+    List<Integer> findWidthsByImageId(@Param("imageId") Long imageId);
+}
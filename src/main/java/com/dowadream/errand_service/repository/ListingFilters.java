@@ -0,0 +1,93 @@
+package com.dowadream.errand_service.repository;
+
+import jakarta.persistence.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 조회용 네이티브 SQL의 WHERE 절을 구성하는 유틸리티 클래스
+ * 값이 없는 필터는 조건에서 제외하여 각 필터 조합이 인덱스를 사용할 수 있는 별도의 SQL 문이 되도록 합니다.
+ */
+final class ListingFilters {
+
+    private ListingFilters() {
+    }
+
+    /**
+     * 값이 있는 필터만으로 WHERE 절을 생성합니다.
+     * @param alias 테이블 별칭
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param extraCondition 추가 조건 (없으면 null)
+     * @return WHERE 절 (조건이 없으면 빈 문자열)
+     */
+    static String where(String alias, String location, Long categoryId, String extraCondition) {
+        List<String> conditions = new ArrayList<>();
+        if (location != null) {
+            conditions.add(alias + ".location = :location");
+        }
+        if (categoryId != null) {
+            conditions.add(alias + ".category_id = :categoryId");
+        }
+        if (extraCondition != null) {
+            conditions.add(extraCondition);
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * WHERE 절에 포함된 필터 값을 바인딩합니다.
+     * @param query 쿼리
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     */
+    static void bind(Query query, String location, Long categoryId) {
+        if (location != null) {
+            query.setParameter("location", location);
+        }
+        if (categoryId != null) {
+            query.setParameter("categoryId", categoryId);
+        }
+    }
+
+    /**
+     * WHERE 절에 포함된 필터 값을 R2DBC 조회에 바인딩합니다.
+     * @param spec 조회 명세
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @return 필터 값이 바인딩된 조회 명세
+     */
+    static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String location, Long categoryId) {
+        if (location != null) {
+            spec = spec.bind("location", location);
+        }
+        if (categoryId != null) {
+            spec = spec.bind("categoryId", categoryId);
+        }
+        return spec;
+    }
+
+    /**
+     * 조회한 행과 COUNT(*) OVER () 값으로 페이지 결과를 생성합니다.
+     * 요청한 페이지가 마지막 페이지를 넘어 행이 없으면 전체 행 수를 알 수 없으므로 별도로 계산합니다.
+     * @param rows 엔티티와 전체 행 수로 구성된 조회 결과
+     * @param startRow 시작 행
+     * @param fallbackCount 전체 행 수를 별도로 계산하는 함수
+     * @param <T> 엔티티 타입
+     * @return 페이지 결과
+     */
+    @SuppressWarnings("unchecked")
+    static <T> PagedResult<T> toPagedResult(List<Object[]> rows, int startRow, LongSupplier fallbackCount) {
+        if (rows.isEmpty()) {
+            return new PagedResult<>(new ArrayList<>(), startRow == 0 ? 0 : fallbackCount.getAsLong());
+        }
+        List<T> content = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            content.add((T) row[0]);
+        }
+        return new PagedResult<>(content, ((Number) rows.get(0)[1]).longValue());
+    }
+}
@@ -0,0 +1,39 @@
+package com.dowadream.errand_service.repository;
+
+import java.util.List;
+
+/**
+ * 페이지 조회 결과와 전체 행 수를 함께 담는 클래스
+ * @param <T> 조회 대상 엔티티 타입
+ */
+public final class PagedResult<T> {
+
+    private final List<T> content;
+    private final long total;
+
+    /**
+     * PagedResult 생성자
+     * @param content 현재 페이지의 엔티티 목록
+     * @param total 필터를 적용한 전체 행 수
+     */
+    public PagedResult(List<T> content, long total) {
+        this.content = content;
+        this.total = total;
+    }
+
+    /**
+     * 현재 페이지의 엔티티 목록을 반환합니다.
+     * @return 엔티티 목록
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * 필터를 적용한 전체 행 수를 반환합니다.
+     * @return 전체 행 수
+     */
+    public long getTotal() {
+        return total;
+    }
+}
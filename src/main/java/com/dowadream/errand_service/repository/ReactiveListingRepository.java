@@ -0,0 +1,281 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ReviewDTO;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * R2DBC로 목록을 조회하는 비차단 읽기 전용 리포지토리 클래스
+ * reactive-read.url 속성이 있을 때만 등록되며, JPA 경로와 같은 ROWNUM 페이징 SQL과 필터 조건을 사용합니다.
+ * 연결 풀은 이 객체가 소유하고 ConnectionFactory 빈으로 등록하지 않습니다. (등록하면 JDBC DataSource 자동 설정이 물러납니다.)
+ * 엔티티와 지연 로딩이 없으므로 조회한 행을 곧바로 DTO로 변환하고, 이미지 경로는 페이지마다 IN 쿼리 한 번으로 채웁니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "reactive-read.url")
+public class ReactiveListingRepository implements DisposableBean {
+
+    private static final String REVIEW_COLUMNS =
+            "SELECT id, errand_seq, service_offering_id, reviewer_id, rating, comments, created_date FROM reviews";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    /**
+     * ReactiveListingRepository 생성자
+     * @param url R2DBC 연결 URL (예: r2dbc:oracle://host:1521/XE, 복제본을 가리킬 수 있음)
+     * @param username 사용자 이름
+     * @param password 비밀번호
+     * @param maxSize 연결 풀의 최대 연결 수
+     * @param maxAcquireTime 연결을 얻기까지 기다릴 최대 시간
+     * @param fetchSize 데이터베이스에서 한 번에 가져올 행 수
+     */
+    @Autowired
+    public ReactiveListingRepository(@Value("${reactive-read.url}") String url,
+                                     @Value("${reactive-read.username:}") String username,
+                                     @Value("${reactive-read.password:}") String password,
+                                     @Value("${reactive-read.pool.max-size:10}") int maxSize,
+                                     @Value("${reactive-read.pool.max-acquire-time:5s}") Duration maxAcquireTime,
+                                     @Value("${reactive-read.fetch-size:100}") int fetchSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-read")
+                .initialSize(0)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 필터를 적용하여 요청 상태인 심부름 페이지를 조회합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @param startRow 시작 행
+     * @param endRow 끝 행
+     * @param thumbnailWidth 목록용 변형의 너비
+     * @return 심부름 DTO 스트림 (정렬 순서)
+     */
+    public Flux<ErrandDTO> findErrandPage(String location, Long categoryId, ErrandSort sort, int startRow, int endRow,
+                                          int thumbnailWidth) {
+        DatabaseClient.GenericExecuteSpec spec = ListingFilters.bind(
+                databaseClient.sql(ErrandRepositoryImpl.pageSql("e.*", location, categoryId, sort)), location, categoryId);
+        Flux<ErrandDTO> page = spec.bind("startRow", startRow)
+                .bind("endRow", endRow)
+                .map(ReactiveListingRepository::toErrand)
+                .all();
+        return withImages(page, "errand_seq", thumbnailWidth, ErrandDTO::getErrandSeq, (errand, images) -> {
+            errand.setImagePaths(filePaths(images));
+            errand.setThumbnailPaths(thumbnailPaths(images));
+        });
+    }
+
+    /**
+     * 필터를 적용하여 서비스 제공 페이지를 조회합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @param startRow 시작 행
+     * @param endRow 끝 행
+     * @param thumbnailWidth 목록용 변형의 너비
+     * @return 서비스 제공 DTO 스트림 (정렬 순서)
+     */
+    public Flux<ServiceOfferingDTO> findServiceOfferingPage(String location, Long categoryId, ServiceOfferingSort sort,
+                                                            int startRow, int endRow, int thumbnailWidth) {
+        DatabaseClient.GenericExecuteSpec spec = ListingFilters.bind(
+                databaseClient.sql(ServiceOfferingRepositoryImpl.pageSql("so.*", location, categoryId, sort)), location, categoryId);
+        Flux<ServiceOfferingDTO> page = spec.bind("startRow", startRow)
+                .bind("endRow", endRow)
+                .map(ReactiveListingRepository::toServiceOffering)
+                .all();
+        return withImages(page, "service_offering_id", thumbnailWidth, ServiceOfferingDTO::getId, (offering, images) -> {
+            offering.setImagePaths(filePaths(images));
+            offering.setThumbnailPaths(thumbnailPaths(images));
+        });
+    }
+
+    /**
+     * 심부름의 리뷰를 조회합니다.
+     * 구독자가 요청한 만큼만 데이터베이스에서 가져오므로 리뷰 수와 관계없이 메모리 사용량이 일정합니다.
+     * @param errandSeq 심부름 고유 번호
+     * @return 리뷰 DTO 스트림
+     */
+    public Flux<ReviewDTO> findReviewsByErrandSeq(Long errandSeq) {
+        return databaseClient.sql(REVIEW_COLUMNS + " WHERE errand_seq = :errandSeq ORDER BY id")
+                .bind("errandSeq", errandSeq)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveListingRepository::toReview)
+                .all();
+    }
+
+    /**
+     * 서비스 제공의 리뷰를 조회합니다.
+     * 구독자가 요청한 만큼만 데이터베이스에서 가져오므로 리뷰 수와 관계없이 메모리 사용량이 일정합니다.
+     * @param serviceOfferingId 서비스 제공 ID
+     * @return 리뷰 DTO 스트림
+     */
+    public Flux<ReviewDTO> findReviewsByServiceOfferingId(Long serviceOfferingId) {
+        return databaseClient.sql(REVIEW_COLUMNS + " WHERE service_offering_id = :serviceOfferingId ORDER BY id")
+                .bind("serviceOfferingId", serviceOfferingId)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveListingRepository::toReview)
+                .all();
+    }
+
+    /**
+     * 연결 풀을 닫습니다.
+     */
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    /**
+     * 페이지의 모든 행을 모은 뒤 이미지 경로를 단일 IN 쿼리로 조회하여 채웁니다.
+     * 페이지 크기만큼만 메모리에 올리므로 쿼리 수가 페이지 크기와 무관합니다.
+     * @param page 페이지 행 스트림
+     * @param ownerColumn images 테이블의 소유 엔티티 컬럼
+     * @param thumbnailWidth 목록용 변형의 너비
+     * @param idOf 행의 ID를 반환하는 함수
+     * @param setter 행에 이미지 경로 목록을 설정하는 함수
+     * @param <T> DTO 타입
+     * @return 이미지 경로가 채워진 행 스트림
+     */
+    private <T> Flux<T> withImages(Flux<T> page, String ownerColumn, int thumbnailWidth, Function<T, Long> idOf,
+                                   BiConsumer<T, List<ImageRepository.OwnerImagePath>> setter) {
+        return page.collectList().flatMapMany(rows -> {
+            if (rows.isEmpty()) {
+                return Flux.empty();
+            }
+            List<Long> ids = rows.stream().map(idOf).collect(Collectors.toList());
+            return databaseClient.sql("SELECT i." + ownerColumn + " owner_id, i.file_path, v.file_path thumbnail_path " +
+                            "FROM images i LEFT JOIN image_variants v ON v.image_id = i.image_id AND v.width = :thumbnailWidth " +
+                            "WHERE i." + ownerColumn + " IN (:ownerIds) ORDER BY i.image_id")
+                    .bind("thumbnailWidth", thumbnailWidth)
+                    .bind("ownerIds", ids)
+                    .map(row -> (ImageRepository.OwnerImagePath) new ImagePath(row.get("owner_id", Long.class),
+                            row.get("file_path", String.class), row.get("thumbnail_path", String.class)))
+                    .all()
+                    .collect(Collectors.groupingBy(ImageRepository.OwnerImagePath::getOwnerId))
+                    .flatMapMany(images -> Flux.fromIterable(rows)
+                            .doOnNext(row -> setter.accept(row, images.getOrDefault(idOf.apply(row), Collections.emptyList()))));
+        });
+    }
+
+    private static List<String> filePaths(List<ImageRepository.OwnerImagePath> images) {
+        return images.stream().map(ImageRepository.OwnerImagePath::getFilePath).collect(Collectors.toList());
+    }
+
+    private static List<String> thumbnailPaths(List<ImageRepository.OwnerImagePath> images) {
+        return images.stream().map(ImageRepository.OwnerImagePath::getThumbnailOrOriginalPath).collect(Collectors.toList());
+    }
+
+    private static ErrandDTO toErrand(Readable row) {
+        ErrandDTO dto = new ErrandDTO();
+        dto.setErrandSeq(row.get("errand_seq", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setRequesterSeq(row.get("requester_seq", Long.class));
+        dto.setRunnerSeq(row.get("runner_seq", Long.class));
+        dto.setStatus(row.get("status", String.class));
+        dto.setCategoryId(row.get("category_id", Long.class));
+        dto.setCreatedDate(row.get("created_date", LocalDateTime.class));
+        dto.setUpdatedDate(row.get("updated_date", LocalDateTime.class));
+        dto.setLocation(row.get("location", String.class));
+        dto.setPrice(row.get("price", BigDecimal.class));
+        dto.setEstimatedTime(row.get("estimated_time", Integer.class));
+        dto.setDeadline(row.get("deadline", LocalDateTime.class));
+        dto.setRequesterNickname(row.get("requester_nickname", String.class));
+        dto.setRunnerNickname(row.get("runner_nickname", String.class));
+        return dto;
+    }
+
+    private static ServiceOfferingDTO toServiceOffering(Readable row) {
+        ServiceOfferingDTO dto = new ServiceOfferingDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setPriceRange(row.get("price_range", BigDecimal.class));
+        dto.setLocation(row.get("location", String.class));
+        dto.setCategoryId(row.get("category_id", Long.class));
+        dto.setProviderId(row.get("provider_id", Long.class));
+        dto.setCreatedDate(row.get("created_date", LocalDateTime.class));
+        dto.setCompletedTasks(row.get("completed_tasks", Integer.class));
+        Integer ratingCount = row.get("rating_count", Integer.class);
+        if (ratingCount != null && ratingCount > 0) {
+            dto.setAverageRating((double) row.get("rating_sum", Long.class) / ratingCount);
+        }
+        return dto;
+    }
+
+    private static ReviewDTO toReview(Readable row) {
+        ReviewDTO dto = new ReviewDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setErrandId(row.get("errand_seq", Long.class));
+        dto.setServiceOfferingId(row.get("service_offering_id", Long.class));
+        dto.setReviewerId(row.get("reviewer_id", Long.class));
+        dto.setRating(row.get("rating", Integer.class));
+        dto.setComments(row.get("comments", String.class));
+        dto.setCreatedDate(row.get("created_date", LocalDateTime.class));
+        return dto;
+    }
+
+    /**
+     * 이미지 경로 조회 결과
+     */
+    private static final class ImagePath implements ImageRepository.OwnerImagePath {
+        private final Long ownerId;
+        private final String filePath;
+        private final String thumbnailPath;
+
+        private ImagePath(Long ownerId, String filePath, String thumbnailPath) {
+            this.ownerId = ownerId;
+            this.filePath = filePath;
+            this.thumbnailPath = thumbnailPath;
+        }
+
+        @Override
+        public Long getOwnerId() {
+            return ownerId;
+        }
+
+        @Override
+        public String getFilePath() {
+            return filePath;
+        }
+
+        @Override
+        public String getThumbnailPath() {
+            return thumbnailPath;
+        }
+    }
+}
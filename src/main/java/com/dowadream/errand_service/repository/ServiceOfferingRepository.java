@@ -1,104 +1,75 @@
 package com.dowadream.errand_service.repository;
 
 import com.dowadream.errand_service.entity.ServiceOffering;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 /**
  * 서비스 제공 엔티티에 대한 데이터 액세스를 처리하는 리포지토리 인터페이스
+ * 목록 조회는 필터와 정렬 조합에 따라 SQL을 구성하는 {@link ServiceOfferingRepositoryCustom}에서 처리합니다.
  */
 @Repository
-public interface ServiceOfferingRepository extends JpaRepository<ServiceOffering, Long> {
-
-    /**
-     * 페이징 처리된 모든 서비스 제공을 조회합니다.
-     * @param startRow 시작 행
-     * @param endRow 끝 행
-     * @return 페이징된 서비스 제공 목록
-     */
-    @Query(value = "SELECT * FROM " +
-            "(SELECT a.*, ROWNUM rnum FROM " +
-            "(SELECT * FROM service_offerings ORDER BY id) a " +
-            "WHERE ROWNUM <= :endRow) " +
-            "WHERE rnum > :startRow",
-            nativeQuery = true)
-    List<ServiceOffering> findAllWithPagination(@Param("startRow") int startRow, @Param("endRow") int endRow);
+public interface ServiceOfferingRepository extends JpaRepository<ServiceOffering, Long>, ServiceOfferingRepositoryCustom {
 
     /**
-     * 전체 서비스 제공 수를 조회합니다.
-     * @return 전체 서비스 제공 수
+     * 리뷰 평점 집계 값을 원자적으로 변경합니다.
+     * 조회 후 저장하는 대신 단일 UPDATE 문으로 처리하므로 동시에 작성된 리뷰의 변경이 유실되지 않습니다.
+     * @param id 서비스 제공 ID
+     * @param ratingDelta 평점 합계 변경량
+     * @param countDelta 리뷰 수 변경량
+     * @return 변경된 행 수
      */
-    @Query(value = "SELECT COUNT(*) FROM service_offerings", nativeQuery = true)
-    long countServiceOfferings();
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ServiceOffering so SET " +
+            "so.ratingSum = so.ratingSum + :ratingDelta, " +
+            "so.ratingCount = so.ratingCount + :countDelta, " +
+            "so.averageRating = CASE WHEN so.ratingCount + :countDelta > 0 " +
+            "THEN (so.ratingSum + :ratingDelta) * 1.0 / (so.ratingCount + :countDelta) ELSE 0.0 END " +
+            "WHERE so.id = :id")
+    int applyRatingDelta(@Param("id") Long id, @Param("ratingDelta") long ratingDelta, @Param("countDelta") int countDelta);
 
     /**
-     * 카테고리별로 페이징 처리된 서비스 제공을 조회합니다.
-     * @param categoryId 카테고리 ID
-     * @param startRow 시작 행
-     * @param endRow 끝 행
-     * @return 카테고리별 페이징된 서비스 제공 목록
+     * 리뷰 테이블을 기준으로 ID 범위 내 서비스 제공의 평점 집계 값을 다시 계산합니다.
+     * 변경하는 테이블을 힌트로 지정하여, 네이티브 UPDATE가 관련 없는 2차 캐시 영역까지 비우지 않도록 합니다.
+     * @param fromId 시작 ID (포함)
+     * @param toId 끝 ID (포함)
+     * @return 변경된 행 수
      */
-    @Query(value = "SELECT * FROM " +
-            "(SELECT a.*, ROWNUM rnum FROM " +
-            "(SELECT * FROM service_offerings WHERE category_id = :categoryId ORDER BY id) a " +
-            "WHERE ROWNUM <= :endRow) " +
-            "WHERE rnum > :startRow",
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "service_offerings"))
+    @Query(value = "UPDATE service_offerings so SET (rating_sum, rating_count, average_rating) = " +
+            "(SELECT NVL(SUM(r.rating), 0), COUNT(r.id), NVL(AVG(r.rating), 0) FROM reviews r WHERE r.service_offering_id = so.id) " +
+            "WHERE so.id BETWEEN :fromId AND :toId",
             nativeQuery = true)
-    List<ServiceOffering> findByCategoryWithPagination(@Param("categoryId") Long categoryId,
-                                                       @Param("startRow") int startRow,
-                                                       @Param("endRow") int endRow);
+    int rebuildRatingAggregates(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
     /**
-     * 카테고리별 전체 서비스 제공 수를 조회합니다.
-     * @param categoryId 카테고리 ID
-     * @return 카테고리별 전체 서비스 제공 수
+     * 리뷰가 있는데 리뷰 수가 0으로 집계된 서비스 제공이 있는지 확인합니다.
+     * 리뷰 변경 시 집계 값이 증분으로 갱신되므로, 이런 행은 집계 값이 한 번도 계산되지 않았을 때만 존재합니다.
+     * @return 해당하는 서비스 제공이 있으면 1, 없으면 0
      */
-    @Query(value = "SELECT COUNT(*) FROM service_offerings WHERE category_id = :categoryId", nativeQuery = true)
-    long countServiceOfferingsByCategory(@Param("categoryId") Long categoryId);
+    @Query(value = "SELECT COUNT(*) FROM reviews r JOIN service_offerings so ON so.id = r.service_offering_id " +
+            "WHERE so.rating_count = 0 AND ROWNUM = 1",
+            nativeQuery = true)
+    int countUnaggregated();
 
     /**
-     * 필터를 적용하여 서비스 제공을 조회합니다.
-     * @param location 위치
-     * @param categoryId 카테고리 ID
-     * @param sortBy 정렬 기준
-     * @param startRow 시작 행
-     * @param endRow 끝 행
-     * @return 필터링된 서비스 제공 목록
+     * 가장 작은 서비스 제공 ID를 조회합니다.
+     * @return 가장 작은 ID (데이터가 없으면 null)
      */
-    @Query(value = "SELECT * FROM " +
-            "(SELECT a.*, ROWNUM rnum FROM " +
-            "(SELECT so.* FROM service_offerings so " +
-            "WHERE (:location IS NULL OR so.location = :location) " +
-            "AND (:categoryId IS NULL OR so.category_id = :categoryId) " +
-            "ORDER BY " +
-            "CASE WHEN :sortBy = 'latest' THEN so.created_date END DESC, " +
-            "CASE WHEN :sortBy = 'highestRating' THEN (SELECT AVG(r.rating) FROM reviews r WHERE r.service_offering_id = so.id) END DESC, " +
-            "CASE WHEN :sortBy = 'mostTasks' THEN so.completed_tasks END DESC) a " +
-            "WHERE ROWNUM <= :endRow) " +
-            "WHERE rnum > :startRow",
-            nativeQuery = true)
-    List<ServiceOffering> findServiceOfferingsByFilters(
-            @Param("location") String location,
-            @Param("categoryId") Long categoryId,
-            @Param("sortBy") String sortBy,
-            @Param("startRow") int startRow,
-            @Param("endRow") int endRow);
+    @Query("SELECT MIN(so.id) FROM ServiceOffering so")
+    Long findMinId();
 
     /**
-     * 필터를 적용한 전체 서비스 제공 수를 조회합니다.
-     * @param location 위치
-     * @param categoryId 카테고리 ID
-     * @return 필터링된 전체 서비스 제공 수
+     * 가장 큰 서비스 제공 ID를 조회합니다.
+     * @return 가장 큰 ID (데이터가 없으면 null)
      */
-    @Query(value = "SELECT COUNT(*) FROM service_offerings so " +
-            "WHERE (:location IS NULL OR so.location = :location) " +
-            "AND (:categoryId IS NULL OR so.category_id = :categoryId)",
-            nativeQuery = true)
-    long countServiceOfferingsByFilters(
-            @Param("location") String location,
-            @Param("categoryId") Long categoryId);
+    @Query("SELECT MAX(so.id) FROM ServiceOffering so")
+    Long findMaxId();
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.entity.ServiceOffering;
+
+import java.util.List;
+
+/**
+ * 동적으로 SQL을 구성해야 하는 서비스 제공 조회 기능을 정의하는 인터페이스
+ */
+public interface ServiceOfferingRepositoryCustom {
+
+    /**
+     * 필터를 적용하여 서비스 제공을 조회합니다.
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param sort 정렬 기준
+     * @param startRow 시작 행
+     * @param endRow 끝 행
+     * @return 필터링된 서비스 제공 목록
+     */
+    List<ServiceOffering> findServiceOfferingsByFilters(String location, Long categoryId, ServiceOfferingSort sort,
+                                                        int startRow, int endRow);
+
+    /**
+     * 필터를 적용하여 서비스 제공 페이지와 전체 서비스 제공 수를 한 번의 쿼리로 조회합니다.
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param sort 정렬 기준
+     * @param startRow 시작 행
+     * @param endRow 끝 행
+     * @return 서비스 제공 목록과 전체 서비스 제공 수
+     */
+    PagedResult<ServiceOffering> findServiceOfferingPageByFilters(String location, Long categoryId, ServiceOfferingSort sort,
+                                                                  int startRow, int endRow);
+
+    /**
+     * 필터를 적용한 전체 서비스 제공 수를 조회합니다.
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @return 필터링된 전체 서비스 제공 수
+     */
+    long countServiceOfferingsByFilters(String location, Long categoryId);
+}
@@ -0,0 +1,78 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.entity.ServiceOffering;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+/**
+ * {@link ServiceOfferingRepositoryCustom}의 구현 클래스
+ * 필터 조합과 정렬 기준마다 별도의 SQL 문을 생성하여 각 조합이 인덱스를 사용할 수 있도록 합니다.
+ */
+public class ServiceOfferingRepositoryImpl implements ServiceOfferingRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 필터를 적용하여 서비스 제공을 조회합니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ServiceOffering> findServiceOfferingsByFilters(String location, Long categoryId, ServiceOfferingSort sort,
+                                                               int startRow, int endRow) {
+        Query query = entityManager.createNativeQuery(pageSql("so.*", location, categoryId, sort), ServiceOffering.class);
+        ListingFilters.bind(query, location, categoryId);
+        query.setParameter("startRow", startRow);
+        query.setParameter("endRow", endRow);
+        return query.getResultList();
+    }
+
+    /**
+     * 필터를 적용하여 서비스 제공 페이지와 전체 서비스 제공 수를 조회합니다.
+     * 전체 행 수는 COUNT(*) OVER ()로 같은 SQL 문에서 계산하므로 데이터베이스 왕복이 한 번으로 줄어듭니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public PagedResult<ServiceOffering> findServiceOfferingPageByFilters(String location, Long categoryId, ServiceOfferingSort sort,
+                                                                         int startRow, int endRow) {
+        Query query = entityManager.createNativeQuery(
+                pageSql("so.*, COUNT(*) OVER () total_count", location, categoryId, sort), ServiceOffering.WITH_TOTAL_COUNT);
+        ListingFilters.bind(query, location, categoryId);
+        query.setParameter("startRow", startRow);
+        query.setParameter("endRow", endRow);
+        return ListingFilters.toPagedResult(query.getResultList(), startRow,
+                () -> countServiceOfferingsByFilters(location, categoryId));
+    }
+
+    /**
+     * 필터를 적용한 전체 서비스 제공 수를 조회합니다.
+     */
+    @Override
+    public long countServiceOfferingsByFilters(String location, Long categoryId) {
+        String sql = "SELECT COUNT(*) FROM service_offerings so" + ListingFilters.where("so", location, categoryId, null);
+
+        Query query = entityManager.createNativeQuery(sql);
+        ListingFilters.bind(query, location, categoryId);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    /**
+     * ROWNUM 기반 오프셋 페이징 SQL을 생성합니다.
+     * @param selectList 가장 안쪽 SELECT 절의 컬럼 목록
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @return 페이징 SQL
+     */
+    static String pageSql(String selectList, String location, Long categoryId, ServiceOfferingSort sort) {
+        return "SELECT * FROM " +
+                "(SELECT a.*, ROWNUM rnum FROM " +
+                "(SELECT " + selectList + " FROM service_offerings so" + ListingFilters.where("so", location, categoryId, null) +
+                " ORDER BY " + sort.orderBy() + ") a " +
+                "WHERE ROWNUM <= :endRow) " +
+                "WHERE rnum > :startRow";
+    }
+}
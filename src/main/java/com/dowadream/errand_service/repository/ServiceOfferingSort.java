@@ -0,0 +1,65 @@
+package com.dowadream.errand_service.repository;
+
+/**
+ * 서비스 제공 목록 조회 시 사용되는 정렬 기준 열거형
+ */
+public enum ServiceOfferingSort {
+    /**
+     * 기본 정렬 (서비스 제공 ID 오름차순)
+     */
+    DEFAULT(null, "so.id", true),
+
+    /**
+     * 최신순
+     */
+    LATEST("latest", "so.created_date", false),
+
+    /**
+     * 평점 높은순
+     */
+    HIGHEST_RATING("highestRating", "so.average_rating", false),
+
+    /**
+     * 완료 작업 많은순
+     */
+    MOST_TASKS("mostTasks", "so.completed_tasks", false);
+
+    private final String sortBy;
+    private final String column;
+    private final boolean ascending;
+
+    ServiceOfferingSort(String sortBy, String column, boolean ascending) {
+        this.sortBy = sortBy;
+        this.column = column;
+        this.ascending = ascending;
+    }
+
+    /**
+     * 요청 파라미터의 정렬 기준 문자열을 열거형으로 변환합니다.
+     * @param sortBy 정렬 기준 문자열
+     * @return 정렬 기준 (일치하는 값이 없으면 DEFAULT)
+     */
+    public static ServiceOfferingSort from(String sortBy) {
+        if (sortBy != null) {
+            for (ServiceOfferingSort sort : values()) {
+                if (sortBy.equals(sort.sortBy)) {
+                    return sort;
+                }
+            }
+        }
+        return DEFAULT;
+    }
+
+    /**
+     * ORDER BY 절을 반환합니다.
+     * 정렬 키가 같은 행의 순서를 고정하기 위해 서비스 제공 ID를 보조 정렬 키로 사용합니다.
+     * @return ORDER BY 절
+     */
+    public String orderBy() {
+        String direction = ascending ? "ASC" : "DESC";
+        if (this == DEFAULT) {
+            return column + " " + direction;
+        }
+        return column + " " + direction + ", so.id " + direction;
+    }
+}
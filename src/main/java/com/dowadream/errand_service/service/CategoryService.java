@@ -3,11 +3,19 @@ package com.dowadream.errand_service.service;
 import com.dowadream.errand_service.dto.CategoryDTO;
 import com.dowadream.errand_service.entity.Category;
 import com.dowadream.errand_service.entity.Image;
+import com.dowadream.errand_service.event.CategoryChangedEvent;
+import com.dowadream.errand_service.exception.BadRequestException;
+import com.dowadream.errand_service.event.ImageUploadedEvent;
+import com.dowadream.errand_service.readmodel.CategoryRegistry;
 import com.dowadream.errand_service.repository.CategoryRepository;
 import com.dowadream.errand_service.repository.ImageRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -17,6 +25,7 @@ import java.util.stream.Collectors;
 
 /**
  * 카테고리 관련 비즈니스 로직을 처리하는 서비스 클래스
+ * 조회는 {@link CategoryRegistry}의 메모리 스냅샷으로 처리하고, 변경이 커밋되면 스냅샷을 다시 만듭니다.
  */
 @Service
 @Transactional
@@ -25,28 +34,54 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final ImageRepository imageRepository;
     private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryRegistry categoryRegistry;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * CategoryService 생성자
      * @param categoryRepository 카테고리 리포지토리
      * @param imageRepository 이미지 리포지토리
      * @param fileStorageService 파일 저장 서비스
+     * @param imageVariantService 이미지 변형 서비스
+     * @param eventPublisher 이벤트 발행기
+     * @param categoryRegistry 카테고리 레지스트리
+     * @param transactionTemplate 트랜잭션 템플릿
      */
     @Autowired
-    public CategoryService(CategoryRepository categoryRepository, ImageRepository imageRepository, FileStorageService fileStorageService) {
+    public CategoryService(CategoryRepository categoryRepository, ImageRepository imageRepository, FileStorageService fileStorageService,
+                           ImageVariantService imageVariantService, ApplicationEventPublisher eventPublisher,
+                           CategoryRegistry categoryRegistry, TransactionTemplate transactionTemplate) {
         this.categoryRepository = categoryRepository;
         this.imageRepository = imageRepository;
         this.fileStorageService = fileStorageService;
+        this.imageVariantService = imageVariantService;
+        this.eventPublisher = eventPublisher;
+        this.categoryRegistry = categoryRegistry;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
      * 모든 카테고리를 조회합니다.
      * @return 카테고리 DTO 목록
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CategoryDTO> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return getCategorySnapshot().getCategories();
+    }
+
+    /**
+     * 현재 카테고리 스냅샷을 반환합니다. 아직 스냅샷이 없으면 데이터베이스에서 불러옵니다.
+     * @return 카테고리 스냅샷
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CategoryRegistry.Snapshot getCategorySnapshot() {
+        CategoryRegistry.Snapshot snapshot = categoryRegistry.getSnapshot();
+        if (snapshot == null) {
+            snapshot = categoryRegistry.initialize(transactionTemplate.execute(status -> loadCategories()));
+        }
+        return snapshot;
     }
 
     /**
@@ -54,8 +89,39 @@ public class CategoryService {
      * @param id 카테고리 ID
      * @return 카테고리 DTO (Optional)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<CategoryDTO> getCategoryById(Long id) {
-        return categoryRepository.findById(id).map(this::convertToDTO);
+        return Optional.ofNullable(getCategorySnapshot().get(id));
+    }
+
+    /**
+     * 스냅샷에 있는 카테고리의 참조를 데이터베이스 조회 없이 반환합니다.
+     * 심부름이나 서비스 제공에 카테고리를 연결할 때 사용합니다.
+     * 스냅샷에 없는 카테고리는 다른 인스턴스에서 방금 생성되었을 수 있으므로 데이터베이스에서 존재 여부를 확인하고,
+     * 존재하면 참조를 반환하면서 트랜잭션이 끝난 뒤 스냅샷을 다시 만들도록 합니다.
+     * @param id 카테고리 ID
+     * @return 카테고리 참조 (존재하지 않으면 빈 값)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<Category> findCategoryReference(Long id) {
+        if (!getCategorySnapshot().contains(id)) {
+            if (!categoryRepository.existsById(id)) {
+                return Optional.empty();
+            }
+            eventPublisher.publishEvent(new CategoryChangedEvent(id));
+        }
+        return Optional.of(categoryRepository.getReferenceById(id));
+    }
+
+    /**
+     * 데이터베이스에서 전체 카테고리를 읽어 DTO 목록으로 변환합니다. (스냅샷 생성용)
+     * @return 카테고리 DTO 목록
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryDTO> loadCategories() {
+        return categoryRepository.findAll().stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -70,7 +136,9 @@ public class CategoryService {
             Image image = uploadImage(categoryDTO.getImage());
             category.setImage(image);
         }
-        return convertToDTO(categoryRepository.save(category));
+        Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getCategoryId()));
+        return convertToDTO(savedCategory);
     }
 
     /**
@@ -86,9 +154,14 @@ public class CategoryService {
         updateCategoryFromDTO(category, categoryDTO);
         if (categoryDTO.getImage() != null && !categoryDTO.getImage().isEmpty()) {
             Image image = uploadImage(categoryDTO.getImage());
+            if (category.getImage() != null) {
+                fileStorageService.releaseAfterCommit(List.of(category.getImage()));
+            }
             category.setImage(image);
         }
-        return convertToDTO(categoryRepository.save(category));
+        Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
+        return convertToDTO(savedCategory);
     }
 
     /**
@@ -96,7 +169,13 @@ public class CategoryService {
      * @param id 삭제할 카테고리 ID
      */
     public void deleteCategory(Long id) {
-        categoryRepository.deleteById(id);
+        categoryRepository.findById(id).ifPresent(category -> {
+            if (category.getImage() != null) {
+                fileStorageService.releaseAfterCommit(List.of(category.getImage()));
+            }
+            categoryRepository.delete(category);
+            eventPublisher.publishEvent(new CategoryChangedEvent(id));
+        });
     }
 
     /**
@@ -104,16 +183,21 @@ public class CategoryService {
      * @param file 업로드할 이미지 파일
      * @return 생성된 이미지 엔티티
      * @throws IOException 이미지 저장 중 오류 발생 시
+     * @throws BadRequestException 허용된 이미지 형식이 아닌 경우
      */
     private Image uploadImage(MultipartFile file) throws IOException {
-        String fileName = fileStorageService.storeFile(file);
+        MediaType contentType = ImageContentType.requireImage(file);
+        StoredFile storedFile = fileStorageService.storeFile(file);
         Image image = new Image();
-        image.setFileName(fileName);
-        image.setFilePath(fileStorageService.getFileStorageLocation().resolve(fileName).toString());
-        image.setFileType(file.getContentType());
-        image.setFileSize((int) file.getSize());
+        image.setFileName(fileStorageService.cleanFileName(file));
+        image.setFilePath(storedFile.getPath().toString());
+        image.setContentHash(storedFile.getContentHash());
+        image.setFileType(contentType.toString());
+        image.setFileSize((int) storedFile.getSize());
         image.setImageType(Image.ImageType.CATEGORY);
-        return imageRepository.save(image);
+        Image savedImage = imageRepository.save(image);
+        eventPublisher.publishEvent(new ImageUploadedEvent(savedImage));
+        return savedImage;
     }
 
     /**
@@ -128,6 +212,7 @@ public class CategoryService {
         dto.setDescription(category.getDescription());
         if (category.getImage() != null) {
             dto.setImagePath(category.getImage().getFilePath());
+            dto.setThumbnailPath(imageVariantService.thumbnailPathOf(category.getImage()));
         }
         return dto;
     }
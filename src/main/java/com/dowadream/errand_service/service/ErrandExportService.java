@@ -0,0 +1,197 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.entity.Errand;
+import com.dowadream.errand_service.exception.BadRequestException;
+import com.dowadream.errand_service.repository.ErrandRepository;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 심부름 데이터를 NDJSON 또는 CSV 형식으로 내보내는 서비스 클래스
+ * 데이터베이스 커서에서 읽은 행을 곧바로 응답 스트림에 기록하므로 내보내는 행 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ErrandExportService {
+
+    /**
+     * 날짜 형식 ({@link com.dowadream.errand_service.dto.ErrandDTO}의 JSON 형식과 동일)
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * 응답 스트림을 비우는 행 간격
+     */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final ErrandRepository errandRepository;
+    private final JsonFactory jsonFactory;
+    private final int fetchSize;
+
+    /**
+     * ErrandExportService 생성자
+     * @param errandRepository 심부름 리포지토리
+     * @param objectMapper JSON 매퍼
+     * @param fetchSize 한 번의 데이터베이스 왕복으로 가져올 행 수
+     */
+    @Autowired
+    public ErrandExportService(ErrandRepository errandRepository, ObjectMapper objectMapper,
+                               @Value("${errand.export.fetch-size:1000}") int fetchSize) {
+        this.errandRepository = errandRepository;
+        this.jsonFactory = objectMapper.getFactory();
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 필터에 맞는 심부름을 지정한 형식으로 출력 스트림에 기록합니다.
+     * @param format 내보내기 형식
+     * @param location 위치 (null이면 전체)
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param status 심부름 상태 (null이면 전체)
+     * @param outputStream 출력 스트림
+     * @return 기록한 행 수
+     * @throws IOException 출력 스트림 기록에 실패한 경우
+     */
+    public long export(ErrandFileFormat format, String location, Long categoryId, Errand.ErrandStatus status,
+                       OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<Errand> errands = errandRepository.streamErrandsByFilters(location, categoryId, status, fetchSize)) {
+            long count = format == ErrandFileFormat.CSV ? writeCsv(errands.iterator(), writer) : writeNdjson(errands.iterator(), writer);
+            writer.flush();
+            return count;
+        }
+    }
+
+    /**
+     * 심부름 상태 문자열을 열거형으로 변환합니다.
+     * @param status 상태 문자열 (null이거나 비어 있으면 전체)
+     * @return 심부름 상태 (전체이면 null)
+     * @throws BadRequestException 알 수 없는 상태인 경우
+     */
+    public static Errand.ErrandStatus parseStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return Errand.ErrandStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid errand status: " + status, e);
+        }
+    }
+
+    /**
+     * 한 줄에 하나의 JSON 객체를 기록합니다.
+     */
+    private long writeNdjson(Iterator<Errand> errands, Writer writer) throws IOException {
+        long count = 0;
+        JsonGenerator generator = jsonFactory.createGenerator(writer);
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        while (errands.hasNext()) {
+            Object[] values = values(errands.next());
+            generator.writeStartObject();
+            for (int i = 0; i < ErrandFileFormat.COLUMNS.size(); i++) {
+                generator.writeFieldName(ErrandFileFormat.COLUMNS.get(i));
+                writeJsonValue(generator, values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    /**
+     * 헤더 행과 심부름 행을 CSV 형식으로 기록합니다.
+     */
+    private long writeCsv(Iterator<Errand> errands, Writer writer) throws IOException {
+        writer.write(String.join(",", ErrandFileFormat.COLUMNS));
+        writer.write("\r\n");
+        long count = 0;
+        while (errands.hasNext()) {
+            Object[] values = values(errands.next());
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvField(values[i]));
+            }
+            writer.write("\r\n");
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 심부름 엔티티에서 내보낼 값을 {@link ErrandFileFormat#COLUMNS} 순서대로 추출합니다.
+     * 카테고리는 프록시의 식별자만 사용하므로 추가 조회가 발생하지 않습니다.
+     */
+    private static Object[] values(Errand errand) {
+        return new Object[]{
+                errand.getErrandSeq(), errand.getTitle(), errand.getDescription(), errand.getRequesterSeq(),
+                errand.getRunnerSeq(), errand.getStatus().name(),
+                errand.getCategory() != null ? errand.getCategory().getCategoryId() : null,
+                errand.getRequesterNickname(), errand.getRunnerNickname(), errand.getCreatedDate(),
+                errand.getUpdatedDate(), errand.getLocation(), errand.getPrice(), errand.getEstimatedTime(),
+                errand.getDeadline()
+        };
+    }
+
+    private static void writeJsonValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof LocalDateTime) {
+            generator.writeString(DATE_FORMAT.format((LocalDateTime) value));
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    /**
+     * 값을 CSV 필드로 변환합니다. 구분자, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감쌉니다.
+     */
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text;
+        if (value instanceof LocalDateTime) {
+            text = DATE_FORMAT.format((LocalDateTime) value);
+        } else if (value instanceof BigDecimal) {
+            text = ((BigDecimal) value).toPlainString();
+        } else {
+            text = value.toString();
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,60 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.exception.BadRequestException;
+
+import java.util.List;
+
+/**
+ * 심부름 대량 내보내기와 가져오기에 사용하는 파일 형식 열거형
+ */
+public enum ErrandFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    /**
+     * 파일에 기록하는 컬럼 이름 (NDJSON의 필드 이름, CSV의 헤더)
+     */
+    public static final List<String> COLUMNS = List.of(
+            "errandSeq", "title", "description", "requesterSeq", "runnerSeq", "status", "categoryId",
+            "requesterNickname", "runnerNickname", "createdDate", "updatedDate", "location", "price",
+            "estimatedTime", "deadline");
+
+    private final String contentType;
+    private final String extension;
+
+    ErrandFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * 요청 파라미터의 형식 문자열을 열거형으로 변환합니다.
+     * @param format 형식 문자열
+     * @return 파일 형식
+     * @throws BadRequestException 지원하지 않는 형식인 경우
+     */
+    public static ErrandFileFormat from(String format) {
+        for (ErrandFileFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new BadRequestException("Unsupported file format: " + format);
+    }
+
+    /**
+     * 응답의 Content-Type을 반환합니다.
+     * @return Content-Type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 파일 확장자를 반환합니다.
+     * @return 파일 확장자
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
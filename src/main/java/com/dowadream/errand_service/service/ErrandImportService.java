@@ -0,0 +1,447 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ErrandImportResultDTO;
+import com.dowadream.errand_service.entity.Errand;
+import com.dowadream.errand_service.event.ErrandsImportedEvent;
+import com.dowadream.errand_service.exception.BadRequestException;
+import com.dowadream.errand_service.repository.CategoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * CSV 또는 NDJSON 파일의 심부름을 대량으로 저장하는 서비스 클래스
+ * 파일을 한 행씩 읽어 검증하고, 일정 개수마다 하나의 트랜잭션에서 JDBC 배치 INSERT로 저장합니다.
+ * 심부름 고유 번호는 묶음 단위로 시퀀스에서 한 번에 할당하고, 카테고리는 미리 불러온 ID 목록으로 확인합니다.
+ */
+@Slf4j
+@Service
+public class ErrandImportService {
+
+    /**
+     * 결과에 포함할 최대 행별 오류 수
+     */
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT errand_seq.NEXTVAL FROM dual CONNECT BY LEVEL <= ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO errands (errand_seq, title, description, requester_seq, runner_seq, requester_nickname, " +
+                    "runner_nickname, status, created_date, updated_date, category_id, location, price, " +
+                    "estimated_time, deadline) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    /**
+     * ErrandImportService 생성자
+     * @param categoryRepository 카테고리 리포지토리
+     * @param jdbcTemplate JDBC 템플릿
+     * @param transactionTemplate 트랜잭션 템플릿
+     * @param eventPublisher 이벤트 발행기
+     * @param objectMapper JSON 매퍼
+     * @param chunkSize 한 트랜잭션에서 저장할 행 수
+     */
+    @Autowired
+    public ErrandImportService(CategoryRepository categoryRepository,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectMapper objectMapper,
+                               @Value("${errand.import.chunk-size:500}") int chunkSize) {
+        this.categoryRepository = categoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 파일의 심부름을 저장합니다.
+     * 검증에 실패하거나 저장 중 오류가 발생한 행은 건너뛰고 결과에 행 번호와 함께 기록합니다.
+     * @param format 파일 형식
+     * @param inputStream 파일 입력 스트림
+     * @return 가져오기 결과
+     * @throws IOException 파일을 읽지 못한 경우
+     */
+    public ErrandImportResultDTO importErrands(ErrandFileFormat format, InputStream inputStream) throws IOException {
+        Set<Long> categoryIds = new HashSet<>(categoryRepository.findAllIds());
+        ErrandImportResultDTO result = new ErrandImportResultDTO();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        RowSource source = format == ErrandFileFormat.CSV ? new CsvRowSource(reader) : new NdjsonRowSource(reader);
+        ImportRow row;
+        while ((row = source.next()) != null) {
+            result.setTotalRows(result.getTotalRows() + 1);
+            String error = row.error != null ? row.error : validate(row.errand, categoryIds);
+            if (error != null) {
+                reportError(result, row.number, error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                flush(chunk, result);
+            }
+        }
+        flush(chunk, result);
+
+        log.info("Imported {} of {} errands ({} failed)", result.getImportedRows(), result.getTotalRows(), result.getFailedRows());
+        return result;
+    }
+
+    /**
+     * 모인 행을 하나의 트랜잭션에서 저장합니다.
+     * 고유 번호 할당과 배치 INSERT가 각각 한 번의 데이터베이스 왕복으로 처리됩니다.
+     * 묶음 저장이 실패하면 어느 행이 원인인지 알 수 없으므로, 각 행을 별도의 트랜잭션에서 다시 저장하여 실패한 행만 결과에 기록합니다.
+     * @param chunk 저장할 행 목록
+     * @param result 가져오기 결과
+     */
+    private void flush(List<ImportRow> chunk, ErrandImportResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            store(chunk);
+            result.setImportedRows(result.getImportedRows() + chunk.size());
+        } catch (DataAccessException e) {
+            log.warn("Failed to import a chunk of {} errands, retrying row by row", chunk.size(), e);
+            for (ImportRow row : chunk) {
+                try {
+                    store(Collections.singletonList(row));
+                    result.setImportedRows(result.getImportedRows() + 1);
+                } catch (DataAccessException rowException) {
+                    reportError(result, row.number, "Failed to store row: " + rowException.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    /**
+     * 행 목록에 고유 번호를 할당하고 하나의 트랜잭션에서 배치 INSERT로 저장합니다.
+     * 생성 이벤트는 묶음마다 한 번 발행되고 트랜잭션이 커밋된 뒤에만 처리되므로, 저장에 실패한 묶음의 이벤트는 처리되지 않습니다.
+     * @param rows 저장할 행 목록
+     * @throws DataAccessException 저장에 실패한 경우 (트랜잭션은 롤백됩니다)
+     */
+    private void store(List<ImportRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, rows.size());
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> batchArgs = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                ErrandDTO errand = rows.get(i).errand;
+                errand.setErrandSeq(ids.get(i));
+                errand.setCreatedDate(now);
+                errand.setUpdatedDate(now);
+                errand.setImagePaths(Collections.emptyList());
+                batchArgs.add(insertArgs(errand));
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+            List<ErrandDTO> errands = new ArrayList<>(rows.size());
+            rows.forEach(row -> errands.add(row.errand));
+            eventPublisher.publishEvent(new ErrandsImportedEvent(errands));
+        });
+    }
+
+    /**
+     * 행을 검증합니다.
+     * @param errand 심부름 DTO
+     * @param categoryIds 존재하는 카테고리 ID 목록
+     * @return 오류 메시지 (유효하면 null)
+     */
+    private String validate(ErrandDTO errand, Set<Long> categoryIds) {
+        if (isBlank(errand.getTitle()) || errand.getTitle().length() > 100) {
+            return "Title is required and must be at most 100 characters.";
+        }
+        if (isBlank(errand.getDescription()) || errand.getDescription().length() > 500) {
+            return "Description is required and must be at most 500 characters.";
+        }
+        if (isBlank(errand.getLocation()) || errand.getLocation().length() > 255) {
+            return "Location is required and must be at most 255 characters.";
+        }
+        if (errand.getRequesterNickname() != null && errand.getRequesterNickname().length() > 255) {
+            return "Requester nickname must be at most 255 characters.";
+        }
+        if (errand.getRunnerNickname() != null && errand.getRunnerNickname().length() > 255) {
+            return "Runner nickname must be at most 255 characters.";
+        }
+        if (errand.getPrice() == null || errand.getPrice().signum() < 0) {
+            return "Price is required and must not be negative.";
+        }
+        if (errand.getEstimatedTime() == null || errand.getEstimatedTime() < 0) {
+            return "Estimated time is required and must not be negative.";
+        }
+        if (errand.getDeadline() == null) {
+            return "Deadline is required.";
+        }
+        if (errand.getCategoryId() != null && !categoryIds.contains(errand.getCategoryId())) {
+            return "Category not found with id: " + errand.getCategoryId();
+        }
+        if (isBlank(errand.getStatus())) {
+            errand.setStatus(Errand.ErrandStatus.REQUESTED.name());
+        } else {
+            try {
+                errand.setStatus(Errand.ErrandStatus.valueOf(errand.getStatus().toUpperCase()).name());
+            } catch (IllegalArgumentException e) {
+                return "Invalid errand status: " + errand.getStatus();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 배치 INSERT의 바인딩 값을 {@link #INSERT_SQL}의 컬럼 순서대로 생성합니다.
+     */
+    private static Object[] insertArgs(ErrandDTO errand) {
+        return new Object[]{
+                errand.getErrandSeq(), errand.getTitle(), errand.getDescription(), errand.getRequesterSeq(),
+                errand.getRunnerSeq(), errand.getRequesterNickname(), errand.getRunnerNickname(), errand.getStatus(),
+                Timestamp.valueOf(errand.getCreatedDate()), Timestamp.valueOf(errand.getUpdatedDate()),
+                errand.getCategoryId(), errand.getLocation(), errand.getPrice(), errand.getEstimatedTime(),
+                Timestamp.valueOf(errand.getDeadline())
+        };
+    }
+
+    private static void reportError(ErrandImportResultDTO result, long row, String message) {
+        result.setFailedRows(result.getFailedRows() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new ErrandImportResultDTO.RowError(row, message));
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 읽은 행과 파싱 오류
+     */
+    private static final class ImportRow {
+        private final long number;
+        private final ErrandDTO errand;
+        private final String error;
+
+        private ImportRow(long number, ErrandDTO errand, String error) {
+            this.number = number;
+            this.errand = errand;
+            this.error = error;
+        }
+    }
+
+    /**
+     * 파일에서 행을 하나씩 읽는 인터페이스
+     */
+    private interface RowSource {
+        /**
+         * 다음 행을 읽습니다.
+         * @return 다음 행 (파일 끝이면 null)
+         * @throws IOException 파일을 읽지 못한 경우
+         */
+        ImportRow next() throws IOException;
+    }
+
+    /**
+     * 한 줄에 하나의 JSON 객체가 있는 파일을 읽습니다. 빈 줄은 건너뜁니다.
+     */
+    private final class NdjsonRowSource implements RowSource {
+        private final BufferedReader reader;
+        private long lineNumber;
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new ImportRow(lineNumber, objectMapper.readValue(line, ErrandDTO.class), null);
+                } catch (JsonProcessingException e) {
+                    return new ImportRow(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 첫 행이 헤더인 CSV 파일을 읽습니다. 따옴표로 감싼 필드 안의 구분자와 줄바꿈을 지원합니다.
+     */
+    private static final class CsvRowSource implements RowSource {
+        private final BufferedReader reader;
+        private final List<String> header;
+        private long rowNumber;
+
+        private CsvRowSource(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> columns = readRecord();
+            if (columns == null) {
+                throw new BadRequestException("The CSV file is empty.");
+            }
+            for (String column : columns) {
+                if (!ErrandFileFormat.COLUMNS.contains(column)) {
+                    throw new BadRequestException("Unknown CSV column: " + column);
+                }
+            }
+            this.header = columns;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            rowNumber++;
+            if (fields.size() != header.size()) {
+                return new ImportRow(rowNumber, null,
+                        "Expected " + header.size() + " fields but found " + fields.size() + ".");
+            }
+            ErrandDTO errand = new ErrandDTO();
+            for (int i = 0; i < fields.size(); i++) {
+                String value = fields.get(i).isEmpty() ? null : fields.get(i);
+                try {
+                    setField(errand, header.get(i), value);
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    return new ImportRow(rowNumber, null, "Invalid value for " + header.get(i) + ": " + value);
+                }
+            }
+            return new ImportRow(rowNumber, errand, null);
+        }
+
+        /**
+         * RFC 4180 형식의 레코드 하나를 읽습니다.
+         * @return 필드 목록 (파일 끝이면 null)
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            while (c == '\r' || c == '\n') {
+                c = reader.read();
+            }
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private static void setField(ErrandDTO errand, String column, String value) {
+            switch (column) {
+                case "title":
+                    errand.setTitle(value);
+                    break;
+                case "description":
+                    errand.setDescription(value);
+                    break;
+                case "requesterSeq":
+                    errand.setRequesterSeq(value != null ? Long.valueOf(value) : null);
+                    break;
+                case "runnerSeq":
+                    errand.setRunnerSeq(value != null ? Long.valueOf(value) : null);
+                    break;
+                case "status":
+                    errand.setStatus(value);
+                    break;
+                case "categoryId":
+                    errand.setCategoryId(value != null ? Long.valueOf(value) : null);
+                    break;
+                case "requesterNickname":
+                    errand.setRequesterNickname(value);
+                    break;
+                case "runnerNickname":
+                    errand.setRunnerNickname(value);
+                    break;
+                case "location":
+                    errand.setLocation(value);
+                    break;
+                case "price":
+                    errand.setPrice(value != null ? new BigDecimal(value) : null);
+                    break;
+                case "estimatedTime":
+                    errand.setEstimatedTime(value != null ? Integer.valueOf(value) : null);
+                    break;
+                case "deadline":
+                    errand.setDeadline(value != null ? parseDate(value) : null);
+                    break;
+                default:
+                    // errandSeq, createdDate, updatedDate는 저장 시 새로 지정하므로 무시합니다.
+                    break;
+            }
+        }
+
+        private static LocalDateTime parseDate(String value) {
+            try {
+                return LocalDateTime.parse(value, DATE_FORMAT);
+            } catch (DateTimeParseException e) {
+                return LocalDateTime.parse(value);
+            }
+        }
+    }
+}
@@ -1,20 +1,44 @@
 package com.dowadream.errand_service.service;
 
+import com.dowadream.errand_service.datasource.DataSourceRouting;
+import com.dowadream.errand_service.dto.CursorPageDTO;
 import com.dowadream.errand_service.dto.ErrandDTO;
 import com.dowadream.errand_service.entity.Category;
 import com.dowadream.errand_service.entity.Errand;
+import com.dowadream.errand_service.entity.Image;
+import com.dowadream.errand_service.event.ErrandChangedEvent;
+import com.dowadream.errand_service.exception.ConflictException;
 import com.dowadream.errand_service.exception.ResourceNotFoundException;
 import com.dowadream.errand_service.exception.BadRequestException;
-import com.dowadream.errand_service.repository.CategoryRepository;
+import com.dowadream.errand_service.readmodel.DetailCache;
+import com.dowadream.errand_service.readmodel.ErrandReadModel;
+import com.dowadream.errand_service.readmodel.FilterResultCache;
+import com.dowadream.errand_service.readmodel.SingleFlight;
+import com.dowadream.errand_service.repository.ErrandCursor;
 import com.dowadream.errand_service.repository.ErrandRepository;
+import com.dowadream.errand_service.repository.ErrandSort;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.repository.PagedResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -25,104 +49,200 @@ import java.util.stream.Collectors;
 @Transactional
 public class ErrandService {
 
+    /**
+     * 읽기 모델 재구성 시 이미지 경로를 한 번에 조회할 심부름 수
+     */
+    private static final int IMAGE_BATCH_SIZE = 1000;
+
     private final ErrandRepository errandRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final ImageRepository imageRepository;
+    private final ImageVariantService imageVariantService;
+    private final ErrandReadModel errandReadModel;
+    private final DetailCache<ErrandDTO> errandDetailCache;
+    private final FilterResultCache<ErrandDTO> errandFilterCache;
+    private final SingleFlight errandListingFlight;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
 
     /**
      * ErrandService 생성자
      * @param errandRepository 심부름 리포지토리
-     * @param categoryRepository 카테고리 리포지토리
+     * @param categoryService 카테고리 서비스
+     * @param imageRepository 이미지 리포지토리
+     * @param imageVariantService 이미지 변형 서비스
+     * @param errandReadModel 심부름 읽기 모델
+     * @param errandDetailCache 심부름 상세 조회 캐시
+     * @param errandFilterCache 심부름 필터 조회 캐시
+     * @param errandListingFlight 동시에 들어온 같은 목록 조회를 합치는 객체
+     * @param eventPublisher 이벤트 발행기
+     * @param transactionTemplate 트랜잭션 템플릿 (목록 조회용 읽기 전용 트랜잭션을 만드는 데 사용)
      */
     @Autowired
-    public ErrandService(ErrandRepository errandRepository, CategoryRepository categoryRepository) {
+    public ErrandService(ErrandRepository errandRepository, CategoryService categoryService, ImageRepository imageRepository,
+                         ImageVariantService imageVariantService, ErrandReadModel errandReadModel,
+                         DetailCache<ErrandDTO> errandDetailCache, FilterResultCache<ErrandDTO> errandFilterCache,
+                         @Qualifier("errandListingFlight") SingleFlight errandListingFlight,
+                         ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate) {
         this.errandRepository = errandRepository;
-        this.categoryRepository = categoryRepository;
+        this.categoryService = categoryService;
+        this.imageRepository = imageRepository;
+        this.imageVariantService = imageVariantService;
+        this.errandReadModel = errandReadModel;
+        this.errandDetailCache = errandDetailCache;
+        this.errandFilterCache = errandFilterCache;
+        this.errandListingFlight = errandListingFlight;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
-     * 모든 심부름을 페이징하여 조회합니다.
+     * 취소되지 않은 모든 심부름을 페이징하여 조회합니다.
      * @param pageable 페이징 정보
      * @return 페이징된 심부름 DTO 목록
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<ErrandDTO> getAllErrands(Pageable pageable) {
-        int pageSize = pageable.getPageSize();
-        int currentPage = pageable.getPageNumber();
-        int startRow = currentPage * pageSize;
-        int endRow = (currentPage + 1) * pageSize;
-
-        List<Errand> errands = errandRepository.findAllWithPagination(startRow, endRow);
-        long total = errandRepository.countErrands();
-
-        List<ErrandDTO> errandDTOs = errands.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(errandDTOs, pageable, total);
+        return findUncancelledErrandPage(null, pageable);
     }
 
     /**
      * ID로 심부름을 조회합니다.
+     * 조회 결과는 상세 조회 캐시에 보관되며, 심부름이 변경되면 커밋 후 제거됩니다.
+     * 캐시 항목은 복제 지연보다 오래 보관되므로 캐시에 넣을 값은 기본 데이터베이스에서 읽습니다.
      * @param id 심부름 ID
      * @return 심부름 DTO (Optional)
      */
+    @Transactional(readOnly = true)
     public Optional<ErrandDTO> getErrandById(Long id) {
-        return errandRepository.findById(id).map(this::convertToDTO);
+        return Optional.ofNullable(errandDetailCache.get(id,
+                key -> DataSourceRouting.onPrimary(() -> errandRepository.findById(key).map(this::convertToDTO).orElse(null))));
     }
 
     /**
-     * 카테고리별로 심부름을 페이징하여 조회합니다.
+     * 카테고리별로 취소되지 않은 심부름을 페이징하여 조회합니다.
      * @param categoryId 카테고리 ID
      * @param pageable 페이징 정보
      * @return 페이징된 심부름 DTO 목록
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<ErrandDTO> getErrandsByCategory(Long categoryId, Pageable pageable) {
-        int pageSize = pageable.getPageSize();
-        int currentPage = pageable.getPageNumber();
-        int startRow = currentPage * pageSize;
-        int endRow = (currentPage + 1) * pageSize;
+        return findUncancelledErrandPage(categoryId, pageable);
+    }
 
-        List<Errand> errands = errandRepository.findByCategoryWithPagination(categoryId, startRow, endRow);
-        long total = errandRepository.countErrandsByCategory(categoryId);
+    /**
+     * 필터를 적용하여 요청 상태인 심부름을 페이징하여 조회합니다.
+     * 읽기 모델이 활성화되어 있으면 데이터베이스를 조회하지 않고 메모리에서 처리합니다.
+     * 그렇지 않으면 조회 결과를 필터 조회 캐시에 보관하며, 심부름이 변경되면 해당 카테고리의 항목이 커밋 후 제거됩니다.
+     * 캐시에 넣을 값은 기본 데이터베이스에서 읽습니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 페이징된 심부름 DTO 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<ErrandDTO> getFilteredErrands(String location, Long categoryId, String sortBy, Pageable pageable) {
+        ErrandSort sort = ErrandSort.from(sortBy);
+        if (errandReadModel.isServing()) {
+            return errandReadModel.findPage(location, categoryId, sort, pageable);
+        }
+        return errandFilterCache.get(location, categoryId, sort, pageable,
+                () -> DataSourceRouting.onPrimary(() -> findErrandPage(location, categoryId, sort, pageable)));
+    }
 
-        List<ErrandDTO> errandDTOs = errands.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * 요청 상태인 모든 심부름을 전체 개수 계산 없이 슬라이스로 조회합니다.
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 심부름 DTO 슬라이스
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Slice<ErrandDTO> getAllErrandsSlice(Pageable pageable) {
+        return findErrandSlice(null, null, ErrandSort.DEFAULT, pageable);
+    }
 
-        return new PageImpl<>(errandDTOs, pageable, total);
+    /**
+     * 카테고리별로 요청 상태인 심부름을 전체 개수 계산 없이 슬라이스로 조회합니다.
+     * @param categoryId 카테고리 ID
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 심부름 DTO 슬라이스
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Slice<ErrandDTO> getErrandsByCategorySlice(Long categoryId, Pageable pageable) {
+        return findErrandSlice(null, categoryId, ErrandSort.DEFAULT, pageable);
     }
 
     /**
-     * 필터를 적용하여 심부름을 페이징하여 조회합니다.
+     * 필터를 적용하여 요청 상태인 심부름을 전체 개수 계산 없이 슬라이스로 조회합니다.
      * @param location 위치
      * @param categoryId 카테고리 ID
      * @param sortBy 정렬 기준
      * @param pageable 페이징 정보
-     * @return 페이징된 심부름 DTO 목록
+     * @return 다음 페이지 존재 여부를 포함한 심부름 DTO 슬라이스
      */
-    public Page<ErrandDTO> getFilteredErrands(String location, Long categoryId, String sortBy, Pageable pageable) {
-        int pageSize = pageable.getPageSize();
-        int currentPage = pageable.getPageNumber();
-        int startRow = currentPage * pageSize;
-        int endRow = (currentPage + 1) * pageSize;
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Slice<ErrandDTO> getFilteredErrandsSlice(String location, Long categoryId, String sortBy, Pageable pageable) {
+        return findErrandSlice(location, categoryId, ErrandSort.from(sortBy), pageable);
+    }
 
-        List<Errand> errands = errandRepository.findErrandsByFilters(location, categoryId, sortBy, startRow, endRow);
-        long total = errandRepository.countErrandsByFilters(location, categoryId);
+    /**
+     * 커서 기반으로 요청 상태인 심부름을 조회합니다.
+     * 이전 페이지의 마지막 항목 이후부터 조회하므로 페이지가 깊어져도 조회 비용이 일정합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param after 이전 페이지에서 받은 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 커서 기반 심부름 DTO 목록
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ErrandDTO> getErrandsAfter(String location, Long categoryId, String sortBy, String after, int size) {
+        if (size <= 0) {
+            throw new BadRequestException("Page size must be greater than zero.");
+        }
+        ErrandSort sort = ErrandSort.from(sortBy);
+        ErrandCursor cursor = decodeCursor(after, sort);
 
-        List<ErrandDTO> errandDTOs = errands.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        List<Errand> errands = errandRepository.findErrandsAfter(location, categoryId, sort, cursor, size + 1);
+        boolean hasNext = errands.size() > size;
+        if (hasNext) {
+            errands = errands.subList(0, size);
+        }
+
+        CursorPageDTO<ErrandDTO> result = new CursorPageDTO<>();
+        result.setContent(convertToDTOs(errands));
+        result.setSize(size);
+        result.setHasNext(hasNext);
+        if (hasNext) {
+            result.setNextCursor(ErrandCursor.after(sort, errands.get(errands.size() - 1)).encode());
+        }
+        return result;
+    }
 
-        return new PageImpl<>(errandDTOs, pageable, total);
+    /**
+     * 요청 상태인 모든 심부름을 조회합니다. 읽기 모델의 전체 재구성에 사용됩니다.
+     * @return 요청 상태인 심부름 DTO 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ErrandDTO> getOpenErrands() {
+        List<Errand> errands = errandRepository.findByStatus(Errand.ErrandStatus.REQUESTED);
+        List<ErrandDTO> errandDTOs = new ArrayList<>(errands.size());
+        for (int from = 0; from < errands.size(); from += IMAGE_BATCH_SIZE) {
+            errandDTOs.addAll(convertToDTOs(errands.subList(from, Math.min(from + IMAGE_BATCH_SIZE, errands.size()))));
+        }
+        return errandDTOs;
     }
 
     /**
      * 새로운 심부름을 생성합니다.
+     * 생성 일시는 INSERT 시점에 채워지므로, 읽기 모델이 받는 DTO에 생성 일시가 포함되도록 저장 직후 flush합니다.
      * @param errandDTO 심부름 DTO
      * @return 생성된 심부름 DTO
      */
     public ErrandDTO createErrand(ErrandDTO errandDTO) {
         Errand errand = convertToEntity(errandDTO);
-        return convertToDTO(errandRepository.save(errand));
+        return publish(ErrandChangedEvent.Type.CREATED, convertToDTO(errandRepository.saveAndFlush(errand)), null);
     }
 
     /**
@@ -134,8 +254,9 @@ public class ErrandService {
     public ErrandDTO updateErrand(Long id, ErrandDTO errandDTO) {
         Errand errand = errandRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Errand not found with id: " + id));
+        Long previousCategoryId = categoryIdOf(errand);
         updateErrandFromDTO(errand, errandDTO);
-        return convertToDTO(errandRepository.save(errand));
+        return publish(ErrandChangedEvent.Type.UPDATED, convertToDTO(errandRepository.save(errand)), previousCategoryId);
     }
 
     /**
@@ -143,28 +264,180 @@ public class ErrandService {
      * @param id 삭제할 심부름 ID
      */
     public void deleteErrand(Long id) {
-        errandRepository.deleteById(id);
+        errandRepository.findById(id).ifPresent(errand -> {
+            errandRepository.delete(errand);
+            eventPublisher.publishEvent(new ErrandChangedEvent(ErrandChangedEvent.Type.DELETED, id, null, categoryIdOf(errand)));
+        });
     }
 
     /**
      * 심부름을 수락합니다.
+     * 조건부 UPDATE 문 하나로 상태를 변경하므로 여러 수행자가 동시에 수락해도 한 명만 성공합니다.
      * @param id 심부름 ID
      * @param errandDTO 심부름 DTO
      * @return 수정된 심부름 DTO
+     * @throws ConflictException 이미 다른 수행자가 수락한 경우
      */
     public ErrandDTO acceptErrand(Long id, ErrandDTO errandDTO) {
+        int updated = errandRepository.acceptIfRequested(id, errandDTO.getRunnerSeq(), errandDTO.getRunnerNickname(),
+                LocalDateTime.now());
+        if (updated == 0) {
+            if (!errandRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Errand not found with id: " + id);
+            }
+            throw new ConflictException("This errand has already been taken.");
+        }
+
         Errand errand = errandRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Errand not found with id: " + id));
+        return publish(ErrandChangedEvent.Type.ACCEPTED, convertToDTO(errand), categoryIdOf(errand));
+    }
 
-        if (errand.getStatus() != Errand.ErrandStatus.REQUESTED) {
-            throw new BadRequestException("This errand is not available for acceptance.");
-        }
+    /**
+     * 심부름 변경 이벤트를 발행합니다.
+     * 이벤트는 트랜잭션이 커밋된 뒤에 읽기 모델 등에 반영됩니다.
+     * @param type 변경 유형
+     * @param errandDTO 변경 후 심부름 DTO
+     * @param previousCategoryId 변경 전 카테고리 ID
+     * @return 전달받은 심부름 DTO
+     */
+    private ErrandDTO publish(ErrandChangedEvent.Type type, ErrandDTO errandDTO, Long previousCategoryId) {
+        eventPublisher.publishEvent(new ErrandChangedEvent(type, errandDTO.getErrandSeq(), errandDTO, previousCategoryId));
+        return errandDTO;
+    }
+
+    /**
+     * 심부름의 카테고리 ID를 반환합니다.
+     * @param errand 심부름 엔티티
+     * @return 카테고리 ID (없으면 null)
+     */
+    private static Long categoryIdOf(Errand errand) {
+        return errand.getCategory() != null ? errand.getCategory().getCategoryId() : null;
+    }
+
+    /**
+     * 필터와 정렬 기준에 맞는 심부름 페이지를 조회합니다.
+     * 페이지와 전체 심부름 수를 한 번의 쿼리로 함께 조회합니다.
+     * 같은 조건의 조회가 이미 실행 중이면 데이터베이스를 다시 조회하지 않고 그 결과를 함께 사용합니다.
+     * 기다리는 호출이 데이터베이스 연결을 붙잡지 않도록 호출하는 쪽은 트랜잭션 밖에서 실행하고,
+     * 실제로 조회하는 호출만 읽기 전용 트랜잭션을 엽니다. 따라서 합쳐지는 호출 수는 연결 풀 크기에 묶이지 않습니다.
+     * 복제본에서 읽은 결과와 기본 데이터베이스에서 읽은 결과는 서로 공유하지 않습니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 페이징된 심부름 DTO 목록
+     */
+    private Page<ErrandDTO> findErrandPage(String location, Long categoryId, ErrandSort sort, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        int currentPage = pageable.getPageNumber();
+        int startRow = currentPage * pageSize;
+        int endRow = (currentPage + 1) * pageSize;
+
+        PagedResult<ErrandDTO> result = errandListingFlight.execute(
+                Arrays.asList("page", location, categoryId, sort, startRow, endRow, DataSourceRouting.isPrimaryRequired()),
+                () -> readOnlyTransaction.execute(status -> {
+                    PagedResult<Errand> errands = errandRepository.findErrandPageByFilters(location, categoryId, sort, startRow, endRow);
+                    return new PagedResult<>(convertToDTOs(errands.getContent()), errands.getTotal());
+                }));
+
+        return new PageImpl<>(result.getContent(), pageable, result.getTotal());
+    }
+
+    /**
+     * 취소되지 않은 심부름 페이지를 고유 번호 순서로 조회합니다.
+     * 필터 조회와 같은 방식으로 같은 조건의 조회를 합치고, 실제로 조회하는 호출만 읽기 전용 트랜잭션을 엽니다.
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param pageable 페이징 정보
+     * @return 페이징된 심부름 DTO 목록
+     */
+    private Page<ErrandDTO> findUncancelledErrandPage(Long categoryId, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        int startRow = pageable.getPageNumber() * pageSize;
+        int endRow = startRow + pageSize;
 
-        errand.setStatus(Errand.ErrandStatus.IN_PROGRESS);
-        errand.setRunnerSeq(errandDTO.getRunnerSeq());
-        errand.setRunnerNickname(errandDTO.getRunnerNickname());
+        PagedResult<ErrandDTO> result = errandListingFlight.execute(
+                Arrays.asList("uncancelled", categoryId, startRow, endRow, DataSourceRouting.isPrimaryRequired()),
+                () -> readOnlyTransaction.execute(status -> {
+                    PagedResult<Errand> errands = errandRepository.findUncancelledErrandPage(categoryId, startRow, endRow);
+                    return new PagedResult<>(convertToDTOs(errands.getContent()), errands.getTotal());
+                }));
 
-        return convertToDTO(errandRepository.save(errand));
+        return new PageImpl<>(result.getContent(), pageable, result.getTotal());
+    }
+
+    /**
+     * 필터와 정렬 기준에 맞는 심부름 슬라이스를 조회합니다.
+     * 페이지 크기보다 한 행을 더 조회하여 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 필요하지 않습니다.
+     * 같은 조건의 조회가 이미 실행 중이면 데이터베이스를 다시 조회하지 않고 그 결과를 함께 사용합니다.
+     * 페이지 조회와 마찬가지로 실제로 조회하는 호출만 읽기 전용 트랜잭션을 엽니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 심부름 DTO 슬라이스
+     */
+    private Slice<ErrandDTO> findErrandSlice(String location, Long categoryId, ErrandSort sort, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        int startRow = pageable.getPageNumber() * pageSize;
+        int endRow = startRow + pageSize + 1;
+
+        Slice<ErrandDTO> slice = errandListingFlight.execute(
+                Arrays.asList("slice", location, categoryId, sort, startRow, endRow, DataSourceRouting.isPrimaryRequired()),
+                () -> readOnlyTransaction.execute(status -> {
+                    List<Errand> errands = errandRepository.findErrandsByFilters(location, categoryId, sort, startRow, endRow);
+                    boolean hasNext = errands.size() > pageSize;
+                    if (hasNext) {
+                        errands = errands.subList(0, pageSize);
+                    }
+                    return new SliceImpl<>(convertToDTOs(errands), pageable, hasNext);
+                }));
+
+        return new SliceImpl<>(slice.getContent(), pageable, slice.hasNext());
+    }
+
+    /**
+     * 커서 토큰을 해석합니다.
+     * @param after 커서 토큰
+     * @param sort 요청한 정렬 기준
+     * @return 커서 (토큰이 없으면 null)
+     */
+    private ErrandCursor decodeCursor(String after, ErrandSort sort) {
+        if (after == null || after.isEmpty()) {
+            return null;
+        }
+        ErrandCursor cursor;
+        try {
+            cursor = ErrandCursor.decode(after);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + after, e);
+        }
+        if (cursor.getSort() != sort) {
+            throw new BadRequestException("The cursor was issued for a different sort order.");
+        }
+        return cursor;
+    }
+
+    /**
+     * 심부름 엔티티 목록을 DTO 목록으로 변환합니다.
+     * 목록에 포함된 모든 심부름의 이미지 경로를 단일 쿼리로 조회하므로 쿼리 수가 페이지 크기와 무관합니다.
+     * @param errands 심부름 엔티티 목록
+     * @return 심부름 DTO 목록
+     */
+    private List<ErrandDTO> convertToDTOs(List<Errand> errands) {
+        List<Long> ids = errands.stream()
+                .map(Errand::getErrandSeq)
+                .collect(Collectors.toList());
+        Map<Long, List<ImageRepository.OwnerImagePath>> images =
+                imageRepository.findImagePathsByErrand(ids, imageVariantService.getThumbnailWidth());
+        return errands.stream()
+                .map(errand -> {
+                    List<ImageRepository.OwnerImagePath> paths = images.getOrDefault(errand.getErrandSeq(), Collections.emptyList());
+                    return convertToDTO(errand,
+                            paths.stream().map(ImageRepository.OwnerImagePath::getFilePath).collect(Collectors.toList()),
+                            paths.stream().map(ImageRepository.OwnerImagePath::getThumbnailOrOriginalPath).collect(Collectors.toList()));
+                })
+                .collect(Collectors.toList());
     }
 
     /**
@@ -173,6 +446,19 @@ public class ErrandService {
      * @return 심부름 DTO
      */
     private ErrandDTO convertToDTO(Errand errand) {
+        return convertToDTO(errand,
+                errand.getImages().stream().map(Image::getFilePath).collect(Collectors.toList()),
+                errand.getImages().stream().map(imageVariantService::thumbnailPathOf).collect(Collectors.toList()));
+    }
+
+    /**
+     * 심부름 엔티티와 미리 조회한 이미지 경로로 DTO를 생성합니다.
+     * @param errand 심부름 엔티티
+     * @param imagePaths 이미지 경로 목록
+     * @param thumbnailPaths 목록용 축소 이미지 경로 목록
+     * @return 심부름 DTO
+     */
+    private ErrandDTO convertToDTO(Errand errand, List<String> imagePaths, List<String> thumbnailPaths) {
         ErrandDTO dto = new ErrandDTO();
         dto.setErrandSeq(errand.getErrandSeq());
         dto.setTitle(errand.getTitle());
@@ -189,6 +475,8 @@ public class ErrandService {
         dto.setDeadline(errand.getDeadline());
         dto.setRequesterNickname(errand.getRequesterNickname());
         dto.setRunnerNickname(errand.getRunnerNickname());
+        dto.setImagePaths(imagePaths);
+        dto.setThumbnailPaths(thumbnailPaths);
         return dto;
     }
 
@@ -227,7 +515,7 @@ public class ErrandService {
         }
 
         if (dto.getCategoryId() != null) {
-            Category category = categoryRepository.findById(dto.getCategoryId())
+            Category category = categoryService.findCategoryReference(dto.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + dto.getCategoryId()));
             errand.setCategory(category);
         }
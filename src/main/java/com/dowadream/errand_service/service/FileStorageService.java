@@ -1,33 +1,95 @@
 package com.dowadream.errand_service.service;
 
+import com.dowadream.errand_service.datasource.DataSourceRouting;
+import com.dowadream.errand_service.entity.Image;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.storage.BlobRegion;
+import com.dowadream.errand_service.storage.BlobStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
 
 /**
  * 파일 저장 관련 기능을 처리하는 서비스 클래스
+ * 파일은 내용의 SHA-256 해시를 이름으로 하여 {@link BlobStore}에 저장하고, 이미지 행에는 해시 앞 네 글자로 나눈
+ * 경로(예: ab/cd/abcd...)를 기록합니다. 이 경로는 저장소 종류와 관계없이 같으며 이미지 제공 주소로도 사용됩니다.
+ * 같은 내용의 파일은 한 번만 저장되며, 파일을 참조하는 이미지 행이 모두 없어지면 삭제됩니다.
+ * 같은 해시에 대한 저장(또는 기존 파일의 수정 시각 갱신)과 삭제 전 확인은 해시별 잠금으로 직렬화되므로,
+ * 삭제 여부를 확인한 뒤 삭제하기 전에 같은 내용이 다시 저장되어 새 이미지 행이 없는 파일을 가리키는 일이 없습니다.
  */
+@Slf4j
 @Service
 public class FileStorageService {
 
+    private static final String TEMP_DIRECTORY = ".tmp";
+
+    /**
+     * 해시별 잠금의 수 (해시를 나누어 같은 잠금을 공유)
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * 저장된 파일 이름 형식 (해시 또는 해시_접미사)
+     */
+    private static final Pattern STORED_NAME = Pattern.compile("[0-9a-f]{64}(_[A-Za-z0-9][A-Za-z0-9.]*)?");
+
     private final Path fileStorageLocation;
+    private final Path tempLocation;
+    private final ImageRepository imageRepository;
+    private final BlobStore blobStore;
+    private final Duration releaseGrace;
+    private final Lock[] hashLocks = new Lock[LOCK_STRIPES];
 
     /**
      * FileStorageService 생성자
      * @param uploadDir 파일 업로드 디렉토리 경로
+     * @param imageRepository 이미지 리포지토리
+     * @param blobStore 파일 내용 저장소
+     * @param releaseGraceSeconds 최근에 저장된 파일을 삭제 대상에서 제외하는 시간 (초)
      */
-    public FileStorageService(@Value("${file.upload-dir}") String uploadDir) {
+    @Autowired
+    public FileStorageService(@Value("${file.upload-dir}") String uploadDir,
+                              ImageRepository imageRepository,
+                              BlobStore blobStore,
+                              @Value("${file.storage.release-grace-seconds:600}") long releaseGraceSeconds) {
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.tempLocation = fileStorageLocation.resolve(TEMP_DIRECTORY);
+        this.imageRepository = imageRepository;
+        this.blobStore = blobStore;
+        this.releaseGrace = Duration.ofSeconds(releaseGraceSeconds);
+        for (int i = 0; i < hashLocks.length; i++) {
+            hashLocks[i] = new ReentrantLock();
+        }
 
         try {
-            Files.createDirectories(this.fileStorageLocation);
+            Files.createDirectories(this.tempLocation);
         } catch (Exception ex) {
             throw new RuntimeException("Could not create the directory where the uploaded files will be stored.", ex);
         }
@@ -35,27 +97,301 @@ public class FileStorageService {
 
     /**
      * 파일을 저장합니다.
+     * 임시 파일에 기록하면서 해시를 계산한 뒤 저장소로 옮기므로 파일을 한 번만 읽습니다.
+     * 같은 내용의 파일이 이미 있으면 새로 저장하지 않으므로 같은 파일을 여러 번 저장해도 결과가 같습니다.
      * @param file 저장할 MultipartFile
-     * @return 저장된 파일명
+     * @return 저장된 파일 정보
      * @throws IOException 파일 저장 중 오류 발생 시
      */
-    public String storeFile(MultipartFile file) throws IOException {
-        String fileName = StringUtils.cleanPath(file.getOriginalFilename());
+    public StoredFile storeFile(MultipartFile file) throws IOException {
+        String fileName = cleanFileName(file);
+        Path tempFile = Files.createTempFile(tempLocation, "upload-", ".part");
 
         try {
-            if(fileName.contains("..")) {
-                throw new RuntimeException("Sorry! Filename contains invalid path sequence " + fileName);
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(tempFile)) {
+                size = in.transferTo(out);
             }
 
-            Path targetLocation = this.fileStorageLocation.resolve(fileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-            return fileName;
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            return put(contentHash, blobPath(contentHash), tempFile, size);
         } catch (IOException ex) {
             throw new IOException("Could not store file " + fileName + ". Please try again!", ex);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 원본 파일에서 파생된 파일(축소 이미지 등)을 원본 해시 옆에 저장합니다.
+     * 파생 파일의 이름은 원본 해시와 접미사로 정해지므로 같은 원본에 대해 여러 번 생성해도 결과가 같습니다.
+     * @param contentHash 원본 파일 내용의 해시
+     * @param suffix 파생 파일을 구분하는 접미사
+     * @param content 파생 파일 내용
+     * @return 저장된 파일 정보
+     * @throws IOException 파일 저장 중 오류 발생 시
+     */
+    public StoredFile storeDerived(String contentHash, String suffix, byte[] content) throws IOException {
+        Path targetLocation = derivedPath(contentHash, suffix);
+        Optional<BlobRegion> existing = blobStore.find(targetLocation.getFileName().toString());
+        if (existing.isPresent()) {
+            return new StoredFile(contentHash, targetLocation, existing.get().getLength(), false,
+                    existing.get().getLastModified());
+        }
+        Path tempFile = Files.createTempFile(tempLocation, "derived-", ".part");
+        try {
+            Files.write(tempFile, content);
+            return put(targetLocation.getFileName().toString(), targetLocation, tempFile, content.length);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 파생 파일의 저장 경로를 반환합니다.
+     * @param contentHash 원본 파일 내용의 해시
+     * @param suffix 파생 파일을 구분하는 접미사
+     * @return 저장 경로
+     */
+    public Path derivedPath(String contentHash, String suffix) {
+        return blobPath(contentHash).resolveSibling(contentHash + "_" + suffix);
+    }
+
+    /**
+     * 저장된 파일 이름(해시 또는 해시_접미사)에 해당하는 내용의 위치를 찾습니다.
+     * 이름 형식이 맞지 않으면 저장소 밖의 파일을 가리킬 수 없도록 빈 값을 반환합니다.
+     * @param name 저장된 파일 이름
+     * @return 내용의 위치 (없으면 빈 값)
+     * @throws IOException 조회 중 오류 발생 시
+     */
+    public Optional<BlobRegion> findStoredFile(String name) throws IOException {
+        if (name == null || !STORED_NAME.matcher(name).matches()) {
+            return Optional.empty();
+        }
+        return blobStore.find(name);
+    }
+
+    /**
+     * 이미지 행에 기록된 경로의 파일 내용을 읽는 입력 스트림을 엽니다.
+     * @param filePath 이미지 행에 기록된 파일 경로
+     * @return 입력 스트림 (사용 후 닫아야 함)
+     * @throws IOException 파일이 없거나 열지 못한 경우
+     */
+    public InputStream openStream(String filePath) throws IOException {
+        String name = Paths.get(filePath).getFileName().toString();
+        BlobRegion region = findStoredFile(name)
+                .orElseThrow(() -> new NoSuchFileException(filePath));
+        return region.openStream();
+    }
+
+    /**
+     * 저장된 파일 이름에서 원본 파일 내용의 해시를 추출합니다.
+     * @param name 저장된 파일 이름 (해시 또는 해시_접미사)
+     * @return 해시 (저장된 파일 이름 형식이 아니면 null)
+     */
+    public static String contentHashOf(String name) {
+        return name != null && STORED_NAME.matcher(name).matches() ? name.substring(0, 64) : null;
+    }
+
+    /**
+     * 업로드된 파일의 원래 이름을 정리합니다.
+     * @param file 업로드된 파일
+     * @return 정리된 파일 이름
+     */
+    public String cleanFileName(MultipartFile file) {
+        String fileName = StringUtils.cleanPath(file.getOriginalFilename() != null ? file.getOriginalFilename() : "");
+        if (fileName.contains("..")) {
+            throw new RuntimeException("Sorry! Filename contains invalid path sequence " + fileName);
+        }
+        return fileName;
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 더 이상 참조되지 않는 이미지 파일을 삭제합니다.
+     * 트랜잭션 밖에서 호출되면 즉시 처리합니다.
+     * @param images 연결이 해제되었거나 삭제된 이미지 엔티티 목록
+     */
+    public void releaseAfterCommit(Collection<Image> images) {
+        List<String> released = new ArrayList<>();
+        for (Image image : images) {
+            if (image.getContentHash() != null) {
+                released.add(image.getContentHash());
+            }
+        }
+        if (released.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            released.forEach(this::release);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                released.forEach(FileStorageService.this::release);
+            }
+        });
+    }
+
+    /**
+     * 저장했지만 이미지 행으로 기록되지 못한 파일을 삭제합니다. (트랜잭션 롤백 등)
+     * 이번 저장으로 새로 생성된 파일만 대상으로 하며, 그사이 같은 내용이 다시 저장되었거나
+     * 이미 참조하는 이미지가 있으면 남겨둡니다.
+     * @param storedFiles 저장된 파일 목록
+     */
+    public void discard(Collection<StoredFile> storedFiles) {
+        for (StoredFile storedFile : storedFiles) {
+            if (!storedFile.isCreated()) {
+                continue;
+            }
+            String name = storedFile.getPath().getFileName().toString();
+            Lock lock = lockFor(storedFile.getContentHash());
+            lock.lock();
+            try {
+                Optional<BlobRegion> region = blobStore.find(name);
+                if (region.isEmpty() || !region.get().getLastModified().equals(storedFile.getLastModified())
+                        || isReferenced(storedFile.getContentHash())) {
+                    continue;
+                }
+                if (blobStore.delete(name)) {
+                    log.debug("Discarded staged file {}", storedFile.getPath());
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Could not discard staged file {}", storedFile.getPath(), ex);
+            } finally {
+                lock.unlock();
+            }
         }
     }
 
+    /**
+     * 해시에 해당하는 파일을 참조하는 이미지가 있는지 확인합니다.
+     * 방금 커밋된 참조를 놓치지 않도록 복제본이 아닌 기본 데이터베이스에서 확인합니다.
+     * @param contentHash 파일 내용의 해시
+     * @return 참조하는 이미지가 있으면 true
+     */
+    private boolean isReferenced(String contentHash) {
+        return DataSourceRouting.onPrimary(() -> imageRepository.existsByContentHash(contentHash));
+    }
+
+    /**
+     * 해시에 해당하는 파일을 참조하는 이미지가 없으면 파일과 파생 파일을 삭제합니다.
+     * 같은 내용이 방금 다시 업로드되었을 수 있으므로 최근에 저장되거나 재사용된 파일은 남겨둡니다.
+     * @param contentHash 파일 내용의 해시
+     */
+    private void release(String contentHash) {
+        Lock lock = lockFor(contentHash);
+        lock.lock();
+        try {
+            if (isReferenced(contentHash)) {
+                return;
+            }
+            Optional<BlobRegion> region = blobStore.find(contentHash);
+            if (region.isPresent()
+                    && region.get().getLastModified().toInstant().isAfter(Instant.now().minus(releaseGrace))) {
+                return;
+            }
+            for (String name : blobStore.list(contentHash)) {
+                if (blobStore.delete(name)) {
+                    log.debug("Deleted unreferenced file {}", name);
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not release file {}", contentHash, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장된 파일의 수정 시각이 기준 시각보다 이전이면 삭제합니다. (참조하지 않는 파일의 정리 작업용)
+     * 확인과 삭제 사이에 같은 내용이 다시 저장되면 수정 시각이 갱신되므로 남겨둡니다.
+     * @param name 저장된 파일 이름 (해시 또는 해시_접미사)
+     * @param cutoff 기준 시각
+     * @return 삭제한 파일의 크기 (삭제하지 않았으면 빈 값)
+     * @throws IOException 삭제 중 오류 발생 시
+     */
+    public OptionalLong deleteIfOlderThan(String name, Instant cutoff) throws IOException {
+        String contentHash = contentHashOf(name);
+        if (contentHash == null) {
+            return OptionalLong.empty();
+        }
+        Lock lock = lockFor(contentHash);
+        lock.lock();
+        try {
+            Optional<BlobRegion> region = blobStore.find(name);
+            if (region.isPresent() && region.get().getLastModified().toInstant().isBefore(cutoff) && blobStore.delete(name)) {
+                return OptionalLong.of(region.get().getLength());
+            }
+            return OptionalLong.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 해시에 해당하는 잠금을 반환합니다.
+     * 데이터베이스 확인 중에도 잠금을 유지하므로, 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 Lock을 사용합니다.
+     * @param contentHash 파일 내용의 해시
+     * @return 잠금
+     */
+    private Lock lockFor(String contentHash) {
+        return hashLocks[Math.floorMod(contentHash.hashCode(), hashLocks.length)];
+    }
+
+    /**
+     * 이미지 행에 기록할 해시 경로를 반환합니다.
+     * @param contentHash 파일 내용의 해시
+     * @return 해시 경로
+     */
+    private Path blobPath(String contentHash) {
+        return fileStorageLocation
+                .resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+
+    /**
+     * 임시 파일을 저장소에 저장하고 저장된 파일 정보를 반환합니다.
+     * @param name 저장할 이름
+     * @param location 이미지 행에 기록할 해시 경로
+     * @param tempFile 내용이 기록된 임시 파일
+     * @param size 파일 크기
+     * @return 저장된 파일 정보
+     * @throws IOException 저장 중 오류 발생 시
+     */
+    private StoredFile put(String name, Path location, Path tempFile, long size) throws IOException {
+        String contentHash = contentHashOf(name);
+        Lock lock = lockFor(contentHash);
+        lock.lock();
+        try {
+            boolean created = blobStore.put(name, tempFile);
+            BlobRegion region = blobStore.find(name)
+                    .orElseThrow(() -> new NoSuchFileException(location.toString()));
+            return new StoredFile(contentHash, location, size, created, region.getLastModified());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * 임시 파일 저장 위치를 반환합니다.
+     * @return 임시 파일 저장 위치 경로
+     */
+    public Path getTempLocation() {
+        return tempLocation;
+    }
+
     /**
      * 파일 저장 위치를 반환합니다.
      * @return 파일 저장 위치 경로
@@ -63,4 +399,4 @@ public class FileStorageService {
     public Path getFileStorageLocation() {
         return fileStorageLocation;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.exception.BadRequestException;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 업로드와 제공을 허용하는 이미지 형식(PNG, JPEG, GIF, WebP)을 판별하는 클래스
+ * 클라이언트가 보낸 Content-Type이나 파일 이름은 믿지 않고 내용 앞부분의 시그니처로 판단합니다.
+ * 허용된 형식이 아닌 파일(HTML, SVG 등)을 이미지 주소에서 그대로 제공하면 같은 출처에서 스크립트가 실행될 수 있으므로,
+ * 업로드할 때 거부하고 제공할 때는 다운로드로만 응답합니다.
+ */
+public final class ImageContentType {
+
+    /**
+     * 형식을 판별하는 데 필요한 내용 앞부분의 길이
+     */
+    public static final int HEADER_LENGTH = 12;
+
+    public static final MediaType IMAGE_WEBP = MediaType.parseMediaType("image/webp");
+
+    private static final Set<MediaType> ALLOWED =
+            Set.of(MediaType.IMAGE_PNG, MediaType.IMAGE_JPEG, MediaType.IMAGE_GIF, IMAGE_WEBP);
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xff, (byte) 0xd8, (byte) 0xff};
+
+    private ImageContentType() {
+    }
+
+    /**
+     * 내용 앞부분의 시그니처로 이미지 형식을 판별합니다.
+     * @param header 내용 앞부분 ({@link #HEADER_LENGTH} 바이트 이상이면 충분)
+     * @return 미디어 타입 (허용된 이미지 형식이 아니면 빈 값)
+     */
+    public static Optional<MediaType> detect(byte[] header) {
+        if (startsWith(header, PNG_SIGNATURE)) {
+            return Optional.of(MediaType.IMAGE_PNG);
+        }
+        if (startsWith(header, JPEG_SIGNATURE)) {
+            return Optional.of(MediaType.IMAGE_JPEG);
+        }
+        if (header.length >= 6) {
+            String gif = new String(header, 0, 6, StandardCharsets.US_ASCII);
+            if (gif.equals("GIF87a") || gif.equals("GIF89a")) {
+                return Optional.of(MediaType.IMAGE_GIF);
+            }
+        }
+        if (header.length >= 12 && new String(header, 0, 4, StandardCharsets.US_ASCII).equals("RIFF")
+                && new String(header, 8, 4, StandardCharsets.US_ASCII).equals("WEBP")) {
+            return Optional.of(IMAGE_WEBP);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 파생 파일 이름의 확장자로 이미지 형식을 판별합니다.
+     * @param fileName 파일 이름
+     * @return 미디어 타입 (허용된 이미지 형식이 아니면 빈 값)
+     */
+    public static Optional<MediaType> fromFileName(String fileName) {
+        return MediaTypeFactory.getMediaType(fileName).filter(ALLOWED::contains);
+    }
+
+    /**
+     * 업로드된 파일이 허용된 이미지 형식인지 확인합니다.
+     * @param file 업로드된 파일
+     * @return 내용으로 판별한 미디어 타입
+     * @throws BadRequestException 허용된 이미지 형식이 아니거나 읽을 수 없는 경우
+     */
+    public static MediaType requireImage(MultipartFile file) {
+        byte[] header;
+        try (InputStream in = file.getInputStream()) {
+            header = in.readNBytes(HEADER_LENGTH);
+        } catch (IOException e) {
+            throw new BadRequestException("이미지 파일을 읽을 수 없습니다: " + file.getOriginalFilename(), e);
+        }
+        return detect(header).orElseThrow(() -> new BadRequestException(
+                "PNG, JPEG, GIF, WebP 이미지만 업로드할 수 있습니다: " + file.getOriginalFilename()));
+    }
+
+    private static boolean startsWith(byte[] header, byte[] signature) {
+        return header.length >= signature.length
+                && Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+}
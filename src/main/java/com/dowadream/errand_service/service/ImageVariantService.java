@@ -0,0 +1,270 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.entity.Image;
+import com.dowadream.errand_service.entity.ImageVariant;
+import com.dowadream.errand_service.entity.ServiceOffering;
+import com.dowadream.errand_service.event.CategoryChangedEvent;
+import com.dowadream.errand_service.event.ImageUploadedEvent;
+import com.dowadream.errand_service.event.ServiceOfferingChangedEvent;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.repository.ImageVariantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 업로드된 이미지의 축소 변형을 생성하는 서비스 클래스
+ * 업로드 트랜잭션이 커밋된 뒤 별도의 제한된 스레드 풀에서 처리하므로 업로드 요청은 변형 생성을 기다리지 않습니다.
+ * 변형이 아직 없으면 목록 조회에서는 원본 경로를 대신 반환합니다.
+ * 업로드된 파일은 신뢰할 수 없으므로 먼저 헤더에서 크기만 읽고, 픽셀 수가 {@code image.variants.max-pixels}를 넘으면
+ * 디코딩하지 않습니다. 가장 큰 변형보다 충분히 큰 원본은 건너뛰며 읽어(subsampling) 디코딩에 쓰는 메모리를 줄입니다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final FileStorageService fileStorageService;
+    private final ImageRepository imageRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor imageProcessingExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int[] widths;
+    private final int thumbnailWidth;
+    private final long maxPixels;
+
+    /**
+     * ImageVariantService 생성자
+     * @param fileStorageService 파일 저장 서비스
+     * @param imageRepository 이미지 리포지토리
+     * @param imageVariantRepository 이미지 변형 리포지토리
+     * @param transactionTemplate 트랜잭션 템플릿
+     * @param imageProcessingExecutor 이미지 처리용 스레드 풀
+     * @param eventPublisher 이벤트 발행기
+     * @param widths 생성할 변형의 너비 목록
+     * @param thumbnailWidth 목록 조회에서 반환할 변형의 너비
+     * @param maxPixels 변형을 생성할 원본의 최대 픽셀 수 (너비 x 높이)
+     */
+    @Autowired
+    public ImageVariantService(FileStorageService fileStorageService,
+                               ImageRepository imageRepository,
+                               ImageVariantRepository imageVariantRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("imageProcessingExecutor") TaskExecutor imageProcessingExecutor,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${image.variants.widths:120,320,640,1280}") int[] widths,
+                               @Value("${image.variants.thumbnail-width:320}") int thumbnailWidth,
+                               @Value("${image.variants.max-pixels:50000000}") long maxPixels) {
+        this.fileStorageService = fileStorageService;
+        this.imageRepository = imageRepository;
+        this.imageVariantRepository = imageVariantRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.eventPublisher = eventPublisher;
+        this.widths = Arrays.stream(widths).sorted().distinct().toArray();
+        this.thumbnailWidth = thumbnailWidth;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 목록 조회에서 반환할 변형의 너비를 반환합니다.
+     * @return 너비 (픽셀)
+     */
+    public int getThumbnailWidth() {
+        return thumbnailWidth;
+    }
+
+    /**
+     * 이미지의 목록용 변형 경로를 반환합니다.
+     * @param image 이미지 엔티티
+     * @return 목록용 변형 경로 (변형이 없으면 원본 경로)
+     */
+    public String thumbnailPathOf(Image image) {
+        return image.getVariants().stream()
+                .filter(variant -> variant.getWidth() == thumbnailWidth)
+                .map(ImageVariant::getFilePath)
+                .findFirst()
+                .orElse(image.getFilePath());
+    }
+
+    /**
+     * 커밋된 이미지 업로드에 대해 변형 생성 작업을 스레드 풀에 등록합니다.
+     * 스레드 풀이 가득 차면 변형 없이 원본을 사용하도록 작업을 건너뜁니다.
+     * @param event 이미지 업로드 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageUploaded(ImageUploadedEvent event) {
+        Image image = event.getImage();
+        Long imageId = image.getImageId();
+        String contentHash = image.getContentHash();
+        String original = image.getFilePath();
+        try {
+            imageProcessingExecutor.execute(() -> generateVariants(imageId, contentHash, original));
+        } catch (TaskRejectedException e) {
+            log.warn("Image processing queue is full, skipping variants for image {}", imageId);
+        }
+    }
+
+    /**
+     * 원본보다 작은 너비마다 축소 변형을 생성하고 저장합니다.
+     * 같은 내용의 원본에서 만든 변형 파일은 공유되므로 이미 있는 파일은 다시 만들지 않습니다.
+     * @param imageId 이미지 ID
+     * @param contentHash 원본 파일 내용의 해시
+     * @param original 원본 파일 경로
+     */
+    void generateVariants(Long imageId, String contentHash, String original) {
+        if (contentHash == null) {
+            return;
+        }
+        try {
+            Decoded source = decode(imageId, original);
+            if (source == null) {
+                return;
+            }
+            boolean alpha = source.image().getColorModel().hasAlpha();
+            String formatName = alpha ? "png" : "jpg";
+
+            List<ImageVariant> variants = new ArrayList<>();
+            for (int width : widths) {
+                if (width >= source.width()) {
+                    break;
+                }
+                int height = Math.max(1, (int) Math.round((double) source.height() * width / source.width()));
+                byte[] content = encode(resize(source.image(), width, height, alpha), formatName);
+                StoredFile stored = fileStorageService.storeDerived(contentHash, "w" + width + "." + formatName, content);
+
+                ImageVariant variant = new ImageVariant();
+                variant.setWidth(width);
+                variant.setHeight(height);
+                variant.setFilePath(stored.getPath().toString());
+                variant.setFileType(alpha ? "image/png" : "image/jpeg");
+                variant.setFileSize(stored.getSize());
+                variants.add(variant);
+            }
+            if (!variants.isEmpty()) {
+                saveVariants(imageId, variants);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not generate variants for image {}", imageId, e);
+        }
+    }
+
+    /**
+     * 원본의 크기를 헤더에서 먼저 읽고, 픽셀 수가 허용 범위 안이면 디코딩합니다.
+     * 원본 너비가 가장 큰 변형 너비의 두 배 이상이면 그 비율만큼 건너뛰며 읽으므로, 축소 품질은 유지하면서
+     * 원본 전체 크기의 픽셀 버퍼를 만들지 않습니다.
+     * @param imageId 이미지 ID (기록용)
+     * @param original 원본 파일 경로
+     * @return 디코딩한 이미지와 원본 크기 (이미지가 아니거나 허용 범위를 넘으면 null)
+     * @throws IOException 파일 읽기 중 오류 발생 시
+     */
+    private Decoded decode(Long imageId, String original) throws IOException {
+        try (InputStream in = fileStorageService.openStream(original);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("Image {} is {}x{} pixels, over the limit of {}; skipping variants", imageId, width, height, maxPixels);
+                    return null;
+                }
+                int largest = Arrays.stream(widths).filter(w -> w < width).max().orElse(0);
+                if (largest == 0) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / (largest * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return new Decoded(reader.read(0, param), width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 디코딩한 이미지와 원본 크기 (건너뛰며 읽으면 이미지는 원본보다 작음)
+     */
+    private record Decoded(BufferedImage image, int width, int height) {
+    }
+
+    /**
+     * 아직 기록되지 않은 변형을 이미지에 연결하여 저장합니다.
+     * 그사이 이미지가 삭제되었으면 저장하지 않습니다.
+     * 카테고리 이미지이면 카테고리 스냅샷이, 서비스 제공 이미지이면 상세 조회 캐시가 축소 이미지 경로를 반영하도록 변경 이벤트를 발행합니다.
+     * @param imageId 이미지 ID
+     * @param variants 생성된 변형 목록
+     */
+    private void saveVariants(Long imageId, List<ImageVariant> variants) {
+        transactionTemplate.executeWithoutResult(status -> imageRepository.findById(imageId).ifPresent(image -> {
+            Set<Integer> existing = new HashSet<>(imageVariantRepository.findWidthsByImageId(imageId));
+            for (ImageVariant variant : variants) {
+                if (existing.add(variant.getWidth())) {
+                    variant.setImage(image);
+                    imageVariantRepository.save(variant);
+                }
+            }
+            if (image.getImageType() == Image.ImageType.CATEGORY) {
+                eventPublisher.publishEvent(new CategoryChangedEvent(null));
+            } else if (image.getImageType() == Image.ImageType.SERVICE_OFFERING && image.getServiceOffering() != null) {
+                ServiceOffering serviceOffering = image.getServiceOffering();
+                Long categoryId = serviceOffering.getCategory() != null ? serviceOffering.getCategory().getCategoryId() : null;
+                eventPublisher.publishEvent(new ServiceOfferingChangedEvent(serviceOffering.getId(),
+                        Collections.singletonList(categoryId)));
+            }
+        }));
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, String formatName) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, formatName, out)) {
+            throw new IOException("No image writer for " + formatName);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,122 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.datasource.DataSourceRouting;
+import com.dowadream.errand_service.event.ServiceOfferingChangedEvent;
+import com.dowadream.errand_service.repository.ServiceOfferingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 서비스 제공의 리뷰 평점 집계 값을 리뷰 테이블 기준으로 다시 계산하는 배치 서비스 클래스
+ * 평점 집계는 리뷰 변경 시 증분으로 갱신되므로, 이 배치는 누락이나 오차를 주기적으로 바로잡는 용도입니다.
+ * 집계 컬럼이 추가된 직후처럼 집계 값이 한 번도 계산되지 않은 상태이면 애플리케이션 시작 시 바로 재계산합니다.
+ */
+@Slf4j
+@Service
+public class RatingAggregateService {
+
+    private final ServiceOfferingRepository serviceOfferingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int parallelism;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * RatingAggregateService 생성자
+     * @param serviceOfferingRepository 서비스 제공 리포지토리
+     * @param transactionTemplate 트랜잭션 템플릿
+     * @param eventPublisher 이벤트 발행기
+     * @param chunkSize 한 트랜잭션에서 처리할 ID 범위 크기
+     * @param parallelism 동시에 처리할 구간 수
+     * @param virtualThreads 가상 스레드 사용 여부
+     */
+    @Autowired
+    public RatingAggregateService(ServiceOfferingRepository serviceOfferingRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${review.aggregate.chunk-size:1000}") int chunkSize,
+                                  @Value("${review.aggregate.parallelism:4}") int parallelism,
+                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.serviceOfferingRepository = serviceOfferingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.threadFactory = virtualThreads
+                ? new VirtualThreadTaskExecutor("rating-aggregate-").getVirtualThreadFactory()
+                : Executors.defaultThreadFactory();
+    }
+
+    /**
+     * 애플리케이션 시작 시 집계 값이 계산되지 않은 서비스 제공이 있으면 전체를 다시 계산합니다.
+     * 그렇지 않으면 기존 서비스 제공이 다음 정기 재계산까지 평점 0으로 표시되고 평점순 정렬에서 마지막에 놓입니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeverComputed() {
+        if (DataSourceRouting.onPrimary(serviceOfferingRepository::countUnaggregated) > 0) {
+            log.info("Found service offerings whose rating aggregates were never computed; rebuilding now");
+            rebuildAll();
+        }
+    }
+
+    /**
+     * 모든 서비스 제공의 평점 집계 값을 다시 계산합니다.
+     * ID 범위를 구간으로 나누어 각 구간을 별도의 트랜잭션에서 병렬로 처리합니다.
+     * 동시에 사용하는 데이터베이스 연결 수는 가상 스레드 모드에서도 parallelism으로 제한됩니다.
+     * 갱신된 행이 있으면 조회 캐시를 모두 비우도록 변경 이벤트를 발행합니다.
+     * @return 변경된 행 수
+     */
+    @Scheduled(cron = "${review.aggregate.rebuild-cron:0 0 4 * * *}")
+    public int rebuildAll() {
+        Long minId = serviceOfferingRepository.findMinId();
+        Long maxId = serviceOfferingRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+                long from = fromId;
+                long to = Math.min(fromId + chunkSize - 1, maxId);
+                results.add(executor.submit(() -> transactionTemplate.execute(
+                        status -> serviceOfferingRepository.rebuildRatingAggregates(from, to))));
+            }
+
+            int updated = 0;
+            for (Future<Integer> result : results) {
+                updated += result.get();
+            }
+            if (updated > 0) {
+                eventPublisher.publishEvent(new ServiceOfferingChangedEvent(null, null));
+            }
+            log.info("Rebuilt rating aggregates for {} service offerings in {} chunks", updated, results.size());
+            return updated;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rating aggregate rebuild was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Rating aggregate rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
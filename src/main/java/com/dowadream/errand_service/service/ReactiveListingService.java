@@ -0,0 +1,84 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ReviewDTO;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import com.dowadream.errand_service.repository.ErrandSort;
+import com.dowadream.errand_service.repository.ReactiveListingRepository;
+import com.dowadream.errand_service.repository.ServiceOfferingSort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * R2DBC 경로로 목록을 조회하는 서비스 클래스
+ * JPA 경로와 같은 필터, 정렬, 페이징 규칙을 사용하지만 전체 개수는 계산하지 않습니다.
+ */
+@Service
+@ConditionalOnProperty(name = "reactive-read.url")
+public class ReactiveListingService {
+
+    private final ReactiveListingRepository reactiveListingRepository;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * ReactiveListingService 생성자
+     * @param reactiveListingRepository R2DBC 목록 리포지토리
+     * @param imageVariantService 이미지 변형 서비스
+     */
+    @Autowired
+    public ReactiveListingService(ReactiveListingRepository reactiveListingRepository, ImageVariantService imageVariantService) {
+        this.reactiveListingRepository = reactiveListingRepository;
+        this.imageVariantService = imageVariantService;
+    }
+
+    /**
+     * 필터를 적용하여 요청 상태인 심부름 페이지를 조회합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 심부름 DTO 스트림
+     */
+    public Flux<ErrandDTO> getFilteredErrands(String location, Long categoryId, String sortBy, Pageable pageable) {
+        int startRow = pageable.getPageNumber() * pageable.getPageSize();
+        int endRow = (pageable.getPageNumber() + 1) * pageable.getPageSize();
+        return reactiveListingRepository.findErrandPage(location, categoryId, ErrandSort.from(sortBy), startRow, endRow,
+                imageVariantService.getThumbnailWidth());
+    }
+
+    /**
+     * 필터를 적용하여 서비스 제공 페이지를 조회합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 서비스 제공 DTO 스트림
+     */
+    public Flux<ServiceOfferingDTO> getFilteredServiceOfferings(String location, Long categoryId, String sortBy, Pageable pageable) {
+        int startRow = pageable.getPageNumber() * pageable.getPageSize();
+        int endRow = (pageable.getPageNumber() + 1) * pageable.getPageSize();
+        return reactiveListingRepository.findServiceOfferingPage(location, categoryId, ServiceOfferingSort.from(sortBy),
+                startRow, endRow, imageVariantService.getThumbnailWidth());
+    }
+
+    /**
+     * 심부름의 리뷰를 조회합니다.
+     * @param errandId 심부름 ID
+     * @return 리뷰 DTO 스트림
+     */
+    public Flux<ReviewDTO> getReviewsByErrandId(Long errandId) {
+        return reactiveListingRepository.findReviewsByErrandSeq(errandId);
+    }
+
+    /**
+     * 서비스 제공의 리뷰를 조회합니다.
+     * @param serviceOfferingId 서비스 제공 ID
+     * @return 리뷰 DTO 스트림
+     */
+    public Flux<ReviewDTO> getReviewsByServiceOfferingId(Long serviceOfferingId) {
+        return reactiveListingRepository.findReviewsByServiceOfferingId(serviceOfferingId);
+    }
+}
@@ -4,15 +4,18 @@ import com.dowadream.errand_service.dto.ReviewDTO;
 import com.dowadream.errand_service.entity.Errand;
 import com.dowadream.errand_service.entity.Review;
 import com.dowadream.errand_service.entity.ServiceOffering;
+import com.dowadream.errand_service.event.ServiceOfferingChangedEvent;
 import com.dowadream.errand_service.exception.BadRequestException;
 import com.dowadream.errand_service.exception.ResourceNotFoundException;
 import com.dowadream.errand_service.repository.ErrandRepository;
 import com.dowadream.errand_service.repository.ReviewRepository;
 import com.dowadream.errand_service.repository.ServiceOfferingRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,31 +25,48 @@ import java.util.stream.Collectors;
 @Service
 @Transactional
 public class ReviewService {
+
+    /**
+     * 허용되는 최소 평점
+     */
+    private static final int MIN_RATING = 1;
+
+    /**
+     * 허용되는 최대 평점
+     */
+    private static final int MAX_RATING = 5;
+
     private final ReviewRepository reviewRepository;
     private final ErrandRepository errandRepository;
     private final ServiceOfferingRepository serviceOfferingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * ReviewService 생성자
      * @param reviewRepository 리뷰 리포지토리
      * @param errandRepository 심부름 리포지토리
      * @param serviceOfferingRepository 서비스 제공 리포지토리
+     * @param eventPublisher 이벤트 발행기
      */
     @Autowired
     public ReviewService(ReviewRepository reviewRepository,
                          ErrandRepository errandRepository,
-                         ServiceOfferingRepository serviceOfferingRepository) {
+                         ServiceOfferingRepository serviceOfferingRepository,
+                         ApplicationEventPublisher eventPublisher) {
         this.reviewRepository = reviewRepository;
         this.errandRepository = errandRepository;
         this.serviceOfferingRepository = serviceOfferingRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * 새로운 리뷰를 생성합니다.
      * @param reviewDTO 리뷰 DTO
      * @return 생성된 리뷰 DTO
+     * @throws BadRequestException 평점이 없거나 허용 범위를 벗어난 경우
      */
     public ReviewDTO createReview(ReviewDTO reviewDTO) {
+        requireValidRating(reviewDTO.getRating());
         Review review = new Review();
         review.setReviewerId(reviewDTO.getReviewerId());
         review.setRating(reviewDTO.getRating());
@@ -65,6 +85,9 @@ public class ReviewService {
         }
 
         Review savedReview = reviewRepository.save(review);
+        if (savedReview.getServiceOffering() != null) {
+            applyRatingDelta(savedReview.getServiceOffering(), savedReview.getRating(), 1);
+        }
         return convertToDTO(savedReview);
     }
 
@@ -73,6 +96,7 @@ public class ReviewService {
      * @param errandId 심부름 ID
      * @return 리뷰 DTO 목록
      */
+    @Transactional(readOnly = true)
     public List<ReviewDTO> getReviewsByErrandId(Long errandId) {
         List<Review> reviews = reviewRepository.findByErrandErrandSeq(errandId);
         return reviews.stream()
@@ -85,6 +109,7 @@ public class ReviewService {
      * @param serviceOfferingId 서비스 제공 ID
      * @return 리뷰 DTO 목록
      */
+    @Transactional(readOnly = true)
     public List<ReviewDTO> getReviewsByServiceOfferingId(Long serviceOfferingId) {
         List<Review> reviews = reviewRepository.findByServiceOfferingId(serviceOfferingId);
         return reviews.stream()
@@ -97,6 +122,7 @@ public class ReviewService {
      * @param id 리뷰 ID
      * @return 리뷰 DTO
      */
+    @Transactional(readOnly = true)
     public ReviewDTO getReviewById(Long id) {
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("리뷰를 찾을 수 없습니다. ID: " + id));
@@ -108,15 +134,21 @@ public class ReviewService {
      * @param id 리뷰 ID
      * @param reviewDTO 업데이트할 리뷰 정보
      * @return 업데이트된 리뷰 DTO
+     * @throws BadRequestException 평점이 없거나 허용 범위를 벗어난 경우
      */
     public ReviewDTO updateReview(Long id, ReviewDTO reviewDTO) {
+        requireValidRating(reviewDTO.getRating());
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("리뷰를 찾을 수 없습니다. ID: " + id));
 
+        int previousRating = review.getRating();
         review.setRating(reviewDTO.getRating());
         review.setComments(reviewDTO.getComments());
 
         Review updatedReview = reviewRepository.save(review);
+        if (updatedReview.getServiceOffering() != null && updatedReview.getRating() != previousRating) {
+            applyRatingDelta(updatedReview.getServiceOffering(), updatedReview.getRating() - previousRating, 0);
+        }
         return convertToDTO(updatedReview);
     }
 
@@ -125,10 +157,36 @@ public class ReviewService {
      * @param id 삭제할 리뷰 ID
      */
     public void deleteReview(Long id) {
-        if (!reviewRepository.existsById(id)) {
-            throw new ResourceNotFoundException("리뷰를 찾을 수 없습니다. ID: " + id);
+        Review review = reviewRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("리뷰를 찾을 수 없습니다. ID: " + id));
+        if (review.getServiceOffering() != null) {
+            applyRatingDelta(review.getServiceOffering(), -review.getRating(), -1);
+        }
+        reviewRepository.delete(review);
+    }
+
+    /**
+     * 평점이 있고 허용 범위 안에 있는지 확인합니다.
+     * 평점 집계 값은 증분으로 갱신되므로, 엔티티를 변경하기 전에 확인하여 잘못된 값이 집계에 섞이지 않도록 합니다.
+     * @param rating 평점
+     * @throws BadRequestException 평점이 없거나 허용 범위를 벗어난 경우
+     */
+    private static void requireValidRating(Integer rating) {
+        if (rating == null || rating < MIN_RATING || rating > MAX_RATING) {
+            throw new BadRequestException("평점은 " + MIN_RATING + "에서 " + MAX_RATING + " 사이여야 합니다.");
         }
-        reviewRepository.deleteById(id);
+    }
+
+    /**
+     * 서비스 제공의 평점 집계 값을 갱신하고, 커밋 후 조회 캐시에서 제거되도록 변경 이벤트를 발행합니다.
+     * @param serviceOffering 서비스 제공 엔티티
+     * @param ratingDelta 평점 합계 변화량
+     * @param countDelta 리뷰 수 변화량
+     */
+    private void applyRatingDelta(ServiceOffering serviceOffering, int ratingDelta, int countDelta) {
+        serviceOfferingRepository.applyRatingDelta(serviceOffering.getId(), ratingDelta, countDelta);
+        Long categoryId = serviceOffering.getCategory() != null ? serviceOffering.getCategory().getCategoryId() : null;
+        eventPublisher.publishEvent(new ServiceOfferingChangedEvent(serviceOffering.getId(), Collections.singletonList(categoryId)));
     }
 
     /**
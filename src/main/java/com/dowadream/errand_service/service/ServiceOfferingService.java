@@ -1,25 +1,47 @@
 package com.dowadream.errand_service.service;
 
+import com.dowadream.errand_service.datasource.DataSourceRouting;
 import com.dowadream.errand_service.dto.ServiceOfferingDTO;
 import com.dowadream.errand_service.entity.Category;
 import com.dowadream.errand_service.entity.Image;
 import com.dowadream.errand_service.entity.ServiceOffering;
-import com.dowadream.errand_service.entity.Review;
+import com.dowadream.errand_service.event.ImageUploadedEvent;
+import com.dowadream.errand_service.event.ServiceOfferingChangedEvent;
 import com.dowadream.errand_service.exception.BadRequestException;
 import com.dowadream.errand_service.exception.ResourceNotFoundException;
-import com.dowadream.errand_service.repository.CategoryRepository;
+import com.dowadream.errand_service.readmodel.DetailCache;
+import com.dowadream.errand_service.readmodel.FilterResultCache;
+import com.dowadream.errand_service.readmodel.SingleFlight;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.repository.PagedResult;
 import com.dowadream.errand_service.repository.ServiceOfferingRepository;
+import com.dowadream.errand_service.repository.ServiceOfferingSort;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -29,22 +51,57 @@ import java.util.stream.Collectors;
 @Transactional
 public class ServiceOfferingService {
     private final ServiceOfferingRepository serviceOfferingRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final ImageRepository imageRepository;
     private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final DetailCache<ServiceOfferingDTO> serviceOfferingDetailCache;
+    private final FilterResultCache<ServiceOfferingDTO> serviceOfferingFilterCache;
+    private final SingleFlight serviceOfferingListingFlight;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TaskExecutor imageUploadExecutor;
 
     /**
      * ServiceOfferingService 생성자
      * @param serviceOfferingRepository 서비스 제공 리포지토리
-     * @param categoryRepository 카테고리 리포지토리
+     * @param categoryService 카테고리 서비스
+     * @param imageRepository 이미지 리포지토리
      * @param fileStorageService 파일 저장 서비스
+     * @param imageVariantService 이미지 변형 서비스
+     * @param serviceOfferingDetailCache 서비스 제공 상세 조회 캐시
+     * @param serviceOfferingFilterCache 서비스 제공 필터 조회 캐시
+     * @param serviceOfferingListingFlight 동시에 들어온 같은 목록 조회를 합치는 객체
+     * @param eventPublisher 이벤트 발행기
+     * @param transactionTemplate 트랜잭션 템플릿
+     * @param imageUploadExecutor 이미지 업로드용 스레드 풀
      */
     @Autowired
     public ServiceOfferingService(ServiceOfferingRepository serviceOfferingRepository,
-                                  CategoryRepository categoryRepository,
-                                  FileStorageService fileStorageService) {
+                                  CategoryService categoryService,
+                                  ImageRepository imageRepository,
+                                  FileStorageService fileStorageService,
+                                  ImageVariantService imageVariantService,
+                                  DetailCache<ServiceOfferingDTO> serviceOfferingDetailCache,
+                                  FilterResultCache<ServiceOfferingDTO> serviceOfferingFilterCache,
+                                  @Qualifier("serviceOfferingListingFlight") SingleFlight serviceOfferingListingFlight,
+                                  ApplicationEventPublisher eventPublisher,
+                                  TransactionTemplate transactionTemplate,
+                                  @Qualifier("imageUploadExecutor") TaskExecutor imageUploadExecutor) {
         this.serviceOfferingRepository = serviceOfferingRepository;
-        this.categoryRepository = categoryRepository;
+        this.categoryService = categoryService;
+        this.imageRepository = imageRepository;
         this.fileStorageService = fileStorageService;
+        this.imageVariantService = imageVariantService;
+        this.serviceOfferingDetailCache = serviceOfferingDetailCache;
+        this.serviceOfferingFilterCache = serviceOfferingFilterCache;
+        this.serviceOfferingListingFlight = serviceOfferingListingFlight;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.imageUploadExecutor = imageUploadExecutor;
     }
 
     /**
@@ -52,68 +109,73 @@ public class ServiceOfferingService {
      * @param pageable 페이징 정보
      * @return 페이징 처리된 서비스 제공 DTO 목록
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<ServiceOfferingDTO> getAllServiceOfferings(Pageable pageable) {
-        int pageSize = pageable.getPageSize();
-        int currentPage = pageable.getPageNumber();
-        int startRow = currentPage * pageSize;
-        int endRow = (currentPage + 1) * pageSize;
-
-        List<ServiceOffering> serviceOfferings = serviceOfferingRepository.findAllWithPagination(startRow, endRow);
-        long total = serviceOfferingRepository.countServiceOfferings();
-
-        List<ServiceOfferingDTO> dtoList = serviceOfferings.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(dtoList, pageable, total);
+        return findServiceOfferingPage(null, null, ServiceOfferingSort.DEFAULT, pageable);
     }
 
     /**
      * 새로운 서비스 제공을 생성합니다.
+     * 이미지는 트랜잭션을 시작하기 전에 병렬로 저장하므로 트랜잭션은 행 저장에만 데이터베이스 연결을 사용합니다.
      * @param dto 서비스 제공 DTO
      * @return 생성된 서비스 제공 DTO
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ServiceOfferingDTO createServiceOffering(ServiceOfferingDTO dto) {
+        List<MultipartFile> files = dto.getImages() != null ? dto.getImages() : Collections.emptyList();
+        List<StoredFile> storedFiles = stageImages(files);
         try {
-            ServiceOffering serviceOffering = new ServiceOffering();
-            updateServiceOfferingFromDTO(serviceOffering, dto);
-
-            if (dto.getImages() != null && !dto.getImages().isEmpty()) {
-                List<Image> images = uploadImages(dto.getImages());
-                images.forEach(serviceOffering::addImage);
-            }
-
-            ServiceOffering savedOffering = serviceOfferingRepository.save(serviceOffering);
-            return convertToDTO(savedOffering);
-        } catch (IOException e) {
-            throw new BadRequestException("이미지 처리 중 오류 발생: " + e.getMessage());
+            return transactionTemplate.execute(status -> {
+                ServiceOffering serviceOffering = new ServiceOffering();
+                updateServiceOfferingFromDTO(serviceOffering, dto);
+                createImages(files, storedFiles).forEach(serviceOffering::addImage);
+
+                ServiceOffering savedOffering = serviceOfferingRepository.save(serviceOffering);
+                eventPublisher.publishEvent(new ServiceOfferingChangedEvent(savedOffering.getId(),
+                        Collections.singletonList(categoryIdOf(savedOffering))));
+                return convertToDTO(savedOffering);
+            });
+        } catch (RuntimeException e) {
+            fileStorageService.discard(storedFiles);
+            throw e;
         }
     }
 
     /**
      * 서비스 제공을 업데이트합니다.
+     * 새 이미지는 트랜잭션을 시작하기 전에 병렬로 저장합니다.
      * @param id 서비스 제공 ID
      * @param dto 업데이트할 서비스 제공 정보
      * @return 업데이트된 서비스 제공 DTO
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ServiceOfferingDTO updateServiceOffering(Long id, ServiceOfferingDTO dto) {
-        ServiceOffering serviceOffering = serviceOfferingRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("서비스 제공을 찾을 수 없습니다. ID: " + id));
-
-        updateServiceOfferingFromDTO(serviceOffering, dto);
-
-        if (dto.getImages() != null && !dto.getImages().isEmpty()) {
-            try {
-                List<Image> newImages = uploadImages(dto.getImages());
-                serviceOffering.getImages().clear();
-                newImages.forEach(serviceOffering::addImage);
-            } catch (IOException e) {
-                throw new BadRequestException("이미지 처리 중 오류 발생: " + e.getMessage());
-            }
+        List<MultipartFile> files = dto.getImages() != null ? dto.getImages() : Collections.emptyList();
+        List<StoredFile> storedFiles = stageImages(files);
+        try {
+            return transactionTemplate.execute(status -> {
+                ServiceOffering serviceOffering = serviceOfferingRepository.findById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("서비스 제공을 찾을 수 없습니다. ID: " + id));
+
+                Long previousCategoryId = categoryIdOf(serviceOffering);
+                updateServiceOfferingFromDTO(serviceOffering, dto);
+
+                if (!files.isEmpty()) {
+                    List<Image> newImages = createImages(files, storedFiles);
+                    fileStorageService.releaseAfterCommit(new ArrayList<>(serviceOffering.getImages()));
+                    serviceOffering.getImages().clear();
+                    newImages.forEach(serviceOffering::addImage);
+                }
+
+                ServiceOffering updatedOffering = serviceOfferingRepository.save(serviceOffering);
+                eventPublisher.publishEvent(new ServiceOfferingChangedEvent(id,
+                        Arrays.asList(previousCategoryId, categoryIdOf(updatedOffering))));
+                return convertToDTO(updatedOffering);
+            });
+        } catch (RuntimeException e) {
+            fileStorageService.discard(storedFiles);
+            throw e;
         }
-
-        ServiceOffering updatedOffering = serviceOfferingRepository.save(serviceOffering);
-        return convertToDTO(updatedOffering);
     }
 
     /**
@@ -121,10 +183,11 @@ public class ServiceOfferingService {
      * @param id 삭제할 서비스 제공 ID
      */
     public void deleteServiceOffering(Long id) {
-        if (!serviceOfferingRepository.existsById(id)) {
-            throw new ResourceNotFoundException("서비스 제공을 찾을 수 없습니다. ID: " + id);
-        }
-        serviceOfferingRepository.deleteById(id);
+        ServiceOffering serviceOffering = serviceOfferingRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("서비스 제공을 찾을 수 없습니다. ID: " + id));
+        fileStorageService.releaseAfterCommit(new ArrayList<>(serviceOffering.getImages()));
+        serviceOfferingRepository.delete(serviceOffering);
+        eventPublisher.publishEvent(new ServiceOfferingChangedEvent(id, Collections.singletonList(categoryIdOf(serviceOffering))));
     }
 
     /**
@@ -133,20 +196,39 @@ public class ServiceOfferingService {
      * @param pageable 페이징 정보
      * @return 카테고리별 페이징 처리된 서비스 제공 DTO 목록
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<ServiceOfferingDTO> getServiceOfferingsByCategory(Long categoryId, Pageable pageable) {
+        return findServiceOfferingPage(null, categoryId, ServiceOfferingSort.DEFAULT, pageable);
+    }
+
+    /**
+     * 필터와 정렬 기준에 맞는 서비스 제공 페이지를 조회합니다.
+     * 페이지와 전체 서비스 제공 수를 한 번의 쿼리로 함께 조회합니다.
+     * 같은 조건의 조회가 이미 실행 중이면 데이터베이스를 다시 조회하지 않고 그 결과를 함께 사용합니다.
+     * 기다리는 호출이 데이터베이스 연결을 붙잡지 않도록 호출하는 쪽은 트랜잭션 밖에서 실행하고,
+     * 실제로 조회하는 호출만 읽기 전용 트랜잭션을 엽니다. 따라서 합쳐지는 호출 수는 연결 풀 크기에 묶이지 않습니다.
+     * 복제본에서 읽은 결과와 기본 데이터베이스에서 읽은 결과는 서로 공유하지 않습니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 페이징된 서비스 제공 DTO 목록
+     */
+    private Page<ServiceOfferingDTO> findServiceOfferingPage(String location, Long categoryId, ServiceOfferingSort sort, Pageable pageable) {
         int pageSize = pageable.getPageSize();
         int currentPage = pageable.getPageNumber();
         int startRow = currentPage * pageSize;
         int endRow = (currentPage + 1) * pageSize;
 
-        List<ServiceOffering> serviceOfferings = serviceOfferingRepository.findByCategoryWithPagination(categoryId, startRow, endRow);
-        long total = serviceOfferingRepository.countServiceOfferingsByCategory(categoryId);
+        PagedResult<ServiceOfferingDTO> result = serviceOfferingListingFlight.execute(
+                Arrays.asList("page", location, categoryId, sort, startRow, endRow, DataSourceRouting.isPrimaryRequired()),
+                () -> readOnlyTransaction.execute(status -> {
+                    PagedResult<ServiceOffering> serviceOfferings = serviceOfferingRepository.findServiceOfferingPageByFilters(
+                            location, categoryId, sort, startRow, endRow);
+                    return new PagedResult<>(convertToDTOs(serviceOfferings.getContent()), serviceOfferings.getTotal());
+                }));
 
-        List<ServiceOfferingDTO> dtoList = serviceOfferings.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(dtoList, pageable, total);
+        return new PageImpl<>(result.getContent(), pageable, result.getTotal());
     }
 
     /**
@@ -162,18 +244,62 @@ public class ServiceOfferingService {
         serviceOffering.setProviderId(dto.getProviderId());
 
         if (dto.getCategoryId() != null) {
-            Category category = categoryRepository.findById(dto.getCategoryId())
+            Category category = categoryService.findCategoryReference(dto.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다. ID: " + dto.getCategoryId()));
             serviceOffering.setCategory(category);
         }
     }
 
+    /**
+     * 서비스 제공의 카테고리 ID를 반환합니다.
+     * @param serviceOffering 서비스 제공 엔티티
+     * @return 카테고리 ID (없으면 null)
+     */
+    private static Long categoryIdOf(ServiceOffering serviceOffering) {
+        return serviceOffering.getCategory() != null ? serviceOffering.getCategory().getCategoryId() : null;
+    }
+
+    /**
+     * 서비스 제공 엔티티 목록을 DTO 목록으로 변환합니다.
+     * 목록에 포함된 모든 서비스 제공의 이미지 경로를 단일 쿼리로 조회하므로 쿼리 수가 페이지 크기와 무관합니다.
+     * @param serviceOfferings 서비스 제공 엔티티 목록
+     * @return 서비스 제공 DTO 목록
+     */
+    private List<ServiceOfferingDTO> convertToDTOs(List<ServiceOffering> serviceOfferings) {
+        List<Long> ids = serviceOfferings.stream()
+                .map(ServiceOffering::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ImageRepository.OwnerImagePath>> images =
+                imageRepository.findImagePathsByServiceOffering(ids, imageVariantService.getThumbnailWidth());
+        return serviceOfferings.stream()
+                .map(offering -> {
+                    List<ImageRepository.OwnerImagePath> paths = images.getOrDefault(offering.getId(), Collections.emptyList());
+                    return convertToDTO(offering,
+                            paths.stream().map(ImageRepository.OwnerImagePath::getFilePath).collect(Collectors.toList()),
+                            paths.stream().map(ImageRepository.OwnerImagePath::getThumbnailOrOriginalPath).collect(Collectors.toList()));
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 서비스 제공 엔티티를 DTO로 변환합니다.
      * @param serviceOffering 서비스 제공 엔티티
      * @return 서비스 제공 DTO
      */
     private ServiceOfferingDTO convertToDTO(ServiceOffering serviceOffering) {
+        return convertToDTO(serviceOffering,
+                serviceOffering.getImages().stream().map(Image::getFilePath).collect(Collectors.toList()),
+                serviceOffering.getImages().stream().map(imageVariantService::thumbnailPathOf).collect(Collectors.toList()));
+    }
+
+    /**
+     * 서비스 제공 엔티티와 미리 조회한 이미지 경로로 DTO를 생성합니다.
+     * @param serviceOffering 서비스 제공 엔티티
+     * @param imagePaths 이미지 경로 목록
+     * @param thumbnailPaths 목록용 축소 이미지 경로 목록
+     * @return 서비스 제공 DTO
+     */
+    private ServiceOfferingDTO convertToDTO(ServiceOffering serviceOffering, List<String> imagePaths, List<String> thumbnailPaths) {
         ServiceOfferingDTO dto = new ServiceOfferingDTO();
         dto.setId(serviceOffering.getId());
         dto.setTitle(serviceOffering.getTitle());
@@ -185,79 +311,182 @@ public class ServiceOfferingService {
         dto.setCreatedDate(serviceOffering.getCreatedDate());
         dto.setCompletedTasks(serviceOffering.getCompletedTasks());
 
-        // 이미지 경로 설정
-        List<String> imagePaths = serviceOffering.getImages().stream()
-                .map(Image::getFilePath)
-                .collect(Collectors.toList());
         dto.setImagePaths(imagePaths);
+        dto.setThumbnailPaths(thumbnailPaths);
 
-        // 평균 평점 계산
-        if (!serviceOffering.getReviews().isEmpty()) {
-            double avgRating = serviceOffering.getReviews().stream()
-                    .mapToInt(Review::getRating)
-                    .average()
-                    .orElse(0.0);
-            dto.setAverageRating(avgRating);
+        // 평균 평점 계산 (리뷰를 읽지 않고 집계 컬럼 사용)
+        if (serviceOffering.getRatingCount() > 0) {
+            dto.setAverageRating((double) serviceOffering.getRatingSum() / serviceOffering.getRatingCount());
         }
 
         return dto;
     }
 
     /**
-     * 이미지를 업로드하고 이미지 엔티티 목록을 반환합니다.
-     * @param images 업로드할 이미지 파일 목록
-     * @return 업로드된 이미지 엔티티 목록
-     * @throws IOException 이미지 업로드 중 오류 발생 시
+     * 이미지 파일을 업로드 스레드 풀에서 병렬로 저장합니다.
+     * 허용된 이미지 형식이 아닌 파일이 있으면 아무것도 저장하지 않고 거부합니다.
+     * 스레드 풀이 작업을 거부하면(대기열이 가득 찼거나 종료 중) 그 파일은 요청 스레드에서 직접 저장합니다.
+     * 하나라도 실패하면 나머지 저장이 끝나기를 기다린 뒤 이번에 새로 저장된 파일을 삭제합니다.
+     * @param files 업로드할 이미지 파일 목록
+     * @return 저장된 파일 목록 (입력 순서와 같음)
+     * @throws BadRequestException 이미지가 아니거나 이미지 저장 중 오류 발생 시
+     */
+    private List<StoredFile> stageImages(List<MultipartFile> files) {
+        if (files.isEmpty()) {
+            return Collections.emptyList();
+        }
+        files.forEach(ImageContentType::requireImage);
+        List<CompletableFuture<StoredFile>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            Supplier<StoredFile> store = () -> {
+                try {
+                    return fileStorageService.storeFile(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            try {
+                futures.add(CompletableFuture.supplyAsync(store, imageUploadExecutor));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.supplyAsync(store, Runnable::run));
+            }
+        }
+
+        List<StoredFile> storedFiles = new ArrayList<>(files.size());
+        Throwable failure = null;
+        for (CompletableFuture<StoredFile> future : futures) {
+            try {
+                storedFiles.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+                }
+            }
+        }
+        if (failure != null) {
+            fileStorageService.discard(storedFiles);
+            throw new BadRequestException("이미지 처리 중 오류 발생: " + failure.getMessage());
+        }
+        return storedFiles;
+    }
+
+    /**
+     * 저장된 파일로 이미지 엔티티 목록을 만들고, 커밋 후 변형을 생성하도록 이벤트를 발행합니다.
+     * @param files 업로드된 이미지 파일 목록
+     * @param storedFiles 저장된 파일 목록 (files와 같은 순서)
+     * @return 이미지 엔티티 목록
      */
-    private List<Image> uploadImages(List<MultipartFile> images) throws IOException {
+    private List<Image> createImages(List<MultipartFile> files, List<StoredFile> storedFiles) {
         List<Image> uploadedImages = new ArrayList<>();
-        for (MultipartFile file : images) {
-            String fileName = fileStorageService.storeFile(file);
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            StoredFile storedFile = storedFiles.get(i);
             Image image = new Image();
-            image.setFileName(fileName);
-            image.setFilePath(fileStorageService.getFileStorageLocation().resolve(fileName).toString());
-            image.setFileType(file.getContentType());
-            image.setFileSize((int) file.getSize());
+            image.setFileName(fileStorageService.cleanFileName(file));
+            image.setFilePath(storedFile.getPath().toString());
+            image.setContentHash(storedFile.getContentHash());
+            image.setFileType(ImageContentType.requireImage(file).toString());
+            image.setFileSize((int) storedFile.getSize());
             image.setImageType(Image.ImageType.SERVICE_OFFERING);
             uploadedImages.add(image);
+            eventPublisher.publishEvent(new ImageUploadedEvent(image));
         }
         return uploadedImages;
     }
 
     /**
      * 필터를 적용하여 서비스 제공을 조회합니다.
+     * 조회 결과는 필터 조회 캐시에 보관되며, 서비스 제공이나 리뷰 평점이 변경되면 해당 카테고리의 항목이 커밋 후 제거됩니다.
+     * 캐시에 넣을 값은 기본 데이터베이스에서 읽습니다.
      * @param location 위치
      * @param categoryId 카테고리 ID
      * @param sortBy 정렬 기준
      * @param pageable 페이징 정보
      * @return 페이징된 서비스 제공 DTO 목록
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<ServiceOfferingDTO> getFilteredServiceOfferings(String location, Long categoryId, String sortBy, Pageable pageable) {
-        int pageSize = pageable.getPageSize();
-        int currentPage = pageable.getPageNumber();
-        int startRow = currentPage * pageSize;
-        int endRow = (currentPage + 1) * pageSize;
+        ServiceOfferingSort sort = ServiceOfferingSort.from(sortBy);
+        return serviceOfferingFilterCache.get(location, categoryId, sort, pageable,
+                () -> DataSourceRouting.onPrimary(() -> findServiceOfferingPage(location, categoryId, sort, pageable)));
+    }
 
-        List<ServiceOffering> serviceOfferings = serviceOfferingRepository.findServiceOfferingsByFilters(
-                location, categoryId, sortBy, startRow, endRow);
-        long total = serviceOfferingRepository.countServiceOfferingsByFilters(location, categoryId);
+    /**
+     * 모든 서비스 제공을 전체 개수 계산 없이 슬라이스로 조회합니다.
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 서비스 제공 DTO 슬라이스
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Slice<ServiceOfferingDTO> getAllServiceOfferingsSlice(Pageable pageable) {
+        return findServiceOfferingSlice(null, null, ServiceOfferingSort.DEFAULT, pageable);
+    }
 
-        List<ServiceOfferingDTO> dtoList = serviceOfferings.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * 카테고리별 서비스 제공을 전체 개수 계산 없이 슬라이스로 조회합니다.
+     * @param categoryId 카테고리 ID
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 서비스 제공 DTO 슬라이스
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Slice<ServiceOfferingDTO> getServiceOfferingsByCategorySlice(Long categoryId, Pageable pageable) {
+        return findServiceOfferingSlice(null, categoryId, ServiceOfferingSort.DEFAULT, pageable);
+    }
 
-        return new PageImpl<>(dtoList, pageable, total);
+    /**
+     * 필터를 적용한 서비스 제공을 전체 개수 계산 없이 슬라이스로 조회합니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sortBy 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 존재 여부를 포함한 서비스 제공 DTO 슬라이스
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Slice<ServiceOfferingDTO> getFilteredServiceOfferingsSlice(String location, Long categoryId, String sortBy, Pageable pageable) {
+        return findServiceOfferingSlice(location, categoryId, ServiceOfferingSort.from(sortBy), pageable);
+    }
+
+    /**
+     * 필터와 정렬 기준에 맞는 서비스 제공 슬라이스를 조회합니다.
+     * 페이지 크기보다 한 행을 더 조회하여 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 필요하지 않습니다.
+     * 같은 조건의 조회가 이미 실행 중이면 데이터베이스를 다시 조회하지 않고 그 결과를 함께 사용합니다.
+     * 페이지 조회와 마찬가지로 실제로 조회하는 호출만 읽기 전용 트랜잭션을 엽니다.
+     * @param location 위치
+     * @param categoryId 카테고리 ID
+     * @param sort 정렬 기준
+     * @param pageable 페이징 정보
+     * @return 서비스 제공 DTO 슬라이스
+     */
+    private Slice<ServiceOfferingDTO> findServiceOfferingSlice(String location, Long categoryId, ServiceOfferingSort sort, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        int startRow = pageable.getPageNumber() * pageSize;
+        int endRow = startRow + pageSize + 1;
+
+        Slice<ServiceOfferingDTO> slice = serviceOfferingListingFlight.execute(
+                Arrays.asList("slice", location, categoryId, sort, startRow, endRow, DataSourceRouting.isPrimaryRequired()),
+                () -> readOnlyTransaction.execute(status -> {
+                    List<ServiceOffering> serviceOfferings = serviceOfferingRepository.findServiceOfferingsByFilters(
+                            location, categoryId, sort, startRow, endRow);
+                    boolean hasNext = serviceOfferings.size() > pageSize;
+                    if (hasNext) {
+                        serviceOfferings = serviceOfferings.subList(0, pageSize);
+                    }
+                    return new SliceImpl<>(convertToDTOs(serviceOfferings), pageable, hasNext);
+                }));
+
+        return new SliceImpl<>(slice.getContent(), pageable, slice.hasNext());
     }
 
     /**
      * ID로 서비스 제공을 조회합니다.
+     * 조회 결과는 상세 조회 캐시에 보관되며, 서비스 제공이나 리뷰 평점이 변경되면 커밋 후 제거됩니다.
+     * 캐시 항목은 복제 지연보다 오래 보관되므로 캐시에 넣을 값은 기본 데이터베이스에서 읽습니다.
      * @param id 서비스 제공 ID
      * @return 서비스 제공 DTO
      * @throws ResourceNotFoundException 해당 ID의 서비스 제공이 없을 경우
      */
+    @Transactional(readOnly = true)
     public ServiceOfferingDTO getServiceOfferingById(Long id) {
-        ServiceOffering serviceOffering = serviceOfferingRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("서비스 제공을 찾을 수 없습니다. ID: " + id));
-        return convertToDTO(serviceOffering);
+        return serviceOfferingDetailCache.get(id, key -> DataSourceRouting.onPrimary(() -> convertToDTO(serviceOfferingRepository.findById(key)
+                .orElseThrow(() -> new ResourceNotFoundException("서비스 제공을 찾을 수 없습니다. ID: " + key)))));
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.dowadream.errand_service.service;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * 내용 주소 방식으로 저장된 파일 정보를 나타내는 값 객체
+ */
+public final class StoredFile {
+
+    private final String contentHash;
+    private final Path path;
+    private final long size;
+    private final boolean created;
+    private final FileTime lastModified;
+
+    /**
+     * StoredFile 생성자
+     * @param contentHash 파일 내용의 SHA-256 해시 (16진수)
+     * @param path 이미지 행에 기록할 해시 경로
+     * @param size 파일 크기 (바이트)
+     * @param created 이번 저장으로 새로 생성된 파일이면 true, 같은 내용이 이미 있었으면 false
+     * @param lastModified 저장 직후의 수정 시각
+     */
+    public StoredFile(String contentHash, Path path, long size, boolean created, FileTime lastModified) {
+        this.contentHash = contentHash;
+        this.path = path;
+        this.size = size;
+        this.created = created;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * 파일 내용의 SHA-256 해시를 반환합니다.
+     * @return 16진수 해시 문자열
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * 이미지 행에 기록할 해시 경로를 반환합니다.
+     * @return 해시 경로
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 파일 크기를 반환합니다.
+     * @return 파일 크기 (바이트)
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 이번 저장으로 새로 생성된 파일인지 확인합니다.
+     * @return 새로 생성되었으면 true
+     */
+    public boolean isCreated() {
+        return created;
+    }
+
+    /**
+     * 저장 직후의 수정 시각을 반환합니다.
+     * 이후 같은 내용이 다시 저장되면 수정 시각이 갱신되므로 이 값과 달라집니다.
+     * @return 수정 시각
+     */
+    public FileTime getLastModified() {
+        return lastModified;
+    }
+}
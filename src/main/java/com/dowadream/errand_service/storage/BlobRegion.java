@@ -0,0 +1,120 @@
+package com.dowadream.errand_service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * 저장된 파일 내용이 위치한 디스크 파일의 영역을 나타내는 값 객체
+ * 디렉토리 저장소에서는 파일 전체이고, 팩 파일 저장소에서는 세그먼트 파일의 일부입니다.
+ * 어느 경우든 위치 지정 읽기나 sendfile로 그대로 전송할 수 있습니다.
+ */
+public final class BlobRegion {
+
+    private final Path file;
+    private final long offset;
+    private final long length;
+    private final FileTime lastModified;
+
+    /**
+     * BlobRegion 생성자
+     * @param file 내용이 저장된 디스크 파일
+     * @param offset 파일 안에서 내용이 시작하는 위치 (바이트)
+     * @param length 내용의 길이 (바이트)
+     * @param lastModified 마지막으로 저장되거나 재사용된 시각
+     */
+    public BlobRegion(Path file, long offset, long length, FileTime lastModified) {
+        this.file = file;
+        this.offset = offset;
+        this.length = length;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * 내용이 저장된 디스크 파일을 반환합니다.
+     * @return 디스크 파일 경로
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 파일 안에서 내용이 시작하는 위치를 반환합니다.
+     * @return 시작 위치 (바이트)
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * 내용의 길이를 반환합니다.
+     * @return 길이 (바이트)
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * 마지막으로 저장되거나 재사용된 시각을 반환합니다.
+     * @return 수정 시각
+     */
+    public FileTime getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * 영역의 내용을 읽는 입력 스트림을 엽니다.
+     * @return 입력 스트림 (사용 후 닫아야 함)
+     * @throws IOException 파일을 열지 못한 경우
+     */
+    public InputStream openStream() throws IOException {
+        return new RegionInputStream(FileChannel.open(file, StandardOpenOption.READ), offset, length);
+    }
+
+    /**
+     * 파일 채널의 한 영역을 위치 지정 읽기로 읽는 입력 스트림
+     */
+    private static final class RegionInputStream extends InputStream {
+        private final FileChannel channel;
+        private long position;
+        private final long end;
+
+        private RegionInputStream(FileChannel channel, long offset, long length) {
+            this.channel = channel;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == 1 ? single[0] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int count = channel.read(ByteBuffer.wrap(buffer, off, (int) Math.min(len, end - position)), position);
+            if (count > 0) {
+                position += count;
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, end - position);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.dowadream.errand_service.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 내용 주소 방식으로 이름 붙은 파일 내용을 보관하는 저장소 인터페이스
+ * 이름은 원본 파일 내용의 해시 또는 "해시_접미사" 형식이며, 같은 이름의 내용은 바뀌지 않습니다.
+ * 저장 위치의 선택은 {@code file.storage.backend} 설정을 따릅니다.
+ */
+public interface BlobStore {
+
+    /**
+     * 임시 파일의 내용을 주어진 이름으로 저장합니다. 임시 파일은 저장소로 옮겨지거나 삭제됩니다.
+     * 같은 이름이 이미 있으면 새로 저장하지 않고 수정 시각만 갱신합니다.
+     * @param name 저장할 이름
+     * @param source 내용이 기록된 임시 파일
+     * @return 새로 저장했으면 true
+     * @throws IOException 저장 중 오류 발생 시
+     */
+    boolean put(String name, Path source) throws IOException;
+
+    /**
+     * 이름에 해당하는 내용의 위치를 찾습니다.
+     * @param name 저장된 이름
+     * @return 내용의 위치 (없으면 빈 값)
+     * @throws IOException 조회 중 오류 발생 시
+     */
+    Optional<BlobRegion> find(String name) throws IOException;
+
+    /**
+     * 이름에 해당하는 내용을 삭제합니다.
+     * @param name 저장된 이름
+     * @return 삭제했으면 true
+     * @throws IOException 삭제 중 오류 발생 시
+     */
+    boolean delete(String name) throws IOException;
+
+    /**
+     * 원본 해시로 저장된 원본과 파생 파일의 이름을 반환합니다.
+     * @param contentHash 원본 파일 내용의 해시
+     * @return 이름 목록
+     * @throws IOException 조회 중 오류 발생 시
+     */
+    List<String> list(String contentHash) throws IOException;
+
+    /**
+     * 저장된 모든 이름을 오름차순으로 반환합니다.
+     * @return 정렬된 이름 스트림 (사용 후 닫아야 함)
+     * @throws IOException 조회 중 오류 발생 시
+     */
+    Stream<String> names() throws IOException;
+
+    /**
+     * 삭제된 내용이 차지하던 공간을 회수합니다.
+     * 삭제가 곧바로 공간을 비우는 저장소는 아무것도 하지 않습니다.
+     * @return 회수한 디스크 용량 (바이트)
+     * @throws IOException 처리 중 오류 발생 시
+     */
+    default long compact() throws IOException {
+        return 0;
+    }
+}
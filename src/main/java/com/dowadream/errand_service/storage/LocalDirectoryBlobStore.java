@@ -0,0 +1,154 @@
+package com.dowadream.errand_service.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 내용 하나를 파일 하나로 저장하는 기본 저장소
+ * 파일은 해시 앞 네 글자로 나눈 하위 디렉토리에 저장됩니다. (예: ab/cd/abcd...)
+ */
+public class LocalDirectoryBlobStore implements BlobStore {
+
+    /**
+     * 해시 디렉토리 이름 형식 (해시의 앞 두 글자)
+     */
+    private static final Pattern SHARD_NAME = Pattern.compile("[0-9a-f]{2}");
+
+    private final Path root;
+
+    /**
+     * LocalDirectoryBlobStore 생성자
+     * @param root 저장 디렉토리
+     */
+    public LocalDirectoryBlobStore(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * 같은 내용의 파일이 이미 있으면 옮기지 않고 수정 시각만 갱신하여 삭제 유예 시간을 다시 시작합니다.
+     */
+    @Override
+    public boolean put(String name, Path source) throws IOException {
+        Path target = pathOf(name);
+        Files.createDirectories(target.getParent());
+        if (!Files.exists(target)) {
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (AtomicMoveNotSupportedException ex) {
+                try {
+                    Files.move(source, target);
+                    return true;
+                } catch (FileAlreadyExistsException ignored) {
+                    // 다른 요청이 같은 내용을 먼저 저장한 경우
+                }
+            } catch (FileAlreadyExistsException ignored) {
+                // 다른 요청이 같은 내용을 먼저 저장한 경우
+            }
+        }
+        Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        Files.deleteIfExists(source);
+        return false;
+    }
+
+    @Override
+    public Optional<BlobRegion> find(String name) throws IOException {
+        Path path = pathOf(name);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new BlobRegion(path, 0, attributes.size(), attributes.lastModifiedTime()));
+        } catch (NoSuchFileException ex) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean delete(String name) throws IOException {
+        return Files.deleteIfExists(pathOf(name));
+    }
+
+    @Override
+    public List<String> list(String contentHash) throws IOException {
+        List<String> names = new ArrayList<>();
+        Path directory = pathOf(contentHash).getParent();
+        if (!Files.isDirectory(directory)) {
+            return names;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, contentHash + "*")) {
+            stream.forEach(path -> names.add(path.getFileName().toString()));
+        }
+        return names;
+    }
+
+    /**
+     * 해시 디렉토리를 이름 순으로 하나씩 읽으므로 한 번에 디렉토리 하나의 목록만 메모리에 올라갑니다.
+     */
+    @Override
+    public Stream<String> names() throws IOException {
+        return shards(root).stream()
+                .flatMap(first -> uncheckedList(() -> shards(first)).stream())
+                .flatMap(second -> uncheckedList(() -> sortedFileNames(second)).stream());
+    }
+
+    /**
+     * 이름에 해당하는 파일 경로를 반환합니다.
+     * @param name 저장된 이름
+     * @return 파일 경로
+     */
+    public Path pathOf(String name) {
+        return root.resolve(name.substring(0, 2)).resolve(name.substring(2, 4)).resolve(name);
+    }
+
+    private static List<Path> shards(Path directory) throws IOException {
+        List<Path> shards = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return shards;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                entry -> Files.isDirectory(entry) && SHARD_NAME.matcher(entry.getFileName().toString()).matches())) {
+            stream.forEach(shards::add);
+        }
+        shards.sort(null);
+        return shards;
+    }
+
+    private static List<String> sortedFileNames(Path directory) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            stream.forEach(path -> names.add(path.getFileName().toString()));
+        }
+        names.sort(null);
+        return names;
+    }
+
+    private static <T> List<T> uncheckedList(IOSupplier<List<T>> supplier) {
+        try {
+            return supplier.get();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOSupplier<T> {
+        T get() throws IOException;
+    }
+}
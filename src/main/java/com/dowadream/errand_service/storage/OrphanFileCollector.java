@@ -0,0 +1,286 @@
+package com.dowadream.errand_service.storage;
+
+import com.dowadream.errand_service.datasource.DataSourceRouting;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.service.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 어떤 이미지도 참조하지 않는 업로드 파일을 주기적으로 삭제하는 클래스
+ * 이미지 행이 삭제될 때 파일을 바로 지우지만, 연관 엔티티의 연쇄 삭제나 처리 중 장애로 남은 파일은 이 작업이 정리합니다.
+ * 저장소의 이름을 정렬된 순서로 읽으면서 데이터베이스의 해시 목록도 같은 순서로 페이지 단위 조회하여 병합 비교하므로,
+ * 데이터베이스 쪽은 파일 수와 관계없이 해시 한 페이지만 메모리에 올라갑니다.
+ * 삭제가 끝나면 저장소의 {@link BlobStore#compact()}를 호출하여 공간을 회수합니다.
+ */
+@Slf4j
+@Component
+public class OrphanFileCollector {
+
+    /**
+     * 모든 해시보다 작은 값 (첫 페이지 조회용, Oracle에서 빈 문자열은 NULL이므로 공백 사용)
+     */
+    private static final String BEFORE_FIRST_HASH = " ";
+
+    private final FileStorageService fileStorageService;
+    private final BlobStore blobStore;
+    private final ImageRepository imageRepository;
+    private final TaskExecutor storageMaintenanceExecutor;
+    private final Duration grace;
+    private final int pageSize;
+    private final int batchSize;
+    private final long batchPauseMillis;
+
+    private final Counter deletedFiles;
+    private final Counter reclaimedBytes;
+
+    /**
+     * OrphanFileCollector 생성자
+     * @param fileStorageService 파일 저장 서비스
+     * @param blobStore 파일 내용 저장소
+     * @param imageRepository 이미지 리포지토리
+     * @param storageMaintenanceExecutor 저장소 정리 작업용 스레드
+     * @param meterRegistry 메트릭 레지스트리
+     * @param graceSeconds 최근에 저장되거나 재사용된 파일을 삭제 대상에서 제외하는 시간 (초)
+     * @param pageSize 한 번에 조회할 해시 수
+     * @param batchSize 한 번에 다시 확인하고 삭제할 파일 수
+     * @param batchPauseMillis 삭제 묶음 사이의 대기 시간 (밀리초)
+     */
+    @Autowired
+    public OrphanFileCollector(FileStorageService fileStorageService,
+                               BlobStore blobStore,
+                               ImageRepository imageRepository,
+                               @Qualifier("storageMaintenanceExecutor") TaskExecutor storageMaintenanceExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${file.storage.gc.grace-seconds:86400}") long graceSeconds,
+                               @Value("${file.storage.gc.page-size:1000}") int pageSize,
+                               @Value("${file.storage.gc.batch-size:100}") int batchSize,
+                               @Value("${file.storage.gc.batch-pause-millis:200}") long batchPauseMillis) {
+        this.fileStorageService = fileStorageService;
+        this.blobStore = blobStore;
+        this.imageRepository = imageRepository;
+        this.storageMaintenanceExecutor = storageMaintenanceExecutor;
+        this.grace = Duration.ofSeconds(graceSeconds);
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+
+        this.deletedFiles = Counter.builder("file.storage.gc.deleted")
+                .description("Unreferenced upload files deleted")
+                .register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("file.storage.gc.reclaimed")
+                .description("Disk space reclaimed from unreferenced upload files")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 정리 작업을 별도 스레드에서 시작합니다. 이전 작업이 진행 중이면 건너뜁니다.
+     */
+    @Scheduled(cron = "${file.storage.gc.cron:0 30 3 * * *}")
+    public void schedule() {
+        try {
+            storageMaintenanceExecutor.execute(() -> DataSourceRouting.onPrimary(this::collect));
+        } catch (TaskRejectedException e) {
+            log.info("Orphan file collection is still running, skipping this run");
+        }
+    }
+
+    /**
+     * 참조되지 않고 유예 시간이 지난 파일과 남은 임시 파일을 삭제합니다.
+     * 참조 여부는 기본 데이터베이스에서 확인해야 하므로 {@link DataSourceRouting#onPrimary} 안에서 호출합니다.
+     * @return 확보한 디스크 용량 (바이트)
+     */
+    public long collect() {
+        Instant cutoff = Instant.now().minus(grace);
+        Run run = new Run(cutoff);
+        try {
+            collectTempFiles(run);
+            collectBlobs(run);
+            run.flush();
+            long compacted = blobStore.compact();
+            run.reclaimed += compacted;
+            reclaimedBytes.increment(compacted);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Orphan file collection stopped early", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Orphan file collection scanned {} files, deleted {}, reclaimed {} bytes",
+                run.scanned, run.deleted, run.reclaimed);
+        return run.reclaimed;
+    }
+
+    /**
+     * 저장 도중 중단되어 남은 임시 파일을 삭제합니다.
+     */
+    private void collectTempFiles(Run run) throws IOException {
+        for (Path file : sortedEntries(fileStorageService.getTempLocation())) {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (attributes.isRegularFile() && attributes.lastModifiedTime().toInstant().isBefore(run.cutoff)
+                    && Files.deleteIfExists(file)) {
+                run.recordDeleted(attributes.size());
+            }
+        }
+    }
+
+    /**
+     * 저장소의 이름을 정렬된 순서로 순회하며 데이터베이스의 해시 목록과 병합 비교합니다.
+     * 파생 파일(해시_접미사)은 원본 해시가 참조되는 동안 함께 유지됩니다.
+     */
+    private void collectBlobs(Run run) throws IOException, InterruptedException {
+        ReferencedHashes referenced = new ReferencedHashes();
+        String current = referenced.hasNext() ? referenced.next() : null;
+
+        try (Stream<String> names = blobStore.names()) {
+            Iterator<String> iterator = names.iterator();
+            while (iterator.hasNext()) {
+                String name = iterator.next();
+                String contentHash = FileStorageService.contentHashOf(name);
+                if (contentHash == null) {
+                    continue;
+                }
+                run.scanned++;
+                while (current != null && current.compareTo(contentHash) < 0) {
+                    current = referenced.hasNext() ? referenced.next() : null;
+                }
+                if (!contentHash.equals(current)) {
+                    run.candidate(name, contentHash);
+                }
+            }
+        }
+    }
+
+    private static List<Path> sortedEntries(Path directory) throws IOException {
+        List<Path> entries = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return entries;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            stream.forEach(entries::add);
+        }
+        entries.sort(null);
+        return entries;
+    }
+
+    /**
+     * 이미지가 참조하는 해시를 정렬된 순서로 한 페이지씩 조회하는 반복자
+     */
+    private class ReferencedHashes implements Iterator<String> {
+        private List<String> page = new ArrayList<>();
+        private int index;
+        private String after = BEFORE_FIRST_HASH;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            if (index < page.size()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            page = imageRepository.findContentHashesAfter(after, pageSize);
+            index = 0;
+            exhausted = page.size() < pageSize;
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1);
+            }
+            return !page.isEmpty();
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(index++);
+        }
+    }
+
+    /**
+     * 한 번의 정리 작업 상태
+     * 삭제 후보를 묶음으로 모아, 삭제 직전에 참조 여부와 수정 시각을 다시 확인합니다.
+     */
+    private class Run {
+        private final Instant cutoff;
+        private final List<String> names = new ArrayList<>();
+        private final List<String> hashes = new ArrayList<>();
+        private long scanned;
+        private long deleted;
+        private long reclaimed;
+
+        private Run(Instant cutoff) {
+            this.cutoff = cutoff;
+        }
+
+        private void candidate(String name, String contentHash) throws IOException, InterruptedException {
+            Optional<BlobRegion> blob = blobStore.find(name);
+            if (blob.isEmpty() || !blob.get().getLastModified().toInstant().isBefore(cutoff)) {
+                return;
+            }
+            names.add(name);
+            hashes.add(contentHash);
+            if (names.size() >= batchSize) {
+                flush();
+                Thread.sleep(batchPauseMillis);
+            }
+        }
+
+        /**
+         * 모은 후보 중 여전히 참조되지 않고 유예 시간이 지난 파일을 삭제합니다.
+         * 병합 비교 이후 같은 내용이 다시 업로드되었으면 파일의 수정 시각이나 참조 여부로 확인됩니다.
+         */
+        private void flush() throws IOException {
+            if (names.isEmpty()) {
+                return;
+            }
+            Set<String> stillReferenced = new HashSet<>(imageRepository.findReferencedContentHashes(new HashSet<>(hashes)));
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i);
+                if (stillReferenced.contains(hashes.get(i))) {
+                    continue;
+                }
+                OptionalLong size = fileStorageService.deleteIfOlderThan(name, cutoff);
+                if (size.isPresent()) {
+                    recordDeleted(size.getAsLong());
+                    log.debug("Deleted unreferenced file {}", name);
+                }
+            }
+            names.clear();
+            hashes.clear();
+        }
+
+        private void recordDeleted(long size) {
+            deleted++;
+            reclaimed += size;
+            deletedFiles.increment();
+            reclaimedBytes.increment(size);
+        }
+    }
+}
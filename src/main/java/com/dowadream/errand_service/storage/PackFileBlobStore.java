@@ -0,0 +1,448 @@
+package com.dowadream.errand_service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * 여러 내용을 큰 세그먼트 파일에 이어 붙여 저장하는 저장소
+ * 작은 이미지가 많을 때 파일마다 드는 inode, 디렉토리 조회, 열기/닫기 비용을 줄이기 위해 사용합니다.
+ * <p>
+ * 이름별 위치(세그먼트, 시작 위치, 길이, 수정 시각)는 메모리 맵으로 연 색인 파일에 고정 크기 레코드로 추가 기록하고,
+ * 시작 시 색인을 처음부터 읽어 메모리의 정렬된 맵을 복원합니다. 읽기는 세그먼트 파일의 위치 지정 읽기나 sendfile로 처리합니다.
+ * 삭제는 색인에 삭제 레코드만 남기며, 살아 있는 내용의 비율이 낮은 세그먼트는 {@link #compact()}에서
+ * 현재 세그먼트로 옮긴 뒤 다음 정리 때 삭제합니다. (그사이 진행 중인 읽기를 위해 바로 지우지 않습니다.)
+ */
+@Slf4j
+public class PackFileBlobStore implements BlobStore, Closeable {
+
+    private static final String INDEX_FILE = "index.idx";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".pack";
+
+    /**
+     * 색인 레코드 구조: 플래그(4), 세그먼트(4), 시작 위치(8), 길이(8), 수정 시각(8), 해시(32), 접미사(32)
+     */
+    private static final int RECORD_SIZE = 96;
+    private static final int HASH_BYTES = 32;
+    private static final int MAX_SUFFIX_BYTES = 32;
+    private static final int FLAG_VALID = 1;
+    private static final int FLAG_DELETED = 2;
+
+    private static final int INITIAL_INDEX_CAPACITY = RECORD_SIZE * 16 * 1024;
+
+    /**
+     * 세그먼트 정리 시 한 번에 잠금을 잡고 옮기는 내용 수
+     */
+    private static final int COMPACTION_BATCH = 256;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final double compactionThreshold;
+
+    private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final NavigableMap<Integer, Segment> segments = new TreeMap<>();
+    private final List<Segment> retired = new ArrayList<>();
+    private Segment current;
+
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int indexPosition;
+
+    /**
+     * PackFileBlobStore 생성자
+     * 색인을 읽어 저장된 내용의 위치를 복원하고, 살아 있는 내용이 없는 세그먼트를 삭제합니다.
+     * @param directory 세그먼트와 색인을 저장할 디렉토리
+     * @param segmentSize 세그먼트 파일의 최대 크기 (바이트)
+     * @param compactionThreshold 살아 있는 내용의 비율이 이 값보다 낮으면 세그먼트를 정리
+     * @throws IOException 색인이나 세그먼트를 열지 못한 경우
+     */
+    public PackFileBlobStore(Path directory, long segmentSize, double compactionThreshold) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.compactionThreshold = compactionThreshold;
+
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                int id = Integer.parseInt(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+                segments.put(id, new Segment(id, path, Files.size(path)));
+            }
+        }
+        openIndex(directory.resolve(INDEX_FILE));
+        replayIndex();
+
+        int newest = segments.isEmpty() ? 0 : segments.lastKey();
+        for (Segment segment : new ArrayList<>(segments.values())) {
+            if (segment.liveBytes == 0 && segment.id != newest) {
+                segments.remove(segment.id);
+                Files.deleteIfExists(segment.path);
+            }
+        }
+        current = newest == 0 ? createSegment(1) : segments.get(newest);
+        current.channel = FileChannel.open(current.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        log.info("Opened pack store {} with {} blobs in {} segments", directory, entries.size(), segments.size());
+    }
+
+    @Override
+    public synchronized boolean put(String name, Path source) throws IOException {
+        byte[] suffix = suffixOf(name);
+        long now = System.currentTimeMillis();
+        Entry existing = entries.get(name);
+        if (existing != null) {
+            Entry touched = new Entry(existing.segment, existing.offset, existing.length, now);
+            appendRecord(FLAG_VALID, name, suffix, touched);
+            entries.put(name, touched);
+            Files.deleteIfExists(source);
+            return false;
+        }
+
+        long length = Files.size(source);
+        Segment segment = writableSegment(length);
+        long offset = segment.size;
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            copy(in, 0, length, segment, offset);
+        }
+        segment.channel.force(false);
+        segment.size += length;
+        segment.liveBytes += length;
+
+        Entry entry = new Entry(segment.id, offset, length, now);
+        appendRecord(FLAG_VALID, name, suffix, entry);
+        entries.put(name, entry);
+        Files.deleteIfExists(source);
+        return true;
+    }
+
+    @Override
+    public Optional<BlobRegion> find(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new BlobRegion(segmentPath(entry.segment), entry.offset, entry.length,
+                FileTime.fromMillis(entry.lastModified)));
+    }
+
+    @Override
+    public synchronized boolean delete(String name) throws IOException {
+        Entry entry = entries.remove(name);
+        if (entry == null) {
+            return false;
+        }
+        appendRecord(FLAG_VALID | FLAG_DELETED, name, suffixOf(name), entry);
+        Segment segment = segments.get(entry.segment);
+        if (segment != null) {
+            segment.liveBytes -= entry.length;
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> list(String contentHash) {
+        return new ArrayList<>(entries.subMap(contentHash, true, contentHash + Character.MAX_VALUE, false).keySet());
+    }
+
+    @Override
+    public Stream<String> names() {
+        return entries.keySet().stream();
+    }
+
+    /**
+     * 지난 정리에서 비운 세그먼트를 삭제하고, 살아 있는 내용의 비율이 낮은 세그먼트의 내용을 현재 세그먼트로 옮긴 뒤
+     * 색인을 살아 있는 레코드만으로 다시 기록합니다.
+     * 옮기는 동안에도 저장과 읽기를 계속할 수 있도록 일정 개수마다 잠금을 풀어 줍니다.
+     */
+    @Override
+    public long compact() throws IOException {
+        long reclaimed = 0;
+        List<Segment> emptied;
+        List<Segment> candidates = new ArrayList<>();
+        synchronized (this) {
+            emptied = new ArrayList<>(retired);
+            retired.clear();
+            for (Segment segment : segments.values()) {
+                if (segment != current && segment.liveBytes < segment.size * compactionThreshold) {
+                    candidates.add(segment);
+                }
+            }
+        }
+        for (Segment segment : emptied) {
+            reclaimed += segment.size;
+            Files.deleteIfExists(segment.path);
+        }
+
+        Map<Integer, List<String>> names = new HashMap<>();
+        candidates.forEach(segment -> names.put(segment.id, new ArrayList<>()));
+        entries.forEach((name, entry) -> {
+            List<String> segmentNames = names.get(entry.segment);
+            if (segmentNames != null) {
+                segmentNames.add(name);
+            }
+        });
+
+        for (Segment segment : candidates) {
+            List<String> segmentNames = names.get(segment.id);
+            try (FileChannel in = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+                for (int from = 0; from < segmentNames.size(); from += COMPACTION_BATCH) {
+                    moveEntries(in, segment, segmentNames.subList(from, Math.min(from + COMPACTION_BATCH, segmentNames.size())));
+                }
+            }
+            synchronized (this) {
+                segments.remove(segment.id);
+                retired.add(segment);
+            }
+        }
+
+        synchronized (this) {
+            rewriteIndex();
+        }
+        if (!candidates.isEmpty() || reclaimed > 0) {
+            log.info("Compacted {} pack segments, reclaimed {} bytes", candidates.size(), reclaimed);
+        }
+        return reclaimed;
+    }
+
+    /**
+     * 세그먼트의 내용을 현재 세그먼트로 옮기고 새 위치를 색인에 기록합니다.
+     * 그사이 삭제되었거나 다시 옮겨진 내용은 건너뜁니다.
+     */
+    private synchronized void moveEntries(FileChannel in, Segment from, List<String> names) throws IOException {
+        List<String> movedNames = new ArrayList<>(names.size());
+        List<Entry> moved = new ArrayList<>(names.size());
+        for (String name : names) {
+            Entry entry = entries.get(name);
+            if (entry == null || entry.segment != from.id) {
+                continue;
+            }
+            Segment target = writableSegment(entry.length);
+            long offset = target.size;
+            copy(in, entry.offset, entry.length, target, offset);
+            target.size += entry.length;
+            target.liveBytes += entry.length;
+            movedNames.add(name);
+            moved.add(new Entry(target.id, offset, entry.length, entry.lastModified));
+        }
+        current.channel.force(false);
+        for (int i = 0; i < moved.size(); i++) {
+            String name = movedNames.get(i);
+            appendRecord(FLAG_VALID, name, suffixOf(name), moved.get(i));
+            entries.put(name, moved.get(i));
+            from.liveBytes -= moved.get(i).length;
+        }
+    }
+
+    /**
+     * 저장할 길이가 들어갈 세그먼트를 반환합니다. 현재 세그먼트가 가득 차면 새 세그먼트를 만듭니다.
+     */
+    private Segment writableSegment(long length) throws IOException {
+        if (current.size > 0 && current.size + length > segmentSize) {
+            current.channel.force(false);
+            current.channel.close();
+            current.channel = null;
+            current = createSegment(current.id + 1);
+            current.channel = FileChannel.open(current.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return current;
+    }
+
+    private Segment createSegment(int id) throws IOException {
+        Path path = segmentPath(id);
+        Files.createFile(path);
+        Segment segment = new Segment(id, path, 0);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private Path segmentPath(int id) {
+        return directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    private static void copy(FileChannel in, long position, long length, Segment target, long offset) throws IOException {
+        target.channel.position(offset);
+        long copied = 0;
+        while (copied < length) {
+            long transferred = in.transferTo(position + copied, length - copied, target.channel);
+            if (transferred <= 0) {
+                throw new IOException("Unexpected end of blob data in " + target.path);
+            }
+            copied += transferred;
+        }
+    }
+
+    /**
+     * 색인 파일을 메모리 맵으로 엽니다.
+     */
+    private void openIndex(Path path) throws IOException {
+        indexChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = indexChannel.size();
+        long capacity = Math.max(INITIAL_INDEX_CAPACITY, (size + RECORD_SIZE - 1) / RECORD_SIZE * RECORD_SIZE);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * 색인 레코드를 처음부터 적용합니다. 기록이 끝나지 않은 레코드(유효 플래그가 없는 레코드)에서 멈춥니다.
+     */
+    private void replayIndex() {
+        HexFormat hex = HexFormat.of();
+        int position = 0;
+        while (position + RECORD_SIZE <= index.capacity()) {
+            int flags = index.getInt(position);
+            if ((flags & FLAG_VALID) == 0) {
+                break;
+            }
+            Entry entry = new Entry(index.getInt(position + 4), index.getLong(position + 8),
+                    index.getLong(position + 16), index.getLong(position + 24));
+            byte[] hash = new byte[HASH_BYTES];
+            index.get(position + 32, hash);
+            byte[] suffix = new byte[MAX_SUFFIX_BYTES];
+            index.get(position + 64, suffix);
+            int suffixLength = 0;
+            while (suffixLength < MAX_SUFFIX_BYTES && suffix[suffixLength] != 0) {
+                suffixLength++;
+            }
+            String name = hex.formatHex(hash)
+                    + (suffixLength > 0 ? "_" + new String(suffix, 0, suffixLength, StandardCharsets.US_ASCII) : "");
+            if ((flags & FLAG_DELETED) != 0 || !segments.containsKey(entry.segment)) {
+                entries.remove(name);
+            } else {
+                entries.put(name, entry);
+            }
+            position += RECORD_SIZE;
+        }
+        indexPosition = position;
+        entries.values().forEach(entry -> segments.get(entry.segment).liveBytes += entry.length);
+    }
+
+    /**
+     * 색인 끝에 레코드를 추가합니다. 다른 필드를 먼저 기록하고 플래그를 마지막에 기록하므로
+     * 기록 도중 중단된 레코드는 다음 시작 시 무시됩니다.
+     */
+    private void appendRecord(int flags, String name, byte[] suffix, Entry entry) throws IOException {
+        if (indexPosition + RECORD_SIZE > index.capacity()) {
+            index.force();
+            index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) index.capacity() * 2);
+        }
+        writeRecord(index, indexPosition, name, suffix, entry);
+        index.putInt(indexPosition, flags);
+        index.force(indexPosition, RECORD_SIZE);
+        indexPosition += RECORD_SIZE;
+    }
+
+    private static void writeRecord(ByteBuffer buffer, int position, String name, byte[] suffix, Entry entry) {
+        buffer.putInt(position + 4, entry.segment);
+        buffer.putLong(position + 8, entry.offset);
+        buffer.putLong(position + 16, entry.length);
+        buffer.putLong(position + 24, entry.lastModified);
+        buffer.put(position + 32, HexFormat.of().parseHex(name, 0, HASH_BYTES * 2));
+        byte[] padded = new byte[MAX_SUFFIX_BYTES];
+        System.arraycopy(suffix, 0, padded, 0, suffix.length);
+        buffer.put(position + 64, padded);
+    }
+
+    /**
+     * 살아 있는 레코드만으로 새 색인 파일을 만들어 기존 색인을 교체합니다.
+     */
+    private void rewriteIndex() throws IOException {
+        Path path = directory.resolve(INDEX_FILE);
+        Path temp = directory.resolve(INDEX_FILE + ".tmp");
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                record.clear();
+                writeRecord(record, 0, entry.getKey(), suffixOf(entry.getKey()), entry.getValue());
+                record.putInt(0, FLAG_VALID);
+                out.write(record);
+            }
+            out.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        indexChannel.close();
+        openIndex(path);
+        indexPosition = entries.size() * RECORD_SIZE;
+    }
+
+    /**
+     * 이름의 접미사("해시_" 다음 부분)를 색인 기록용 바이트로 변환합니다.
+     */
+    private static byte[] suffixOf(String name) throws IOException {
+        if (name.length() <= HASH_BYTES * 2) {
+            return new byte[0];
+        }
+        byte[] suffix = name.substring(HASH_BYTES * 2 + 1).getBytes(StandardCharsets.US_ASCII);
+        if (suffix.length > MAX_SUFFIX_BYTES) {
+            throw new IOException("Name is too long for the pack index: " + name);
+        }
+        return suffix;
+    }
+
+    /**
+     * 열린 세그먼트와 색인을 닫습니다.
+     * @throws IOException 닫는 중 오류 발생 시
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        index.force();
+        indexChannel.close();
+        if (current.channel != null) {
+            current.channel.close();
+        }
+    }
+
+    /**
+     * 이름별 저장 위치
+     */
+    private static final class Entry {
+        private final int segment;
+        private final long offset;
+        private final long length;
+        private final long lastModified;
+
+        private Entry(int segment, long offset, long length, long lastModified) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * 세그먼트 파일 정보 (잠금 안에서만 변경)
+     */
+    private static final class Segment {
+        private final int id;
+        private final Path path;
+        private long size;
+        private long liveBytes;
+        private FileChannel channel;
+
+        private Segment(int id, Path path, long size) {
+            this.id = id;
+            this.path = path;
+            this.size = size;
+        }
+    }
+}
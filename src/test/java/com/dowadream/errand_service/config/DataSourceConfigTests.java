@@ -0,0 +1,113 @@
+package com.dowadream.errand_service.config;
+
+import com.dowadream.errand_service.datasource.DataSourceRouting;
+import com.dowadream.errand_service.datasource.ReplicaDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 내장 데이터베이스를 기본 데이터베이스와 복제본으로 사용하여,
+ * 읽기 전용 트랜잭션만 복제본으로 보내고 필요한 경우 기본 데이터베이스로 대신 연결하는지 검증하는 테스트
+ */
+class DataSourceConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class,
+                    DataSourceTransactionManagerAutoConfiguration.class, TransactionAutoConfiguration.class,
+                    JdbcTemplateAutoConfiguration.class))
+            .withUserConfiguration(DataSourceConfig.class)
+            .withPropertyValues("spring.datasource.username=sa", "spring.datasource.replica.username=sa");
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        String primaryUrl = database("primary");
+        String replicaUrl = database("replica");
+        contextRunner.withPropertyValues(
+                "spring.datasource.url=" + primaryUrl,
+                "spring.datasource.replica.jdbc-url=" + replicaUrl,
+                "spring.jpa.open-in-view=false"
+        ).run(context -> {
+            assertThat(readMarker(context, true)).isEqualTo("replica");
+            assertThat(readMarker(context, false)).isEqualTo("primary");
+            assertThat(DataSourceRouting.onPrimary(() -> readMarker(context, true))).isEqualTo("primary");
+        });
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLags() {
+        String primaryUrl = database("primary");
+        String replicaUrl = database("replica");
+        contextRunner.withPropertyValues(
+                "spring.datasource.url=" + primaryUrl,
+                "spring.datasource.replica.jdbc-url=" + replicaUrl,
+                "spring.datasource.replica.lag-query=SELECT lag_seconds FROM replica_lag",
+                "spring.datasource.replica.max-lag-seconds=5",
+                "spring.jpa.open-in-view=false"
+        ).run(context -> {
+            JdbcTemplate replica = new JdbcTemplate(context.getBean("replicaPoolDataSource", DataSource.class));
+            replica.execute("CREATE TABLE replica_lag (lag_seconds NUMBER)");
+            replica.update("INSERT INTO replica_lag VALUES (30)");
+            context.getBean(ReplicaDataSource.class).checkLag();
+            assertThat(readMarker(context, true)).isEqualTo("primary");
+
+            replica.update("UPDATE replica_lag SET lag_seconds = 1");
+            context.getBean(ReplicaDataSource.class).checkLag();
+            assertThat(readMarker(context, true)).isEqualTo("replica");
+        });
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsUnreachable() {
+        String primaryUrl = database("primary");
+        contextRunner.withPropertyValues(
+                "spring.datasource.url=" + primaryUrl,
+                "spring.datasource.replica.jdbc-url=jdbc:h2:mem:missing;IFEXISTS=TRUE",
+                "spring.datasource.replica.connection-timeout=250",
+                "spring.jpa.open-in-view=false"
+        ).run(context -> assertThat(readMarker(context, true)).isEqualTo("primary"));
+    }
+
+    @Test
+    void refusesToStartWithOpenInView() {
+        contextRunner.withPropertyValues(
+                "spring.datasource.url=" + database("primary"),
+                "spring.datasource.replica.jdbc-url=" + database("replica")
+        ).run(context -> assertThat(context).hasFailed().getFailure()
+                .rootCause().hasMessageContaining("spring.jpa.open-in-view=false"));
+    }
+
+    /**
+     * 어느 데이터베이스인지 기록한 내장 데이터베이스를 만듭니다.
+     * @param name 데이터베이스 이름 (marker 테이블에 기록)
+     * @return JDBC URL
+     */
+    private static String database(String name) {
+        String url = "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", name);
+        return url;
+    }
+
+    private static String readMarker(ApplicationContext context, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+}
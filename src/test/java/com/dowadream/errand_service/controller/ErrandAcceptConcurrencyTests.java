@@ -0,0 +1,147 @@
+package com.dowadream.errand_service.controller;
+
+import com.dowadream.errand_service.dto.CategoryDTO;
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.service.CategoryService;
+import com.dowadream.errand_service.service.ErrandService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 요청이 같은 심부름을 동시에 수락할 때 정확히 한 요청만 성공(200)하고 나머지는 409로 거부되는지 검증하는 테스트
+ * 실제 HTTP 요청을 내장 서버로 보내므로 컨트롤러, 트랜잭션, 조건부 UPDATE가 모두 경쟁에 참여합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"server.tomcat.threads.max=200", "server.tomcat.accept-count=2000"})
+class ErrandAcceptConcurrencyTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ErrandService errandService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CategoryDTO category = new CategoryDTO();
+        category.setName("accept-test");
+        categoryId = categoryService.createCategory(category).getCategoryId();
+    }
+
+    @Test
+    void exactlyOneConcurrentAccepterWins() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            Long errandSeq = createErrand();
+
+            Map<Integer, Long> statuses = acceptConcurrently(errandSeq, 50);
+
+            assertThat(statuses).containsOnlyKeys(200, 409);
+            assertThat(statuses.get(200)).isEqualTo(1L);
+            assertThat(statuses.get(409)).isEqualTo(49L);
+            assertThat(errandService.getErrandById(errandSeq)).get()
+                    .satisfies(errand -> assertThat(errand.getStatus()).isEqualTo("IN_PROGRESS"));
+        }
+    }
+
+    /**
+     * 1,000개의 동시 수락 요청의 처리량을 측정합니다. ({@code gradle benchmark --tests '*ErrandAcceptConcurrencyTests'})
+     * 내장 H2와 같은 JVM의 클라이언트를 사용하므로, 결과는 운영 환경의 절대 수치가 아니라 경합 상황에서의 상대 비교용입니다.
+     * H2에서는 경쟁에서 진 UPDATE도 같은 행의 잠금을 차례로 기다리므로, 처리량이 Oracle보다 낮게 측정됩니다.
+     */
+    @Test
+    @Tag("benchmark")
+    void measuresThroughputWithThousandAccepters() throws Exception {
+        int accepters = Integer.getInteger("benchmark.accept.concurrency", 1000);
+        int rounds = Integer.getInteger("benchmark.accept.rounds", 5);
+        long requests = 0;
+        long elapsedNanos = 0;
+        for (int round = 0; round < rounds; round++) {
+            Long errandSeq = createErrand();
+            long start = System.nanoTime();
+            Map<Integer, Long> statuses = acceptConcurrently(errandSeq, accepters);
+            elapsedNanos += System.nanoTime() - start;
+            requests += accepters;
+
+            assertThat(statuses.get(200)).isEqualTo(1L);
+            assertThat(statuses.get(409)).isEqualTo(accepters - 1L);
+        }
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("accept: %d rounds x %d concurrent accepters, %,.0f requests/s (%.1f ms per round)%n",
+                rounds, accepters, requests / seconds, seconds * 1000 / rounds);
+    }
+
+    private Long createErrand() {
+        ErrandDTO errand = new ErrandDTO();
+        errand.setTitle("accept race");
+        errand.setDescription("description");
+        errand.setCategoryId(categoryId);
+        errand.setLocation("Seoul");
+        errand.setPrice(new BigDecimal("10000"));
+        errand.setEstimatedTime(30);
+        errand.setDeadline(LocalDateTime.now().plusDays(1));
+        return errandService.createErrand(errand).getErrandSeq();
+    }
+
+    /**
+     * 모든 요청이 준비된 뒤 동시에 수락 요청을 보내고, 응답 상태 코드별 개수를 반환합니다.
+     * @param errandSeq 심부름 고유 번호
+     * @param accepters 동시에 수락할 요청 수
+     * @return 상태 코드별 응답 수
+     */
+    private Map<Integer, Long> acceptConcurrently(Long errandSeq, int accepters) throws Exception {
+        CountDownLatch ready = new CountDownLatch(accepters);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> responses = new ArrayList<>(accepters);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < accepters; i++) {
+                long runnerSeq = i + 1;
+                HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/ErrandService/errands/" + errandSeq + "/accept"))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(
+                                "{\"runnerSeq\":" + runnerSeq + ",\"runnerNickname\":\"runner-" + runnerSeq + "\"}"))
+                        .build();
+                responses.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                }));
+            }
+            ready.await();
+            start.countDown();
+            List<Integer> statuses = new ArrayList<>(accepters);
+            for (Future<Integer> response : responses) {
+                statuses.add(response.get());
+            }
+            return statuses.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.dowadream.errand_service.controller;
+
+import com.dowadream.errand_service.exception.GlobalExceptionHandler;
+import com.dowadream.errand_service.service.ErrandExportService;
+import com.dowadream.errand_service.service.ErrandFileFormat;
+import com.dowadream.errand_service.service.ErrandImportService;
+import com.dowadream.errand_service.service.ErrandService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 심부름 내보내기가 전용 스레드 풀에서 실행되고, 스레드 풀이 가득 차면 503으로 거부되는지 검증하는 테스트
+ */
+class ErrandExportControllerTests {
+
+    private final ErrandExportService errandExportService = mock(ErrandExportService.class);
+    private ThreadPoolTaskExecutor executor;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("errand-export-");
+        executor.initialize();
+        ErrandController controller = new ErrandController(mock(ErrandService.class), errandExportService,
+                mock(ErrandImportService.class), executor, 60);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void writesExportOnDedicatedExecutor() throws Exception {
+        String[] exportThread = new String[1];
+        doAnswer(invocation -> {
+            exportThread[0] = Thread.currentThread().getName();
+            OutputStream outputStream = invocation.getArgument(4);
+            outputStream.write("{\"errandSeq\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(errandExportService).export(eq(ErrandFileFormat.NDJSON), isNull(), isNull(), isNull(), any());
+
+        MvcResult result = mockMvc.perform(get("/ErrandService/errands/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(TimeUnit.SECONDS.toMillis(5));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=errands.ndjson"))
+                .andExpect(content().string("{\"errandSeq\":1}\n"));
+        assertThat(exportThread[0]).startsWith("errand-export-");
+    }
+
+    @Test
+    void rejectsExportWhenExecutorIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0L;
+        }).when(errandExportService).export(any(), any(), any(), any(), any());
+
+        MvcResult running = mockMvc.perform(get("/ErrandService/errands/export")).andReturn();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        try {
+            MvcResult rejected = mockMvc.perform(get("/ErrandService/errands/export").param("format", "csv"))
+                    .andReturn();
+
+            // MockMvc는 제출이 거부된 작업의 결과로 재디스패치하지 않으므로, 비동기 결과와 예외 처리 결과를 각각 확인합니다.
+            Object asyncResult = WebAsyncUtils.getAsyncManager(rejected.getRequest()).getConcurrentResult();
+            assertThat(asyncResult).isInstanceOf(TaskRejectedException.class);
+            assertThat(rejected.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION)).isNull();
+            assertThat(new GlobalExceptionHandler().handleTaskRejectedException((TaskRejectedException) asyncResult)
+                    .getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        } finally {
+            release.countDown();
+        }
+        running.getAsyncResult(TimeUnit.SECONDS.toMillis(5));
+    }
+}
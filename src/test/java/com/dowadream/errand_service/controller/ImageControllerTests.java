@@ -0,0 +1,194 @@
+package com.dowadream.errand_service.controller;
+
+import com.dowadream.errand_service.exception.GlobalExceptionHandler;
+import com.dowadream.errand_service.service.FileStorageService;
+import com.dowadream.errand_service.storage.BlobRegion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 이미지 응답이 ETag와 If-None-Match로 304를, Range와 If-Range로 206 또는 전체 내용을 돌려주는지 검증하는 테스트
+ * 팩 파일 저장소처럼 내용이 파일 중간에 있는 경우를 재현하기 위해 앞뒤에 다른 바이트가 있는 파일의 일부 영역을 제공합니다.
+ */
+class ImageControllerTests {
+
+    private static final String NAME = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    private static final String ETAG = "\"" + NAME + "\"";
+    private static final int OFFSET = 100;
+
+    @TempDir
+    Path directory;
+
+    private final FileStorageService fileStorageService = mock(FileStorageService.class);
+    private MockMvc mockMvc;
+    private byte[] image;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        image = new byte[1000];
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+        System.arraycopy(signature, 0, image, 0, signature.length);
+        for (int i = signature.length; i < image.length; i++) {
+            image[i] = (byte) i;
+        }
+        byte[] segment = new byte[OFFSET + image.length + 50];
+        Arrays.fill(segment, (byte) 0x7f);
+        System.arraycopy(image, 0, segment, OFFSET, image.length);
+        file = Files.write(directory.resolve("segment.pack"), segment);
+
+        when(fileStorageService.findStoredFile(anyString())).thenReturn(Optional.empty());
+        when(fileStorageService.findStoredFile(NAME)).thenReturn(Optional.of(
+                new BlobRegion(file, OFFSET, image.length, FileTime.fromMillis(0))));
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImageController(fileStorageService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void servesWholeImageWithCacheHeaders() throws Exception {
+        mockMvc.perform(get("/ErrandService/images/" + NAME))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, image.length))
+                .andExpect(content().bytes(image));
+
+        mockMvc.perform(get("/ErrandService/images/ab/cd/" + NAME))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    void returnsNotModifiedForMatchingEntityTag() throws Exception {
+        for (String ifNoneMatch : new String[]{ETAG, "W/" + ETAG, "\"other\", " + ETAG, "*"}) {
+            mockMvc.perform(get("/ErrandService/images/" + NAME).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                    .andExpect(content().bytes(new byte[0]));
+        }
+        mockMvc.perform(get("/ErrandService/images/" + NAME).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    void servesSingleByteRange() throws Exception {
+        mockMvc.perform(get("/ErrandService/images/" + NAME).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/1000"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 10, 20)));
+
+        mockMvc.perform(get("/ErrandService/images/" + NAME).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 995-999/1000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 995, 1000)));
+
+        mockMvc.perform(get("/ErrandService/images/" + NAME).header(HttpHeaders.RANGE, "bytes=990-5000"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 990-999/1000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 990, 1000)));
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/ErrandService/images/" + NAME).header(HttpHeaders.RANGE, "bytes=1000-1010"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */1000"));
+    }
+
+    @Test
+    void servesWholeImageWhenRangeDoesNotApply() throws Exception {
+        mockMvc.perform(get("/ErrandService/images/" + NAME)
+                        .header(HttpHeaders.RANGE, "bytes=10-19")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+
+        mockMvc.perform(get("/ErrandService/images/" + NAME)
+                        .header(HttpHeaders.RANGE, "bytes=10-19")
+                        .header(HttpHeaders.IF_RANGE, ETAG))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 10, 20)));
+
+        mockMvc.perform(get("/ErrandService/images/" + NAME).header(HttpHeaders.RANGE, "bytes=0-1,5-6"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+
+        mockMvc.perform(get("/ErrandService/images/" + NAME).header(HttpHeaders.RANGE, "items=0-1"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    void headReturnsHeadersWithoutBody() throws Exception {
+        mockMvc.perform(head("/ErrandService/images/" + NAME))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, image.length))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void handsRegionToContainerWhenSendfileIsSupported() throws Exception {
+        mockMvc.perform(get("/ErrandService/images/" + NAME)
+                        .header(HttpHeaders.RANGE, "bytes=10-19")
+                        .requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isPartialContent())
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.filename", file.toString()))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.start", (long) OFFSET + 10))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.end", (long) OFFSET + 20))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void servesNonImageContentAsAttachment() throws Exception {
+        String html = NAME.replace('0', 'a');
+        String svg = NAME.replace('0', 'b') + "_w120.svg";
+        byte[] markup = "<!DOCTYPE html><script>alert(1)</script>".getBytes(StandardCharsets.US_ASCII);
+        Path markupFile = Files.write(directory.resolve("markup"), markup);
+        when(fileStorageService.findStoredFile(html)).thenReturn(Optional.of(
+                new BlobRegion(markupFile, 0, markup.length, FileTime.fromMillis(0))));
+        when(fileStorageService.findStoredFile(svg)).thenReturn(Optional.of(
+                new BlobRegion(markupFile, 0, markup.length, FileTime.fromMillis(0))));
+
+        for (String name : new String[]{html, svg}) {
+            mockMvc.perform(get("/ErrandService/images/" + name))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/octet-stream"))
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment"))
+                    .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+        }
+        mockMvc.perform(get("/ErrandService/images/" + NAME))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION));
+    }
+
+    @Test
+    void returnsNotFoundForUnknownImage() throws Exception {
+        mockMvc.perform(get("/ErrandService/images/" + NAME.replace('0', 'f')))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,180 @@
+package com.dowadream.errand_service.controller;
+
+import com.dowadream.errand_service.service.FileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 컨트롤러(sendfile 또는 transferTo)와 스프링의 Resource 응답 처리로 같은 이미지를 제공할 때의 처리량과 p99 응답 시간을 비교하는 성능 측정
+ * <pre>
+ * gradle benchmark --tests '*ImageServingBenchmark' -Dbenchmark.image.size-kb=256 -Dbenchmark.image.concurrency=32 \
+ *     -Dbenchmark.image.backend=pack
+ * </pre>
+ * 전체 요청, 앞부분 64KB 범위 요청, ETag 조건부 요청(304)을 차례로 측정합니다.
+ * Resource 경로는 저장된 내용을 별도 파일로 복사한 뒤 {@link FileSystemResource}로 응답하므로, 기존 정적 파일 제공 방식에 해당합니다.
+ * 같은 JVM의 클라이언트를 사용하므로 결과는 두 경로의 상대 비교용입니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(ImageServingBenchmark.ResourceImageController.class)
+class ImageServingBenchmark {
+
+    private static Path resourceDirectory;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private String name;
+    private int size;
+
+    @DynamicPropertySource
+    static void storageBackend(DynamicPropertyRegistry registry) throws IOException {
+        resourceDirectory = Files.createTempDirectory("image-serving-benchmark-");
+        registry.add("file.storage.backend", () -> System.getProperty("benchmark.image.backend", "local"));
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        size = Integer.getInteger("benchmark.image.size-kb", 256) * 1024;
+        byte[] content = new byte[size];
+        new Random().nextBytes(content);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        name = fileStorageService.storeFile(new MockMultipartFile("image", "image.png", "image/png", content))
+                .getPath().getFileName().toString();
+        try (InputStream in = fileStorageService.openStream(name)) {
+            Files.copy(in, resourceDirectory.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Test
+    void comparesImageControllerWithResourceHandling() throws Exception {
+        int clients = Integer.getInteger("benchmark.image.concurrency", 32);
+        int requestsPerClient = Integer.getInteger("benchmark.image.requests", 200);
+        String controller = "/ErrandService/images/" + name;
+        String resource = "/benchmark/resource-images/" + name;
+
+        measure("warm-up controller", controller, new String[0], clients, requestsPerClient / 4, 200);
+        measure("warm-up resource", resource, new String[0], clients, requestsPerClient / 4, 200);
+        for (String[] scenario : new String[][]{
+                {"full", null, null, "200"},
+                {"range", HttpHeaders.RANGE, "bytes=0-65535", "206"},
+                {"conditional", HttpHeaders.IF_NONE_MATCH, "\"" + name + "\"", "304"}}) {
+            String[] headers = scenario[1] == null ? new String[0] : new String[]{scenario[1], scenario[2]};
+            int expectedStatus = Integer.parseInt(scenario[3]);
+            measure(scenario[0] + " controller", controller, headers, clients, requestsPerClient, expectedStatus);
+            measure(scenario[0] + " resource", resource, headers, clients, requestsPerClient, expectedStatus);
+        }
+    }
+
+    /**
+     * 여러 클라이언트가 같은 요청을 반복해서 보내고 결과를 출력합니다.
+     * @param label 출력할 이름
+     * @param path 요청 경로
+     * @param headers 요청 헤더 (이름, 값 순서)
+     * @param clients 동시 클라이언트 수
+     * @param requestsPerClient 클라이언트마다 보낼 요청 수
+     * @param expectedStatus 기대하는 응답 상태 코드
+     */
+    private void measure(String label, String path, String[] headers, int clients, int requestsPerClient, int expectedStatus)
+            throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (headers.length > 0) {
+            builder.headers(headers);
+        }
+        HttpRequest request = builder.build();
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        long[] bytes = new long[clients];
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                int client = i;
+                results.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int j = 0; j < requestsPerClient; j++) {
+                        long requestStart = System.nanoTime();
+                        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[j] = System.nanoTime() - requestStart;
+                        assertThat(response.statusCode()).isEqualTo(expectedStatus);
+                        bytes[client] += response.body().length;
+                    }
+                    return latencies;
+                }));
+            }
+            long[] latencies = new long[clients * requestsPerClient];
+            int index = 0;
+            for (Future<long[]> result : results) {
+                for (long latency : result.get()) {
+                    latencies[index++] = latency;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(latencies);
+            long p99 = latencies.length == 0 ? 0 : latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+            System.out.printf("%s: %d clients x %d requests of %d KB, %,.0f requests/s, %,.1f MB/s, p99 %.2f ms%n",
+                    label, clients, requestsPerClient, size / 1024, latencies.length / seconds,
+                    Arrays.stream(bytes).sum() / seconds / 1024 / 1024, p99 / 1e6);
+        }
+    }
+
+    /**
+     * 비교 대상인 스프링의 Resource 응답 처리 (Range는 ResourceRegion 변환기가, ETag는 WebRequest가 처리)
+     */
+    @RestController
+    static class ResourceImageController {
+
+        @GetMapping("/benchmark/resource-images/{name}")
+        ResponseEntity<Resource> getImage(@PathVariable String name, WebRequest request) {
+            String eTag = "\"" + name + "\"";
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                    .header(HttpHeaders.CONTENT_TYPE, "image/png")
+                    .body(new FileSystemResource(resourceDirectory.resolve(name)));
+        }
+    }
+}
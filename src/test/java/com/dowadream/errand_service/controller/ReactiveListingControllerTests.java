@@ -0,0 +1,242 @@
+package com.dowadream.errand_service.controller;
+
+import com.dowadream.errand_service.dto.CategoryDTO;
+import com.dowadream.errand_service.service.CategoryService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * R2DBC 경로의 NDJSON 목록 응답이 JPA 경로의 JSON 목록 응답과 같은 행, 순서, 이미지 경로를 반환하는지 검증하는 테스트
+ * 두 경로가 같은 내장 데이터베이스를 보도록 JDBC URL과 R2DBC URL을 같은 이름의 H2 메모리 데이터베이스로 지정합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:reactive-listing;MODE=Oracle;DB_CLOSE_DELAY=-1",
+                "reactive-read.url=r2dbc:h2:mem:///reactive-listing?options=MODE=Oracle;DB_CLOSE_DELAY=-1",
+                "reactive-read.username=sa",
+                "server.tomcat.threads.max=200"
+        })
+class ReactiveListingControllerTests {
+
+    private static final int ROWS = 30;
+    private static final AtomicLong IDS = new AtomicLong(1_000_000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Long categoryId;
+    private long errandSeq;
+    private long offeringId;
+
+    /**
+     * 새 카테고리에 이미지가 두 개씩 있는 심부름과 서비스 제공, 그리고 리뷰를 만듭니다.
+     * 카테고리마다 목록 조회 결과 캐시의 키가 달라지므로 JPA 경로의 조회는 항상 데이터베이스까지 갑니다.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        CategoryDTO category = new CategoryDTO();
+        category.setName("reactive-listing-" + IDS.incrementAndGet());
+        categoryId = categoryService.createCategory(category).getCategoryId();
+
+        for (int i = 0; i < ROWS; i++) {
+            errandSeq = IDS.incrementAndGet();
+            jdbcTemplate.update("INSERT INTO errands (errand_seq, title, description, status, created_date, category_id, " +
+                            "location, price, estimated_time, deadline) VALUES (?, ?, 'description', 'REQUESTED', " +
+                            "DATEADD('SECOND', ?, CURRENT_TIMESTAMP), ?, ?, ?, 30, DATEADD('DAY', 1, CURRENT_TIMESTAMP))",
+                    errandSeq, "errand-" + i, i, categoryId, i % 2 == 0 ? "Seoul" : "Busan", 10000 + (i % 7) * 1000);
+            offeringId = IDS.incrementAndGet();
+            jdbcTemplate.update("INSERT INTO service_offerings (id, title, price_range, location, category_id, provider_id, " +
+                            "created_date, completed_tasks, rating_sum, rating_count, average_rating) " +
+                            "VALUES (?, ?, ?, 'Seoul', ?, 1, DATEADD('SECOND', ?, CURRENT_TIMESTAMP), ?, ?, ?, ?)",
+                    offeringId, "offering-" + i, 10000 + (i % 5) * 1000, categoryId, i, i % 4,
+                    (i % 5) * (i % 3), i % 3, i % 3 == 0 ? 0 : i % 5);
+            for (int j = 0; j < 2; j++) {
+                insertImage("errand_seq", errandSeq, "ERRAND_REQUEST");
+                insertImage("service_offering_id", offeringId, "SERVICE_OFFERING");
+            }
+        }
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO reviews (id, errand_seq, reviewer_id, rating, comments, created_date) " +
+                    "VALUES (?, ?, ?, ?, 'comment', CURRENT_TIMESTAMP)", IDS.incrementAndGet(), errandSeq, i + 1, i % 5 + 1);
+            jdbcTemplate.update("INSERT INTO reviews (id, service_offering_id, reviewer_id, rating, comments, created_date) " +
+                    "VALUES (?, ?, ?, ?, 'comment', CURRENT_TIMESTAMP)", IDS.incrementAndGet(), offeringId, i + 1, i % 5 + 1);
+        }
+    }
+
+    @Test
+    void errandStreamMatchesJsonPage() throws Exception {
+        for (String sortBy : Arrays.asList("", "latest", "highestPrice", "highestHourlyRate", "closestDeadline")) {
+            for (String location : Arrays.asList(null, "Seoul")) {
+                String query = "?categoryId=" + categoryId + "&sortBy=" + sortBy + "&page=1&size=7"
+                        + (location == null ? "" : "&location=" + location);
+                List<JsonNode> expected = elements(getJson("/ErrandService/errands/filter" + query).get("content"));
+                List<JsonNode> actual = getNdjson("/ErrandService/errands/filter/stream" + query);
+
+                assertThat(actual).isNotEmpty();
+                assertThat(summaries(actual, "errandSeq")).isEqualTo(summaries(expected, "errandSeq"));
+            }
+        }
+    }
+
+    @Test
+    void serviceOfferingStreamMatchesJsonPage() throws Exception {
+        for (String sortBy : Arrays.asList("", "latest", "highestRating", "mostTasks")) {
+            String query = "?categoryId=" + categoryId + "&sortBy=" + sortBy + "&page=0&size=10";
+            List<JsonNode> expected = elements(getJson("/ErrandService/service-offerings/filter" + query).get("content"));
+            List<JsonNode> actual = getNdjson("/ErrandService/service-offerings/filter/stream" + query);
+
+            assertThat(actual).hasSize(10);
+            assertThat(summaries(actual, "id")).isEqualTo(summaries(expected, "id"));
+        }
+    }
+
+    @Test
+    void reviewStreamsMatchJsonLists() throws Exception {
+        List<JsonNode> errandReviews = getNdjson("/ErrandService/reviews/errand/" + errandSeq + "/stream");
+        List<JsonNode> offeringReviews = getNdjson("/ErrandService/reviews/service-offering/" + offeringId + "/stream");
+
+        assertThat(errandReviews).hasSize(5);
+        assertThat(errandReviews).isEqualTo(elements(getJson("/ErrandService/reviews/errand/" + errandSeq)));
+        assertThat(offeringReviews).hasSize(5);
+        assertThat(offeringReviews).isEqualTo(elements(getJson("/ErrandService/reviews/service-offering/" + offeringId)));
+    }
+
+    /**
+     * 같은 목록을 JPA 경로(JSON)와 R2DBC 경로(NDJSON)로 동시에 조회할 때의 처리량, p99 응답 시간, 최대 스레드 수를 비교합니다.
+     * ({@code gradle benchmark --tests '*ReactiveListingControllerTests' -Dbenchmark.reactive.concurrency=200})
+     * 내장 H2와 같은 JVM의 클라이언트를 사용하므로, 결과는 운영 환경의 절대 수치가 아니라 두 경로의 상대 비교용입니다.
+     * 최대 스레드 수는 서버와 클라이언트를 포함한 JVM 전체 값이며, 측정 전에 초기화합니다.
+     */
+    @Test
+    @Tag("benchmark")
+    void comparesServletAndReactiveListings() throws Exception {
+        int clients = Integer.getInteger("benchmark.reactive.concurrency", 200);
+        int requestsPerClient = Integer.getInteger("benchmark.reactive.requests", 20);
+        String query = "?categoryId=" + categoryId + "&sortBy=latest&page=0&size=20";
+
+        measure("jpa (warm-up)", "/ErrandService/errands/filter" + query, clients, requestsPerClient / 4);
+        measure("r2dbc (warm-up)", "/ErrandService/errands/filter/stream" + query, clients, requestsPerClient / 4);
+        measure("jpa", "/ErrandService/errands/filter" + query, clients, requestsPerClient);
+        measure("r2dbc", "/ErrandService/errands/filter/stream" + query, clients, requestsPerClient);
+    }
+
+    /**
+     * 여러 클라이언트가 같은 경로를 반복해서 조회하고 결과를 출력합니다.
+     * @param name 경로 이름
+     * @param path 요청 경로
+     * @param clients 동시 클라이언트 수
+     * @param requestsPerClient 클라이언트마다 보낼 요청 수
+     */
+    private void measure(String name, String path, int clients, int requestsPerClient) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int j = 0; j < requestsPerClient; j++) {
+                        long requestStart = System.nanoTime();
+                        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                        latencies[j] = System.nanoTime() - requestStart;
+                        assertThat(response.statusCode()).isEqualTo(200);
+                    }
+                    return latencies;
+                }));
+            }
+            long[] latencies = new long[clients * requestsPerClient];
+            int index = 0;
+            for (Future<long[]> result : results) {
+                for (long latency : result.get()) {
+                    latencies[index++] = latency;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(latencies);
+            long p99 = latencies.length == 0 ? 0 : latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+            System.out.printf("%s: %d clients x %d requests, %,.0f requests/s, p99 %.1f ms, peak threads %d%n",
+                    name, clients, requestsPerClient, latencies.length / seconds, p99 / 1e6, threads.getPeakThreadCount());
+        }
+    }
+
+    private JsonNode getJson(String path) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", "application/json").GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body());
+    }
+
+    private List<JsonNode> getNdjson(String path) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", "application/x-ndjson").GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                contentType -> assertThat(contentType).startsWith("application/x-ndjson"));
+        List<JsonNode> elements = new ArrayList<>();
+        for (String line : response.body().split("\n")) {
+            if (!line.isBlank()) {
+                elements.add(objectMapper.readTree(line));
+            }
+        }
+        return elements;
+    }
+
+    private static List<JsonNode> elements(JsonNode array) {
+        return StreamSupport.stream(array.spliterator(), false).collect(Collectors.toList());
+    }
+
+    /**
+     * 비교할 필드만 모은 요약을 만듭니다. 생성 일시는 직렬화 정밀도가 경로마다 다를 수 있으므로 비교하지 않습니다.
+     * @param elements 응답 요소
+     * @param idField ID 필드 이름
+     * @return 요소별 요약
+     */
+    private static List<String> summaries(List<JsonNode> elements, String idField) {
+        return elements.stream()
+                .map(element -> element.get(idField) + " " + element.get("title") + " " + element.get("location") + " "
+                        + element.get("price") + " " + element.get("priceRange") + " " + element.get("averageRating") + " "
+                        + element.get("imagePaths") + " " + element.get("thumbnailPaths"))
+                .collect(Collectors.toList());
+    }
+
+    private void insertImage(String ownerColumn, long ownerId, String imageType) {
+        long imageId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO images (image_id, file_name, file_path, upload_date, image_type, " + ownerColumn + ") " +
+                "VALUES (?, ?, ?, CURRENT_TIMESTAMP, ?, ?)", imageId, imageId + ".jpg", "/uploads/" + imageId + ".jpg", imageType, ownerId);
+    }
+}
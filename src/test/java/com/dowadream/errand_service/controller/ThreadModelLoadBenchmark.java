@@ -0,0 +1,224 @@
+package com.dowadream.errand_service.controller;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드(Tomcat 작업 스레드 풀)와 가상 스레드({@code spring.threads.virtual.enabled=true})로 요청을 처리할 때,
+ * 2,000개의 동시 연결이 JDBC 호출에서 대기하는 상황의 처리량, p99 응답 시간, 최대 플랫폼 스레드 수를 비교하는 성능 측정
+ * <pre>
+ * gradle benchmark --tests '*ThreadModelLoadBenchmark*' -Dbenchmark.load.concurrency=2000 -Dbenchmark.load.query-millis=50 \
+ *     -Dbenchmark.load.pool-size=400
+ * </pre>
+ * 각 요청은 트랜잭션 안에서 Oracle 응답 지연을 흉내 내는 쿼리(H2에서 지정한 시간만큼 잠드는 함수)와 심부름 개수 조회를 실행하므로,
+ * 요청 스레드는 그동안 JDBC 호출에서 대기합니다. 두 방식 모두 같은 크기의 연결 풀을 사용하며,
+ * 플랫폼 스레드는 server.tomcat.threads.max(기본 200)개까지만 동시에 요청을 처리합니다.
+ * 가상 스레드로 실행할 때는 1ms 이상 캐리어 스레드를 고정(pinning)한 위치를 JFR 이벤트로 모아 함께 출력합니다.
+ * 내장 H2와 같은 JVM의 클라이언트를 사용하므로 결과는 두 방식의 상대 비교용이며, 클라이언트와 서버가 같은 CPU를 나눠 쓰므로
+ * 코어가 적은 환경에서는 JDBC 대기보다 CPU가 먼저 병목이 됩니다. (가상 스레드의 캐리어 스레드 수도 코어 수와 같습니다.)
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"server.tomcat.max-connections=10000", "server.tomcat.accept-count=2000",
+                "spring.datasource.hikari.maximum-pool-size=${benchmark.load.pool-size:400}",
+                "spring.datasource.hikari.connection-timeout=60000"})
+@Import(ThreadModelLoadBenchmark.DatabaseLatencyController.class)
+class ThreadModelLoadBenchmark {
+
+    @Nested
+    @TestPropertySource(properties = {"spring.threads.virtual.enabled=false", "server.tomcat.threads.max=200"})
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Test
+        void measuresLoad() throws Exception {
+            run("platform threads", port, false);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Test
+        void measuresLoad() throws Exception {
+            run("virtual threads", port, true);
+        }
+    }
+
+    /**
+     * 준비 실행 뒤 동시 연결로 요청을 보내고 결과를 출력합니다.
+     * @param label 출력할 이름
+     * @param port 서버 포트
+     * @param tracePinning 캐리어 스레드 고정 이벤트를 모을지 여부
+     */
+    private static void run(String label, int port, boolean tracePinning) throws Exception {
+        int clients = Integer.getInteger("benchmark.load.concurrency", 2000);
+        int requestsPerClient = Integer.getInteger("benchmark.load.requests", 10);
+        int queryMillis = Integer.getInteger("benchmark.load.query-millis", 50);
+        URI uri = URI.create("http://localhost:" + port + "/benchmark/load/" + queryMillis);
+
+        measure(label + " (warm-up)", uri, clients / 4, requestsPerClient);
+        Map<String, LongAdder> pinned = new ConcurrentHashMap<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            if (tracePinning) {
+                recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+                recording.onEvent("jdk.VirtualThreadPinned", event -> pinned
+                        .computeIfAbsent(pinningSite(event.getStackTrace().getFrames()), site -> new LongAdder())
+                        .increment());
+                recording.startAsync();
+            }
+            measure(label, uri, clients, requestsPerClient);
+        }
+        if (tracePinning) {
+            System.out.printf("%s: %,d pinned events%n", label, pinned.values().stream().mapToLong(LongAdder::sum).sum());
+            pinned.entrySet().stream()
+                    .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                    .limit(5)
+                    .forEach(entry -> System.out.printf("    %,d at %s%n", entry.getValue().sum(), entry.getKey()));
+        }
+    }
+
+    /**
+     * 모든 클라이언트가 준비된 뒤 동시에 요청을 반복해서 보내고 결과를 출력합니다.
+     * 시간 초과나 연결 실패는 실패 수로 셉니다.
+     * @param label 출력할 이름
+     * @param uri 요청 주소
+     * @param clients 동시 연결 수
+     * @param requestsPerClient 연결마다 보낼 요청 수
+     */
+    private static void measure(String label, URI uri, int clients, int requestsPerClient) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicLong failures = new AtomicLong();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(1)).GET().build();
+        CountDownLatch ready = new CountDownLatch(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(executor).build()) {
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    Arrays.fill(latencies, -1);
+                    ready.countDown();
+                    start.await();
+                    for (int j = 0; j < requestsPerClient; j++) {
+                        long requestStart = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                            if (response.statusCode() == 200) {
+                                latencies[j] = System.nanoTime() - requestStart;
+                                continue;
+                            }
+                        } catch (IOException e) {
+                            // 시간 초과나 연결 거부는 실패로 셉니다.
+                        }
+                        failures.incrementAndGet();
+                    }
+                    return latencies;
+                }));
+            }
+            ready.await();
+            threads.resetPeakThreadCount();
+            long startNanos = System.nanoTime();
+            start.countDown();
+            long[] latencies = new long[clients * requestsPerClient];
+            int index = 0;
+            for (Future<long[]> result : results) {
+                for (long latency : result.get()) {
+                    if (latency >= 0) {
+                        latencies[index++] = latency;
+                    }
+                }
+            }
+            double seconds = (System.nanoTime() - startNanos) / 1e9;
+            latencies = Arrays.copyOf(latencies, index);
+            Arrays.sort(latencies);
+            assertThat(latencies).isNotEmpty();
+            System.out.printf("%s: %,d connections x %d requests, %,.0f requests/s, p50 %.1f ms, p99 %.1f ms, " +
+                            "%,d failed, peak %,d platform threads%n",
+                    label, clients, requestsPerClient, latencies.length / seconds, latencies[latencies.length / 2] / 1e6,
+                    latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1e6, failures.get(),
+                    threads.getPeakThreadCount());
+        }
+    }
+
+    /**
+     * 고정 이벤트의 스택에서 JDK 내부가 아닌 첫 번째 프레임을 찾아 위치 문자열로 만듭니다.
+     */
+    private static String pinningSite(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> !frame.getMethod().getType().getName().startsWith("java.")
+                        && !frame.getMethod().getType().getName().startsWith("jdk."))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse("unknown");
+    }
+
+    /**
+     * 트랜잭션 안에서 Oracle 응답 지연을 흉내 낸 쿼리와 심부름 개수 조회를 실행하는 측정용 엔드포인트
+     */
+    @RestController
+    static class DatabaseLatencyController {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+
+        DatabaseLatencyController(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.transactionTemplate.setReadOnly(true);
+            jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS BENCHMARK_SLEEP FOR 'java.lang.Thread.sleep(long)'");
+        }
+
+        @GetMapping("/benchmark/load/{queryMillis}")
+        Long load(@PathVariable long queryMillis) {
+            return transactionTemplate.execute(status -> {
+                jdbcTemplate.queryForList("SELECT BENCHMARK_SLEEP(?)", queryMillis);
+                return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM errands", Long.class);
+            });
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.dowadream.errand_service.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 타이밍 휠의 만료 시점, 단계 간 재배치, 초과 목록 처리를 검증하는 테스트
+ */
+class TimingWheelTests {
+
+    private static final long TICK = 10;
+
+    @Test
+    void expiresOnTheFirstTickAtOrAfterTheDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 0);
+        wheel.add("a", 25);
+
+        assertThat(advance(wheel, 29)).isEmpty();
+        assertThat(advance(wheel, 30)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void expiresPastDeadlinesOnTheNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 1_000);
+        wheel.add("late", 0);
+
+        assertThat(advance(wheel, 1_009)).isEmpty();
+        assertThat(advance(wheel, 1_010)).containsExactly("late");
+    }
+
+    @Test
+    void cascadesFromUpperLevelsAndOverflow() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+        long level1 = 100;
+        long level3 = 300_000;
+        long overflow = 20_000_000;
+        wheel.add("level1", level1);
+        wheel.add("level3", level3);
+        wheel.add("overflow", overflow);
+
+        assertThat(advance(wheel, level1 - 1)).isEmpty();
+        assertThat(advance(wheel, level1)).containsExactly("level1");
+        assertThat(advance(wheel, level3 - 1)).isEmpty();
+        assertThat(advance(wheel, level3)).containsExactly("level3");
+        assertThat(advance(wheel, overflow - 1)).isEmpty();
+        assertThat(advance(wheel, overflow)).containsExactly("overflow");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void matchesABruteForceScheduleForRandomDeadlines() {
+        Random random = new Random(42);
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK, 0);
+        Map<Integer, Long> dueTicks = new HashMap<>();
+        long now = 0;
+        int next = 0;
+
+        for (int round = 0; round < 500; round++) {
+            for (int i = random.nextInt(5); i > 0; i--) {
+                long deadline = now + (long) (Math.pow(random.nextDouble(), 4) * 5_000_000_000L) - 1_000;
+                wheel.add(next, deadline);
+                dueTicks.put(next, Math.max(Math.floorDiv(deadline + TICK - 1, TICK), now / TICK + 1));
+                next++;
+            }
+            now += random.nextInt(20_000_000);
+            long advancedTo = now;
+            long nowTick = now / TICK;
+
+            List<Integer> expired = new ArrayList<>();
+            wheel.advance(advancedTo, timeout -> {
+                expired.add(timeout.getItem());
+                assertThat(timeout.getDeadlineMillis()).isLessThanOrEqualTo(advancedTo);
+            });
+            List<Integer> expected = new ArrayList<>();
+            dueTicks.forEach((item, tick) -> {
+                if (tick <= nowTick) {
+                    expected.add(item);
+                }
+            });
+            assertThat(expired).containsExactlyInAnyOrderElementsOf(expected);
+            expected.forEach(dueTicks::remove);
+            assertThat(wheel.size()).isEqualTo(dueTicks.size());
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveTicks() {
+        assertThatThrownBy(() -> new TimingWheel<>(0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static <T> List<T> advance(TimingWheel<T> wheel, long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        wheel.advance(nowMillis, timeout -> expired.add(timeout.getItem()));
+        return expired;
+    }
+}
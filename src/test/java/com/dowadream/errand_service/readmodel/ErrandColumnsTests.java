@@ -0,0 +1,188 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.repository.ErrandSort;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컬럼 저장소의 증분 갱신(추가, 교체, 삭제)과 전체 재구성이 같은 정렬 순서와 필터 결과를 만드는지 검증하는 테스트
+ * 기대 결과는 DTO 목록을 {@link ErrandSort#orderBy()}와 같은 기준으로 직접 정렬하여 계산합니다.
+ */
+class ErrandColumnsTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final String[] LOCATIONS = {"Seoul", "Busan", "Incheon"};
+
+    @Test
+    void incrementalUpdatesMatchFullRebuild() {
+        Random random = new Random(7);
+        ErrandColumns incremental = new ErrandColumns(4);
+        Map<Long, ErrandDTO> expected = new LinkedHashMap<>();
+
+        for (int i = 0; i < 3_000; i++) {
+            long errandSeq = 1 + random.nextInt(400);
+            if (random.nextInt(4) == 0) {
+                incremental.remove(errandSeq);
+                expected.remove(errandSeq);
+            } else {
+                ErrandDTO errand = errand(errandSeq, random);
+                incremental.upsert(errand);
+                expected.put(errandSeq, errand);
+            }
+        }
+
+        ErrandColumns rebuilt = new ErrandColumns(4);
+        expected.values().forEach(rebuilt::append);
+        rebuilt.sortAll();
+
+        assertThat(incremental.size()).isEqualTo(expected.size());
+        for (ErrandSort sort : ErrandSort.values()) {
+            for (String location : new String[]{null, "Seoul"}) {
+                for (Long categoryId : new Long[]{null, 2L}) {
+                    List<Long> want = expectedOrder(expected.values(), location, categoryId, sort);
+                    assertThat(query(incremental, location, categoryId, sort, 0, Integer.MAX_VALUE))
+                            .as("%s, location=%s, category=%s", sort, location, categoryId).isEqualTo(want);
+                    assertThat(query(rebuilt, location, categoryId, sort, 0, Integer.MAX_VALUE)).isEqualTo(want);
+                }
+            }
+        }
+    }
+
+    @Test
+    void bulkUpsertMatchesRowByRowUpsert() {
+        Random random = new Random(11);
+        ErrandColumns bulk = new ErrandColumns(4);
+        ErrandColumns rowByRow = new ErrandColumns(4);
+        Map<Long, ErrandDTO> expected = new LinkedHashMap<>();
+
+        for (int chunk = 0; chunk < 60; chunk++) {
+            // 새 행과 이미 있는 행의 교체가 섞이도록, 묶음 안에서는 고유 번호가 겹치지 않게 고릅니다.
+            Map<Long, ErrandDTO> rows = new LinkedHashMap<>();
+            int size = 1 + random.nextInt(chunk % 10 == 0 ? 1 : 40);
+            while (rows.size() < size) {
+                long errandSeq = 1 + random.nextInt(600);
+                rows.putIfAbsent(errandSeq, errand(errandSeq, random));
+            }
+            bulk.upsertAll(new ArrayList<>(rows.values()));
+            rows.values().forEach(rowByRow::upsert);
+            expected.putAll(rows);
+        }
+
+        assertThat(bulk.size()).isEqualTo(expected.size());
+        for (ErrandSort sort : ErrandSort.values()) {
+            List<Long> want = expectedOrder(expected.values(), null, null, sort);
+            assertThat(query(bulk, null, null, sort, 0, Integer.MAX_VALUE)).as("%s", sort).isEqualTo(want);
+            assertThat(query(rowByRow, null, null, sort, 0, Integer.MAX_VALUE)).isEqualTo(want);
+        }
+    }
+
+    @Test
+    void pagesAndCountsFilteredRows() {
+        ErrandColumns columns = new ErrandColumns(16);
+        for (long errandSeq = 1; errandSeq <= 10; errandSeq++) {
+            ErrandDTO errand = errand(errandSeq, 1L, errandSeq % 2 == 0 ? "Seoul" : "Busan", 1000 * errandSeq, 60);
+            columns.upsert(errand);
+        }
+
+        List<ErrandDTO> content = new ArrayList<>();
+        long total = columns.query("Seoul", null, ErrandSort.HIGHEST_PRICE, 1, 2, content);
+
+        assertThat(total).isEqualTo(5);
+        assertThat(content).extracting(ErrandDTO::getErrandSeq).containsExactly(8L, 6L);
+        assertThat(columns.query("Daegu", null, ErrandSort.DEFAULT, 0, 10, new ArrayList<>())).isZero();
+    }
+
+    @Test
+    void putsErrandsWithoutHourlyRateLast() {
+        ErrandColumns columns = new ErrandColumns(16);
+        columns.upsert(errand(1L, 1L, "Seoul", 1000, 0));
+        columns.upsert(errand(2L, 1L, "Seoul", 1000, 10));
+        columns.upsert(errand(3L, 1L, "Seoul", 1000, 0));
+        columns.upsert(errand(4L, 1L, "Seoul", 3000, 10));
+
+        assertThat(query(columns, null, null, ErrandSort.HIGHEST_HOURLY_RATE, 0, 10)).containsExactly(4L, 2L, 3L, 1L);
+    }
+
+    @Test
+    void reusesSlotsAndReleasesPayloadOnRemove() {
+        ErrandColumns columns = new ErrandColumns(16);
+        long empty = columns.estimatedBytes();
+        for (long errandSeq = 1; errandSeq <= 10; errandSeq++) {
+            columns.upsert(errand(errandSeq, 1L, "Seoul", 1000, 10));
+        }
+        for (long errandSeq = 1; errandSeq <= 10; errandSeq++) {
+            columns.remove(errandSeq);
+        }
+
+        assertThat(columns.size()).isZero();
+        assertThat(columns.estimatedBytes() - empty).isLessThan(100);
+        columns.upsert(errand(11L, 1L, "Seoul", 1000, 10));
+        assertThat(query(columns, null, null, ErrandSort.DEFAULT, 0, 10)).containsExactly(11L);
+    }
+
+    private static List<Long> query(ErrandColumns columns, String location, Long categoryId, ErrandSort sort, long offset, int limit) {
+        List<ErrandDTO> content = new ArrayList<>();
+        columns.query(location, categoryId, sort, offset, limit, content);
+        return content.stream().map(ErrandDTO::getErrandSeq).collect(Collectors.toList());
+    }
+
+    private static List<Long> expectedOrder(Iterable<ErrandDTO> errands, String location, Long categoryId, ErrandSort sort) {
+        List<ErrandDTO> matched = new ArrayList<>();
+        for (ErrandDTO errand : errands) {
+            if ((location == null || location.equals(errand.getLocation()))
+                    && (categoryId == null || categoryId.equals(errand.getCategoryId()))) {
+                matched.add(errand);
+            }
+        }
+        Comparator<ErrandDTO> bySeq = Comparator.comparing(ErrandDTO::getErrandSeq);
+        Comparator<ErrandDTO> order = switch (sort) {
+            case LATEST -> Comparator.comparing(ErrandDTO::getCreatedDate).reversed().thenComparing(bySeq.reversed());
+            case HIGHEST_PRICE -> Comparator.comparing(ErrandDTO::getPrice).reversed().thenComparing(bySeq.reversed());
+            case HIGHEST_HOURLY_RATE -> Comparator.comparing(ErrandColumnsTests::hourlyRate,
+                    Comparator.nullsFirst(Comparator.<BigDecimal>naturalOrder())).reversed().thenComparing(bySeq.reversed());
+            case CLOSEST_DEADLINE -> Comparator.comparing(ErrandDTO::getDeadline).thenComparing(bySeq);
+            default -> bySeq;
+        };
+        matched.sort(order);
+        return matched.stream().map(ErrandDTO::getErrandSeq).collect(Collectors.toList());
+    }
+
+    private static BigDecimal hourlyRate(ErrandDTO errand) {
+        return errand.getEstimatedTime() == 0 ? null
+                : errand.getPrice().divide(BigDecimal.valueOf(errand.getEstimatedTime()), 10, RoundingMode.HALF_UP);
+    }
+
+    private static ErrandDTO errand(long errandSeq, Random random) {
+        ErrandDTO errand = errand(errandSeq, 1L + random.nextInt(3), LOCATIONS[random.nextInt(LOCATIONS.length)],
+                1000 * (1 + random.nextInt(20)), random.nextInt(5) * 30);
+        errand.setCreatedDate(BASE.plusNanos(random.nextInt(50) * 1_000L));
+        errand.setDeadline(BASE.plusHours(random.nextInt(48)));
+        return errand;
+    }
+
+    private static ErrandDTO errand(long errandSeq, long categoryId, String location, long price, int estimatedTime) {
+        ErrandDTO errand = new ErrandDTO();
+        errand.setErrandSeq(errandSeq);
+        errand.setCategoryId(categoryId);
+        errand.setLocation(location);
+        errand.setPrice(BigDecimal.valueOf(price));
+        errand.setEstimatedTime(estimatedTime);
+        errand.setCreatedDate(BASE.plusSeconds(errandSeq));
+        errand.setDeadline(BASE.plusDays(errandSeq));
+        errand.setTitle("errand-" + errandSeq);
+        return errand;
+    }
+}
@@ -0,0 +1,68 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.repository.ErrandSort;
+import com.dowadream.errand_service.service.ErrandService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주기적 재구성이 다른 인스턴스에서 커밋된 변경을 반영하고, 재구성에 실패하면 기존 읽기 모델을 유지하는지 검증하는 테스트
+ */
+class ErrandReadModelLoaderTests {
+
+    private final ErrandReadModel errandReadModel = new ErrandReadModel(true, new SimpleMeterRegistry());
+    private final ErrandService errandService = mock(ErrandService.class);
+    private final ErrandReadModelLoader loader = new ErrandReadModelLoader(errandReadModel, errandService);
+
+    @Test
+    void refreshPicksUpErrandsCommittedElsewhere() {
+        when(errandService.getOpenErrands()).thenReturn(List.of(errand(1L)), List.of(errand(1L), errand(2L)));
+
+        loader.load();
+        assertThat(errandSeqs()).containsExactly(1L);
+
+        loader.refresh();
+        assertThat(errandSeqs()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousModel() {
+        when(errandService.getOpenErrands()).thenReturn(List.of(errand(1L)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        loader.load();
+        loader.refresh();
+
+        assertThat(errandReadModel.isServing()).isTrue();
+        assertThat(errandSeqs()).containsExactly(1L);
+    }
+
+    private List<Long> errandSeqs() {
+        return errandReadModel.findPage(null, null, ErrandSort.DEFAULT, PageRequest.of(0, 10)).getContent().stream()
+                .map(ErrandDTO::getErrandSeq)
+                .toList();
+    }
+
+    private static ErrandDTO errand(long errandSeq) {
+        ErrandDTO errand = new ErrandDTO();
+        errand.setErrandSeq(errandSeq);
+        errand.setCategoryId(1L);
+        errand.setLocation("Seoul");
+        errand.setPrice(BigDecimal.valueOf(1000));
+        errand.setEstimatedTime(30);
+        errand.setCreatedDate(LocalDateTime.of(2030, 1, 1, 0, 0).plusSeconds(errandSeq));
+        errand.setDeadline(LocalDateTime.of(2030, 2, 1, 0, 0));
+        errand.setTitle("errand-" + errandSeq);
+        return errand;
+    }
+}
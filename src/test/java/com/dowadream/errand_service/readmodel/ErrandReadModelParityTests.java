@@ -0,0 +1,123 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.dto.CategoryDTO;
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.repository.ErrandRepository;
+import com.dowadream.errand_service.repository.ErrandSort;
+import com.dowadream.errand_service.service.CategoryService;
+import com.dowadream.errand_service.service.ErrandService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스를 통해 심부름을 생성, 수정, 수락, 삭제한 뒤
+ * 읽기 모델의 조회 결과가 모든 필터 조합과 정렬 기준에서 SQL 조회 결과와 같은지 검증하는 테스트
+ */
+@SpringBootTest(properties = "errand.read-model.enabled=true")
+class ErrandReadModelParityTests {
+
+    private static final String[] LOCATIONS = {"Seoul", "Busan", "Incheon"};
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ErrandService errandService;
+
+    @Autowired
+    private ErrandRepository errandRepository;
+
+    @Autowired
+    private ErrandReadModel errandReadModel;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void readModelMatchesSqlPathAfterServiceWrites() throws Exception {
+        List<Long> categoryIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CategoryDTO category = new CategoryDTO();
+            category.setName("parity-" + i);
+            categoryIds.add(categoryService.createCategory(category).getCategoryId());
+        }
+
+        Random random = new Random(11);
+        List<Long> errandSeqs = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            errandSeqs.add(errandService.createErrand(errand(random, categoryIds)).getErrandSeq());
+        }
+        for (int i = 0; i < 20; i++) {
+            errandService.updateErrand(errandSeqs.get(i), errand(random, categoryIds));
+        }
+        for (int i = 20; i < 35; i++) {
+            ErrandDTO runner = new ErrandDTO();
+            runner.setRunnerSeq(1L);
+            runner.setRunnerNickname("runner");
+            errandService.acceptErrand(errandSeqs.get(i), runner);
+        }
+        for (int i = 35; i < 45; i++) {
+            errandService.deleteErrand(errandSeqs.get(i));
+        }
+
+        assertThat(errandReadModel.isServing()).isTrue();
+        for (ErrandSort sort : ErrandSort.values()) {
+            for (String location : new String[]{null, "Seoul"}) {
+                for (Long categoryId : new Long[]{null, categoryIds.get(1)}) {
+                    for (PageRequest page : new PageRequest[]{PageRequest.of(0, 200), PageRequest.of(2, 7)}) {
+                        assertThat(readModel(location, categoryId, sort, page))
+                                .as("%s, location=%s, category=%s, page=%s", sort, location, categoryId, page)
+                                .isEqualTo(sql(location, categoryId, sort, page));
+                    }
+                }
+            }
+        }
+    }
+
+    private List<Long> readModel(String location, Long categoryId, ErrandSort sort, PageRequest page) {
+        List<Long> result = new ArrayList<>();
+        var found = errandReadModel.findPage(location, categoryId, sort, page);
+        result.add(found.getTotalElements());
+        found.getContent().forEach(errand -> result.add(errand.getErrandSeq()));
+        return result;
+    }
+
+    private List<Long> sql(String location, Long categoryId, ErrandSort sort, PageRequest page) {
+        int startRow = (int) page.getOffset();
+        return transactionTemplate.execute(status -> {
+            List<Long> result = new ArrayList<>();
+            var found = errandRepository.findErrandPageByFilters(location, categoryId, sort, startRow, startRow + page.getPageSize());
+            result.add(found.getTotal());
+            result.addAll(found.getContent().stream().map(errand -> errand.getErrandSeq()).collect(Collectors.toList()));
+            return result;
+        });
+    }
+
+    /**
+     * 정렬 키가 자주 겹치도록 값의 범위를 좁혀, 동점일 때 심부름 고유 번호로 정렬하는 부분까지 비교되도록 합니다.
+     * 예상 소요 시간이 0이면 시급이 없는 심부름이 됩니다.
+     */
+    private static ErrandDTO errand(Random random, List<Long> categoryIds) {
+        ErrandDTO errand = new ErrandDTO();
+        errand.setTitle("parity");
+        errand.setDescription("description");
+        errand.setCategoryId(categoryIds.get(random.nextInt(categoryIds.size())));
+        errand.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        errand.setPrice(BigDecimal.valueOf(1000L * (1 + random.nextInt(10))));
+        errand.setEstimatedTime(random.nextInt(4) * 30);
+        errand.setDeadline(LocalDateTime.of(2030, 1, 1, 0, 0).plusHours(random.nextInt(24)));
+        return errand;
+    }
+}
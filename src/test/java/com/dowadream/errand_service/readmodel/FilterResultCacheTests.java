@@ -0,0 +1,209 @@
+package com.dowadream.errand_service.readmodel;
+
+import com.dowadream.errand_service.repository.ErrandSort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 필터 조회 캐시가 정규화된 조건으로 항목을 공유하고, 변경된 카테고리와 카테고리 조건이 없는 항목만 제거하며,
+ * 조회 중 무효화된 결과는 저장하지 않는지 검증하는 테스트
+ */
+class FilterResultCacheTests {
+
+    private final FilterResultCache<String> cache =
+            new FilterResultCache<>("test.filter", 1000, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void sharesEntryForSameNormalizedFilter() {
+        Page<String> first = cache.get("Seoul", 1L, ErrandSort.LATEST, PageRequest.of(0, 10), loader("a"));
+        Page<String> second = cache.get("Seoul", 1L, ErrandSort.LATEST, PageRequest.of(0, 10, Sort.by("title")), loader("b"));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.getContent()).isEqualTo(first.getContent()).containsExactly("a");
+        assertThat(second.getTotalElements()).isEqualTo(first.getTotalElements());
+        assertThat(second.getPageable().getSort()).isEqualTo(Sort.by("title"));
+
+        cache.get("Seoul", 1L, ErrandSort.LATEST, PageRequest.of(1, 10), loader("c"));
+        cache.get("Seoul", 1L, ErrandSort.HIGHEST_PRICE, PageRequest.of(0, 10), loader("d"));
+        cache.get("Busan", 1L, ErrandSort.LATEST, PageRequest.of(0, 10), loader("e"));
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void invalidatesChangedCategoryAndUnfilteredEntriesOnly() {
+        cache.get(null, 1L, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("category-1"));
+        cache.get(null, 2L, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("category-2"));
+        cache.get(null, null, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("all"));
+
+        cache.invalidate(List.of(1L));
+
+        assertThat(cache.get(null, 1L, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("category-1 v2")).getContent())
+                .containsExactly("category-1 v2");
+        assertThat(cache.get(null, 2L, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("category-2 v2")).getContent())
+                .containsExactly("category-2");
+        assertThat(cache.get(null, null, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("all v2")).getContent())
+                .containsExactly("all v2");
+
+        cache.invalidateAll();
+        assertThat(cache.get(null, 2L, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("category-2 v3")).getContent())
+                .containsExactly("category-2 v3");
+    }
+
+    @Test
+    void doesNotStoreResultLoadedAcrossInvalidation() {
+        Page<String> stale = cache.get(null, 1L, ErrandSort.DEFAULT, PageRequest.of(0, 10), () -> {
+            cache.invalidate(List.of(1L, 2L));
+            return new PageImpl<>(List.of("before commit"));
+        });
+
+        assertThat(stale.getContent()).containsExactly("before commit");
+        assertThat(cache.get(null, 1L, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("after commit")).getContent())
+                .containsExactly("after commit");
+
+        cache.get(null, null, ErrandSort.DEFAULT, PageRequest.of(0, 10), () -> {
+            cache.invalidate(List.of(3L));
+            return new PageImpl<>(List.of("before commit"));
+        });
+        assertThat(cache.get(null, null, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("after commit")).getContent())
+                .containsExactly("after commit");
+
+        cache.get(null, 4L, ErrandSort.DEFAULT, PageRequest.of(0, 10), () -> {
+            cache.invalidateAll();
+            return new PageImpl<>(List.of("before commit"));
+        });
+        assertThat(cache.get(null, 4L, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("after commit")).getContent())
+                .containsExactly("after commit");
+    }
+
+    @Test
+    void storesResultWhenOnlyOtherCategoriesWereInvalidated() {
+        cache.get(null, 1L, ErrandSort.DEFAULT, PageRequest.of(0, 10), () -> {
+            cache.invalidate(List.of(2L));
+            return new PageImpl<>(List.of("category-1"));
+        });
+
+        assertThat(cache.get(null, 1L, ErrandSort.DEFAULT, PageRequest.of(0, 10), loader("reloaded")).getContent())
+                .containsExactly("category-1");
+        assertThat(loads).hasValue(0);
+    }
+
+    /**
+     * 변경 빈도에 따른 캐시 적중률과 조회 처리량을 캐시가 없을 때와 비교합니다.
+     * ({@code gradle benchmark --tests '*FilterResultCacheTests' -Dbenchmark.filter-cache.concurrency=64})
+     * 조회 조건은 인기 조건에 몰리도록 (카테고리, 위치, 정렬, 페이지)를 편향되게 고르고,
+     * 데이터베이스 조회는 지정한 시간 동안 잠드는 함수로 대신합니다. 변경은 무작위 카테고리 하나를 무효화합니다.
+     */
+    @Test
+    @Tag("benchmark")
+    void comparesHitRatioAndThroughputByWriteRate() throws Exception {
+        int readers = Integer.getInteger("benchmark.filter-cache.concurrency", 64);
+        int readsPerReader = Integer.getInteger("benchmark.filter-cache.reads", 2000);
+        int queryMillis = Integer.getInteger("benchmark.filter-cache.query-millis", 2);
+        int categories = Integer.getInteger("benchmark.filter-cache.categories", 50);
+
+        run("no cache", null, 0, readers, readsPerReader, queryMillis, categories);
+        for (int writesPerSecond : new int[]{0, 10, 100, 1000}) {
+            FilterResultCache<String> benchmarkCache =
+                    new FilterResultCache<>("benchmark.filter", 2000, Duration.ofSeconds(10), new SimpleMeterRegistry());
+            run("cache, " + writesPerSecond + " writes/s", benchmarkCache, writesPerSecond, readers, readsPerReader,
+                    queryMillis, categories);
+        }
+    }
+
+    private void run(String label, FilterResultCache<String> benchmarkCache, int writesPerSecond, int readers,
+                     int readsPerReader, int queryMillis, int categories) throws Exception {
+        AtomicLong queries = new AtomicLong();
+        String[] locations = {null, "Seoul", "Busan", "Incheon"};
+        ErrandSort[] sorts = ErrandSort.values();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> writer = writesPerSecond == 0 || benchmarkCache == null ? null : executor.submit(() -> {
+                long intervalNanos = 1_000_000_000L / writesPerSecond;
+                while (!Thread.currentThread().isInterrupted()) {
+                    benchmarkCache.invalidate(List.of((long) ThreadLocalRandom.current().nextInt(categories)));
+                    try {
+                        Thread.sleep(Duration.ofNanos(intervalNanos));
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+            List<Future<?>> results = new ArrayList<>(readers);
+            for (int i = 0; i < readers; i++) {
+                results.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < readsPerReader; j++) {
+                        Long categoryId = random.nextInt(4) == 0 ? null : (long) skewed(random, categories);
+                        String location = locations[skewed(random, locations.length)];
+                        ErrandSort sort = sorts[skewed(random, sorts.length)];
+                        Pageable pageable = PageRequest.of(skewed(random, 5), 20);
+                        Supplier<Page<String>> query = () -> {
+                            queries.incrementAndGet();
+                            sleep(queryMillis);
+                            return new PageImpl<>(List.of("row"), pageable, 100);
+                        };
+                        if (benchmarkCache == null) {
+                            query.get();
+                        } else {
+                            benchmarkCache.get(location, categoryId, sort, pageable, query);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            if (writer != null) {
+                writer.cancel(true);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long reads = (long) readers * readsPerReader;
+        System.out.printf("%s: %,d reads, hit ratio %.1f%%, %,.0f reads/s%n",
+                label, reads, 100.0 - queries.get() * 100.0 / reads, reads / seconds);
+    }
+
+    /**
+     * 작은 값일수록 자주 나오도록 0 이상 bound 미만의 값을 고릅니다. (두 균등 분포의 최솟값)
+     */
+    private static int skewed(ThreadLocalRandom random, int bound) {
+        return Math.min(random.nextInt(bound), random.nextInt(bound));
+    }
+
+    private Supplier<Page<String>> loader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(value), PageRequest.of(0, 10), 42);
+        };
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.dowadream.errand_service.readmodel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 키로 동시에 들어온 조회가 한 번만 실행되고, 결과와 예외가 기다리던 모든 호출에 전달되는지 검증하는 테스트
+ */
+class SingleFlightTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight("test", meterRegistry);
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> query = () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "result";
+        };
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("key", query)));
+            }
+            waitUntil(() -> executed() + shared() == 8);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+        }
+
+        assertThat(executions).hasValue(1);
+        assertThat(executed()).isEqualTo(1);
+        assertThat(shared()).isEqualTo(7);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void failurePropagatesToWaitingCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> query = () -> {
+            await(release);
+            throw new IllegalStateException("query failed");
+        };
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("key", query)));
+            }
+            waitUntil(() -> executed() + shared() == 4);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                        .cause().isInstanceOf(IllegalStateException.class).hasMessage("query failed");
+            }
+        }
+
+        assertThat(executed()).isEqualTo(1);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void completedKeyIsNotCached() {
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThat(singleFlight.execute("key", executions::incrementAndGet)).isEqualTo(1);
+        assertThat(singleFlight.execute("key", executions::incrementAndGet)).isEqualTo(2);
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("query failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute("key", executions::incrementAndGet)).isEqualTo(3);
+
+        assertThat(executed()).isEqualTo(4);
+        assertThat(shared()).isZero();
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void differentKeysRunIndependently() throws Exception {
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        Supplier<String> query = () -> {
+            bothRunning.countDown();
+            await(bothRunning);
+            return "result";
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> first = executor.submit(() -> singleFlight.execute(List.of("page", 1), query));
+            Future<String> second = executor.submit(() -> singleFlight.execute(List.of("page", 2), query));
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+
+        assertThat(executed()).isEqualTo(2);
+        assertThat(shared()).isZero();
+    }
+
+    private double executed() {
+        return meterRegistry.get("singleflight.calls").tag("result", "executed").counter().count();
+    }
+
+    private double shared() {
+        return meterRegistry.get("singleflight.calls").tag("result", "shared").counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("singleflight.in-flight").gauge().value();
+    }
+
+    private static void waitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
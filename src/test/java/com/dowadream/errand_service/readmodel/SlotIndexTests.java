@@ -0,0 +1,75 @@
+package com.dowadream.errand_service.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 개방 주소법 해시 테이블이 삽입, 교체, 삭제, 확장 후에도 {@link HashMap}과 같은 결과를 내는지 검증하는 테스트
+ */
+class SlotIndexTests {
+
+    @Test
+    void returnsMinusOneForMissingKeys() {
+        SlotIndex index = new SlotIndex(4);
+
+        assertThat(index.get(1L)).isEqualTo(-1);
+        index.remove(1L);
+        assertThat(index.get(1L)).isEqualTo(-1);
+    }
+
+    @Test
+    void replacesValueOfExistingKey() {
+        SlotIndex index = new SlotIndex(4);
+
+        index.put(7L, 1);
+        index.put(7L, 2);
+
+        assertThat(index.get(7L)).isEqualTo(2);
+    }
+
+    @Test
+    void growsBeyondExpectedSize() {
+        SlotIndex index = new SlotIndex(16);
+        long bytesBefore = index.estimatedBytes();
+
+        for (int i = 1; i <= 10_000; i++) {
+            index.put(i, i * 3);
+        }
+
+        assertThat(index.estimatedBytes()).isGreaterThan(bytesBefore);
+        for (int i = 1; i <= 10_000; i++) {
+            assertThat(index.get(i)).isEqualTo(i * 3);
+        }
+    }
+
+    /**
+     * 작은 테이블에서 무작위 삽입과 삭제를 반복하여 충돌 체인 중간의 항목이 삭제되는 경우를 만듭니다.
+     * backward shift deletion이 탐색 경로를 끊으면 남은 키를 찾지 못해 실패합니다.
+     */
+    @Test
+    void matchesHashMapUnderRandomPutsAndRemoves() {
+        Random random = new Random(42);
+        SlotIndex index = new SlotIndex(16);
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                index.remove(key);
+                expected.remove(key);
+            } else {
+                index.put(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        for (long key = 1; key <= 500; key++) {
+            assertThat(index.get(key)).as("slot of %d", key).isEqualTo(expected.getOrDefault(key, -1));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.entity.Errand;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 토큰의 인코딩/해석과 정렬 기준별 정렬 키 처리를 검증하는 테스트
+ */
+class ErrandCursorTests {
+
+    @Test
+    void roundTripsEverySortKey() {
+        Errand errand = errand(42L);
+        errand.setCreatedDate(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000));
+        errand.setDeadline(LocalDateTime.of(2024, 3, 2, 9, 0));
+        errand.setPrice(new BigDecimal("15000.50"));
+        errand.setHourlyRate(new BigDecimal("250.0083"));
+
+        for (ErrandSort sort : ErrandSort.values()) {
+            ErrandCursor decoded = ErrandCursor.decode(ErrandCursor.after(sort, errand).encode());
+
+            assertThat(decoded.getSort()).isEqualTo(sort);
+            assertThat(decoded.getErrandSeq()).isEqualTo(42L);
+            assertThat(decoded.getKey()).isEqualTo(sort.keyOf(errand));
+        }
+    }
+
+    @Test
+    void rejectsMissingKey() {
+        assertThatThrownBy(() -> ErrandCursor.decode(token("LATEST||7"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ErrandCursor.decode(token("HIGHEST_HOURLY_RATE||7")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> ErrandCursor.decode(token("LATEST"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ErrandCursor.decode(token("UNKNOWN||1"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ErrandCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ordersTiesBySeqInTheSameDirection() {
+        assertThat(ErrandSort.HIGHEST_HOURLY_RATE.orderBy()).isEqualTo("e.hourly_rate DESC, e.errand_seq DESC");
+        assertThat(ErrandSort.HIGHEST_PRICE.orderBy()).isEqualTo("e.price DESC, e.errand_seq DESC");
+        assertThat(ErrandSort.DEFAULT.orderBy()).isEqualTo("e.errand_seq ASC");
+    }
+
+    private static Errand errand(Long errandSeq) {
+        Errand errand = new Errand();
+        errand.setErrandSeq(errandSeq);
+        return errand;
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
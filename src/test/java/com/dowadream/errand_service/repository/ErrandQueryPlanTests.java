@@ -0,0 +1,204 @@
+package com.dowadream.errand_service.repository;
+
+import com.dowadream.errand_service.entity.Errand;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 필터 조합(위치 유무, 카테고리 유무)과 정렬 기준마다 생성되는 목록 조회 SQL과 취소되지 않은 심부름의 전체 목록 SQL의 실행 계획을 캡처하여,
+ * 어떤 조합도 errands 테이블 전체 검색으로 처리되지 않고 정렬 단계 없이 인덱스 순서로 읽히는지 검증하는 테스트
+ * 전체 목록이 취소된 심부름만 제외하는지도 함께 확인합니다.
+ * 내장 H2의 EXPLAIN 결과를 사용하므로 Oracle의 실제 인덱스 선택과 같지는 않지만,
+ * 필터나 정렬이 인덱스를 사용할 수 없는 형태(함수로 감싼 컬럼, OR 조건 등)로 바뀌면 실패합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ErrandQueryPlanTests {
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    private static final Pattern INDEX_NAME = Pattern.compile("/\\* PUBLIC\\.(IDX_ERRANDS_\\w+)");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ErrandRepository errandRepository;
+
+    /**
+     * 옵티마이저가 행 수와 선택도를 고려하도록 상태, 카테고리, 위치가 고르게 분포된 심부름을 만들고 통계를 갱신합니다.
+     */
+    @BeforeAll
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO categories (category_id, name) SELECT x, 'category-' || x FROM SYSTEM_RANGE(1, 20)");
+        jdbcTemplate.update("INSERT INTO errands (errand_seq, title, description, status, created_date, updated_date, " +
+                "category_id, location, price, estimated_time, deadline) " +
+                "SELECT x, 'errand-' || x, 'description', CASE MOD(x, 4) WHEN 0 THEN 'REQUESTED' WHEN 1 THEN 'IN_PROGRESS' " +
+                "WHEN 2 THEN 'COMPLETED' ELSE 'CANCELLED' END, DATEADD('MINUTE', x, TIMESTAMP '2030-01-01 00:00:00'), " +
+                "DATEADD('MINUTE', x, TIMESTAMP '2030-01-01 00:00:00'), MOD(x, 20) + 1, 'location-' || MOD(x, 50), " +
+                "MOD(x * 37, 100000), MOD(x, 120), DATEADD('HOUR', MOD(x * 13, 1000), TIMESTAMP '2030-02-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, 20000)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("variants")
+    void offsetPageUsesIndex(String name, String location, Long categoryId, ErrandSort sort) {
+        Query explain = explain(ErrandRepositoryImpl.pageSql("e.*, COUNT(*) OVER () total_count", location, categoryId, sort),
+                location, categoryId);
+        explain.setParameter("startRow", 0);
+        explain.setParameter("endRow", 20);
+
+        assertIndexed(explain);
+        assertThat(jdbcTemplate.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES " +
+                "WHERE TABLE_NAME = 'ERRANDS' AND INDEX_NAME LIKE 'IDX_ERRANDS_%'", String.class))
+                .as("index that returns rows in ORDER BY order")
+                .anySatisfy(index -> assertSortedBy(index, location, categoryId, sort));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("variants")
+    void seekPageUsesIndex(String name, String location, Long categoryId, ErrandSort sort) {
+        Errand last = new Errand();
+        last.setErrandSeq(10_000L);
+        last.setCreatedDate(LocalDateTime.of(2030, 1, 8, 0, 0));
+        last.setPrice(new BigDecimal("50000"));
+        last.setHourlyRate(new BigDecimal("1000"));
+        last.setDeadline(LocalDateTime.of(2030, 2, 20, 0, 0));
+        ErrandCursor after = ErrandCursor.after(sort, last);
+
+        Query explain = explain(ErrandRepositoryImpl.afterSql(location, categoryId, sort, after), location, categoryId);
+        if (sort.hasKey()) {
+            explain.setParameter("afterKey", after.getKey());
+        }
+        explain.setParameter("afterSeq", after.getErrandSeq());
+        explain.setParameter("limit", 20);
+
+        Matcher index = INDEX_NAME.matcher(assertIndexed(explain));
+        assertThat(index.find()).as("index in execution plan").isTrue();
+        assertSortedBy(index.group(1), location, categoryId, sort);
+    }
+
+    @ParameterizedTest(name = "category {0}")
+    @MethodSource("categories")
+    void uncancelledPageUsesIndex(Long categoryId) {
+        Query explain = explain(ErrandRepositoryImpl.uncancelledPageSql("e.*, COUNT(*) OVER () total_count", categoryId),
+                null, categoryId);
+        explain.setParameter("startRow", 0);
+        explain.setParameter("endRow", 20);
+
+        String plan = (String) explain.getSingleResult();
+        assertThat(plan).as("execution plan").doesNotContain(TABLE_SCAN);
+        if (categoryId == null) {
+            // 상태 조건을 거르며 기본 키를 고유 번호 순서로 읽습니다.
+            assertThat(plan).as("execution plan").contains("PRIMARY_KEY").contains("index sorted");
+        } else {
+            assertThat(jdbcTemplate.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES " +
+                    "WHERE TABLE_NAME = 'ERRANDS' AND INDEX_NAME LIKE 'IDX_ERRANDS_%'", String.class))
+                    .as("index that returns a category's rows in errand_seq order")
+                    .anySatisfy(index -> assertSortedBy(index, Set.of("CATEGORY_ID"), ErrandSort.DEFAULT));
+        }
+    }
+
+    @ParameterizedTest(name = "category {0}")
+    @MethodSource("categories")
+    void uncancelledPageSkipsOnlyCancelledErrands(Long categoryId) {
+        PagedResult<Errand> page = errandRepository.findUncancelledErrandPage(categoryId, 0, 20);
+
+        assertThat(page.getContent()).hasSize(20).extracting(Errand::getStatus).doesNotContain(Errand.ErrandStatus.CANCELLED);
+        assertThat(page.getTotal()).isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM errands " +
+                "WHERE status <> 'CANCELLED' AND (? IS NULL OR category_id = ?)", Long.class, categoryId, categoryId));
+    }
+
+    static Stream<Long> categories() {
+        return Stream.of(null, 3L);
+    }
+
+    static Stream<Arguments> variants() {
+        List<Arguments> variants = new ArrayList<>();
+        for (ErrandSort sort : ErrandSort.values()) {
+            variants.add(Arguments.of("no filter, " + sort, null, null, sort));
+            variants.add(Arguments.of("location, " + sort, "location-7", null, sort));
+            variants.add(Arguments.of("category, " + sort, null, 3L, sort));
+            variants.add(Arguments.of("location and category, " + sort, "location-7", 3L, sort));
+        }
+        return variants.stream();
+    }
+
+    private Query explain(String sql, String location, Long categoryId) {
+        Query query = entityManager.createNativeQuery("EXPLAIN " + sql);
+        ListingFilters.bind(query, location, categoryId);
+        return query;
+    }
+
+    private static String assertIndexed(Query explain) {
+        String plan = (String) explain.getSingleResult();
+        assertThat(plan).as("execution plan").doesNotContain(TABLE_SCAN).containsIgnoringCase("IDX_ERRANDS_");
+        return plan;
+    }
+
+    /**
+     * 인덱스 순서만으로 ORDER BY가 처리되어 정렬 단계가 필요 없는지 확인합니다.
+     * H2는 ORDER BY 컬럼이 인덱스의 첫 컬럼부터 일치하고 방향까지 같을 때만 정렬을 생략하고
+     * 오프셋 페이징에서는 ROWNUM 제한을 고려하지 않고 인덱스를 고르므로, Oracle이 정렬 단계(SORT ORDER BY) 없이 처리하는 조건을 직접 검사합니다.
+     * 인덱스 앞쪽의 등호 조건 컬럼(상태, 카테고리, 위치)을 제외한 나머지 컬럼이 ORDER BY의 키와 같은 순서로 시작하고,
+     * 정렬 키의 방향이 모두 같아 인덱스를 정방향 또는 역방향으로 읽으면 되어야 합니다.
+     */
+    private void assertSortedBy(String index, String location, Long categoryId, ErrandSort sort) {
+        Set<String> equalities = new HashSet<>(List.of("STATUS"));
+        if (location != null) {
+            equalities.add("LOCATION");
+        }
+        if (categoryId != null) {
+            equalities.add("CATEGORY_ID");
+        }
+        assertSortedBy(index, equalities, sort);
+    }
+
+    /**
+     * 지정한 등호 조건 컬럼을 인덱스 앞쪽에서 제외한 나머지 컬럼이 ORDER BY의 키와 같은 순서로 시작하는지 확인합니다.
+     */
+    private void assertSortedBy(String index, Set<String> equalities, ErrandSort sort) {
+        List<String> columns = jdbcTemplate.queryForList("SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS " +
+                "WHERE INDEX_NAME = ? ORDER BY ORDINAL_POSITION", String.class, index);
+        int prefix = 0;
+        while (prefix < columns.size() && equalities.contains(columns.get(prefix))) {
+            prefix++;
+        }
+        List<String> orderBy = new ArrayList<>();
+        if (sort.hasKey()) {
+            orderBy.add(sort.getColumn().substring("e.".length()).toUpperCase());
+        }
+        orderBy.add("ERRAND_SEQ");
+
+        assertThat(columns.subList(prefix, columns.size())).as("columns of %s after the equality prefix", index)
+                .startsWith(orderBy.toArray(new String[0]));
+        assertThat(sort.orderBy()).as("ORDER BY of %s", sort)
+                .doesNotContain("NULLS").doesNotContain(sort.isAscending() ? " DESC" : " ASC");
+    }
+}
@@ -0,0 +1,101 @@
+package com.dowadream.errand_service.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 페이지 조회(COUNT(*) OVER ()로 전체 개수 계산)와 슬라이스 조회(페이지 크기보다 한 행 더 조회)의 응답 시간을 비교하는 성능 측정
+ * <pre>
+ * gradle benchmark --tests '*ErrandSliceBenchmark' -Dbenchmark.slice.rows=1000000 -Dbenchmark.heap=4g
+ * </pre>
+ * 내장 H2에 요청 상태가 1/4인 심부름을 만들어 측정하므로, 결과는 Oracle의 절대 수치가 아니라
+ * 전체 개수 계산이 필터에 맞는 행 수에 비례해 얼마나 느려지는지에 대한 상대 비교용입니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ErrandSliceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private ErrandRepository errandRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int rows;
+
+    @BeforeAll
+    void setUp() {
+        rows = Integer.getInteger("benchmark.slice.rows", 100_000);
+        jdbcTemplate.update("INSERT INTO categories (category_id, name) SELECT x, 'category-' || x FROM SYSTEM_RANGE(1, 20)");
+        jdbcTemplate.update("INSERT INTO errands (errand_seq, title, description, status, created_date, updated_date, " +
+                "category_id, location, price, estimated_time, deadline) " +
+                "SELECT x, 'errand-' || x, 'description', CASE MOD(x, 4) WHEN 0 THEN 'REQUESTED' WHEN 1 THEN 'IN_PROGRESS' " +
+                "WHEN 2 THEN 'COMPLETED' ELSE 'CANCELLED' END, DATEADD('SECOND', x, TIMESTAMP '2030-01-01 00:00:00'), " +
+                "DATEADD('SECOND', x, TIMESTAMP '2030-01-01 00:00:00'), MOD(x, 20) + 1, 'location-' || MOD(x, 50), " +
+                "MOD(x * 37, 100000), MOD(x, 120) + 1, DATEADD('MINUTE', MOD(x * 13, 100000), TIMESTAMP '2030-02-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void comparesPageWithSlice() {
+        int iterations = Integer.getInteger("benchmark.slice.iterations", 20);
+        for (ErrandSort sort : new ErrandSort[]{ErrandSort.DEFAULT, ErrandSort.LATEST}) {
+            for (Long categoryId : new Long[]{null, 1L}) {
+                for (int page : new int[]{0, 50}) {
+                    int startRow = page * PAGE_SIZE;
+                    int endRow = startRow + PAGE_SIZE;
+                    String label = String.format("%s, category %s, page %d", sort, categoryId, page);
+                    double pageMillis = measure(iterations, () -> {
+                        PagedResult<?> result = errandRepository.findErrandPageByFilters(null, categoryId, sort, startRow, endRow);
+                        assertThat(result.getTotal()).isPositive();
+                        return result.getContent().size();
+                    });
+                    double sliceMillis = measure(iterations, () ->
+                            errandRepository.findErrandsByFilters(null, categoryId, sort, startRow, endRow + 1).size());
+                    System.out.printf("%s (%,d rows): page %.2f ms, slice %.2f ms (%.1fx)%n",
+                            label, rows, pageMillis, sliceMillis, pageMillis / sliceMillis);
+                }
+            }
+        }
+    }
+
+    /**
+     * 조회를 반복 실행하고, 앞쪽 절반을 준비 실행으로 버린 뒤 나머지의 중앙값을 반환합니다.
+     * @param iterations 측정할 실행 횟수
+     * @param query 조회 (조회한 행 수를 반환)
+     * @return 응답 시간 중앙값 (밀리초)
+     */
+    private double measure(int iterations, IntSupplier query) {
+        long[] nanos = new long[iterations];
+        for (int i = -iterations / 2; i < iterations; i++) {
+            entityManager.clear();
+            long start = System.nanoTime();
+            assertThat(query.getAsInt()).isPositive();
+            if (i >= 0) {
+                nanos[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(nanos);
+        return nanos[iterations / 2] / 1e6;
+    }
+}
@@ -0,0 +1,77 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.CategoryDTO;
+import com.dowadream.errand_service.entity.Category;
+import com.dowadream.errand_service.event.CategoryChangedEvent;
+import com.dowadream.errand_service.readmodel.CategoryRegistry;
+import com.dowadream.errand_service.repository.CategoryRepository;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카테고리 스냅샷에 없는 카테고리를 연결할 때 데이터베이스로 확인하는지 검증하는 테스트
+ */
+class CategoryServiceTests {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        CategoryRegistry categoryRegistry = new CategoryRegistry(new ObjectMapper());
+        CategoryDTO known = new CategoryDTO();
+        known.setCategoryId(1L);
+        categoryRegistry.replace(List.of(known));
+        categoryService = new CategoryService(categoryRepository, mock(ImageRepository.class), mock(FileStorageService.class),
+                mock(ImageVariantService.class), eventPublisher, categoryRegistry, mock(TransactionTemplate.class));
+        when(categoryRepository.getReferenceById(any())).thenAnswer(invocation -> {
+            Category category = new Category();
+            category.setCategoryId(invocation.getArgument(0));
+            return category;
+        });
+    }
+
+    @Test
+    void returnsReferenceFromSnapshotWithoutQuerying() {
+        assertThat(categoryService.findCategoryReference(1L)).map(Category::getCategoryId).contains(1L);
+
+        verify(categoryRepository, never()).existsById(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void fallsBackToDatabaseAndReloadsWhenSnapshotMisses() {
+        when(categoryRepository.existsById(2L)).thenReturn(true);
+
+        assertThat(categoryService.findCategoryReference(2L)).map(Category::getCategoryId).contains(2L);
+
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue()).isInstanceOfSatisfying(CategoryChangedEvent.class,
+                changed -> assertThat(changed.getCategoryId()).isEqualTo(2L));
+    }
+
+    @Test
+    void rejectsCategoryMissingFromSnapshotAndDatabase() {
+        when(categoryRepository.existsById(3L)).thenReturn(false);
+
+        assertThat(categoryService.findCategoryReference(3L)).isEmpty();
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
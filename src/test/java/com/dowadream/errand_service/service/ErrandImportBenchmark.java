@@ -0,0 +1,101 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ErrandImportResultDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 가져오기와 기존 한 건씩 저장하는 경로({@link ErrandService#createErrand(ErrandDTO)})의 처리량을 비교하는 성능 측정
+ * 실제 Oracle 스키마(errands 테이블과 errand_seq 시퀀스)가 필요하므로 {@code benchmark.jdbc-url}이 지정된 경우에만 실행됩니다.
+ * <pre>
+ * gradle benchmark --tests '*ErrandImportBenchmark' -Dbenchmark.jdbc-url=jdbc:oracle:thin:@//host:1521/XE \
+ *     -Dbenchmark.jdbc-username=... -Dbenchmark.jdbc-password=... -Dbenchmark.import.rows=100000
+ * </pre>
+ * 두 경로 모두 애플리케이션 컨텍스트의 빈을 사용하므로, 한 건씩 저장하는 경로는 행마다 JPA 저장, 커밋, 변경 이벤트 처리를 거치고
+ * 대량 가져오기는 묶음마다 배치 INSERT, 커밋, 가져오기 이벤트 처리를 거칩니다.
+ * 측정한 행은 제목 접두사로 구분하여 끝난 뒤 삭제합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark.jdbc-url", matches = ".+")
+class ErrandImportBenchmark {
+
+    private static final String TITLE_PREFIX = "import-benchmark-";
+
+    @Autowired
+    private ErrandService errandService;
+
+    @Autowired
+    private ErrandImportService errandImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void oracle(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.jdbc-url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.jdbc-username"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.jdbc-password"));
+        // 기존 스키마를 그대로 사용합니다.
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.mapping-resources", () -> "");
+        registry.add("errand.import.chunk-size", () -> Integer.getInteger("benchmark.import.chunk-size", 500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM errands WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    void comparesBulkImportWithPerRowInserts() throws Exception {
+        int rows = Integer.getInteger("benchmark.import.rows", 100_000);
+        int perRowRows = Math.min(rows, Integer.getInteger("benchmark.import.per-row-rows", 10_000));
+        LocalDateTime deadline = LocalDateTime.now().plusDays(1).withSecond(0).withNano(0);
+
+        long perRowStart = System.nanoTime();
+        for (int i = 0; i < perRowRows; i++) {
+            ErrandDTO errand = new ErrandDTO();
+            errand.setTitle(TITLE_PREFIX + i);
+            errand.setDescription("description");
+            errand.setLocation("Seoul");
+            errand.setPrice(new BigDecimal("10000"));
+            errand.setEstimatedTime(30);
+            errand.setDeadline(deadline);
+            errandService.createErrand(errand);
+        }
+        double perRowSeconds = (System.nanoTime() - perRowStart) / 1e9;
+
+        byte[] csv = csv(rows, deadline);
+        long bulkStart = System.nanoTime();
+        ErrandImportResultDTO result = errandImportService.importErrands(ErrandFileFormat.CSV, new ByteArrayInputStream(csv));
+        double bulkSeconds = (System.nanoTime() - bulkStart) / 1e9;
+
+        assertThat(result.getImportedRows()).isEqualTo(rows);
+        System.out.printf("per-row createErrand: %,d rows in %.2f s (%,.0f rows/s)%n", perRowRows, perRowSeconds, perRowRows / perRowSeconds);
+        System.out.printf("bulk import:          %,d rows in %.2f s (%,.0f rows/s)%n", rows, bulkSeconds, rows / bulkSeconds);
+    }
+
+    private static byte[] csv(int rows, LocalDateTime deadline) {
+        StringBuilder csv = new StringBuilder("title,description,location,price,estimatedTime,deadline\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(TITLE_PREFIX).append("bulk-").append(i).append(",description,Seoul,10000,30,").append(deadline).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,119 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.ErrandImportResultDTO;
+import com.dowadream.errand_service.event.ErrandsImportedEvent;
+import com.dowadream.errand_service.repository.CategoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 심부름 가져오기의 행 검증과, 묶음 저장이 실패했을 때 실패한 행만 보고하는지, 생성 이벤트를 묶음마다 한 번 발행하는지 검증하는 테스트
+ */
+class ErrandImportServiceTests {
+
+    private static final String HEADER = "title,description,location,price,estimatedTime,deadline,requesterNickname\n";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<List<Object[]>> batches = new ArrayList<>();
+    private final List<Object> events = new ArrayList<>();
+    private ErrandImportService errandImportService;
+
+    @BeforeEach
+    void setUp() {
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAllIds()).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(2);
+            return LongStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+        });
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            batches.add(args);
+            if (args.stream().anyMatch(row -> "rejected".equals(row[1]))) {
+                throw new DataIntegrityViolationException("rejected by the database");
+            }
+            return new int[args.size()];
+        });
+        errandImportService = new ErrandImportService(categoryRepository, jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                events::add, new ObjectMapper(), 10);
+    }
+
+    @Test
+    void reportsOnlyTheRowsTheDatabaseRejected() throws Exception {
+        ErrandImportResultDTO result = importCsv(HEADER +
+                row("first", "Seoul", "") +
+                row("rejected", "Seoul", "") +
+                row("third", "Busan", ""));
+
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRow()).isEqualTo(2);
+            assertThat(error.getMessage()).contains("rejected by the database");
+        });
+        // 묶음 한 번과 행별 재시도 세 번
+        assertThat(batches).extracting(List::size).containsExactly(3, 1, 1, 1);
+    }
+
+    @Test
+    void publishesOneEventPerStoredChunk() throws Exception {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 25; i++) {
+            csv.append(row(i == 12 ? "rejected" : "errand-" + i, "Seoul", ""));
+        }
+
+        importCsv(csv.toString());
+
+        // 실패한 두 번째 묶음은 이벤트 없이 행별로 다시 저장되고, 저장된 행마다 한 건짜리 이벤트가 발행됩니다.
+        assertThat(events).allMatch(ErrandsImportedEvent.class::isInstance)
+                .extracting(event -> ((ErrandsImportedEvent) event).getErrands().size())
+                .containsExactly(10, 1, 1, 1, 1, 1, 1, 1, 1, 1, 5);
+    }
+
+    @Test
+    void rejectsOverlongLocationAndNicknameBeforeStoring() throws Exception {
+        String longValue = "x".repeat(256);
+        ErrandImportResultDTO result = importCsv(HEADER +
+                row("long location", longValue, "") +
+                row("long nickname", "Seoul", longValue));
+
+        assertThat(result.getImportedRows()).isZero();
+        assertThat(result.getErrors()).extracting(ErrandImportResultDTO.RowError::getMessage).containsExactly(
+                "Location is required and must be at most 255 characters.",
+                "Requester nickname must be at most 255 characters.");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private ErrandImportResultDTO importCsv(String csv) throws Exception {
+        return errandImportService.importErrands(ErrandFileFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String row(String title, String location, String requesterNickname) {
+        return title + ",description," + location + ",10000,30,2030-01-01 12:00," + requesterNickname + "\n";
+    }
+}
@@ -0,0 +1,226 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.entity.Image;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.storage.BlobRegion;
+import com.dowadream.errand_service.storage.BlobStore;
+import com.dowadream.errand_service.storage.LocalDirectoryBlobStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내용 해시 기반 중복 제거, 새로 생성되었는지 여부, 연결 해제 후 유예 시간, 롤백 시 삭제와
+ * 삭제 확인 중 같은 내용이 다시 저장될 때의 경쟁 상태를 검증하는 테스트
+ * 파일은 임시 디렉토리의 {@link LocalDirectoryBlobStore}에 실제로 저장합니다.
+ */
+class FileStorageServiceTests {
+
+    @TempDir
+    Path directory;
+
+    private final ImageRepository imageRepository = mock(ImageRepository.class);
+
+    @Test
+    void storesSameContentOnce() throws IOException {
+        FileStorageService service = service(new LocalDirectoryBlobStore(directory), 600);
+
+        StoredFile first = service.storeFile(file("same content"));
+        StoredFile second = service.storeFile(file("same content"));
+        StoredFile other = service.storeFile(file("other content"));
+
+        assertThat(first.isCreated()).isTrue();
+        assertThat(second.isCreated()).isFalse();
+        assertThat(second.getPath()).isEqualTo(first.getPath());
+        assertThat(second.getContentHash()).isEqualTo(first.getContentHash());
+        assertThat(other.isCreated()).isTrue();
+        assertThat(other.getContentHash()).isNotEqualTo(first.getContentHash());
+        assertThat(storedNames()).containsExactlyInAnyOrder(first.getContentHash(), other.getContentHash());
+        assertThat(service.openStream(first.getPath().toString()).readAllBytes()).isEqualTo("same content".getBytes());
+    }
+
+    @Test
+    void keepsRecentlyStoredFilesOnRelease() throws IOException {
+        FileStorageService service = service(new LocalDirectoryBlobStore(directory), 600);
+        StoredFile stored = service.storeFile(file("recent"));
+
+        service.releaseAfterCommit(List.of(image(stored)));
+
+        assertThat(storedNames()).containsExactly(stored.getContentHash());
+    }
+
+    @Test
+    void releasesUnreferencedFileAndDerivedFilesAfterGrace() throws IOException {
+        FileStorageService service = service(new LocalDirectoryBlobStore(directory), 600);
+        StoredFile stored = service.storeFile(file("released"));
+        service.storeDerived(stored.getContentHash(), "w120.jpg", new byte[]{1, 2, 3});
+        age(stored.getContentHash(), Duration.ofHours(1));
+
+        service.releaseAfterCommit(List.of(image(stored)));
+
+        assertThat(storedNames()).isEmpty();
+    }
+
+    @Test
+    void keepsReferencedFileOnRelease() throws IOException {
+        FileStorageService service = service(new LocalDirectoryBlobStore(directory), 600);
+        StoredFile stored = service.storeFile(file("shared"));
+        age(stored.getContentHash(), Duration.ofHours(1));
+        when(imageRepository.existsByContentHash(stored.getContentHash())).thenReturn(true);
+
+        service.releaseAfterCommit(List.of(image(stored)));
+
+        assertThat(storedNames()).containsExactly(stored.getContentHash());
+    }
+
+    @Test
+    void discardDeletesOnlyFilesCreatedByTheFailedStore() throws IOException {
+        FileStorageService service = service(new LocalDirectoryBlobStore(directory), 600);
+        StoredFile existing = service.storeFile(file("existing"));
+        StoredFile reused = service.storeFile(file("existing"));
+        StoredFile created = service.storeFile(file("created"));
+
+        service.discard(List.of(reused, created));
+
+        assertThat(storedNames()).containsExactly(existing.getContentHash());
+    }
+
+    @Test
+    void discardKeepsFileStoredAgainOrReferenced() throws IOException {
+        FileStorageService service = service(new LocalDirectoryBlobStore(directory), 600);
+        StoredFile restored = service.storeFile(file("stored again"));
+        StoredFile referenced = service.storeFile(file("referenced"));
+        age(restored.getContentHash(), Duration.ofSeconds(-5));
+        when(imageRepository.existsByContentHash(referenced.getContentHash())).thenReturn(true);
+
+        service.discard(List.of(restored, referenced));
+
+        assertThat(storedNames()).containsExactlyInAnyOrder(restored.getContentHash(), referenced.getContentHash());
+    }
+
+    /**
+     * 연결 해제가 파일을 삭제하기로 확인한 직후 같은 내용이 다시 저장되는 상황을 재현합니다.
+     * 삭제 직전에 다른 스레드에서 같은 내용을 저장하고 잠시 기다리므로, 저장과 삭제 확인이 직렬화되지 않으면
+     * 저장이 기존 파일을 재사용한 뒤 파일이 삭제되어 새 이미지 행이 없는 파일을 가리키게 됩니다.
+     */
+    @Test
+    void storeDuringReleaseNeverLeavesMissingFile() throws Exception {
+        LocalDirectoryBlobStore local = new LocalDirectoryBlobStore(directory);
+        CompletableFuture<StoredFile> concurrentStore = new CompletableFuture<>();
+        FileStorageService[] service = new FileStorageService[1];
+        service[0] = service(new DelegatingBlobStore(local) {
+            @Override
+            public boolean delete(String name) throws IOException {
+                if (!concurrentStore.isDone()) {
+                    CompletableFuture.runAsync(() -> {
+                        try {
+                            concurrentStore.complete(service[0].storeFile(file("raced")));
+                        } catch (IOException e) {
+                            concurrentStore.completeExceptionally(e);
+                        }
+                    });
+                    try {
+                        concurrentStore.get(300, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        // 저장이 잠금을 기다리는 중
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return super.delete(name);
+            }
+        }, 600);
+        StoredFile stored = service[0].storeFile(file("raced"));
+        age(stored.getContentHash(), Duration.ofHours(1));
+
+        service[0].releaseAfterCommit(List.of(image(stored)));
+        StoredFile restored = concurrentStore.get(5, TimeUnit.SECONDS);
+
+        assertThat(local.find(restored.getContentHash())).isPresent();
+        assertThat(restored.isCreated()).isTrue();
+    }
+
+    private FileStorageService service(BlobStore blobStore, long releaseGraceSeconds) {
+        return new FileStorageService(directory.toString(), imageRepository, blobStore, releaseGraceSeconds);
+    }
+
+    private List<String> storedNames() throws IOException {
+        try (Stream<String> names = new LocalDirectoryBlobStore(directory).names()) {
+            return names.toList();
+        }
+    }
+
+    /**
+     * 저장된 파일과 파생 파일의 수정 시각을 지정한 시간만큼 과거로 옮깁니다.
+     */
+    private void age(String contentHash, Duration age) throws IOException {
+        LocalDirectoryBlobStore local = new LocalDirectoryBlobStore(directory);
+        for (String name : local.list(contentHash)) {
+            Files.setLastModifiedTime(local.pathOf(name), FileTime.from(Instant.now().minus(age)));
+        }
+    }
+
+    private static Image image(StoredFile stored) {
+        Image image = new Image();
+        image.setContentHash(stored.getContentHash());
+        image.setFilePath(stored.getPath().toString());
+        return image;
+    }
+
+    private static MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", "file.png", "image/png", content.getBytes());
+    }
+
+    /**
+     * 다른 저장소에 모든 작업을 위임하는 저장소 (일부 작업에 동작을 끼워 넣기 위한 기반)
+     */
+    private static class DelegatingBlobStore implements BlobStore {
+        private final BlobStore delegate;
+
+        private DelegatingBlobStore(BlobStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean put(String name, Path source) throws IOException {
+            return delegate.put(name, source);
+        }
+
+        @Override
+        public Optional<BlobRegion> find(String name) throws IOException {
+            return delegate.find(name);
+        }
+
+        @Override
+        public boolean delete(String name) throws IOException {
+            return delegate.delete(name);
+        }
+
+        @Override
+        public List<String> list(String contentHash) throws IOException {
+            return delegate.list(contentHash);
+        }
+
+        @Override
+        public Stream<String> names() throws IOException {
+            return delegate.names();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이미지 형식을 클라이언트가 보낸 Content-Type이 아닌 내용의 시그니처로 판별하고,
+ * 허용된 형식이 아닌 업로드를 거부하는지 검증하는 테스트
+ */
+class ImageContentTypeTests {
+
+    @Test
+    void detectsAllowedFormatsBySignature() {
+        assertThat(ImageContentType.detect(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0}))
+                .contains(MediaType.IMAGE_PNG);
+        assertThat(ImageContentType.detect(new byte[]{(byte) 0xff, (byte) 0xd8, (byte) 0xff, (byte) 0xe0}))
+                .contains(MediaType.IMAGE_JPEG);
+        assertThat(ImageContentType.detect(ascii("GIF89a...."))).contains(MediaType.IMAGE_GIF);
+        assertThat(ImageContentType.detect(ascii("RIFF\0\0\0\0WEBPVP8 "))).contains(ImageContentType.IMAGE_WEBP);
+
+        assertThat(ImageContentType.detect(ascii("<!DOCTYPE html>"))).isEmpty();
+        assertThat(ImageContentType.detect(ascii("<?xml version=\"1.0\"?><svg/>"))).isEmpty();
+        assertThat(ImageContentType.detect(ascii("RIFF\0\0\0\0WAVE"))).isEmpty();
+        assertThat(ImageContentType.detect(new byte[0])).isEmpty();
+    }
+
+    @Test
+    void allowsOnlyImageExtensionsForDerivedFiles() {
+        assertThat(ImageContentType.fromFileName("abc_w120.jpg")).contains(MediaType.IMAGE_JPEG);
+        assertThat(ImageContentType.fromFileName("abc_w120.png")).contains(MediaType.IMAGE_PNG);
+        assertThat(ImageContentType.fromFileName("abc_w120.svg")).isEmpty();
+        assertThat(ImageContentType.fromFileName("abc_w120.html")).isEmpty();
+    }
+
+    @Test
+    void rejectsUploadThatIsNotAnImageRegardlessOfDeclaredType() {
+        MockMultipartFile html = new MockMultipartFile("images", "image.png", "image/png",
+                ascii("<!DOCTYPE html><script>alert(1)</script>"));
+        assertThatThrownBy(() -> ImageContentType.requireImage(html)).isInstanceOf(BadRequestException.class);
+
+        MockMultipartFile png = new MockMultipartFile("images", "image", "text/html",
+                new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0, 0, 0, 0});
+        assertThat(ImageContentType.requireImage(png)).isEqualTo(MediaType.IMAGE_PNG);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
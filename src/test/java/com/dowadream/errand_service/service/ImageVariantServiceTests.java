@@ -0,0 +1,185 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.entity.Image;
+import com.dowadream.errand_service.entity.ImageVariant;
+import com.dowadream.errand_service.event.CategoryChangedEvent;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.repository.ImageVariantRepository;
+import com.dowadream.errand_service.storage.LocalDirectoryBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 축소 변형이 원본보다 작은 너비에 대해서만 생성되고, 투명도에 따라 PNG 또는 JPEG로 저장되며,
+ * 픽셀 수 제한을 넘는 원본과 그사이 삭제된 이미지는 건너뛰는지 검증하는 테스트
+ * 파일은 임시 디렉토리의 {@link LocalDirectoryBlobStore}에 실제로 저장합니다.
+ */
+class ImageVariantServiceTests {
+
+    private static final long IMAGE_ID = 7L;
+
+    @TempDir
+    Path directory;
+
+    private final ImageRepository imageRepository = mock(ImageRepository.class);
+    private final ImageVariantRepository imageVariantRepository = mock(ImageVariantRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private FileStorageService fileStorageService;
+    private Image image;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        fileStorageService = new FileStorageService(directory.toString(), imageRepository,
+                new LocalDirectoryBlobStore(directory), 600);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        image = new Image();
+        image.setImageId(IMAGE_ID);
+        image.setImageType(Image.ImageType.CATEGORY);
+        when(imageRepository.findById(IMAGE_ID)).thenReturn(Optional.of(image));
+        when(imageVariantRepository.findWidthsByImageId(IMAGE_ID)).thenReturn(List.of());
+    }
+
+    @Test
+    void createsJpegVariantsForWidthsBelowSourceWidth() throws IOException {
+        StoredFile original = store(700, 350, false);
+
+        service(50_000_000).generateVariants(IMAGE_ID, original.getContentHash(), original.getPath().toString());
+
+        List<ImageVariant> variants = savedVariants(3);
+        assertThat(variants).extracting(ImageVariant::getWidth).containsExactly(120, 320, 640);
+        assertThat(variants).extracting(ImageVariant::getHeight).containsExactly(60, 160, 320);
+        assertThat(variants).extracting(ImageVariant::getFileType).containsOnly("image/jpeg");
+        assertThat(variants.get(0).getFilePath()).endsWith(original.getContentHash() + "_w120.jpg");
+        for (ImageVariant variant : variants) {
+            assertThat(variant.getImage()).isSameAs(image);
+            try (InputStream in = fileStorageService.openStream(variant.getFilePath())) {
+                BufferedImage stored = ImageIO.read(in);
+                assertThat(stored.getWidth()).isEqualTo(variant.getWidth());
+                assertThat(stored.getHeight()).isEqualTo(variant.getHeight());
+            }
+        }
+        verify(eventPublisher).publishEvent(any(CategoryChangedEvent.class));
+    }
+
+    @Test
+    void skipsWidthsAtOrAboveSourceWidthAndAlreadyRecordedWidths() throws IOException {
+        StoredFile original = store(640, 480, false);
+        when(imageVariantRepository.findWidthsByImageId(IMAGE_ID)).thenReturn(List.of(120));
+
+        service(50_000_000).generateVariants(IMAGE_ID, original.getContentHash(), original.getPath().toString());
+
+        assertThat(savedVariants(1)).extracting(ImageVariant::getWidth).containsExactly(320);
+
+        StoredFile small = store(100, 100, false);
+        service(50_000_000).generateVariants(IMAGE_ID, small.getContentHash(), small.getPath().toString());
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+    }
+
+    @Test
+    void storesTransparentSourceAsPng() throws IOException {
+        StoredFile original = store(400, 200, true);
+
+        service(50_000_000).generateVariants(IMAGE_ID, original.getContentHash(), original.getPath().toString());
+
+        List<ImageVariant> variants = savedVariants(2);
+        assertThat(variants).extracting(ImageVariant::getFileType).containsOnly("image/png");
+        assertThat(variants).allSatisfy(variant -> assertThat(variant.getFilePath()).endsWith(".png"));
+        try (InputStream in = fileStorageService.openStream(variants.get(0).getFilePath())) {
+            assertThat(ImageIO.read(in).getColorModel().hasAlpha()).isTrue();
+        }
+    }
+
+    @Test
+    void subsamplesLargeSourceAndSkipsSourceOverPixelBudget() throws IOException {
+        StoredFile original = store(3000, 1500, false);
+
+        service(1_000_000).generateVariants(IMAGE_ID, original.getContentHash(), original.getPath().toString());
+        verify(imageVariantRepository, never()).save(any());
+
+        service(5_000_000).generateVariants(IMAGE_ID, original.getContentHash(), original.getPath().toString());
+        List<ImageVariant> variants = savedVariants(4);
+        assertThat(variants).extracting(ImageVariant::getWidth).containsExactly(120, 320, 640, 1280);
+        assertThat(variants).extracting(ImageVariant::getHeight).containsExactly(60, 160, 320, 640);
+    }
+
+    @Test
+    void doesNotRecordVariantsForDeletedImage() throws IOException {
+        StoredFile original = store(700, 350, false);
+        when(imageRepository.findById(IMAGE_ID)).thenReturn(Optional.empty());
+
+        service(50_000_000).generateVariants(IMAGE_ID, original.getContentHash(), original.getPath().toString());
+
+        verify(imageVariantRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void storeDerivedKeepsExistingContent() throws IOException {
+        StoredFile original = store(200, 100, false);
+
+        StoredFile first = fileStorageService.storeDerived(original.getContentHash(), "w120.jpg", new byte[]{1, 2, 3});
+        StoredFile second = fileStorageService.storeDerived(original.getContentHash(), "w120.jpg", new byte[]{4, 5, 6, 7});
+
+        assertThat(first.isCreated()).isTrue();
+        assertThat(second.isCreated()).isFalse();
+        assertThat(second.getPath()).isEqualTo(first.getPath());
+        assertThat(second.getSize()).isEqualTo(3);
+        try (InputStream in = fileStorageService.openStream(second.getPath().toString())) {
+            assertThat(in.readAllBytes()).containsExactly(1, 2, 3);
+        }
+    }
+
+    private ImageVariantService service(long maxPixels) {
+        return new ImageVariantService(fileStorageService, imageRepository, imageVariantRepository, transactionTemplate,
+                new SyncTaskExecutor(), eventPublisher, new int[]{1280, 120, 640, 320}, 320, maxPixels);
+    }
+
+    private List<ImageVariant> savedVariants(int expected) {
+        ArgumentCaptor<ImageVariant> captor = ArgumentCaptor.forClass(ImageVariant.class);
+        verify(imageVariantRepository, times(expected)).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private StoredFile store(int width, int height, boolean alpha) throws IOException {
+        BufferedImage source = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y += 10) {
+            for (int x = 0; x < width; x += 10) {
+                source.setRGB(x, y, alpha ? 0x80ff0000 : 0xff0000);
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(source, "png", bytes);
+        return fileStorageService.storeFile(new MockMultipartFile("image", "image.png", "image/png", bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,254 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.ErrandDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 목록 조회가 동시에 들어오면 한 번만 데이터베이스를 조회하고, 결과를 기다리는 호출은 데이터베이스 연결을 붙잡지 않는지 검증하는 테스트
+ * 데이터 소스를 감싸 실행된 SQL 문 수와 동시에 열린 연결 수를 세고, 조회마다 지정한 시간만큼 지연시켜 Oracle 응답 시간을 흉내 냅니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.datasource.hikari.maximum-pool-size=10", "server.tomcat.threads.max=200"})
+@Import(ListingFlightTests.StatementCountingConfig.class)
+class ListingFlightTests {
+
+    private static final AtomicLong IDS = new AtomicLong(1_000_000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ErrandService errandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        long categoryId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO categories (category_id, name) VALUES (?, ?)", categoryId, "flight-" + categoryId);
+        for (int i = 0; i < 30; i++) {
+            jdbcTemplate.update("INSERT INTO errands (errand_seq, title, description, status, created_date, updated_date, " +
+                            "category_id, location, price, estimated_time, deadline) " +
+                            "VALUES (?, 'flight', 'description', 'REQUESTED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?, 'Seoul', " +
+                            "10000, 30, DATEADD('DAY', 1, CURRENT_TIMESTAMP))",
+                    IDS.incrementAndGet(), categoryId);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatementCounter.queryMillis = 0;
+    }
+
+    @Test
+    void waitingCallersDoNotHoldConnections() throws Exception {
+        int callers = 40;
+        StatementCounter.queryMillis = 300;
+        StatementCounter.reset();
+
+        List<Future<Page<ErrandDTO>>> results = new ArrayList<>(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return errandService.getAllErrands(PageRequest.of(0, 20));
+                }));
+            }
+            start.countDown();
+            Page<ErrandDTO> first = results.get(0).get();
+            for (Future<Page<ErrandDTO>> result : results) {
+                assertThat(result.get().getContent()).isEqualTo(first.getContent());
+            }
+        }
+
+        assertThat(StatementCounter.peakConnections.get()).isLessThanOrEqualTo(3);
+        assertThat(StatementCounter.statements.get()).isLessThan(callers);
+    }
+
+    /**
+     * 실제 HTTP 경로로 같은 목록 조회를 동시에 보내 요청 수 대비 실행된 SQL 문 수와 최대 동시 연결 수를 측정합니다.
+     * ({@code gradle benchmark --tests '*ListingFlightTests' -Dbenchmark.flight.concurrency=200 -Dbenchmark.flight.query-millis=50})
+     * 연결 풀은 10개이므로, 기다리는 요청이 연결을 붙잡으면 동시에 합쳐지는 요청 수가 풀 크기로 제한됩니다.
+     * 내장 H2와 같은 JVM의 클라이언트를 사용하므로 결과는 상대 비교용입니다.
+     */
+    @Test
+    @Tag("benchmark")
+    void measuresStatementsPerRequestUnderBurst() throws Exception {
+        int clients = Integer.getInteger("benchmark.flight.concurrency", 200);
+        int requestsPerClient = Integer.getInteger("benchmark.flight.requests", 20);
+        StatementCounter.queryMillis = Integer.getInteger("benchmark.flight.query-millis", 50);
+        HttpClient httpClient = HttpClient.newHttpClient();
+
+        for (String path : new String[]{"/ErrandService/errands?page=0&size=20", "/ErrandService/errands/slice?page=0&size=20"}) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+            StatementCounter.reset();
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> results = new ArrayList<>(clients);
+                for (int i = 0; i < clients; i++) {
+                    results.add(executor.submit(() -> {
+                        for (int j = 0; j < requestsPerClient; j++) {
+                            assertThat(httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()).isEqualTo(200);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long requests = (long) clients * requestsPerClient;
+            System.out.printf("%s: %,d requests, %,d SQL statements (%.3f per request), peak %d connections, %,.0f requests/s%n",
+                    path, requests, StatementCounter.statements.get(), (double) StatementCounter.statements.get() / requests,
+                    StatementCounter.peakConnections.get(), requests / seconds);
+        }
+    }
+
+    /**
+     * 애플리케이션의 데이터 소스를 {@link StatementCounter}로 감싸는 설정
+     */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? StatementCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 실행된 SQL 문 수와 동시에 열린 연결 수를 세고, 조회 실행을 지연시키는 JDBC 프록시
+     */
+    static final class StatementCounter {
+
+        private static final Set<String> EXECUTE_METHODS =
+                Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+        static final AtomicLong statements = new AtomicLong();
+        static final AtomicInteger openConnections = new AtomicInteger();
+        static final AtomicInteger peakConnections = new AtomicInteger();
+        static volatile long queryMillis;
+
+        private StatementCounter() {
+        }
+
+        static void reset() {
+            statements.set(0);
+            peakConnections.set(openConnections.get());
+        }
+
+        static DataSource wrap(DataSource target) {
+            return proxy(DataSource.class, target, (method, result) -> {
+                if (method.getName().equals("getConnection")) {
+                    peakConnections.accumulateAndGet(openConnections.incrementAndGet(), Math::max);
+                    return wrapConnection((Connection) result);
+                }
+                return result;
+            });
+        }
+
+        private static Connection wrapConnection(Connection target) {
+            AtomicBoolean closed = new AtomicBoolean();
+            return proxy(Connection.class, target, (method, result) -> {
+                if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                    openConnections.decrementAndGet();
+                }
+                return result instanceof Statement statement ? wrapStatement(statement) : result;
+            });
+        }
+
+        private static Statement wrapStatement(Statement target) {
+            Class<?>[] interfaces = Arrays.stream(target.getClass().getInterfaces())
+                    .filter(type -> Statement.class.isAssignableFrom(type))
+                    .toArray(Class<?>[]::new);
+            return (Statement) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(),
+                    interfaces.length > 0 ? interfaces : new Class<?>[]{Statement.class},
+                    handler(target, (method, result) -> result, method -> {
+                        if (EXECUTE_METHODS.contains(method.getName())) {
+                            statements.incrementAndGet();
+                            if (queryMillis > 0) {
+                                Thread.sleep(queryMillis);
+                            }
+                        }
+                    }));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, AfterCall after) {
+            return (T) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[]{type},
+                    handler(target, after, method -> {
+                    }));
+        }
+
+        private static InvocationHandler handler(Object target, AfterCall after, BeforeCall before) {
+            return (proxy, method, args) -> {
+                if (method.getName().equals("unwrap") && args[0] instanceof Class<?> type && type.isInstance(target)) {
+                    return target;
+                }
+                if (method.getName().equals("isWrapperFor") && args[0] instanceof Class<?> type && type.isInstance(target)) {
+                    return true;
+                }
+                before.accept(method);
+                try {
+                    return after.apply(method, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+        }
+
+        private interface BeforeCall {
+            void accept(Method method) throws Exception;
+        }
+
+        private interface AfterCall {
+            Object apply(Method method, Object result);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.CategoryDTO;
+import com.dowadream.errand_service.dto.ErrandDTO;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 심부름과 서비스 제공 목록 페이지의 이미지 경로를 한 번의 IN 쿼리로 조회하여,
+ * 실행되는 SQL 문의 수가 페이지 크기와 무관한지 검증하는 테스트
+ */
+@SpringBootTest
+class PageImageFetchTests {
+
+    private static final int ROWS = 30;
+    private static final int IMAGES_PER_ROW = 2;
+    private static final AtomicLong IDS = new AtomicLong(1_000_000);
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ErrandService errandService;
+
+    @Autowired
+    private ServiceOfferingService serviceOfferingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long categoryId;
+
+    /**
+     * 새 카테고리에 이미지가 두 개씩 있는 심부름과 서비스 제공을 만듭니다.
+     * 카테고리마다 목록 조회 결과 캐시의 키가 달라지므로 각 조회는 항상 데이터베이스까지 갑니다.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        CategoryDTO category = new CategoryDTO();
+        category.setName("image-fetch-" + IDS.incrementAndGet());
+        categoryId = categoryService.createCategory(category).getCategoryId();
+
+        for (int i = 0; i < ROWS; i++) {
+            long errandSeq = IDS.incrementAndGet();
+            jdbcTemplate.update("INSERT INTO errands (errand_seq, title, description, status, created_date, category_id, " +
+                            "location, price, estimated_time, deadline) VALUES (?, ?, 'description', 'REQUESTED', " +
+                            "CURRENT_TIMESTAMP, ?, 'Seoul', 10000, 30, DATEADD('DAY', 1, CURRENT_TIMESTAMP))",
+                    errandSeq, "errand-" + i, categoryId);
+            long offeringId = IDS.incrementAndGet();
+            jdbcTemplate.update("INSERT INTO service_offerings (id, title, price_range, location, category_id, provider_id, " +
+                            "created_date, completed_tasks, rating_sum, rating_count, average_rating) " +
+                            "VALUES (?, ?, 10000, 'Seoul', ?, 1, CURRENT_TIMESTAMP, 0, 0, 0, 0)",
+                    offeringId, "offering-" + i, categoryId);
+            for (int j = 0; j < IMAGES_PER_ROW; j++) {
+                insertImage("errand_seq", errandSeq, "ERRAND_REQUEST");
+                insertImage("service_offering_id", offeringId, "SERVICE_OFFERING");
+            }
+        }
+    }
+
+    @Test
+    void errandPageQueryCountDoesNotDependOnPageSize() {
+        Supplier<Page<ErrandDTO>> small = () -> errandService.getErrandsByCategory(categoryId, PageRequest.of(0, 5));
+        Supplier<Page<ErrandDTO>> large = () -> errandService.getErrandsByCategory(categoryId, PageRequest.of(0, 25));
+
+        long smallQueries = countStatements(small);
+        long largeQueries = countStatements(large);
+
+        assertThat(smallQueries).isPositive();
+        assertThat(largeQueries).isEqualTo(smallQueries);
+        assertThat(errandService.getErrandsByCategory(categoryId, PageRequest.of(1, 25)).getContent())
+                .hasSize(ROWS - 25)
+                .allSatisfy(errand -> assertThat(errand.getImagePaths()).hasSize(IMAGES_PER_ROW));
+    }
+
+    @Test
+    void serviceOfferingPageQueryCountDoesNotDependOnPageSize() {
+        Supplier<Page<ServiceOfferingDTO>> small =
+                () -> serviceOfferingService.getServiceOfferingsByCategory(categoryId, PageRequest.of(0, 5));
+        Supplier<Page<ServiceOfferingDTO>> large =
+                () -> serviceOfferingService.getServiceOfferingsByCategory(categoryId, PageRequest.of(0, 25));
+
+        long smallQueries = countStatements(small);
+        long largeQueries = countStatements(large);
+
+        assertThat(smallQueries).isPositive();
+        assertThat(largeQueries).isEqualTo(smallQueries);
+        assertThat(serviceOfferingService.getServiceOfferingsByCategory(categoryId, PageRequest.of(1, 25)).getContent())
+                .hasSize(ROWS - 25)
+                .allSatisfy(offering -> assertThat(offering.getImagePaths()).hasSize(IMAGES_PER_ROW));
+    }
+
+    /**
+     * 조회를 실행하는 동안 준비된 SQL 문의 수를 셉니다.
+     * @param page 페이지 조회
+     * @return 실행된 SQL 문의 수
+     */
+    private long countStatements(Supplier<? extends Page<?>> page) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        Page<?> result = page.get();
+        assertThat(result.getContent()).isNotEmpty();
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private void insertImage(String ownerColumn, long ownerId, String imageType) {
+        long imageId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO images (image_id, file_name, file_path, upload_date, image_type, " + ownerColumn + ") " +
+                "VALUES (?, ?, ?, CURRENT_TIMESTAMP, ?, ?)", imageId, imageId + ".jpg", "/uploads/" + imageId + ".jpg", imageType, ownerId);
+    }
+}
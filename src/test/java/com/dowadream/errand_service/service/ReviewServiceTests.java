@@ -0,0 +1,75 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.ReviewDTO;
+import com.dowadream.errand_service.entity.Review;
+import com.dowadream.errand_service.entity.ServiceOffering;
+import com.dowadream.errand_service.exception.BadRequestException;
+import com.dowadream.errand_service.repository.ErrandRepository;
+import com.dowadream.errand_service.repository.ReviewRepository;
+import com.dowadream.errand_service.repository.ServiceOfferingRepository;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 평점이 없거나 허용 범위(1~5)를 벗어난 리뷰의 생성과 수정을 엔티티와 평점 집계를 바꾸기 전에 거부하는지 검증하는 테스트
+ */
+class ReviewServiceTests {
+
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final ServiceOfferingRepository serviceOfferingRepository = mock(ServiceOfferingRepository.class);
+    private final ReviewService reviewService = new ReviewService(reviewRepository, mock(ErrandRepository.class),
+            serviceOfferingRepository, mock(ApplicationEventPublisher.class));
+
+    @ParameterizedTest(name = "rating {0}")
+    @NullSource
+    @ValueSource(ints = {0, 6, -1})
+    void rejectsInvalidRatingOnCreate(Integer rating) {
+        assertThatThrownBy(() -> reviewService.createReview(review(rating)))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(reviewRepository, never()).save(any());
+        verify(serviceOfferingRepository, never()).applyRatingDelta(any(), anyLong(), anyInt());
+    }
+
+    @ParameterizedTest(name = "rating {0}")
+    @NullSource
+    @ValueSource(ints = {0, 6, -1})
+    void rejectsInvalidRatingOnUpdateWithoutChangingReview(Integer rating) {
+        Review existing = new Review();
+        existing.setId(1L);
+        existing.setRating(4);
+        existing.setComments("good");
+        existing.setServiceOffering(new ServiceOffering());
+        when(reviewRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        assertThatThrownBy(() -> reviewService.updateReview(1L, review(rating)))
+                .isInstanceOf(BadRequestException.class);
+
+        assertThat(existing.getRating()).isEqualTo(4);
+        assertThat(existing.getComments()).isEqualTo("good");
+        verify(reviewRepository, never()).save(any());
+        verify(serviceOfferingRepository, never()).applyRatingDelta(any(), anyLong(), anyInt());
+    }
+
+    private static ReviewDTO review(Integer rating) {
+        ReviewDTO review = new ReviewDTO();
+        review.setRating(rating);
+        review.setComments("changed");
+        review.setServiceOfferingId(1L);
+        return review;
+    }
+}
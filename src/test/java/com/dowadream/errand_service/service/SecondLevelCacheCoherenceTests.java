@@ -0,0 +1,129 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.CategoryDTO;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import com.dowadream.errand_service.entity.Category;
+import com.dowadream.errand_service.entity.Image;
+import com.dowadream.errand_service.entity.ServiceOffering;
+import com.dowadream.errand_service.repository.CategoryRepository;
+import com.dowadream.errand_service.repository.ServiceOfferingRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 서비스를 통해 카테고리와 서비스 제공 이미지를 변경한 뒤,
+ * 2차 캐시를 거친 조회가 이전 값이 아니라 변경된 값을 반환하는지 검증하는 테스트
+ * 각 조회는 새 트랜잭션(새 영속성 컨텍스트)에서 실행되므로 1차 캐시가 아니라 2차 캐시나 데이터베이스에서 읽습니다.
+ */
+@SpringBootTest
+class SecondLevelCacheCoherenceTests {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ServiceOfferingService serviceOfferingService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceOfferingRepository serviceOfferingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void categoryReadsSeeUpdatesAndDeletes() throws Exception {
+        CategoryDTO category = new CategoryDTO();
+        category.setName("before");
+        Long categoryId = categoryService.createCategory(category).getCategoryId();
+
+        assertThat(categoryName(categoryId)).contains("before");
+        long hits = statistics().getDomainDataRegionStatistics(Category.CACHE_REGION).getHitCount();
+        assertThat(categoryName(categoryId)).contains("before");
+        assertThat(statistics().getDomainDataRegionStatistics(Category.CACHE_REGION).getHitCount()).isGreaterThan(hits);
+
+        category.setName("after");
+        categoryService.updateCategory(categoryId, category);
+        assertThat(categoryName(categoryId)).contains("after");
+
+        categoryService.deleteCategory(categoryId);
+        assertThat(categoryName(categoryId)).isEmpty();
+    }
+
+    @Test
+    void serviceOfferingImagesSeeReplacedImages() throws Exception {
+        CategoryDTO category = new CategoryDTO();
+        category.setName("offering-images");
+        Long categoryId = categoryService.createCategory(category).getCategoryId();
+
+        ServiceOfferingDTO offering = offering(categoryId, image("first.png", Color.RED));
+        Long offeringId = serviceOfferingService.createServiceOffering(offering).getId();
+        List<String> before = imageFileNames(offeringId);
+        assertThat(before).containsExactly("first.png");
+
+        long hits = statistics().getDomainDataRegionStatistics(ServiceOffering.IMAGES_CACHE_REGION).getHitCount();
+        assertThat(imageFileNames(offeringId)).containsExactly("first.png");
+        assertThat(statistics().getDomainDataRegionStatistics(ServiceOffering.IMAGES_CACHE_REGION).getHitCount())
+                .isGreaterThan(hits);
+
+        serviceOfferingService.updateServiceOffering(offeringId,
+                offering(categoryId, image("second.png", Color.BLUE), image("third.png", Color.GREEN)));
+        assertThat(imageFileNames(offeringId)).containsExactlyInAnyOrder("second.png", "third.png");
+    }
+
+    private Optional<String> categoryName(Long categoryId) {
+        return transactionTemplate.execute(status -> categoryRepository.findById(categoryId).map(Category::getName));
+    }
+
+    private List<String> imageFileNames(Long offeringId) {
+        return transactionTemplate.execute(status -> serviceOfferingRepository.findById(offeringId).orElseThrow()
+                .getImages().stream().map(Image::getFileName).collect(Collectors.toList()));
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static ServiceOfferingDTO offering(Long categoryId, MockMultipartFile... images) {
+        ServiceOfferingDTO offering = new ServiceOfferingDTO();
+        offering.setTitle("cached offering");
+        offering.setDescription("description");
+        offering.setPriceRange(new BigDecimal("10000"));
+        offering.setLocation("Seoul");
+        offering.setCategoryId(categoryId);
+        offering.setProviderId(1L);
+        offering.setImages(List.of(images));
+        return offering;
+    }
+
+    private static MockMultipartFile image(String name, Color color) throws IOException {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, color.getRGB());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return new MockMultipartFile("images", name, "image/png", bytes.toByteArray());
+    }
+}
@@ -0,0 +1,121 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.config.ExecutorConfig;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import com.dowadream.errand_service.entity.Category;
+import com.dowadream.errand_service.entity.ServiceOffering;
+import com.dowadream.errand_service.readmodel.DetailCache;
+import com.dowadream.errand_service.readmodel.FilterResultCache;
+import com.dowadream.errand_service.readmodel.SingleFlight;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.repository.ServiceOfferingRepository;
+import com.dowadream.errand_service.storage.LocalDirectoryBlobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 업로드 스레드 풀이 종료 중이거나 가득 차서 이미지 저장 작업을 거부해도
+ * 서비스 제공 생성이 멈추지 않고 요청 스레드에서 이미지를 저장하는지 검증하는 테스트
+ * 파일은 임시 디렉토리의 {@link LocalDirectoryBlobStore}에 실제로 저장합니다.
+ */
+class ServiceOfferingServiceTests {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0, 0, 0, 0};
+
+    @TempDir
+    Path directory;
+
+    /**
+     * 운영 설정과 같은 업로드 스레드 풀 (스레드 하나, 대기열 없음)
+     */
+    private final ThreadPoolTaskExecutor executor = new ExecutorConfig().imageUploadExecutor(1, 0, false);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void storesImagesOnCallerWhenExecutorIsShutDown() {
+        executor.initialize();
+        executor.shutdown();
+
+        assertCreatesWithImages();
+    }
+
+    @Test
+    void storesImagesOnCallerWhenExecutorIsSaturated() {
+        executor.initialize();
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertCreatesWithImages();
+    }
+
+    private void assertCreatesWithImages() {
+        ServiceOfferingDTO dto = new ServiceOfferingDTO();
+        dto.setTitle("offering");
+        dto.setCategoryId(1L);
+        dto.setImages(List.<MultipartFile>of(image("first"), image("second")));
+
+        ServiceOfferingDTO created = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> service().createServiceOffering(dto));
+
+        assertThat(created.getImagePaths()).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ServiceOfferingService service() {
+        ServiceOfferingRepository serviceOfferingRepository = mock(ServiceOfferingRepository.class);
+        when(serviceOfferingRepository.save(any(ServiceOffering.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        CategoryService categoryService = mock(CategoryService.class);
+        Category category = new Category();
+        category.setCategoryId(1L);
+        when(categoryService.findCategoryReference(1L)).thenReturn(Optional.of(category));
+        ImageRepository imageRepository = mock(ImageRepository.class);
+        FileStorageService fileStorageService = new FileStorageService(directory.toString(), imageRepository,
+                new LocalDirectoryBlobStore(directory), 600);
+
+        return new ServiceOfferingService(serviceOfferingRepository, categoryService, imageRepository, fileStorageService,
+                mock(ImageVariantService.class), mock(DetailCache.class), mock(FilterResultCache.class), mock(SingleFlight.class),
+                mock(ApplicationEventPublisher.class), new TransactionTemplate(mock(PlatformTransactionManager.class)), executor);
+    }
+
+    /**
+     * PNG 시그니처 뒤에 이름을 붙여 파일마다 내용이 다른 이미지를 만듭니다.
+     */
+    private static MockMultipartFile image(String name) {
+        byte[] suffix = name.getBytes(StandardCharsets.US_ASCII);
+        byte[] content = Arrays.copyOf(PNG, PNG.length + suffix.length);
+        System.arraycopy(suffix, 0, content, PNG.length, suffix.length);
+        return new MockMultipartFile("images", name + ".png", "image/png", content);
+    }
+}
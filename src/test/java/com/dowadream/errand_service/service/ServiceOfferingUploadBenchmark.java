@@ -0,0 +1,191 @@
+package com.dowadream.errand_service.service;
+
+import com.dowadream.errand_service.dto.CategoryDTO;
+import com.dowadream.errand_service.dto.ServiceOfferingDTO;
+import com.dowadream.errand_service.readmodel.DetailCache;
+import com.dowadream.errand_service.readmodel.FilterResultCache;
+import com.dowadream.errand_service.readmodel.SingleFlight;
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.repository.ServiceOfferingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지가 1, 5, 10개인 서비스 제공 생성 요청의 p99 응답 시간을 이미지 순차 저장과 병렬 저장으로 비교하는 성능 측정
+ * <pre>
+ * gradle benchmark --tests '*ServiceOfferingUploadBenchmark' -Dbenchmark.upload.concurrency=16 -Dbenchmark.upload.image-kb=512
+ * </pre>
+ * 순차 저장은 요청 스레드에서 파일을 하나씩 저장하는 실행기({@link SyncTaskExecutor})로 만든 서비스로 재현하고,
+ * 병렬 저장은 설정된 업로드 스레드 풀(image.upload.pool-size)을 사용하는 서비스 빈으로 측정합니다.
+ * 이미지마다 내용을 다르게 하여 중복 제거 없이 매번 디스크에 기록합니다.
+ * 같은 JVM의 내장 H2와 로컬 디스크를 사용하므로 결과는 두 방식의 상대 비교용입니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class ServiceOfferingUploadBenchmark {
+
+    @Autowired
+    private ServiceOfferingService serviceOfferingService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    @Qualifier("imageUploadExecutor")
+    private ThreadPoolTaskExecutor imageUploadExecutor;
+
+    @Autowired
+    @Qualifier("imageProcessingExecutor")
+    private ThreadPoolTaskExecutor imageProcessingExecutor;
+
+    private ServiceOfferingService sequentialService;
+    private Long categoryId;
+    private byte[] png;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        CategoryDTO category = new CategoryDTO();
+        category.setName("upload-benchmark");
+        categoryId = categoryService.createCategory(category).getCategoryId();
+        sequentialService = new ServiceOfferingService(applicationContext.getBean(ServiceOfferingRepository.class),
+                categoryService, applicationContext.getBean(ImageRepository.class),
+                applicationContext.getBean(FileStorageService.class), applicationContext.getBean(ImageVariantService.class),
+                applicationContext.getBean("serviceOfferingDetailCache", DetailCache.class),
+                applicationContext.getBean("serviceOfferingFilterCache", FilterResultCache.class),
+                applicationContext.getBean("serviceOfferingListingFlight", SingleFlight.class),
+                applicationContext, applicationContext.getBean(TransactionTemplate.class), new SyncTaskExecutor());
+
+        int side = (int) Math.sqrt(Integer.getInteger("benchmark.upload.image-kb", 512) * 1024 / 3.0);
+        BufferedImage image = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        png = bytes.toByteArray();
+    }
+
+    @Test
+    void comparesSequentialAndParallelStaging() throws Exception {
+        int clients = Integer.getInteger("benchmark.upload.concurrency", 16);
+        int requestsPerClient = Integer.getInteger("benchmark.upload.requests", 10);
+        int poolSize = imageUploadExecutor.getMaxPoolSize();
+
+        measure("warm-up", serviceOfferingService, 5, clients, requestsPerClient / 2);
+        for (int images : new int[]{1, 5, 10}) {
+            measure("sequential, " + images + " images", sequentialService, images, clients, requestsPerClient);
+            measure("parallel (" + poolSize + " threads), " + images + " images", serviceOfferingService, images, clients,
+                    requestsPerClient);
+        }
+        waitForVariants();
+    }
+
+    /**
+     * 여러 클라이언트가 서비스 제공을 반복해서 생성하고 결과를 출력합니다.
+     * @param label 출력할 이름
+     * @param service 측정할 서비스
+     * @param images 요청마다 첨부할 이미지 수
+     * @param clients 동시 클라이언트 수
+     * @param requestsPerClient 클라이언트마다 보낼 요청 수
+     */
+    private void measure(String label, ServiceOfferingService service, int images, int clients, int requestsPerClient)
+            throws Exception {
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(clients)) {
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int j = 0; j < requestsPerClient; j++) {
+                        ServiceOfferingDTO dto = offering(images);
+                        long requestStart = System.nanoTime();
+                        ServiceOfferingDTO created = service.createServiceOffering(dto);
+                        latencies[j] = System.nanoTime() - requestStart;
+                        assertThat(created.getImagePaths()).hasSize(images);
+                    }
+                    return latencies;
+                }));
+            }
+            long[] latencies = new long[clients * requestsPerClient];
+            int index = 0;
+            for (Future<long[]> result : results) {
+                for (long latency : result.get()) {
+                    latencies[index++] = latency;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(latencies);
+            System.out.printf("%s: %d clients x %d requests, %,.1f requests/s, p50 %.1f ms, p99 %.1f ms%n",
+                    label, clients, requestsPerClient, latencies.length / seconds,
+                    latencies[latencies.length / 2] / 1e6, latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1e6);
+        }
+    }
+
+    /**
+     * 커밋 후 예약된 변형 생성이 끝날 때까지 기다립니다. (컨텍스트가 닫히는 중에 변형을 저장하지 않도록)
+     */
+    private void waitForVariants() throws InterruptedException {
+        while (imageProcessingExecutor.getActiveCount() > 0
+                || !imageProcessingExecutor.getThreadPoolExecutor().getQueue().isEmpty()) {
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * 이미지마다 끝에 임의의 바이트를 붙여 내용 해시가 모두 다른 서비스 제공 생성 요청을 만듭니다.
+     * @param images 첨부할 이미지 수
+     * @return 서비스 제공 DTO
+     */
+    private ServiceOfferingDTO offering(int images) {
+        List<MultipartFile> files = new ArrayList<>(images);
+        for (int i = 0; i < images; i++) {
+            byte[] content = Arrays.copyOf(png, png.length + 16);
+            byte[] suffix = new byte[16];
+            ThreadLocalRandom.current().nextBytes(suffix);
+            System.arraycopy(suffix, 0, content, png.length, suffix.length);
+            files.add(new MockMultipartFile("images", "image-" + i + ".png", "image/png", content));
+        }
+        ServiceOfferingDTO dto = new ServiceOfferingDTO();
+        dto.setTitle("upload benchmark");
+        dto.setDescription("description");
+        dto.setPriceRange(new BigDecimal("10000"));
+        dto.setLocation("Seoul");
+        dto.setCategoryId(categoryId);
+        dto.setProviderId(1L);
+        dto.setImages(files);
+        return dto;
+    }
+}
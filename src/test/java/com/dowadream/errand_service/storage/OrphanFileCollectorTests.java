@@ -0,0 +1,213 @@
+package com.dowadream.errand_service.storage;
+
+import com.dowadream.errand_service.repository.ImageRepository;
+import com.dowadream.errand_service.service.FileStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저장소 이름과 데이터베이스 해시 목록의 병합 비교가 페이지 경계와 파생 파일(해시_접미사) 이름이 섞여도 정확한지,
+ * 유예 시간과 삭제 직전의 참조 재확인이 지켜지는지, 남은 임시 파일을 정리하고 해시 형식이 아닌 파일은 건드리지 않는지 검증하는 테스트
+ * 파일은 임시 디렉토리의 {@link LocalDirectoryBlobStore}에 실제로 저장하고, 이미지 리포지토리는 해시 집합으로 흉내 냅니다.
+ */
+class OrphanFileCollectorTests {
+
+    private static final Duration GRACE = Duration.ofHours(1);
+    private static final Instant OLD = Instant.now().minus(GRACE).minus(Duration.ofMinutes(5));
+
+    @TempDir
+    Path directory;
+
+    /**
+     * 병합 비교 중 페이지 단위로 조회되는 참조 해시
+     */
+    private final Set<String> listed = new ConcurrentSkipListSet<>();
+
+    /**
+     * 삭제 직전에 다시 확인하는 참조 해시 (병합 비교 이후 커밋된 참조를 흉내 내기 위해 따로 둡니다)
+     */
+    private final Set<String> referenced = new ConcurrentSkipListSet<>();
+
+    /**
+     * 병합 비교에서 참조되지 않는 것으로 판단되어 삭제 전에 다시 확인된 해시
+     */
+    private final Set<String> rechecked = new ConcurrentSkipListSet<>();
+
+    private LocalDirectoryBlobStore blobStore;
+    private FileStorageService fileStorageService;
+    private ImageRepository imageRepository;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new LocalDirectoryBlobStore(directory);
+        imageRepository = mock(ImageRepository.class);
+        fileStorageService = new FileStorageService(directory.toString(), imageRepository, blobStore, 600);
+        when(imageRepository.findContentHashesAfter(anyString(), anyInt())).thenAnswer(invocation -> {
+            String after = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return new TreeSet<>(listed).tailSet(after, false).stream().limit(limit).toList();
+        });
+        when(imageRepository.findReferencedContentHashes(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> hashes = invocation.getArgument(0);
+            rechecked.addAll(hashes);
+            return hashes.stream().filter(referenced::contains).toList();
+        });
+    }
+
+    @Test
+    void mergeJoinKeepsReferencedHashesAcrossPageBoundaries() throws Exception {
+        List<String> hashes = new ArrayList<>(new TreeSet<>(hashes(40)));
+        List<String> kept = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        Set<String> orphans = new TreeSet<>();
+        for (int i = 0; i < hashes.size(); i++) {
+            String hash = hashes.get(i);
+            boolean isReferenced = i % 3 != 1;
+            if (isReferenced) {
+                listed.add(hash);
+                referenced.add(hash);
+            } else {
+                orphans.add(hash);
+            }
+            for (String name : List.of(hash, hash + "_w120.jpg", hash + "_w640.png")) {
+                write(name, OLD);
+                (isReferenced ? kept : deleted).add(name);
+            }
+        }
+        // 참조 해시 페이지(3개)와 묶음(4개)의 경계가 원본과 파생 파일 사이에 걸치도록 작게 잡습니다.
+        long reclaimed = collector(3, 4).collect();
+
+        // 삭제 전 재확인이 병합 비교의 오류를 가리지 않도록, 재확인 대상이 참조되지 않는 해시와 정확히 같은지도 확인합니다.
+        assertThat(rechecked).containsExactlyInAnyOrderElementsOf(orphans);
+        assertThat(storedNames()).containsExactlyInAnyOrderElementsOf(kept);
+        assertThat(reclaimed).isEqualTo(deleted.stream().mapToLong(name -> name.length()).sum());
+    }
+
+    @Test
+    void keepsFilesYoungerThanGrace() throws Exception {
+        String old = hash("old");
+        String recent = hash("recent");
+        write(old, OLD);
+        write(old + "_w120.jpg", Instant.now());
+        write(recent, Instant.now().minus(GRACE).plus(Duration.ofMinutes(5)));
+
+        collector(10, 10).collect();
+
+        assertThat(storedNames()).containsExactlyInAnyOrder(old + "_w120.jpg", recent);
+    }
+
+    @Test
+    void rechecksReferencesBeforeDeleting() throws Exception {
+        String reuploaded = hash("reuploaded");
+        String orphan = hash("orphan");
+        write(reuploaded, OLD);
+        write(orphan, OLD);
+        // 병합 비교 때는 참조되지 않았지만, 삭제 전에 같은 내용을 참조하는 이미지가 커밋된 경우
+        referenced.add(reuploaded);
+
+        collector(10, 10).collect();
+
+        assertThat(storedNames()).containsExactly(reuploaded);
+    }
+
+    @Test
+    void deletesOnlyStaleTempFiles() throws Exception {
+        Path temp = fileStorageService.getTempLocation();
+        Path stale = Files.write(temp.resolve("upload-stale.part"), new byte[8]);
+        Path active = Files.write(temp.resolve("upload-active.part"), new byte[8]);
+        Files.setLastModifiedTime(stale, FileTime.from(OLD));
+
+        collector(10, 10).collect();
+
+        assertThat(stale).doesNotExist();
+        assertThat(active).exists();
+    }
+
+    @Test
+    void neverTouchesNamesThatAreNotContentAddressed() throws Exception {
+        String hash = hash("shard");
+        Path shard = blobStore.pathOf(hash).getParent();
+        Files.createDirectories(shard);
+        List<Path> foreign = List.of(
+                Files.writeString(shard.resolve("notes.txt"), "notes"),
+                Files.writeString(shard.resolve(hash.toUpperCase()), "upper case"),
+                Files.writeString(shard.resolve(hash + "-copy"), "copy"),
+                Files.writeString(directory.resolve("legacy.png"), "legacy"));
+        for (Path path : foreign) {
+            Files.setLastModifiedTime(path, FileTime.from(OLD));
+        }
+
+        collector(10, 10).collect();
+
+        assertThat(foreign).allMatch(Files::exists);
+    }
+
+    private OrphanFileCollector collector(int pageSize, int batchSize) {
+        return new OrphanFileCollector(fileStorageService, blobStore, imageRepository, new SyncTaskExecutor(),
+                new SimpleMeterRegistry(), GRACE.toSeconds(), pageSize, batchSize, 0);
+    }
+
+    /**
+     * 이름을 내용으로 하는 파일을 저장소 경로에 쓰고 수정 시각을 지정합니다.
+     */
+    private void write(String name, Instant lastModified) throws IOException {
+        Path path = blobStore.pathOf(name);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, name);
+        Files.setLastModifiedTime(path, FileTime.from(lastModified));
+    }
+
+    private List<String> storedNames() throws IOException {
+        try (Stream<String> names = blobStore.names()) {
+            return names.toList();
+        }
+    }
+
+    /**
+     * 같은 샤드 디렉토리를 공유하는 해시가 섞이도록 앞 네 글자를 몇 가지로 고정한 해시를 만듭니다.
+     */
+    private static List<String> hashes(int count) {
+        List<String> hashes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hashes.add("abc" + i % 2 + hash("file-" + i).substring(4));
+        }
+        return hashes;
+    }
+
+    private static String hash(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.dowadream.errand_service.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팩 파일 저장소가 재시작 시 색인을 다시 적용하여 저장, 재사용, 삭제(삭제 레코드) 상태를 복원하고,
+ * 세그먼트 정리 후에도 내용이 보존되며, 기록 도중 중단된 색인 레코드와 세그먼트 데이터를 무시하는지 검증하는 테스트
+ */
+class PackFileBlobStoreTests {
+
+    private static final long SEGMENT_SIZE = 4 * 1024;
+    private static final int RECORD_SIZE = 96;
+
+    @TempDir
+    Path directory;
+
+    private PackFileBlobStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void storesAndReadsBlobs() throws IOException {
+        store = open();
+        Map<String, byte[]> blobs = putAll(10, 300);
+
+        assertContents(blobs);
+        String first = blobs.keySet().iterator().next();
+        assertThat(store.list(first.substring(0, 64))).containsExactly(first);
+        assertThat(store.put(first, source(blobs.get(first)))).isFalse();
+        assertThat(store.names().count()).isEqualTo(10);
+    }
+
+    @Test
+    void replaysIndexAfterRestart() throws IOException {
+        store = open();
+        Map<String, byte[]> blobs = putAll(20, 500);
+        String touched = blobs.keySet().iterator().next();
+        long before = store.find(touched).orElseThrow().getLastModified().toMillis();
+        sleepPastMillisecond();
+        store.put(touched, source(blobs.get(touched)));
+        long after = store.find(touched).orElseThrow().getLastModified().toMillis();
+
+        reopen();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(store.find(touched).orElseThrow().getLastModified().toMillis()).isEqualTo(after);
+        assertContents(blobs);
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void tombstonesSurviveRestart() throws IOException {
+        store = open();
+        Map<String, byte[]> blobs = putAll(6, 200);
+        String deleted = blobs.keySet().iterator().next();
+        String restored = blobs.keySet().stream().skip(1).findFirst().orElseThrow();
+
+        assertThat(store.delete(deleted)).isTrue();
+        assertThat(store.delete(deleted)).isFalse();
+        assertThat(store.delete(restored)).isTrue();
+        assertThat(store.put(restored, source(blobs.get(restored)))).isTrue();
+        blobs.remove(deleted);
+
+        reopen();
+
+        assertThat(store.find(deleted)).isEmpty();
+        assertThat(store.list(deleted.substring(0, 64))).isEmpty();
+        assertContents(blobs);
+    }
+
+    @Test
+    void compactionMovesLiveBlobsAndReclaimsSegments() throws IOException {
+        store = open();
+        Map<String, byte[]> blobs = putAll(40, 1000);
+        int segmentsBefore = segmentFiles().size();
+        List<String> names = new ArrayList<>(blobs.keySet());
+        for (int i = 0; i < names.size(); i++) {
+            if (i % 4 != 0) {
+                assertThat(store.delete(names.get(i))).isTrue();
+                blobs.remove(names.get(i));
+            }
+        }
+
+        assertThat(store.compact()).isZero();
+        assertContents(blobs);
+        long reclaimed = store.compact();
+
+        assertThat(reclaimed).isPositive();
+        assertThat(segmentFiles().size()).isLessThan(segmentsBefore);
+        assertContents(blobs);
+
+        reopen();
+
+        assertContents(blobs);
+        assertThat(store.names().count()).isEqualTo(blobs.size());
+        Map<String, byte[]> more = putAll(5, 700);
+        reopen();
+        blobs.putAll(more);
+        assertContents(blobs);
+    }
+
+    @Test
+    void ignoresTornIndexRecord() throws IOException {
+        store = open();
+        Map<String, byte[]> blobs = putAll(5, 200);
+        store.close();
+        store = null;
+
+        // 플래그를 기록하기 전에 중단된 레코드: 세그먼트, 위치, 길이, 해시는 기록되었지만 유효 플래그가 없습니다.
+        try (FileChannel index = FileChannel.open(directory.resolve("index.idx"), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer torn = ByteBuffer.allocate(RECORD_SIZE);
+            torn.putInt(0, 0);
+            torn.putInt(4, 1);
+            torn.putLong(8, 0);
+            torn.putLong(16, 12345);
+            torn.put(32, HexFormat.of().parseHex(hash("torn".getBytes(StandardCharsets.UTF_8))));
+            index.write(torn, (long) blobs.size() * RECORD_SIZE);
+        }
+
+        store = open();
+        assertContents(blobs);
+        assertThat(store.names().count()).isEqualTo(blobs.size());
+
+        blobs.putAll(putAll(1, 300));
+        reopen();
+        assertContents(blobs);
+    }
+
+    @Test
+    void ignoresSegmentDataWithoutIndexRecord() throws IOException {
+        store = open();
+        Map<String, byte[]> blobs = putAll(3, 200);
+        store.close();
+        store = null;
+
+        // 세그먼트에 내용을 기록한 뒤 색인 레코드를 기록하기 전에 중단된 경우
+        Path segment = segmentFiles().get(segmentFiles().size() - 1);
+        Files.write(segment, new byte[]{1, 2, 3, 4, 5, 6, 7}, StandardOpenOption.APPEND);
+
+        store = open();
+        assertContents(blobs);
+        blobs.putAll(putAll(2, 250));
+        reopen();
+        assertContents(blobs);
+    }
+
+    private PackFileBlobStore open() throws IOException {
+        return new PackFileBlobStore(directory, SEGMENT_SIZE, 0.5);
+    }
+
+    private void reopen() throws IOException {
+        store.close();
+        store = open();
+    }
+
+    /**
+     * 서로 다른 내용을 저장하고, 이름별 내용을 반환합니다.
+     * @param count 저장할 개수
+     * @param size 내용 하나의 크기
+     * @return 이름별 내용 (저장 순서)
+     */
+    private Map<String, byte[]> putAll(int count, int size) throws IOException {
+        Map<String, byte[]> blobs = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            byte[] content = new byte[size];
+            for (int j = 0; j < size; j++) {
+                content[j] = (byte) (j * 31 + i + System.nanoTime());
+            }
+            String name = hash(content) + (i % 2 == 0 ? "" : "_thumb_320");
+            assertThat(store.put(name, source(content))).isTrue();
+            blobs.put(name, content);
+        }
+        return blobs;
+    }
+
+    private void assertContents(Map<String, byte[]> blobs) throws IOException {
+        assertThat(store.names().collect(Collectors.toSet())).containsExactlyInAnyOrderElementsOf(blobs.keySet());
+        for (Map.Entry<String, byte[]> blob : blobs.entrySet()) {
+            BlobRegion region = store.find(blob.getKey()).orElseThrow();
+            assertThat(region.getLength()).isEqualTo(blob.getValue().length);
+            try (InputStream in = region.openStream()) {
+                assertThat(in.readAllBytes()).isEqualTo(blob.getValue());
+            }
+        }
+    }
+
+    private Path source(byte[] content) throws IOException {
+        Path source = Files.createTempFile(directory, "upload-", ".tmp");
+        Files.write(source, content);
+        return source;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".pack")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleepPastMillisecond() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}